@@ -0,0 +1,464 @@
+package com.neurixa.adapter.backup;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.neurixa.core.files.port.StorageProvider;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes metadata and blobs as one streaming ZIP archive, and restores it.
+ *
+ * <pre>
+ *   collections/&lt;name&gt;.ndjson   one Extended JSON document per line, types preserved
+ *   blobs/&lt;storageKey&gt;           every referenced blob, once
+ *   manifest.json                  counts, and referenced blobs that were missing
+ * </pre>
+ *
+ * Nothing is paused. Blobs are write-once under unique keys and uploads store the blob
+ * before the metadata pointing at it, so metadata is dumped first and blobs second: every
+ * key in the dump then has its blob, unless it was physically deleted in between, in which
+ * case the manifest lists it. Cursors prefer secondaries, so the primary keeps serving writes.
+ *
+ * In snapshot mode every collection, and the {@code file_versions} walk that finds the
+ * blobs, is read in one snapshot session, so a file and its versions come from the same
+ * point in time. That needs a replica set, and the backup must finish its metadata within
+ * the server's snapshot history window ({@code minSnapshotHistoryWindowInSeconds}, five
+ * minutes by default) or it fails with SnapshotTooOld. Without snapshot mode, collections are
+ * read by independent cursors at different moments; the manifest then records each
+ * collection's read window so a restore can judge the skew.
+ *
+ * Memory stays bounded whatever the data size: collections are read by cursors into
+ * fixed-size buffers while entries are written one at a time, and blobs are found by
+ * walking {@code file_versions} in storage key order, which deduplicates without a key set.
+ * The archive goes straight to the caller's stream, so no staging space is needed.
+ */
+public class BackupArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(BackupArchiver.class);
+
+    /** Dumped and restored in this order, so references point at documents restored earlier. */
+    static final List<String> COLLECTIONS = List.of(
+            "users", "folders", "files", "file_versions", "file_contents", "categories", "tags", "articles", "comments");
+
+    private static final String COLLECTION_PREFIX = "collections/";
+    private static final String NDJSON = ".ndjson";
+    private static final String BLOB_PREFIX = "blobs/";
+    private static final String MANIFEST = "manifest.json";
+    private static final String VERSIONS = "file_versions";
+    private static final int CHUNK_BYTES = 256 * 1024;
+    private static final int BUFFERED_CHUNKS = 16;
+    private static final int CURSOR_BATCH = 1000;
+    private static final int INSERT_BATCH = 1000;
+    private static final int MAX_LISTED_MISSING = 1000;
+    private static final byte[] END = new byte[0];
+    private static final JsonWriterSettings EXTENDED_JSON = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+
+    public record BackupSummary(Map<String, Long> documents, long blobs, long blobBytes, long missingBlobs) {
+    }
+
+    public record RestoreSummary(Map<String, Long> documents, long duplicatesSkipped, long blobs) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final StorageProvider storageProvider;
+    private final int parallelism;
+    private final int maxBufferedBlobBytes;
+    private final int maxInFlightBytes;
+    private final boolean snapshot;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * @param parallelism          collection cursors read at once on backup, unless {@code snapshot}
+     *                             (a session serves one thread, so its reads run one at a time);
+     *                             blob writers on restore
+     * @param maxBufferedBlobBytes blobs up to this size are buffered and written in parallel on restore;
+     *                             larger ones are streamed straight from the archive
+     * @param maxInFlightBytes     cap on buffered blob bytes awaiting a writer on restore
+     * @param snapshot             read all metadata at one point in time
+     */
+    public BackupArchiver(MongoTemplate mongoTemplate, StorageProvider storageProvider,
+                          int parallelism, int maxBufferedBlobBytes, int maxInFlightBytes, boolean snapshot) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be > 0");
+        if (maxBufferedBlobBytes < 0 || maxInFlightBytes < maxBufferedBlobBytes) {
+            throw new IllegalArgumentException("maxInFlightBytes must be >= maxBufferedBlobBytes >= 0");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.storageProvider = storageProvider;
+        this.parallelism = parallelism;
+        this.maxBufferedBlobBytes = maxBufferedBlobBytes;
+        this.maxInFlightBytes = Math.max(maxInFlightBytes, 1);
+        this.snapshot = snapshot;
+    }
+
+    public BackupSummary backup(OutputStream out) throws IOException {
+        begin();
+        ExecutorService readers = Executors.newFixedThreadPool(snapshot ? 1 : parallelism, daemonThreads("backup-reader"));
+        ClientSession session = snapshot
+                ? mongoTemplate.getMongoDatabaseFactory().getSession(ClientSessionOptions.builder().snapshot(true).build())
+                : null;
+        try {
+            // Readers run in submission order, so the collection being written is always reading.
+            // With one snapshot reader, each starts only after the previous one has been drained.
+            List<CollectionReader> dumps = COLLECTIONS.stream().map(c -> new CollectionReader(c, session)).toList();
+            dumps.forEach(readers::execute);
+
+            ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, CHUNK_BYTES));
+            zip.setLevel(Deflater.BEST_SPEED);
+            Map<String, Long> documents = new LinkedHashMap<>();
+            for (CollectionReader dump : dumps) {
+                zip.putNextEntry(new ZipEntry(COLLECTION_PREFIX + dump.collection + NDJSON));
+                dump.drainTo(zip);
+                zip.closeEntry();
+                documents.put(dump.collection, dump.count);
+            }
+
+            // Stored blobs are mostly compressed media already; deflating them again only costs CPU.
+            zip.setLevel(Deflater.NO_COMPRESSION);
+            BlobPass blobs = writeBlobs(zip, session);
+
+            zip.setLevel(Deflater.BEST_SPEED);
+            zip.putNextEntry(new ZipEntry(MANIFEST));
+            zip.write(manifest(documents, dumps, blobs).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.finish();
+            zip.flush();
+
+            log.info("event=backup_completed documents={} blobs={} blobBytes={} missingBlobs={}",
+                    documents, blobs.count, blobs.bytes, blobs.missing);
+            return new BackupSummary(documents, blobs.count, blobs.bytes, blobs.missing);
+        } finally {
+            readers.shutdownNow();
+            if (session != null) {
+                session.close();
+            }
+            running.set(false);
+        }
+    }
+
+    private BlobPass writeBlobs(ZipOutputStream zip, ClientSession session) throws IOException {
+        BlobPass pass = new BlobPass();
+        String previous = null;
+        try (MongoCursor<RawBsonDocument> cursor = find(VERSIONS, session)
+                .projection(Projections.include("storageKey"))
+                .sort(Sorts.ascending("storageKey"))
+                .batchSize(CURSOR_BATCH)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                BsonValue value = cursor.next().get("storageKey");
+                if (value == null || !value.isString() || value.asString().getValue().equals(previous)) {
+                    continue;
+                }
+                String key = value.asString().getValue();
+                previous = key;
+                InputStream blob;
+                try {
+                    blob = storageProvider.retrieve(key);
+                } catch (RuntimeException e) {
+                    pass.missing(key);
+                    log.warn("event=backup_blob_missing storageKey={} error={}", key, e.getMessage());
+                    continue;
+                }
+                try (blob) {
+                    zip.putNextEntry(new ZipEntry(BLOB_PREFIX + key));
+                    pass.bytes += blob.transferTo(zip);
+                    zip.closeEntry();
+                }
+                pass.count++;
+            }
+        }
+        return pass;
+    }
+
+    private String manifest(Map<String, Long> documents, List<CollectionReader> dumps, BlobPass blobs) {
+        Document readWindows = new Document();
+        for (CollectionReader dump : dumps) {
+            readWindows.append(dump.collection, new Document("from", String.valueOf(dump.startedAt))
+                    .append("to", String.valueOf(dump.finishedAt)));
+        }
+        return new Document("format", 1)
+                .append("createdAt", Instant.now().toString())
+                .append("consistency", snapshot ? "snapshot" : "per-collection")
+                .append("readWindows", readWindows)
+                .append("documents", new Document(documents))
+                .append("blobs", blobs.count)
+                .append("blobBytes", blobs.bytes)
+                .append("missingBlobs", blobs.missing)
+                .append("missingBlobKeys", blobs.missingKeys)
+                .toJson();
+    }
+
+    public RestoreSummary restore(InputStream in) throws IOException {
+        begin();
+        ExecutorService writers = Executors.newFixedThreadPool(parallelism, daemonThreads("restore-writer"));
+        Semaphore inFlight = new Semaphore(maxInFlightBytes);
+        AtomicLong blobs = new AtomicLong();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try {
+            ZipInputStream zip = new ZipInputStream(new BufferedInputStream(in, CHUNK_BYTES));
+            Map<String, Long> documents = new LinkedHashMap<>();
+            long duplicates = 0;
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                rethrow(failure);
+                String name = entry.getName();
+                if (name.startsWith(COLLECTION_PREFIX) && name.endsWith(NDJSON)) {
+                    String collection = name.substring(COLLECTION_PREFIX.length(), name.length() - NDJSON.length());
+                    if (!COLLECTIONS.contains(collection)) {
+                        throw new IllegalArgumentException("Unexpected collection in backup: " + collection);
+                    }
+                    long[] result = restoreCollection(collection, zip);
+                    documents.put(collection, result[0]);
+                    duplicates += result[1];
+                } else if (name.startsWith(BLOB_PREFIX)) {
+                    String key = name.substring(BLOB_PREFIX.length());
+                    try {
+                        StorageProvider.requireSafeKey(key);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unsafe blob entry in backup: " + name);
+                    }
+                    restoreBlob(key, zip, writers, inFlight, blobs, failure);
+                } else if (!MANIFEST.equals(name)) {
+                    log.warn("event=restore_entry_skipped entry={}", name);
+                }
+            }
+            writers.shutdown();
+            while (!writers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("event=restore_waiting_for_blob_writers blobs={}", blobs.get());
+            }
+            rethrow(failure);
+
+            log.info("event=restore_completed documents={} duplicatesSkipped={} blobs={}", documents, duplicates, blobs.get());
+            return new RestoreSummary(documents, duplicates, blobs.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Restore interrupted");
+        } finally {
+            writers.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    /**
+     * Unordered bulk inserts. Documents that already exist are skipped, so an interrupted
+     * restore can simply be run again.
+     *
+     * @return documents inserted, and duplicates skipped
+     */
+    private long[] restoreCollection(String collection, InputStream entry) throws IOException {
+        MongoCollection<RawBsonDocument> target = mongoTemplate.getCollection(collection).withDocumentClass(RawBsonDocument.class);
+        // Not closed: closing would close the archive. ZipInputStream ends reads at the entry boundary.
+        BufferedReader reader = new BufferedReader(new InputStreamReader(entry, StandardCharsets.UTF_8), CHUNK_BYTES);
+        long[] result = new long[2];
+        List<RawBsonDocument> batch = new ArrayList<>(INSERT_BATCH);
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(RawBsonDocument.parse(line));
+            if (batch.size() == INSERT_BATCH) {
+                insert(target, batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(target, batch, result);
+        }
+        return result;
+    }
+
+    private static void insert(MongoCollection<RawBsonDocument> target, List<RawBsonDocument> batch, long[] result) {
+        try {
+            target.insertMany(batch, new InsertManyOptions().ordered(false));
+            result[0] += batch.size();
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            result[0] += batch.size() - e.getWriteErrors().size();
+            result[1] += e.getWriteErrors().size();
+        }
+    }
+
+    private void restoreBlob(String key, ZipInputStream zip, ExecutorService writers, Semaphore inFlight,
+                             AtomicLong blobs, AtomicReference<RuntimeException> failure) throws IOException, InterruptedException {
+        byte[] head = zip.readNBytes(maxBufferedBlobBytes + 1);
+        if (head.length > maxBufferedBlobBytes) {
+            // Too large to buffer: stream it from the archive on this thread.
+            storageProvider.storeAt(key, new SequenceInputStream(new ByteArrayInputStream(head), zip));
+            blobs.incrementAndGet();
+            return;
+        }
+        int permits = Math.max(head.length, 1);
+        inFlight.acquire(permits);
+        writers.execute(() -> {
+            try {
+                storageProvider.storeAt(key, new ByteArrayInputStream(head));
+                blobs.incrementAndGet();
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                inFlight.release(permits);
+            }
+        });
+    }
+
+    private FindIterable<RawBsonDocument> find(String collection, ClientSession session) {
+        MongoCollection<RawBsonDocument> source = mongoTemplate.getCollection(collection)
+                .withDocumentClass(RawBsonDocument.class)
+                .withReadPreference(ReadPreference.secondaryPreferred());
+        return session != null ? source.find(session) : source.find();
+    }
+
+    private void begin() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A backup or restore is already running on this node");
+        }
+    }
+
+    private static void rethrow(AtomicReference<RuntimeException> failure) {
+        RuntimeException e = failure.get();
+        if (e != null) {
+            throw new IllegalStateException("Restoring a blob failed", e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Reads one collection on a pool thread into a small queue of NDJSON chunks.
+     */
+    private final class CollectionReader implements Runnable {
+        private final String collection;
+        private final ClientSession session;
+        private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(BUFFERED_CHUNKS);
+        private volatile long count;
+        private volatile RuntimeException failure;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+
+        private CollectionReader(String collection, ClientSession session) {
+            this.collection = collection;
+            this.session = session;
+        }
+
+        @Override
+        public void run() {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(CHUNK_BYTES);
+            startedAt = Instant.now();
+            try (MongoCursor<RawBsonDocument> cursor = find(collection, session).batchSize(CURSOR_BATCH).iterator()) {
+                long read = 0;
+                while (cursor.hasNext()) {
+                    buffer.writeBytes(cursor.next().toJson(EXTENDED_JSON).getBytes(StandardCharsets.UTF_8));
+                    buffer.write('\n');
+                    read++;
+                    if (buffer.size() >= CHUNK_BYTES) {
+                        chunks.put(buffer.toByteArray());
+                        buffer.reset();
+                    }
+                }
+                if (buffer.size() > 0) {
+                    chunks.put(buffer.toByteArray());
+                }
+                count = read;
+                finishedAt = Instant.now();
+            } catch (InterruptedException e) {
+                // The backup was abandoned; nobody is draining this queue any more.
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            try {
+                chunks.put(END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void drainTo(OutputStream out) throws IOException {
+            try {
+                for (byte[] chunk = chunks.take(); chunk != END; chunk = chunks.take()) {
+                    out.write(chunk);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Backup interrupted while reading " + collection);
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Failed to read collection " + collection, failure);
+            }
+        }
+    }
+
+    private static final class BlobPass {
+        private long count;
+        private long bytes;
+        private long missing;
+        private final List<String> missingKeys = new ArrayList<>();
+
+        private void missing(String key) {
+            missing++;
+            if (missingKeys.size() < MAX_LISTED_MISSING) {
+                missingKeys.add(key);
+            }
+        }
+    }
+}
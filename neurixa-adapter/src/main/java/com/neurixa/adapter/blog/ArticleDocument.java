@@ -26,6 +26,7 @@ public class ArticleDocument {
     private Instant updatedAt;
     private Instant publishedAt;
     private int viewCount;
+    private int commentCount;
     private String metaTitle;
     private String metaDescription;
     private Set<UUID> categoryIds;
@@ -121,6 +122,14 @@ public class ArticleDocument {
         this.viewCount = viewCount;
     }
 
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(int commentCount) {
+        this.commentCount = commentCount;
+    }
+
     public String getMetaTitle() {
         return metaTitle;
     }
@@ -2,6 +2,7 @@ package com.neurixa.adapter.blog;
 
 import com.neurixa.domain.blog.Article;
 import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.ArticleSummary;
 import com.neurixa.domain.blog.Category;
 import com.neurixa.domain.blog.CategoryId;
 import com.neurixa.domain.blog.Slug;
@@ -10,6 +11,7 @@ import com.neurixa.domain.blog.TagId;
 import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -28,6 +30,7 @@ public class ArticleMapper {
         doc.setUpdatedAt(article.getUpdatedAt());
         doc.setPublishedAt(article.getPublishedAt());
         doc.setViewCount(article.getViewCount());
+        doc.setCommentCount(article.getCommentCount());
         doc.setMetaTitle(article.getMetaTitle());
         doc.setMetaDescription(article.getMetaDescription());
         doc.setCategoryIds(article.getCategories().stream().map(CategoryId::getValue).collect(Collectors.toSet()));
@@ -50,6 +53,7 @@ public class ArticleMapper {
                 doc.getUpdatedAt(),
                 doc.getPublishedAt(),
                 doc.getViewCount(),
+                doc.getCommentCount(),
                 doc.getMetaTitle(),
                 doc.getMetaDescription(),
                 doc.getCategoryIds() != null ? doc.getCategoryIds().stream().map(CategoryId::new).collect(Collectors.toSet()) : new HashSet<>(),
@@ -58,4 +62,36 @@ public class ArticleMapper {
                 doc.getDeletedAt()
         );
     }
+
+    public ArticleSummary toSummary(ArticleSummaryDocument doc) {
+        return new ArticleSummary(
+                new ArticleId(doc.id()),
+                doc.title(),
+                new Slug(doc.slug()),
+                doc.excerpt(),
+                doc.featuredImageId(),
+                doc.publishedAt(),
+                doc.updatedAt(),
+                doc.viewCount(),
+                doc.commentCount(),
+                doc.categoryIds() != null ? doc.categoryIds().stream().map(CategoryId::new).collect(Collectors.toSet()) : Set.of(),
+                doc.tagIds() != null ? doc.tagIds().stream().map(TagId::new).collect(Collectors.toSet()) : Set.of()
+        );
+    }
+
+    public ArticleSummaryDocument toSummaryDocument(ArticleSummary summary) {
+        return new ArticleSummaryDocument(
+                summary.articleId().getValue(),
+                summary.title(),
+                summary.slug().getValue(),
+                summary.excerpt(),
+                summary.featuredImageId(),
+                summary.publishedAt(),
+                summary.updatedAt(),
+                summary.viewCount(),
+                summary.commentCount(),
+                summary.categories().stream().map(CategoryId::getValue).collect(Collectors.toSet()),
+                summary.tags().stream().map(TagId::getValue).collect(Collectors.toSet())
+        );
+    }
 }
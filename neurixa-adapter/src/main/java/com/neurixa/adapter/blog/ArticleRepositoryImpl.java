@@ -1,32 +1,74 @@
 package com.neurixa.adapter.blog;
 
+import com.neurixa.adapter.maintenance.LiveIndexes;
 import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleCursor;
 import com.neurixa.domain.blog.ArticleId;
 import com.neurixa.domain.blog.ArticleRepository;
 import com.neurixa.domain.blog.ArticleStatus;
+import com.neurixa.domain.blog.ArticleSummary;
 import com.neurixa.domain.blog.Slug;
+import com.neurixa.domain.blog.shared.DomainEventOutbox;
+import jakarta.annotation.PostConstruct;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class ArticleRepositoryImpl implements ArticleRepository {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("publishedAt"), Sort.Order.desc("_id"));
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final MongoTemplate mongoTemplate;
     private final ArticleMapper articleMapper;
+    private final DomainEventOutbox eventOutbox;
 
-    public ArticleRepositoryImpl(MongoTemplate mongoTemplate, ArticleMapper articleMapper) {
+    public ArticleRepositoryImpl(MongoTemplate mongoTemplate, ArticleMapper articleMapper, DomainEventOutbox eventOutbox) {
         this.mongoTemplate = mongoTemplate;
         this.articleMapper = articleMapper;
+        this.eventOutbox = eventOutbox;
+    }
+
+    /**
+     * Published listings, by page or by cursor, are read in {@code (publishedAt, _id)} order
+     * from a partial index over live published articles only, so it stays small however many
+     * drafts and tombstones accumulate. Replaces the earlier {@code (status, publishedAt)} index.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        LiveIndexes.ensure(mongoTemplate.indexOps(ArticleDocument.class), new Index()
+                .on("publishedAt", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .partial(PartialIndexFilter.of(published()))
+                .named("live_published_keyset"), "live_status_published");
     }
 
+    /**
+     * Pending domain events go to the outbox before the article is written. A failed save can
+     * therefore leave an event for a change that did not land, never a change without its
+     * event; subscribers re-read state rather than trust the event alone.
+     */
     @Override
     public void save(Article article) {
+        eventOutbox.append(article.pullDomainEvents());
         mongoTemplate.save(articleMapper.toDocument(article));
     }
 
@@ -40,7 +82,7 @@ public class ArticleRepositoryImpl implements ArticleRepository {
     public Optional<Article> findBySlug(Slug slug) {
         Query query = new Query();
         query.addCriteria(Criteria.where("slug").is(slug.getValue()));
-        query.addCriteria(Criteria.where("deleted").ne(true));
+        query.addCriteria(LiveIndexes.live());
         ArticleDocument doc = mongoTemplate.findOne(query, ArticleDocument.class);
         return Optional.ofNullable(doc).map(articleMapper::toDomain);
     }
@@ -53,22 +95,124 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         mongoTemplate.updateFirst(query, update, ArticleDocument.class);
     }
 
+    /**
+     * One unordered bulk write for the whole batch. Deltas are written as 32-bit values
+     * where they fit, so {@code viewCount} keeps its stored type.
+     */
     @Override
-    public List<Article> findPublished(int page, int size) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("status").is(ArticleStatus.PUBLISHED));
-        query.addCriteria(Criteria.where("deleted").ne(true));
+    public void incrementViewCounts(Map<ArticleId, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ArticleDocument.class);
+        deltas.forEach((id, delta) -> {
+            Number increment = delta <= Integer.MAX_VALUE ? (Number) delta.intValue() : delta;
+            ops.updateOne(new Query(Criteria.where("_id").is(id.getValue())), new Update().inc("viewCount", increment));
+        });
+        ops.execute();
+    }
+
+    @Override
+    public void adjustCommentCount(ArticleId id, int delta) {
+        Query query = new Query(Criteria.where("_id").is(id.getValue()));
+        mongoTemplate.updateFirst(query, new Update().inc("commentCount", delta), ArticleDocument.class);
+    }
+
+    @Override
+    public void adjustCommentCounts(Map<ArticleId, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ArticleDocument.class);
+        deltas.forEach((id, delta) ->
+                ops.updateOne(new Query(Criteria.where("_id").is(id.getValue())), new Update().inc("commentCount", delta)));
+        ops.execute();
+    }
+
+    @Override
+    public List<ArticleSummary> findPublished(int page, int size) {
+        Query query = new Query(published());
         query.skip((long) Math.max(page, 0) * Math.max(size, 1));
         query.limit(Math.max(size, 1));
-        query.with(org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Order.desc("publishedAt")));
-        return mongoTemplate.find(query, ArticleDocument.class).stream().map(articleMapper::toDomain).toList();
+        return findSummaries(query);
+    }
+
+    @Override
+    public List<ArticleSummary> findPublishedAfter(ArticleCursor after, int limit) {
+        Query query = new Query(published());
+        if (after != null) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("publishedAt").lt(after.publishedAt()),
+                    Criteria.where("publishedAt").is(after.publishedAt()).and("_id").lt(after.articleId().value())));
+        }
+        query.limit(Math.max(limit, 1));
+        return findSummaries(query);
+    }
+
+    @Override
+    public void forEachPublished(int limit, Consumer<ArticleSummary> action) {
+        Query query = summaryQuery(new Query(published()));
+        query.limit(Math.max(limit, 1));
+        query.cursorBatchSize(STREAM_BATCH_SIZE);
+        String collection = mongoTemplate.getCollectionName(ArticleDocument.class);
+        try (Stream<ArticleSummaryDocument> documents = mongoTemplate.stream(query, ArticleSummaryDocument.class, collection)) {
+            documents.map(articleMapper::toSummary).forEach(action);
+        }
+    }
+
+    @Override
+    public List<ArticleSummary> findPublishedByIds(Collection<ArticleId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(published());
+        query.addCriteria(Criteria.where("_id").in(ids.stream().map(ArticleId::getValue).toList()));
+        return findSummaries(query);
+    }
+
+    @Override
+    public List<Article> findPublishedArticlesByIds(Collection<ArticleId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(published());
+        query.addCriteria(Criteria.where("_id").in(ids.stream().map(ArticleId::getValue).toList()));
+        return mongoTemplate.find(query, ArticleDocument.class).stream()
+                .map(articleMapper::toDomain)
+                .toList();
+    }
+
+    private List<ArticleSummary> findSummaries(Query query) {
+        String collection = mongoTemplate.getCollectionName(ArticleDocument.class);
+        return mongoTemplate.find(summaryQuery(query), ArticleSummaryDocument.class, collection).stream()
+                .map(articleMapper::toSummary)
+                .toList();
+    }
+
+    private static Query summaryQuery(Query query) {
+        query.with(NEWEST_FIRST);
+        query.fields().include(ArticleSummaryDocument.FIELDS);
+        return query;
     }
 
     @Override
     public long countPublished() {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("status").is(ArticleStatus.PUBLISHED));
-        query.addCriteria(Criteria.where("deleted").ne(true));
-        return mongoTemplate.count(query, ArticleDocument.class);
+        return mongoTemplate.count(new Query(published()), ArticleDocument.class);
+    }
+
+    @Override
+    public Set<UUID> findPublishedFeaturedImageIds() {
+        Query query = new Query(published());
+        query.addCriteria(Criteria.where("featuredImageId").ne(null));
+        query.fields().include("featuredImageId");
+        return mongoTemplate.find(query, ArticleDocument.class).stream()
+                .map(ArticleDocument::getFeaturedImageId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /** Matches the partial filter of {@code live_published_keyset} exactly, so the planner can use it. */
+    private static Criteria published() {
+        return Criteria.where("status").is(ArticleStatus.PUBLISHED).and("deleted").is(false);
     }
 }
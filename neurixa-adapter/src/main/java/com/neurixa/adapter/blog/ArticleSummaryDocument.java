@@ -0,0 +1,30 @@
+package com.neurixa.adapter.blog;
+
+import org.springframework.data.annotation.Id;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Read-only projection of {@link ArticleDocument} for listings; also the cached form of a
+ * listing page. Loaded with {@link #FIELDS} included, so the body never leaves Mongo.
+ */
+public record ArticleSummaryDocument(
+        @Id UUID id,
+        String title,
+        String slug,
+        String excerpt,
+        UUID featuredImageId,
+        Instant publishedAt,
+        Instant updatedAt,
+        int viewCount,
+        int commentCount,
+        Set<UUID> categoryIds,
+        Set<UUID> tagIds
+) {
+
+    static final String[] FIELDS = {
+            "title", "slug", "excerpt", "featuredImageId", "publishedAt", "updatedAt", "viewCount", "commentCount", "categoryIds", "tagIds"
+    };
+}
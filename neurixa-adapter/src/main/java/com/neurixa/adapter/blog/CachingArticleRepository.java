@@ -0,0 +1,115 @@
+package com.neurixa.adapter.blog;
+
+import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleCursor;
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.ArticleRepository;
+import com.neurixa.domain.blog.ArticleSummary;
+import com.neurixa.domain.blog.Slug;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Serves the public reads ({@code findBySlug}, {@code findPublished}, {@code countPublished})
+ * from a {@link PublishedArticleCache}; everything else goes straight to the delegate.
+ *
+ * Meant for the query side only. Commands keep loading aggregates from the delegate, so a
+ * write never starts from a cached copy.
+ */
+public class CachingArticleRepository implements ArticleRepository {
+
+    private final ArticleRepository delegate;
+    private final PublishedArticleCache cache;
+    private final int maxCachedPageSize;
+
+    public CachingArticleRepository(ArticleRepository delegate, PublishedArticleCache cache, int maxCachedPageSize) {
+        if (maxCachedPageSize <= 0) throw new IllegalArgumentException("maxCachedPageSize must be > 0");
+        this.delegate = delegate;
+        this.cache = cache;
+        this.maxCachedPageSize = maxCachedPageSize;
+    }
+
+    @Override
+    public void save(Article article) {
+        delegate.save(article);
+    }
+
+    @Override
+    public Optional<Article> findById(ArticleId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Article> findBySlug(Slug slug) {
+        return cache.bySlug(slug, () -> delegate.findBySlug(slug));
+    }
+
+    @Override
+    public void incrementViewCountAtomic(ArticleId id) {
+        delegate.incrementViewCountAtomic(id);
+    }
+
+    @Override
+    public void incrementViewCounts(Map<ArticleId, Long> deltas) {
+        delegate.incrementViewCounts(deltas);
+    }
+
+    @Override
+    public void adjustCommentCount(ArticleId id, int delta) {
+        delegate.adjustCommentCount(id, delta);
+    }
+
+    @Override
+    public void adjustCommentCounts(Map<ArticleId, Integer> deltas) {
+        delegate.adjustCommentCounts(deltas);
+    }
+
+    /** Oversized pages, such as full exports, bypass the cache. */
+    @Override
+    public List<ArticleSummary> findPublished(int page, int size) {
+        if (page < 0 || size <= 0 || size > maxCachedPageSize) {
+            return delegate.findPublished(page, size);
+        }
+        return cache.publishedPage(page, size, () -> delegate.findPublished(page, size));
+    }
+
+    /** The first slice is the first page in the same order, so it shares that cache entry. */
+    @Override
+    public List<ArticleSummary> findPublishedAfter(ArticleCursor after, int limit) {
+        if (after == null) {
+            return findPublished(0, limit);
+        }
+        return delegate.findPublishedAfter(after, limit);
+    }
+
+    @Override
+    public void forEachPublished(int limit, Consumer<ArticleSummary> action) {
+        delegate.forEachPublished(limit, action);
+    }
+
+    @Override
+    public List<ArticleSummary> findPublishedByIds(Collection<ArticleId> ids) {
+        return delegate.findPublishedByIds(ids);
+    }
+
+    @Override
+    public List<Article> findPublishedArticlesByIds(Collection<ArticleId> ids) {
+        return delegate.findPublishedArticlesByIds(ids);
+    }
+
+    @Override
+    public long countPublished() {
+        return cache.publishedCount(delegate::countPublished);
+    }
+
+    @Override
+    public Set<UUID> findPublishedFeaturedImageIds() {
+        return delegate.findPublishedFeaturedImageIds();
+    }
+}
@@ -1,45 +1,236 @@
 package com.neurixa.adapter.blog;
 
+import com.neurixa.adapter.maintenance.LiveIndexes;
 import com.neurixa.domain.blog.Comment;
+import com.neurixa.domain.blog.CommentCursor;
 import com.neurixa.domain.blog.CommentId;
 import com.neurixa.domain.blog.CommentRepository;
 import com.neurixa.domain.blog.CommentStatus;
+import com.neurixa.domain.blog.CommentTransition;
+import com.neurixa.domain.blog.shared.DomainEvent;
+import com.neurixa.domain.blog.shared.DomainEventOutbox;
+import jakarta.annotation.PostConstruct;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Repository
 public class CommentRepositoryImpl implements CommentRepository {
 
     private final MongoTemplate mongoTemplate;
     private final CommentMapper commentMapper;
+    private final DomainEventOutbox eventOutbox;
 
-    public CommentRepositoryImpl(MongoTemplate mongoTemplate, CommentMapper commentMapper) {
+    public CommentRepositoryImpl(MongoTemplate mongoTemplate, CommentMapper commentMapper, DomainEventOutbox eventOutbox) {
         this.mongoTemplate = mongoTemplate;
         this.commentMapper = commentMapper;
+        this.eventOutbox = eventOutbox;
     }
 
+    @PostConstruct
+    public void ensureIndexes() {
+        LiveIndexes.ensure(mongoTemplate.indexOps(CommentDocument.class), LiveIndexes.live(new Index()
+                .on("articleId", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.ASC)
+                .named("live_article_status")));
+        // The moderation queue: one status across all articles, oldest first.
+        LiveIndexes.ensure(mongoTemplate.indexOps(CommentDocument.class), LiveIndexes.live(new Index()
+                .on("status", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("live_status_created")));
+        // Comment threads: a page of top-level comments, then the replies to them level by level.
+        LiveIndexes.ensure(mongoTemplate.indexOps(CommentDocument.class), LiveIndexes.live(new Index()
+                .on("articleId", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("replyTo", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("live_article_threads")));
+        LiveIndexes.ensure(mongoTemplate.indexOps(CommentDocument.class), LiveIndexes.live(new Index()
+                .on("replyTo", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("live_replies")));
+    }
+
+    /** Outbox first, as in {@link ArticleRepositoryImpl#save}. */
     @Override
     public void save(Comment comment) {
+        eventOutbox.append(comment.pullDomainEvents());
         mongoTemplate.save(commentMapper.toDocument(comment));
     }
 
+    /**
+     * A conditional {@code $set}, never an upsert. Unlike {@link #save}, events go to the outbox
+     * after the write: only a matched write may raise them, so a moderator who lost a race
+     * emits nothing. A crash in between can drop the event of a change that landed;
+     * subscribers re-read state rather than trust the event alone.
+     */
+    @Override
+    public boolean moderate(CommentTransition transition) {
+        Comment comment = transition.comment();
+        List<DomainEvent> events = comment.pullDomainEvents();
+        boolean matched = mongoTemplate.updateFirst(expected(transition), moderation(comment, comment.getUpdatedAt()),
+                CommentDocument.class).getMatchedCount() > 0;
+        if (matched) {
+            eventOutbox.append(events);
+        }
+        return matched;
+    }
+
+    /**
+     * One unordered bulk of conditional {@code $set} updates, then one outbox insert for the
+     * comments that were written. A bulk write only reports how many filters matched; when that
+     * falls short, the written comments are told apart by the {@code updatedAt} stamped on them
+     * and the status they were moved to, as {@code MongoFileRepository} does for bulk moves.
+     */
+    @Override
+    public Set<CommentId> moderateAll(List<CommentTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return Set.of();
+        }
+        // Truncated to what Mongo stores, so the stamp can be matched exactly.
+        Instant stamp = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CommentDocument.class);
+        for (CommentTransition transition : transitions) {
+            ops.updateOne(expected(transition), moderation(transition.comment(), stamp));
+        }
+        int matched = ops.execute().getMatchedCount();
+        Set<CommentId> written = new HashSet<>();
+        if (matched == transitions.size()) {
+            transitions.forEach(transition -> written.add(transition.comment().getCommentId()));
+        } else if (matched > 0) {
+            Map<UUID, CommentStatus> targets = new HashMap<>();
+            transitions.forEach(transition -> targets.put(transition.comment().getCommentId().getValue(),
+                    transition.comment().getStatus()));
+            Query writtenNow = new Query(Criteria.where("_id").in(targets.keySet()).and("updatedAt").is(stamp));
+            writtenNow.fields().include("_id").include("status");
+            for (CommentDocument doc : mongoTemplate.find(writtenNow, CommentDocument.class)) {
+                if (doc.getStatus() == targets.get(doc.getId())) {
+                    written.add(new CommentId(doc.getId()));
+                }
+            }
+        }
+        List<DomainEvent> events = new ArrayList<>();
+        for (CommentTransition transition : transitions) {
+            List<DomainEvent> raised = transition.comment().pullDomainEvents();
+            if (written.contains(transition.comment().getCommentId())) {
+                events.addAll(raised);
+            }
+        }
+        eventOutbox.append(events);
+        return written;
+    }
+
+    private static Query expected(CommentTransition transition) {
+        Query query = new Query(Criteria.where("_id").is(transition.comment().getCommentId().getValue())
+                .and("status").is(transition.from()));
+        query.addCriteria(LiveIndexes.live());
+        return query;
+    }
+
+    /** Only the fields moderation changes; author and content are never rewritten. */
+    private static Update moderation(Comment comment, Instant updatedAt) {
+        return new Update()
+                .set("status", comment.getStatus())
+                .set("deleted", comment.isDeleted())
+                .set("deletedAt", comment.getDeletedAt())
+                .set("updatedAt", updatedAt);
+    }
+
     @Override
     public Optional<Comment> findById(CommentId id) {
         CommentDocument doc = mongoTemplate.findById(id.getValue(), CommentDocument.class);
         return Optional.ofNullable(doc).map(commentMapper::toDomain);
     }
 
+    @Override
+    public List<Comment> findAllById(Collection<CommentId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(Criteria.where("_id").in(ids.stream().map(CommentId::getValue).toList()));
+        return mongoTemplate.find(query, CommentDocument.class).stream().map(commentMapper::toDomain).toList();
+    }
+
+    /** Filter and order both come from {@code live_article_status}: no in-memory sort. */
     @Override
     public List<Comment> findByArticleIdAndStatus(java.util.UUID articleId, CommentStatus status) {
         Query query = new Query();
         query.addCriteria(Criteria.where("articleId").is(articleId));
         query.addCriteria(Criteria.where("status").is(status));
-        query.addCriteria(Criteria.where("deleted").ne(true));
+        query.addCriteria(LiveIndexes.live());
+        query.with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        return mongoTemplate.find(query, CommentDocument.class).stream().map(commentMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Comment> findTopLevelAfter(UUID articleId, CommentStatus status, CommentCursor after, int limit) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("articleId").is(articleId));
+        query.addCriteria(Criteria.where("status").is(status));
+        query.addCriteria(Criteria.where("replyTo").is(null));
+        query.addCriteria(LiveIndexes.live());
+        return findOldestFirst(query, after, limit);
+    }
+
+    @Override
+    public List<Comment> findReplies(Collection<CommentId> parentIds, CommentStatus status, int limit) {
+        if (parentIds.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query();
+        query.addCriteria(Criteria.where("replyTo").in(parentIds.stream().map(CommentId::getValue).toList()));
+        query.addCriteria(Criteria.where("status").is(status));
+        query.addCriteria(LiveIndexes.live());
+        return findOldestFirst(query, null, limit);
+    }
+
+    @Override
+    public List<Comment> findByStatusAfter(CommentStatus status, CommentCursor after, int limit) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("status").is(status));
+        query.addCriteria(LiveIndexes.live());
+        return findOldestFirst(query, after, limit);
+    }
+
+    /** Keyset page in {@code (createdAt, _id)} order, starting right after {@code after}. */
+    private List<Comment> findOldestFirst(Query query, CommentCursor after, int limit) {
+        if (after != null) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("createdAt").gt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("_id").gt(after.commentId().value())));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "createdAt", "_id"));
+        query.limit(Math.max(limit, 1));
         return mongoTemplate.find(query, CommentDocument.class).stream().map(commentMapper::toDomain).toList();
     }
+
+    @Override
+    public long countByStatus(CommentStatus status) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("status").is(status));
+        query.addCriteria(LiveIndexes.live());
+        return mongoTemplate.count(query, CommentDocument.class);
+    }
 }
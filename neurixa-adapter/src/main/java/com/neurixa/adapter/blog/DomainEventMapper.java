@@ -0,0 +1,92 @@
+package com.neurixa.adapter.blog;
+
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.CommentId;
+import com.neurixa.domain.blog.Slug;
+import com.neurixa.domain.blog.event.ArticleDeletedEvent;
+import com.neurixa.domain.blog.event.ArticleFeaturedImageChangedEvent;
+import com.neurixa.domain.blog.event.ArticlePublishedEvent;
+import com.neurixa.domain.blog.event.ArticleRestoredEvent;
+import com.neurixa.domain.blog.event.ArticleUnpublishedEvent;
+import com.neurixa.domain.blog.event.ArticleUpdatedEvent;
+import com.neurixa.domain.blog.event.CommentApprovedEvent;
+import com.neurixa.domain.blog.shared.DomainEvent;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Converts domain events to and from a stable {@code type} name plus a payload document.
+ * Ids are stored as strings and times as dates, so the payload also round-trips through
+ * {@link Document#toJson()} and {@link Document#parse(String)}.
+ */
+@Component
+public class DomainEventMapper {
+
+    public String typeOf(DomainEvent event) {
+        return switch (event) {
+            case ArticlePublishedEvent e -> "ArticlePublished";
+            case ArticleUnpublishedEvent e -> "ArticleUnpublished";
+            case ArticleUpdatedEvent e -> "ArticleUpdated";
+            case ArticleFeaturedImageChangedEvent e -> "ArticleFeaturedImageChanged";
+            case ArticleDeletedEvent e -> "ArticleDeleted";
+            case ArticleRestoredEvent e -> "ArticleRestored";
+            case CommentApprovedEvent e -> "CommentApproved";
+            default -> throw new IllegalArgumentException("Unmapped domain event: " + event.getClass().getName());
+        };
+    }
+
+    public Document toPayload(DomainEvent event) {
+        Document payload = new Document("occurredOn", Date.from(event.occurredOn()));
+        switch (event) {
+            case ArticlePublishedEvent e -> article(payload, e.articleId(), e.slug());
+            case ArticleUnpublishedEvent e -> article(payload, e.articleId(), e.slug());
+            case ArticleUpdatedEvent e -> article(payload, e.articleId(), e.slug())
+                    .append("previousSlug", e.previousSlug().getValue())
+                    .append("published", e.published());
+            case ArticleFeaturedImageChangedEvent e -> article(payload, e.articleId(), e.slug())
+                    .append("featuredImageId", e.featuredImageId() != null ? e.featuredImageId().toString() : null)
+                    .append("published", e.published());
+            case ArticleDeletedEvent e -> article(payload, e.articleId(), e.slug());
+            case ArticleRestoredEvent e -> article(payload, e.articleId(), e.slug());
+            case CommentApprovedEvent e -> payload.append("commentId", e.commentId().value().toString());
+            default -> throw new IllegalArgumentException("Unmapped domain event: " + event.getClass().getName());
+        }
+        return payload;
+    }
+
+    public DomainEvent fromPayload(String type, Document payload) {
+        var occurredOn = payload.getDate("occurredOn").toInstant();
+        return switch (type) {
+            case "ArticlePublished" -> new ArticlePublishedEvent(articleId(payload), slug(payload, "slug"), occurredOn);
+            case "ArticleUnpublished" -> new ArticleUnpublishedEvent(articleId(payload), slug(payload, "slug"), occurredOn);
+            case "ArticleUpdated" -> new ArticleUpdatedEvent(articleId(payload), slug(payload, "previousSlug"),
+                    slug(payload, "slug"), payload.getBoolean("published"), occurredOn);
+            case "ArticleFeaturedImageChanged" -> new ArticleFeaturedImageChangedEvent(articleId(payload),
+                    slug(payload, "slug"), uuid(payload, "featuredImageId"), payload.getBoolean("published"), occurredOn);
+            case "ArticleDeleted" -> new ArticleDeletedEvent(articleId(payload), slug(payload, "slug"), occurredOn);
+            case "ArticleRestored" -> new ArticleRestoredEvent(articleId(payload), slug(payload, "slug"), occurredOn);
+            case "CommentApproved" -> new CommentApprovedEvent(new CommentId(uuid(payload, "commentId")), occurredOn);
+            default -> throw new IllegalArgumentException("Unknown domain event type: " + type);
+        };
+    }
+
+    private static Document article(Document payload, ArticleId articleId, Slug slug) {
+        return payload.append("articleId", articleId.value().toString()).append("slug", slug.getValue());
+    }
+
+    private static ArticleId articleId(Document payload) {
+        return new ArticleId(uuid(payload, "articleId"));
+    }
+
+    private static Slug slug(Document payload, String field) {
+        return new Slug(payload.getString(field));
+    }
+
+    private static UUID uuid(Document payload, String field) {
+        String value = payload.getString(field);
+        return value != null ? UUID.fromString(value) : null;
+    }
+}
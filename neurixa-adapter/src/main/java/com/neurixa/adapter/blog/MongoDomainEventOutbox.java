@@ -0,0 +1,167 @@
+package com.neurixa.adapter.blog;
+
+import com.neurixa.domain.blog.shared.DomainEvent;
+import com.neurixa.domain.blog.shared.DomainEventOutbox;
+import com.neurixa.domain.blog.shared.OutboxEntry;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox in the {@code event_outbox} collection, one document per event.
+ *
+ * Claiming marks a batch with a lease and a claim token in one multi-update, so relays on
+ * several nodes never hand out the same entry at the same time. Acknowledged entries are
+ * kept for {@code neurixa.events.outbox.retention} for inspection, then expire by TTL index.
+ * An entry claimed more than {@code neurixa.events.outbox.max-attempts} times is parked
+ * with its last error instead of being handed out again; parked entries are kept.
+ */
+@Repository
+public class MongoDomainEventOutbox implements DomainEventOutbox {
+
+    static final String COLLECTION = "event_outbox";
+
+    private static final Logger log = LoggerFactory.getLogger(MongoDomainEventOutbox.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final DomainEventMapper eventMapper;
+    private final Duration retention;
+    private final int maxAttempts;
+
+    public MongoDomainEventOutbox(MongoTemplate mongoTemplate, DomainEventMapper eventMapper,
+                                  @Value("${neurixa.events.outbox.retention:P1D}") Duration retention,
+                                  @Value("${neurixa.events.outbox.max-attempts:10}") int maxAttempts) {
+        if (maxAttempts <= 0) throw new IllegalArgumentException("maxAttempts must be > 0");
+        this.mongoTemplate = mongoTemplate;
+        this.eventMapper = eventMapper;
+        this.retention = retention;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Pending entries are found through a small partial index in append order; the TTL
+     * index only ever sees acknowledged entries, which are the only ones with {@code dispatchedAt}.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index()
+                .on("createdAt", Sort.Direction.ASC)
+                .partial(PartialIndexFilter.of(Criteria.where("pending").is(true)))
+                .named("pending_created"));
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index()
+                .on("claimToken", Sort.Direction.ASC)
+                .sparse()
+                .named("claim_token"));
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index()
+                .on("dispatchedAt", Sort.Direction.ASC)
+                .expire(retention)
+                .named("dispatched_ttl"));
+    }
+
+    @Override
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<Document> documents = events.stream()
+                .map(event -> new Document("_id", new ObjectId())
+                        .append("type", eventMapper.typeOf(event))
+                        .append("payload", eventMapper.toPayload(event))
+                        .append("createdAt", now)
+                        .append("pending", true)
+                        .append("attempts", 0))
+                .toList();
+        mongoTemplate.insert(documents, COLLECTION);
+    }
+
+    @Override
+    public List<OutboxEntry> claim(int limit, Duration lease) {
+        Instant now = Instant.now();
+        Query candidates = new Query(claimable(now))
+                .with(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("_id")))
+                .limit(limit);
+        candidates.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(candidates, Document.class, COLLECTION).stream()
+                .map(document -> document.get("_id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Re-checked in the update: entries another relay claimed in between are skipped.
+        String token = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(new Query(new Criteria().andOperator(Criteria.where("_id").in(ids), claimable(now))),
+                new Update().set("lockedUntil", now.plus(lease)).set("claimToken", token).inc("attempts", 1),
+                COLLECTION);
+        Query claimed = new Query(Criteria.where("claimToken").is(token))
+                .with(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("_id")));
+        List<OutboxEntry> entries = new ArrayList<>();
+        for (Document document : mongoTemplate.find(claimed, Document.class, COLLECTION)) {
+            ObjectId id = document.getObjectId("_id");
+            int attempts = document.getInteger("attempts", 0);
+            if (attempts > maxAttempts) {
+                String error = document.getString("error");
+                log.warn("event=outbox_entry_parked id={} type={} attempts={} error={}",
+                        id, document.getString("type"), attempts - 1, error);
+                park(id, error != null ? error : "Not acknowledged after " + (attempts - 1) + " attempts");
+                continue;
+            }
+            try {
+                entries.add(new OutboxEntry(id.toHexString(),
+                        eventMapper.fromPayload(document.getString("type"), document.get("payload", Document.class))));
+            } catch (RuntimeException e) {
+                // Written by a version that knew this event; retrying cannot help, so park it.
+                log.warn("event=outbox_entry_unreadable id={} type={} error={}", id, document.getString("type"), e.getMessage());
+                park(id, e.getMessage());
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public void acknowledge(List<String> entryIds) {
+        if (entryIds.isEmpty()) {
+            return;
+        }
+        List<ObjectId> ids = entryIds.stream().map(ObjectId::new).toList();
+        mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(ids)),
+                new Update().set("pending", false).set("dispatchedAt", Instant.now())
+                        .unset("lockedUntil").unset("claimToken"),
+                COLLECTION);
+    }
+
+    @Override
+    public void fail(String entryId, String error) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(new ObjectId(entryId))),
+                new Update().set("error", error), COLLECTION);
+    }
+
+    private void park(ObjectId id, String error) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)),
+                new Update().set("pending", false).set("error", error).unset("lockedUntil").unset("claimToken"),
+                COLLECTION);
+    }
+
+    private static Criteria claimable(Instant now) {
+        return new Criteria().andOperator(
+                Criteria.where("pending").is(true),
+                new Criteria().orOperator(Criteria.where("lockedUntil").exists(false), Criteria.where("lockedUntil").lt(now)));
+    }
+}
@@ -0,0 +1,263 @@
+package com.neurixa.adapter.blog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleSummary;
+import com.neurixa.domain.blog.Slug;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Two-level cache for the public blog reads: article detail by slug, published listing
+ * pages (as summaries, without bodies) and the published count.
+ *
+ * Each node keeps a small near cache in memory over a shared Redis copy. Concurrent misses
+ * for the same entry on a node wait for a single load, so a burst on an uncached article
+ * costs one Redis read and at most one Mongo query per node.
+ *
+ * Entries are evicted when articles change (see {@code ArticleCacheInvalidator}): the Redis
+ * copy is deleted and an invalidation is broadcast on {@link #CHANNEL} so every node drops
+ * its near copy. Both levels also expire, which bounds staleness if a broadcast is missed.
+ * Redis being unavailable degrades to near cache plus Mongo; it never fails a read.
+ */
+public class PublishedArticleCache {
+
+    public static final String CHANNEL = "blog:articles:invalidate";
+
+    private static final Logger log = LoggerFactory.getLogger(PublishedArticleCache.class);
+    private static final String SLUG_KEY_PREFIX = "blog:article:slug:";
+    private static final String LISTING_KEY = "blog:articles:summaries";
+    private static final String COUNT_FIELD = "count";
+    private static final String LISTINGS_MESSAGE = "listings";
+    private static final String SLUG_MESSAGE_PREFIX = "slug:";
+    private static final TypeReference<List<ArticleSummaryDocument>> SUMMARY_LIST = new TypeReference<>() {
+    };
+
+    private record NearEntry(Object value, long expiresAt) {
+    }
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final ArticleMapper articleMapper;
+    private final Duration ttl;
+    private final long nearTtlNanos;
+    private final int nearMaxEntries;
+    private final Map<String, NearEntry> near = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PublishedArticleCache(StringRedisTemplate redis, ObjectMapper objectMapper, ArticleMapper articleMapper,
+                                 Duration ttl, Duration nearTtl, int nearMaxEntries) {
+        if (ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("ttl must be positive");
+        if (nearTtl.isNegative() || nearTtl.isZero()) throw new IllegalArgumentException("nearTtl must be positive");
+        if (nearMaxEntries <= 0) throw new IllegalArgumentException("nearMaxEntries must be > 0");
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.articleMapper = articleMapper;
+        this.ttl = ttl;
+        this.nearTtlNanos = nearTtl.toNanos();
+        this.nearMaxEntries = nearMaxEntries;
+    }
+
+    /** Missing articles are not cached, so a newly created slug is visible immediately. */
+    public Optional<Article> bySlug(Slug slug, Supplier<Optional<Article>> loader) {
+        Slot slot = new Slot(SLUG_KEY_PREFIX + slug.getValue(), null);
+        ArticleDocument document = get(SLUG_MESSAGE_PREFIX + slug.getValue(), slot,
+                json -> read(json, ArticleDocument.class),
+                () -> loader.get().map(articleMapper::toDocument).orElse(null));
+        return Optional.ofNullable(document).map(articleMapper::toDomain);
+    }
+
+    public List<ArticleSummary> publishedPage(int page, int size, Supplier<List<ArticleSummary>> loader) {
+        Slot slot = new Slot(LISTING_KEY, page + ":" + size);
+        List<ArticleSummaryDocument> documents = get("page:" + page + ":" + size, slot,
+                json -> read(json, SUMMARY_LIST),
+                () -> loader.get().stream().map(articleMapper::toSummaryDocument).toList());
+        return documents.stream().map(articleMapper::toSummary).toList();
+    }
+
+    public long publishedCount(Supplier<Long> loader) {
+        return get(COUNT_FIELD, new Slot(LISTING_KEY, COUNT_FIELD), Long::valueOf, loader);
+    }
+
+    /** Drops the detail entry for {@code slug} on every node. */
+    public void evictSlug(Slug slug) {
+        evictLocal(SLUG_MESSAGE_PREFIX + slug.getValue());
+        try {
+            redis.delete(SLUG_KEY_PREFIX + slug.getValue());
+            redis.convertAndSend(CHANNEL, SLUG_MESSAGE_PREFIX + slug.getValue());
+        } catch (DataAccessException e) {
+            log.warn("event=article_cache_evict_failed slug={} error={}", slug.getValue(), e.getMessage());
+        }
+    }
+
+    /** Drops every listing page and the published count on every node. */
+    public void evictListings() {
+        evictLocal(LISTINGS_MESSAGE);
+        try {
+            redis.delete(LISTING_KEY);
+            redis.convertAndSend(CHANNEL, LISTINGS_MESSAGE);
+        } catch (DataAccessException e) {
+            log.warn("event=article_cache_evict_failed scope=listings error={}", e.getMessage());
+        }
+    }
+
+    /** Applies an invalidation broadcast by any node, this one included, to the near cache. */
+    public void onInvalidation(String message) {
+        evictLocal(message);
+    }
+
+    private void evictLocal(String message) {
+        // Bumped first, so a load already in flight does not put its older result back.
+        invalidations.incrementAndGet();
+        if (message.startsWith(SLUG_MESSAGE_PREFIX)) {
+            near.remove(message);
+            loading.remove(message);
+        } else if (LISTINGS_MESSAGE.equals(message)) {
+            near.keySet().removeIf(PublishedArticleCache::isListingKey);
+            loading.keySet().removeIf(PublishedArticleCache::isListingKey);
+        }
+    }
+
+    private static boolean isListingKey(String key) {
+        return key.equals(COUNT_FIELD) || key.startsWith("page:");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, Slot slot, Decoder<T> decoder, Supplier<T> loader) {
+        NearEntry entry = near.get(key);
+        if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+            return (T) entry.value();
+        }
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            try {
+                return (T) inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        long generation = invalidations.get();
+        try {
+            T value = load(slot, decoder, loader, generation);
+            if (value != null && invalidations.get() == generation) {
+                putNear(key, value);
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private <T> T load(Slot slot, Decoder<T> decoder, Supplier<T> loader, long generation) {
+        String cached = readRedis(slot);
+        if (cached != null) {
+            try {
+                return decoder.decode(cached);
+            } catch (RuntimeException e) {
+                log.warn("event=article_cache_decode_failed key={} error={}", slot.key(), e.getMessage());
+            }
+        }
+        T value = loader.get();
+        if (value != null && invalidations.get() == generation) {
+            writeRedis(slot, value instanceof Long count ? count.toString() : write(value));
+        }
+        return value;
+    }
+
+    private String readRedis(Slot slot) {
+        try {
+            Object value = slot.field() == null
+                    ? redis.opsForValue().get(slot.key())
+                    : redis.opsForHash().get(slot.key(), slot.field());
+            return (String) value;
+        } catch (DataAccessException e) {
+            log.debug("event=article_cache_unavailable key={} error={}", slot.key(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Slot slot, String json) {
+        try {
+            if (slot.field() == null) {
+                redis.opsForValue().set(slot.key(), json, ttl);
+                return;
+            }
+            redis.opsForHash().put(slot.key(), slot.field(), json);
+            // The expiry is set once per listing hash, so frequent page loads do not keep
+            // extending the life of pages that a missed invalidation left stale.
+            Long remaining = redis.getExpire(slot.key());
+            if (remaining == null || remaining < 0) {
+                redis.expire(slot.key(), ttl);
+            }
+        } catch (DataAccessException e) {
+            log.debug("event=article_cache_unavailable key={} error={}", slot.key(), e.getMessage());
+        }
+    }
+
+    private void putNear(String key, Object value) {
+        if (near.size() >= nearMaxEntries) {
+            // Approximate bound: drop an arbitrary few entries rather than track recency
+            // on every hit. Evicted entries are reloaded from Redis.
+            Iterator<String> keys = near.keySet().iterator();
+            for (int i = 0; i < Math.max(1, nearMaxEntries / 10) && keys.hasNext(); i++) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        near.put(key, new NearEntry(value, System.nanoTime() + nearTtlNanos));
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize cached articles", e);
+        }
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize cached article", e);
+        }
+    }
+
+    private <T> T read(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize cached articles", e);
+        }
+    }
+
+    /** A plain Redis key, or a field of a Redis hash. */
+    private record Slot(String key, String field) {
+    }
+
+    @FunctionalInterface
+    private interface Decoder<T> {
+        T decode(String json);
+    }
+}
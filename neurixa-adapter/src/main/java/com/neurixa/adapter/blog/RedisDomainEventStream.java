@@ -0,0 +1,102 @@
+package com.neurixa.adapter.blog;
+
+import com.neurixa.domain.blog.shared.DomainEvent;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fans dispatched domain events out to the other nodes over a capped Redis stream.
+ *
+ * The relaying node delivers to its own listeners directly; every other node reads the
+ * stream from where it joined and publishes each event to its local {@code @EventListener}s.
+ * Best effort: a node that is down misses what was sent meanwhile, so cross-node listeners
+ * must also have their own catch-up (periodic refresh, cache expiry).
+ */
+public class RedisDomainEventStream {
+
+    public static final String STREAM_KEY = "blog:events";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisDomainEventStream.class);
+
+    private final StringRedisTemplate redis;
+    private final RedisConnectionFactory connectionFactory;
+    private final DomainEventMapper eventMapper;
+    private final ApplicationEventPublisher localPublisher;
+    private final long maxLength;
+    private final String origin = UUID.randomUUID().toString();
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    public RedisDomainEventStream(StringRedisTemplate redis, RedisConnectionFactory connectionFactory,
+                                  DomainEventMapper eventMapper, ApplicationEventPublisher localPublisher, long maxLength) {
+        if (maxLength <= 0) throw new IllegalArgumentException("maxLength must be > 0");
+        this.redis = redis;
+        this.connectionFactory = connectionFactory;
+        this.eventMapper = eventMapper;
+        this.localPublisher = localPublisher;
+        this.maxLength = maxLength;
+    }
+
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            for (DomainEvent event : events) {
+                redis.opsForStream().add(StreamRecords.string(Map.of(
+                        "origin", origin,
+                        "type", eventMapper.typeOf(event),
+                        "payload", eventMapper.toPayload(event).toJson())).withStreamKey(STREAM_KEY));
+            }
+            redis.opsForStream().trim(STREAM_KEY, maxLength, true);
+        } catch (DataAccessException e) {
+            // Not retried: local delivery already happened and must not be repeated for this.
+            log.warn("event=domain_event_stream_append_failed count={} error={}", events.size(), e.getMessage());
+        }
+    }
+
+    public void start() {
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder().pollTimeout(Duration.ofSeconds(1)).build();
+        container = StreamMessageListenerContainer.create(connectionFactory, options);
+        // Keep reading through Redis outages instead of cancelling the subscription.
+        container.register(StreamReadRequest.builder(StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()))
+                .cancelOnError(e -> false)
+                .build(), this::onRecord);
+        container.start();
+    }
+
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    private void onRecord(MapRecord<String, String, String> record) {
+        Map<String, String> value = record.getValue();
+        if (origin.equals(value.get("origin"))) {
+            return;
+        }
+        try {
+            localPublisher.publishEvent(eventMapper.fromPayload(value.get("type"), Document.parse(value.get("payload"))));
+        } catch (RuntimeException e) {
+            log.warn("event=remote_domain_event_failed id={} type={} error={}", record.getId(), value.get("type"), e.getMessage());
+        }
+    }
+}
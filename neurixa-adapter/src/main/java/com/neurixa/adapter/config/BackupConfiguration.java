@@ -0,0 +1,27 @@
+package com.neurixa.adapter.config;
+
+import com.neurixa.adapter.backup.BackupArchiver;
+import com.neurixa.core.files.port.StorageProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Backups read and write the storage backend directly, so they neither fill nor
+ * evict the blob cache.
+ */
+@Configuration
+public class BackupConfiguration {
+
+    @Bean
+    public BackupArchiver backupArchiver(MongoTemplate mongoTemplate,
+                                         @Qualifier("storageBackend") StorageProvider storageBackend,
+                                         @Value("${neurixa.backup.parallelism:4}") int parallelism,
+                                         @Value("${neurixa.backup.max-buffered-blob-bytes:8388608}") int maxBufferedBlobBytes,
+                                         @Value("${neurixa.backup.max-in-flight-bytes:67108864}") int maxInFlightBytes,
+                                         @Value("${neurixa.backup.snapshot:true}") boolean snapshot) {
+        return new BackupArchiver(mongoTemplate, storageBackend, parallelism, maxBufferedBlobBytes, maxInFlightBytes, snapshot);
+    }
+}
@@ -0,0 +1,44 @@
+package com.neurixa.adapter.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neurixa.adapter.blog.ArticleMapper;
+import com.neurixa.adapter.blog.PublishedArticleCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Near cache plus Redis for the public blog reads, and the subscription that keeps
+ * every node's near cache in step with evictions made on any node.
+ */
+@Configuration
+public class BlogCacheConfiguration {
+
+    @Bean
+    public PublishedArticleCache publishedArticleCache(StringRedisTemplate redisTemplate,
+                                                       ObjectMapper objectMapper,
+                                                       ArticleMapper articleMapper,
+                                                       @Value("${neurixa.blog.cache.ttl:PT10M}") Duration ttl,
+                                                       @Value("${neurixa.blog.cache.near-ttl:PT30S}") Duration nearTtl,
+                                                       @Value("${neurixa.blog.cache.near-max-entries:1000}") int nearMaxEntries) {
+        return new PublishedArticleCache(redisTemplate, objectMapper, articleMapper, ttl, nearTtl, nearMaxEntries);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer articleCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                          PublishedArticleCache publishedArticleCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> publishedArticleCache.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(PublishedArticleCache.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,37 @@
+package com.neurixa.adapter.config;
+
+import com.neurixa.adapter.ratelimit.CommentRateLimiter;
+import com.neurixa.adapter.ratelimit.CommentRateLimiter.Rule;
+import com.neurixa.adapter.ratelimit.CommentRateLimiter.Scope;
+import com.neurixa.adapter.ratelimit.RedisSlidingWindowLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Rate limits for posting comments: per client address, per author email and per article,
+ * enforced on each node and across the cluster through Redis.
+ */
+@Configuration
+public class CommentRateLimitConfiguration {
+
+    @Bean
+    public CommentRateLimiter commentRateLimiter(StringRedisTemplate redisTemplate,
+                                                 @Value("${neurixa.blog.comments.rate-limit.ip.permits:5}") int ipPermits,
+                                                 @Value("${neurixa.blog.comments.rate-limit.ip.window:PT1M}") Duration ipWindow,
+                                                 @Value("${neurixa.blog.comments.rate-limit.email.permits:3}") int emailPermits,
+                                                 @Value("${neurixa.blog.comments.rate-limit.email.window:PT1M}") Duration emailWindow,
+                                                 @Value("${neurixa.blog.comments.rate-limit.article.permits:60}") int articlePermits,
+                                                 @Value("${neurixa.blog.comments.rate-limit.article.window:PT1M}") Duration articleWindow,
+                                                 @Value("${neurixa.blog.comments.rate-limit.local-max-keys:100000}") int maxLocalKeys) {
+        return new CommentRateLimiter(Map.of(
+                Scope.IP, new Rule(ipPermits, ipWindow),
+                Scope.EMAIL, new Rule(emailPermits, emailWindow),
+                Scope.ARTICLE, new Rule(articlePermits, articleWindow)),
+                new RedisSlidingWindowLimiter(redisTemplate), maxLocalKeys);
+    }
+}
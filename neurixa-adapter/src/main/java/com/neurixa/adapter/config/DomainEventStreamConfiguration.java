@@ -0,0 +1,30 @@
+package com.neurixa.adapter.config;
+
+import com.neurixa.adapter.blog.DomainEventMapper;
+import com.neurixa.adapter.blog.RedisDomainEventStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Cross-node delivery of domain events, enabled with {@code neurixa.events.redis-stream.enabled=true}.
+ * Without it, events reach the listeners of whichever node relays them.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "neurixa.events.redis-stream", name = "enabled", havingValue = "true")
+public class DomainEventStreamConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public RedisDomainEventStream redisDomainEventStream(StringRedisTemplate redisTemplate,
+                                                         RedisConnectionFactory connectionFactory,
+                                                         DomainEventMapper domainEventMapper,
+                                                         ApplicationEventPublisher applicationEventPublisher,
+                                                         @Value("${neurixa.events.redis-stream.max-length:10000}") long maxLength) {
+        return new RedisDomainEventStream(redisTemplate, connectionFactory, domainEventMapper,
+                applicationEventPublisher, maxLength);
+    }
+}
@@ -0,0 +1,24 @@
+package com.neurixa.adapter.config;
+
+import com.neurixa.adapter.maintenance.MongoTombstoneCompactor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Archiving of soft-deleted documents into the {@code _archive} collections; scheduled
+ * by the maintenance worker under the same switch.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "neurixa.maintenance.tombstones", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TombstoneArchiveConfiguration {
+
+    @Bean(initMethod = "ensureIndexes")
+    public MongoTombstoneCompactor mongoTombstoneCompactor(MongoTemplate mongoTemplate,
+                                                           @Value("${neurixa.maintenance.tombstones.batch-size:500}") int batchSize,
+                                                           @Value("${neurixa.maintenance.tombstones.max-batches-per-run:20}") int maxBatchesPerRun) {
+        return new MongoTombstoneCompactor(mongoTemplate, batchSize, maxBatchesPerRun);
+    }
+}
@@ -0,0 +1,31 @@
+package com.neurixa.adapter.files.config;
+
+import com.neurixa.adapter.files.storage.AwsObjectStoreClient;
+import com.neurixa.adapter.files.storage.ObjectStoreClient;
+import com.neurixa.adapter.files.storage.S3StorageProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stores blobs in an S3-compatible bucket when {@code neurixa.storage.type=s3},
+ * so app nodes no longer need a shared filesystem.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "neurixa.storage", name = "type", havingValue = "s3")
+public class S3StorageConfiguration {
+
+    @Bean
+    public AwsObjectStoreClient objectStoreClient(StorageProperties properties) {
+        return new AwsObjectStoreClient(properties.getS3());
+    }
+
+    @Bean
+    @Qualifier("storageBackend")
+    public S3StorageProvider s3StorageProvider(ObjectStoreClient objectStoreClient, StorageProperties properties) {
+        StorageProperties.S3Properties s3 = properties.getS3();
+        return new S3StorageProvider(objectStoreClient, s3.getKeyPrefix(), s3.getPartSize(),
+                s3.getMaxConcurrency(), s3.getRangeSize(), s3.getPrefetchRanges(), s3.getTransferThreads());
+    }
+}
@@ -0,0 +1,30 @@
+package com.neurixa.adapter.files.config;
+
+import com.neurixa.adapter.files.storage.CachingStorageProvider;
+import com.neurixa.core.files.port.StorageProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Wraps the storage backend in an off-heap read cache when
+ * {@code neurixa.storage.cache.enabled=true}.
+ *
+ * The JVM must be allowed at least {@code max-bytes} of direct memory
+ * ({@code -XX:MaxDirectMemorySize}); the arena is allocated once at startup.
+ */
+@Configuration
+public class StorageCacheConfiguration {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "neurixa.storage.cache", name = "enabled", havingValue = "true")
+    public CachingStorageProvider cachingStorageProvider(@Qualifier("storageBackend") StorageProvider backend,
+                                                         StorageProperties properties) {
+        StorageProperties.CacheProperties cache = properties.getCache();
+        return new CachingStorageProvider(backend, cache.getMaxBytes(),
+                cache.getMaxEntryBytes(), cache.getBlockSize());
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.constraints.NotBlank;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 @Configuration
@@ -12,10 +14,21 @@ import java.util.Set;
 @Validated
 public class StorageProperties {
 
+    private String type = "local";
     private LocalStorageProperties local = new LocalStorageProperties();
+    private S3Properties s3 = new S3Properties();
+    private CacheProperties cache = new CacheProperties();
     private Set<String> allowedMimeTypes = Set.of("image/jpeg", "image/png", "application/pdf");
     private long maxFileSize = 10485760; // 10MB
 
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
     public LocalStorageProperties getLocal() {
         return local;
     }
@@ -24,6 +37,22 @@ public class StorageProperties {
         this.local = local;
     }
 
+    public S3Properties getS3() {
+        return s3;
+    }
+
+    public void setS3(S3Properties s3) {
+        this.s3 = s3;
+    }
+
+    public CacheProperties getCache() {
+        return cache;
+    }
+
+    public void setCache(CacheProperties cache) {
+        this.cache = cache;
+    }
+
     public Set<String> getAllowedMimeTypes() {
         return allowedMimeTypes;
     }
@@ -43,6 +72,11 @@ public class StorageProperties {
     public static class LocalStorageProperties {
         @NotBlank(message = "Storage root path must be configured")
         private String root = "/tmp/neurixa-storage";
+        private List<String> volumes = new ArrayList<>();
+        private int virtualNodes = 128;
+        private String layout = "hashed"; // hashed | flat
+        private boolean rebalanceOnStartup = false;
+        private boolean rebalanceOnVolumeChange = true;
 
         public String getRoot() {
             return root;
@@ -51,5 +85,204 @@ public class StorageProperties {
         public void setRoot(String root) {
             this.root = root;
         }
+
+        public List<String> getVolumes() {
+            return volumes;
+        }
+
+        public void setVolumes(List<String> volumes) {
+            this.volumes = volumes;
+        }
+
+        public int getVirtualNodes() {
+            return virtualNodes;
+        }
+
+        public void setVirtualNodes(int virtualNodes) {
+            this.virtualNodes = virtualNodes;
+        }
+
+        public String getLayout() {
+            return layout;
+        }
+
+        public void setLayout(String layout) {
+            this.layout = layout;
+        }
+
+        public boolean isRebalanceOnStartup() {
+            return rebalanceOnStartup;
+        }
+
+        public void setRebalanceOnStartup(boolean rebalanceOnStartup) {
+            this.rebalanceOnStartup = rebalanceOnStartup;
+        }
+
+        public boolean isRebalanceOnVolumeChange() {
+            return rebalanceOnVolumeChange;
+        }
+
+        public void setRebalanceOnVolumeChange(boolean rebalanceOnVolumeChange) {
+            this.rebalanceOnVolumeChange = rebalanceOnVolumeChange;
+        }
+    }
+
+    public static class S3Properties {
+        private String endpoint;
+        private String region = "us-east-1";
+        private String bucket = "neurixa";
+        private String accessKey;
+        private String secretKey;
+        private boolean pathStyleAccess = false;
+        private String keyPrefix = "";
+        private int partSize = 8388608; // 8MB; S3 requires >= 5MB for all but the last part
+        private int maxConcurrency = 4;
+        private int rangeSize = 8388608; // 8MB
+        private int prefetchRanges = 2;
+        private int maxConnections = 64;
+        private int transferThreads = 16;
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public void setEndpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String getRegion() {
+            return region;
+        }
+
+        public void setRegion(String region) {
+            this.region = region;
+        }
+
+        public String getBucket() {
+            return bucket;
+        }
+
+        public void setBucket(String bucket) {
+            this.bucket = bucket;
+        }
+
+        public String getAccessKey() {
+            return accessKey;
+        }
+
+        public void setAccessKey(String accessKey) {
+            this.accessKey = accessKey;
+        }
+
+        public String getSecretKey() {
+            return secretKey;
+        }
+
+        public void setSecretKey(String secretKey) {
+            this.secretKey = secretKey;
+        }
+
+        public boolean isPathStyleAccess() {
+            return pathStyleAccess;
+        }
+
+        public void setPathStyleAccess(boolean pathStyleAccess) {
+            this.pathStyleAccess = pathStyleAccess;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public int getPartSize() {
+            return partSize;
+        }
+
+        public void setPartSize(int partSize) {
+            this.partSize = partSize;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public int getRangeSize() {
+            return rangeSize;
+        }
+
+        public void setRangeSize(int rangeSize) {
+            this.rangeSize = rangeSize;
+        }
+
+        public int getPrefetchRanges() {
+            return prefetchRanges;
+        }
+
+        public void setPrefetchRanges(int prefetchRanges) {
+            this.prefetchRanges = prefetchRanges;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getTransferThreads() {
+            return transferThreads;
+        }
+
+        public void setTransferThreads(int transferThreads) {
+            this.transferThreads = transferThreads;
+        }
+    }
+
+    public static class CacheProperties {
+        private boolean enabled = false;
+        private long maxBytes = 268435456; // 256MB off-heap
+        private int maxEntryBytes = 2097152; // 2MB
+        private int blockSize = 16384; // 16KB
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        public int getMaxEntryBytes() {
+            return maxEntryBytes;
+        }
+
+        public void setMaxEntryBytes(int maxEntryBytes) {
+            this.maxEntryBytes = maxEntryBytes;
+        }
+
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        public void setBlockSize(int blockSize) {
+            this.blockSize = blockSize;
+        }
     }
 }
@@ -0,0 +1,195 @@
+package com.neurixa.adapter.files.content;
+
+import com.neurixa.core.files.port.TextExtractor;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Extracts text from PDFs with PDFBox, within per-document limits.
+ *
+ * <ul>
+ *   <li>Memory: documents over {@code maxSourceBytes} are skipped without being read, and
+ *       at most {@code maxConcurrent} documents are open at once across all workers. Streams
+ *       PDFBox decodes while parsing are held in memory up to {@code maxCacheBytes} per
+ *       document and spill to temporary files beyond that.</li>
+ *   <li>Output: extraction stops after {@code maxChars} characters; the text so far is kept.</li>
+ *   <li>Time: extraction stops at the first page start, content-stream operator or write past
+ *       {@code timeout}; the text so far is kept. Loading the document structure, before the
+ *       first page, is not covered: its cost is bounded by {@code maxSourceBytes} instead.
+ *       A single operator that takes long, such as decoding a huge image, overruns the
+ *       deadline by its own duration.</li>
+ * </ul>
+ */
+public class PdfTextExtractor implements TextExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfTextExtractor.class);
+    private static final String PDF = "application/pdf";
+
+    private final long maxSourceBytes;
+    private final int maxChars;
+    private final Duration timeout;
+    private final Semaphore slots;
+    private final StreamCacheCreateFunction streamCache;
+
+    public PdfTextExtractor(long maxSourceBytes, int maxChars, Duration timeout, int maxConcurrent,
+                            long maxCacheBytes) {
+        if (maxSourceBytes <= 0) throw new IllegalArgumentException("maxSourceBytes must be > 0");
+        if (maxChars <= 0) throw new IllegalArgumentException("maxChars must be > 0");
+        if (timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException("timeout must be positive");
+        if (maxConcurrent <= 0) throw new IllegalArgumentException("maxConcurrent must be > 0");
+        if (maxCacheBytes <= 0) throw new IllegalArgumentException("maxCacheBytes must be > 0");
+        this.maxSourceBytes = maxSourceBytes;
+        this.maxChars = maxChars;
+        this.timeout = timeout;
+        this.slots = new Semaphore(maxConcurrent);
+        this.streamCache = MemoryUsageSetting.setupMixed(maxCacheBytes).streamCache;
+    }
+
+    @Override
+    public boolean supports(String mimeType) {
+        return PDF.equalsIgnoreCase(mimeType);
+    }
+
+    @Override
+    public Optional<String> extract(InputStream content, long size) throws IOException {
+        if (size > maxSourceBytes) {
+            log.info("event=text_extraction_skipped reason=too_large size={} limit={}", size, maxSourceBytes);
+            return Optional.empty();
+        }
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for an extraction slot");
+        }
+        try {
+            // Read fully before parsing, so a storage failure is told apart from a bad document.
+            RandomAccessReadBuffer source = new RandomAccessReadBuffer(content);
+            return parse(source);
+        } finally {
+            slots.release();
+        }
+    }
+
+    private Optional<String> parse(RandomAccessReadBuffer source) {
+        BoundedWriter out = new BoundedWriter(maxChars, System.nanoTime() + timeout.toNanos());
+        // The default cache keeps every decoded stream in memory, however large.
+        try (PDDocument document = Loader.loadPDF(source, "", null, null, streamCache)) {
+            new DeadlineTextStripper(out).writeText(document, out);
+        } catch (LimitReachedException e) {
+            log.info("event=text_extraction_truncated reason={} chars={}", e.getMessage(), out.length());
+        } catch (IOException | RuntimeException e) {
+            if (out.limitReached() == null) {
+                log.info("event=text_extraction_failed error={}", e.getMessage());
+                return Optional.empty();
+            }
+            log.info("event=text_extraction_truncated reason={} chars={}", out.limitReached(), out.length());
+        }
+        return Optional.of(out.toString());
+    }
+
+    /**
+     * Checks the deadline at every page and operator, in case a page yields no text for a
+     * long time.
+     */
+    private static final class DeadlineTextStripper extends PDFTextStripper {
+        private final BoundedWriter out;
+
+        private DeadlineTextStripper(BoundedWriter out) {
+            this.out = out;
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            out.checkDeadline();
+            super.startPage(page);
+        }
+
+        @Override
+        protected void processOperator(Operator operator, List<COSBase> operands) throws IOException {
+            out.checkDeadline();
+            super.processOperator(operator, operands);
+        }
+    }
+
+    private static final class LimitReachedException extends IOException {
+        private LimitReachedException(String reason) {
+            super(reason);
+        }
+    }
+
+    /**
+     * Collects text up to a character limit and a deadline, checked on every write.
+     */
+    private static final class BoundedWriter extends Writer {
+        private final StringBuilder text = new StringBuilder();
+        private final int maxChars;
+        private final long deadlineNanos;
+        private String limitReached;
+
+        private BoundedWriter(int maxChars, long deadlineNanos) {
+            this.maxChars = maxChars;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            checkDeadline();
+            int room = maxChars - text.length();
+            text.append(buffer, offset, Math.min(length, room));
+            if (length > room) {
+                throw limit("max_chars");
+            }
+        }
+
+        private void checkDeadline() throws IOException {
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw limit("timeout");
+            }
+        }
+
+        private LimitReachedException limit(String reason) {
+            limitReached = reason;
+            return new LimitReachedException(reason);
+        }
+
+        private String limitReached() {
+            return limitReached;
+        }
+
+        private int length() {
+            return text.length();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.neurixa.adapter.files.content;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Cuts a short excerpt of a document around the first occurrence of a query term.
+ *
+ * The index matches stemmed terms, so when no term occurs verbatim the search falls
+ * back to term prefixes ("indexing" finds "indexed"), then to the start of the text.
+ */
+public final class Snippets {
+
+    private static final String ELLIPSIS = "…";
+    private static final int MIN_PREFIX = 4;
+
+    private Snippets() {
+    }
+
+    public static String around(String text, String query, int length) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String[] terms = Arrays.stream(query.split("[^\\p{L}\\p{N}]+"))
+                .filter(t -> !t.isEmpty())
+                .toArray(String[]::new);
+        int at = find(text, terms, false);
+        if (at < 0) {
+            at = find(text, terms, true);
+        }
+        int start = at < 0 ? 0 : Math.max(0, at - length / 3);
+        int end = Math.min(text.length(), start + length);
+
+        // Drop the words cut in half at either end.
+        if (start > 0) {
+            int space = indexOfWhitespace(text, start, Math.max(at, start));
+            start = space < 0 ? start : space + 1;
+        }
+        if (end < text.length()) {
+            int space = lastIndexOfWhitespace(text, end, start + length / 2);
+            end = space < 0 ? end : space;
+        }
+        String excerpt = text.substring(start, end).replaceAll("\\s+", " ").strip();
+        return (start > 0 ? ELLIPSIS : "") + excerpt + (end < text.length() ? ELLIPSIS : "");
+    }
+
+    private static int indexOfWhitespace(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfWhitespace(String text, int from, int to) {
+        for (int i = from; i > to; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int find(String text, String[] terms, boolean prefixes) {
+        String alternatives = Arrays.stream(terms)
+                .map(t -> prefixes ? prefix(t) : t)
+                .filter(t -> t != null)
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        if (alternatives.isEmpty()) {
+            return -1;
+        }
+        String boundary = prefixes ? "" : "(?![\\p{L}\\p{N}])";
+        Matcher matcher = Pattern.compile("(?<![\\p{L}\\p{N}])(?:" + alternatives + ")" + boundary,
+                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(text);
+        return matcher.find() ? matcher.start() : -1;
+    }
+
+    private static String prefix(String term) {
+        int length = Math.max(MIN_PREFIX, term.length() - 3);
+        return term.length() < MIN_PREFIX ? null : term.substring(0, Math.min(length, term.length()));
+    }
+}
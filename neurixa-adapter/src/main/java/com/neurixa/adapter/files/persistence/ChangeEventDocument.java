@@ -0,0 +1,29 @@
+package com.neurixa.adapter.files.persistence;
+
+import com.neurixa.core.files.domain.ChangeEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "file_changes")
+public class ChangeEventDocument {
+    @Id
+    private String id;
+    private String ownerId;
+    private long sequence;
+    private ChangeEvent.EntityType entityType;
+    private String entityId;
+    private ChangeEvent.Type type;
+    private String name;
+    private String parentId;
+    private Instant occurredAt;
+}
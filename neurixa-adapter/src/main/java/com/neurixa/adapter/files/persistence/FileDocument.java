@@ -24,6 +24,8 @@ public class FileDocument {
     @Indexed
     private String ownerId;
     private String name;
+    /** {@code Folder.normalizeName(name)}, so file names match as folder names do. */
+    private String nameKey;
     private String mimeType;
     private long size;
     @Indexed
@@ -31,10 +33,23 @@ public class FileDocument {
     @Indexed
     private FileStatus status;
     private int currentVersion;
+    /** Snapshot of the current version; null on documents written before it existed. */
+    private CurrentVersion head;
     private boolean deleted;
     @CreatedDate
     private Instant createdAt;
     @LastModifiedDate
     private Instant updatedAt;
-}
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CurrentVersion {
+        private int versionNumber;
+        private String storageKey;
+        private long size;
+        private String checksumAlgorithm;
+        private String checksumValue;
+    }
+}
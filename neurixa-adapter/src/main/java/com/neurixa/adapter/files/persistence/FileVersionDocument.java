@@ -6,7 +6,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -19,7 +18,7 @@ import java.time.Instant;
 public class FileVersionDocument {
     @Id
     private String id;
-    @Indexed
+    /** Indexed with versionNumber; see {@link MongoFileVersionRepository#ensureIndexes()}. */
     private String fileId;
     private int versionNumber;
     private String storageKey;
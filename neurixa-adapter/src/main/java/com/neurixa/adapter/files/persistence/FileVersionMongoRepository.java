@@ -1,10 +1,13 @@
 package com.neurixa.adapter.files.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface FileVersionMongoRepository extends MongoRepository<FileVersionDocument, String> {
-    List<FileVersionDocument> findByFileId(String fileId);
+    Optional<FileVersionDocument> findByFileIdAndVersionNumber(String fileId, int versionNumber);
+    List<FileVersionDocument> findByFileIdOrderByVersionNumberDesc(String fileId, Pageable pageable);
+    long countByFileId(String fileId);
 }
-
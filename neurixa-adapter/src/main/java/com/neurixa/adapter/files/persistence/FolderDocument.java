@@ -27,6 +27,8 @@ public class FolderDocument {
     private String parentId;
     @Indexed
     private String path;
+    /** Normalized name path, e.g. {@code /projects/2026/invoices}; indexed with ownerId. */
+    private String namePath;
     private boolean deleted;
     @CreatedDate
     private Instant createdAt;
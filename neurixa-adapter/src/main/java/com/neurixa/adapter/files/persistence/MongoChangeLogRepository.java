@@ -0,0 +1,123 @@
+package com.neurixa.adapter.files.persistence;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-owner change log in {@code file_changes}.
+ *
+ * Sequences come from one counter document per owner in {@code file_change_sequences},
+ * reserved with a single {@code $inc} per batch. Entries expire through a TTL index
+ * slightly longer than the retention the API enforces on tokens, so a valid token
+ * never points past compacted entries.
+ */
+@Repository
+public class MongoChangeLogRepository implements ChangeLogRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoChangeLogRepository.class);
+    private static final String SEQUENCES = "file_change_sequences";
+    private static final Duration TTL_MARGIN = Duration.ofHours(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration retention;
+
+    public MongoChangeLogRepository(MongoTemplate mongoTemplate,
+                                    @Value("${neurixa.files.changes.retention:P30D}") Duration retention) {
+        this.mongoTemplate = mongoTemplate;
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexOperations ops = mongoTemplate.indexOps(ChangeEventDocument.class);
+        ops.ensureIndex(new Index().on("ownerId", Sort.Direction.ASC).on("sequence", Sort.Direction.ASC)
+                .unique().named("owner_sequence"));
+        try {
+            ops.ensureIndex(new Index().on("occurredAt", Sort.Direction.ASC)
+                    .expire(retention.plus(TTL_MARGIN)).named("occurredAt_ttl"));
+        } catch (DataAccessException e) {
+            // An existing TTL index with a different expiry must be changed with collMod.
+            log.warn("Could not create TTL index on file_changes (retention changed?): {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void append(List<ChangeEvent> events) {
+        Map<String, List<ChangeEvent>> byOwner = new LinkedHashMap<>();
+        for (ChangeEvent event : events) {
+            byOwner.computeIfAbsent(event.ownerId().getValue(), k -> new ArrayList<>()).add(event);
+        }
+        byOwner.forEach((ownerId, ownerEvents) -> {
+            long last = reserve(ownerId, ownerEvents.size());
+            long next = last - ownerEvents.size() + 1;
+            List<ChangeEventDocument> docs = new ArrayList<>(ownerEvents.size());
+            for (ChangeEvent event : ownerEvents) {
+                docs.add(toDocument(event.withSequence(next++)));
+            }
+            mongoTemplate.insert(docs, ChangeEventDocument.class);
+        });
+    }
+
+    private long reserve(String ownerId, int count) {
+        org.bson.Document counter = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(ownerId)),
+                new Update().inc("seq", (long) count),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                org.bson.Document.class,
+                SEQUENCES);
+        return ((Number) counter.get("seq")).longValue();
+    }
+
+    @Override
+    public List<ChangeEvent> findAfter(UserId ownerId, long afterSequence, int limit) {
+        Query query = new Query(Criteria.where("ownerId").is(ownerId.getValue()).and("sequence").gt(afterSequence))
+                .with(Sort.by(Sort.Order.asc("sequence")))
+                .limit(limit);
+        return mongoTemplate.find(query, ChangeEventDocument.class).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public long latestSequence(UserId ownerId) {
+        org.bson.Document counter = mongoTemplate.findById(ownerId.getValue(), org.bson.Document.class, SEQUENCES);
+        return counter == null ? 0 : ((Number) counter.get("seq")).longValue();
+    }
+
+    private ChangeEventDocument toDocument(ChangeEvent e) {
+        return ChangeEventDocument.builder()
+                .ownerId(e.ownerId().getValue())
+                .sequence(e.sequence())
+                .entityType(e.entityType())
+                .entityId(e.entityId())
+                .type(e.type())
+                .name(e.name())
+                .parentId(e.parentId())
+                .occurredAt(e.occurredAt())
+                .build();
+    }
+
+    private ChangeEvent toDomain(ChangeEventDocument d) {
+        return new ChangeEvent(d.getSequence(), new UserId(d.getOwnerId()), d.getEntityType(), d.getEntityId(),
+                d.getType(), d.getName(), d.getParentId(), d.getOccurredAt());
+    }
+}
@@ -0,0 +1,101 @@
+package com.neurixa.adapter.files.persistence;
+
+import com.neurixa.adapter.files.content.Snippets;
+import com.neurixa.core.domain.Page;
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ContentMatch;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.ContentIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Extracted file text in {@code file_contents}, one document per file, searched through
+ * a MongoDB text index.
+ *
+ * The text index is compounded behind {@code ownerId}, which makes it an inverted index
+ * per owner: a search only touches the postings of the caller's own files. Ranking is
+ * MongoDB's text score (term frequency weighted by field length, with stemming).
+ */
+@Repository
+@RequiredArgsConstructor
+public class MongoContentIndex implements ContentIndex {
+
+    static final String COLLECTION = "file_contents";
+    private static final int SNIPPET_LENGTH = 200;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * A text index with a prefix field only serves queries with an equality match on that
+     * prefix, which every search has.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(
+                new CompoundIndexDefinition(new Document("ownerId", 1).append("text", "text"))
+                        .named("owner_text"));
+    }
+
+    @Override
+    public void index(StoredFile file, int versionNumber, String text) {
+        Query query = new Query(Criteria.where("_id").is(file.getId().getValue())
+                .and("versionNumber").lte(versionNumber));
+        Update update = new Update()
+                .set("ownerId", file.getOwnerId().getValue())
+                .set("versionNumber", versionNumber)
+                .set("text", text)
+                .set("indexedAt", Instant.now());
+        try {
+            mongoTemplate.upsert(query, update, COLLECTION);
+        } catch (DuplicateKeyException e) {
+            // A newer version is already indexed: the upsert missed it and collided on _id.
+        }
+    }
+
+    @Override
+    public void remove(Collection<FileId> fileIds) {
+        if (fileIds.isEmpty()) {
+            return;
+        }
+        List<String> ids = fileIds.stream().map(FileId::getValue).toList();
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), COLLECTION);
+    }
+
+    @Override
+    public Page<ContentMatch> search(UserId ownerId, String query, int page, int size) {
+        Criteria owner = Criteria.where("ownerId").is(ownerId.getValue());
+        TextCriteria matching = TextCriteria.forDefaultLanguage().matching(query);
+
+        Query ranked = TextQuery.queryText(matching).sortByScore()
+                .addCriteria(owner)
+                .with(PageRequest.of(page, size));
+        ranked.fields().include("text");
+        List<ContentMatch> matches = mongoTemplate.find(ranked, Document.class, COLLECTION).stream()
+                .map(doc -> new ContentMatch(new FileId(doc.getString("_id")),
+                        ((Number) doc.get("score")).doubleValue(),
+                        Snippets.around(doc.getString("text"), query, SNIPPET_LENGTH)))
+                .toList();
+
+        long total = page == 0 && matches.size() < size
+                ? matches.size()
+                : mongoTemplate.count(new Query(matching).addCriteria(owner), COLLECTION);
+        return new Page<>(matches, page, size, total);
+    }
+}
@@ -1,21 +1,45 @@
 package com.neurixa.adapter.files.persistence;
 
+import com.neurixa.adapter.maintenance.LiveIndexes;
 import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.BatchWriteResult;
+import com.neurixa.core.files.domain.Checksum;
 import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.FileSort;
 import com.neurixa.core.files.domain.FileStatus;
+import com.neurixa.core.files.domain.Folder;
 import com.neurixa.core.files.domain.FolderId;
 import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.domain.VersionSnapshot;
 import com.neurixa.core.files.port.FileRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -23,6 +47,8 @@ public class MongoFileRepository implements FileRepository {
 
     private static final Logger log = LoggerFactory.getLogger(MongoFileRepository.class);
     private static final long SLOW_QUERY_MS = 200;
+    private static final int BACKFILL_BATCH = 500;
+    private static final Collation NAME_COLLATION = Collation.of(Locale.ENGLISH).strength(Collation.ComparisonLevel.secondary());
 
     private final FileMongoRepository mongoRepository;
     private final MongoTemplate mongoTemplate;
@@ -41,51 +67,265 @@ public class MongoFileRepository implements FileRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<StoredFile> findById(FileId id) {
+        return mongoRepository.findById(id.getValue()).map(this::toDomain);
+    }
+
+    @Override
+    public List<StoredFile> findByIdsAndOwner(Collection<FileId> ids, UserId ownerId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(Criteria.where("_id").in(ids.stream().map(FileId::getValue).toList())
+                .and("ownerId").is(ownerId.getValue()));
+        return mongoTemplate.find(query, FileDocument.class).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public Optional<StoredFile> finishProcessing(StoredFile file, FileStatus status) {
+        Query filter = new Query(Criteria.where("_id").is(file.getId().getValue())
+                .and("status").is(FileStatus.UPLOADING)
+                .and("currentVersion").is(file.getCurrentVersion()));
+        filter.addCriteria(LiveIndexes.live());
+        Update update = new Update().set("status", status).set("updatedAt", Instant.now());
+        file.getHead().ifPresent(head -> update.set("head", toHeadDocument(head)));
+        FileDocument updated = mongoTemplate.findAndModify(filter, update,
+                FindAndModifyOptions.options().returnNew(true), FileDocument.class);
+        return Optional.ofNullable(updated).map(this::toDomain);
+    }
+
+    @Override
+    public BatchWriteResult moveAll(List<StoredFile> files, FolderId targetFolderId) {
+        String target = targetFolderId != null ? targetFolderId.getValue() : null;
+        return updateAll("moveAll", files,
+                file -> Criteria.where("folderId").is(file.getFolderId() != null ? file.getFolderId().getValue() : null),
+                new Update().set("folderId", target),
+                Criteria.where("folderId").is(target));
+    }
+
+    @Override
+    public BatchWriteResult deleteAll(List<StoredFile> files) {
+        return updateAll("deleteAll", files,
+                file -> null, // liveness is all a delete expects
+                new Update().set("deleted", true).set("status", FileStatus.DELETED),
+                Criteria.where("deleted").is(true));
+    }
+
+    /**
+     * Applies {@code update} to each file in one unordered bulk write, filtered on its id, its
+     * owner (so a batch can never touch another user's document), liveness and
+     * {@code expected(file)}, the rest of the state it was read in, if any. A bulk write only
+     * reports how many filters matched; when that falls short, the files that were written
+     * are told apart by the {@code updatedAt} stamped on them and {@code applied}, the state
+     * the update leaves them in.
+     */
+    private BatchWriteResult updateAll(String operation, List<StoredFile> files, Function<StoredFile, Criteria> expected,
+                                       Update update, Criteria applied) {
+        if (files.isEmpty()) {
+            return BatchWriteResult.none();
+        }
+        long start = System.currentTimeMillis();
+        // Truncated to what Mongo stores, so the stamp can be matched exactly.
+        Instant stamp = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        update.set("updatedAt", stamp);
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FileDocument.class);
+        for (StoredFile file : files) {
+            Query filter = new Query(Criteria.where("_id").is(file.getId().getValue())
+                    .and("ownerId").is(file.getOwnerId().getValue()));
+            filter.addCriteria(LiveIndexes.live());
+            Criteria state = expected.apply(file);
+            if (state != null) {
+                filter.addCriteria(state);
+            }
+            ops.updateOne(filter, update);
+        }
+        Set<FileId> failed = new HashSet<>();
+        int matched;
+        try {
+            matched = ops.execute().getMatchedCount();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> failed.add(files.get(error.getIndex()).getId()));
+            matched = e.getResult().getMatchedCount();
+            log.warn("bulk_write collection=files operation={} failed={} of {}", operation, failed.size(), files.size());
+        }
+        Set<FileId> unmatched = new HashSet<>();
+        if (matched < files.size() - failed.size()) {
+            List<String> candidates = files.stream().map(StoredFile::getId)
+                    .filter(id -> !failed.contains(id)).map(FileId::getValue).toList();
+            Query writtenNow = new Query(Criteria.where("_id").in(candidates).and("updatedAt").is(stamp));
+            writtenNow.addCriteria(applied);
+            writtenNow.fields().include("_id");
+            Set<String> written = new HashSet<>();
+            mongoTemplate.find(writtenNow, FileDocument.class).forEach(doc -> written.add(doc.getId()));
+            candidates.stream().filter(id -> !written.contains(id)).map(FileId::new).forEach(unmatched::add);
+            log.info("bulk_write collection=files operation={} unmatched={} of {}", operation, unmatched.size(), files.size());
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        if (elapsed > SLOW_QUERY_MS) {
+            log.warn("slow_query collection=files operation={} elapsed={}ms size={}", operation, elapsed, files.size());
+        }
+        return new BatchWriteResult(failed, unmatched);
+    }
+
     @Override
     public List<StoredFile> findByFolder(UserId ownerId, FolderId folderId) {
         List<FileDocument> docs = folderId == null
-                ? mongoRepository.findByOwnerIdAndFolderIdIsNull(ownerId.getValue())
-                : mongoRepository.findByOwnerIdAndFolderId(ownerId.getValue(), folderId.getValue());
+                ? mongoRepository.findByOwnerIdAndFolderIdIsNullAndDeletedFalse(ownerId.getValue())
+                : mongoRepository.findByOwnerIdAndFolderIdAndDeletedFalse(ownerId.getValue(), folderId.getValue());
         return docs.stream().map(this::toDomain).toList();
     }
 
+    /**
+     * One compound index per listing order, with and without the MIME type filter:
+     * {@code (ownerId, folderId[, mimeType], <sortField>, _id)}. Equality fields come first,
+     * so every listing is read in index order with no in-memory SORT stage; a single
+     * ascending index serves both directions. Name indexes use the case-insensitive
+     * collation that name-sorted queries run with. All are partial over live files, so
+     * tombstones cost no index space; they replace the earlier full {@code listing_*} indexes.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexOperations ops = mongoTemplate.indexOps(FileDocument.class);
+        for (FileSort.Field field : FileSort.Field.values()) {
+            LiveIndexes.ensure(ops, listingIndex(field, false), listingIndexName(field, false));
+            if (field != FileSort.Field.MIME_TYPE) {
+                LiveIndexes.ensure(ops, listingIndex(field, true), listingIndexName(field, true));
+            }
+        }
+        // Only files still being processed, so the stalled-upload sweep reads a tiny index.
+        LiveIndexes.ensure(ops, new Index().on("createdAt", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                .partial(PartialIndexFilter.of(Criteria.where("status").is(FileStatus.UPLOADING.name())))
+                .named("uploading_createdAt_id"), "uploading_createdAt");
+        LiveIndexes.ensure(ops, LiveIndexes.live(new Index()
+                .on("ownerId", Sort.Direction.ASC)
+                .on("folderId", Sort.Direction.ASC)
+                .on("nameKey", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.ASC)
+                .named("live_name_key")));
+        backfillNameKeys();
+    }
+
+    /**
+     * Fills {@code nameKey} on files written before it existed, streaming them in batches.
+     * Idempotent: only documents still missing the field are touched.
+     */
+    void backfillNameKeys() {
+        Query legacy = new Query(Criteria.where("nameKey").exists(false));
+        legacy.fields().include("_id").include("name");
+        legacy.cursorBatchSize(BACKFILL_BATCH);
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FileDocument.class);
+        int batched = 0;
+        int updated = 0;
+        try (Stream<FileDocument> docs = mongoTemplate.stream(legacy, FileDocument.class)) {
+            for (FileDocument doc : (Iterable<FileDocument>) docs::iterator) {
+                if (doc.getName() == null) {
+                    continue;
+                }
+                ops.updateOne(new Query(Criteria.where("_id").is(doc.getId())),
+                        Update.update("nameKey", Folder.normalizeName(doc.getName())));
+                if (++batched == BACKFILL_BATCH) {
+                    ops.execute();
+                    updated += batched;
+                    batched = 0;
+                    ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FileDocument.class);
+                }
+            }
+        }
+        if (batched > 0) {
+            ops.execute();
+            updated += batched;
+        }
+        if (updated > 0) {
+            log.info("Backfilled name keys on {} files", updated);
+        }
+    }
+
+    private static String listingIndexName(FileSort.Field field, boolean byMimeType) {
+        return "listing_" + (byMimeType ? "mime_" : "") + field.key();
+    }
+
+    private static Index listingIndex(FileSort.Field field, boolean byMimeType) {
+        Index index = new Index().on("ownerId", Sort.Direction.ASC).on("folderId", Sort.Direction.ASC);
+        if (byMimeType) {
+            index.on("mimeType", Sort.Direction.ASC);
+        }
+        index.on(field.key(), Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                .named("live_" + listingIndexName(field, byMimeType));
+        if (field == FileSort.Field.NAME) {
+            index.collation(NAME_COLLATION);
+        }
+        return LiveIndexes.live(index);
+    }
+
     @Override
-    public List<StoredFile> findByFolder(UserId ownerId, FolderId folderId, int page, int size) {
+    public List<StoredFile> findByFolder(UserId ownerId, FolderId folderId, FileSort sort, String mimeType, int page, int size) {
         long start = System.currentTimeMillis();
 
-        Query query = new Query();
-        query.addCriteria(Criteria.where("ownerId").is(ownerId.getValue()));
-        if (folderId == null) {
-            query.addCriteria(Criteria.where("folderId").isNull());
-        } else {
-            query.addCriteria(Criteria.where("folderId").is(folderId.getValue()));
-        }
+        Query query = folderQuery(ownerId, folderId, mimeType);
         query.skip((long) Math.max(page, 0) * Math.max(size, 1));
         query.limit(Math.max(size, 1));
-        query.with(org.springframework.data.domain.Sort.by(
-                org.springframework.data.domain.Sort.Order.desc("updatedAt")));
+        Sort.Direction direction = sort.ascending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        query.with(Sort.by(direction, sort.field().key()).and(Sort.by(direction, "_id")));
+        if (sort.field() == FileSort.Field.NAME) {
+            query.collation(NAME_COLLATION);
+        }
 
         List<StoredFile> results = mongoTemplate.find(query, FileDocument.class)
                 .stream().map(this::toDomain).toList();
 
         long elapsed = System.currentTimeMillis() - start;
         if (elapsed > SLOW_QUERY_MS) {
-            log.warn("slow_query collection=files operation=findByFolder elapsed={}ms page={} size={}",
-                    elapsed, page, size);
+            log.warn("slow_query collection=files operation=findByFolder elapsed={}ms page={} size={} sort={} mimeType={}",
+                    elapsed, page, size, sort.field().key(), mimeType);
         }
         return results;
     }
 
     @Override
-    public long countByFolder(UserId ownerId, FolderId folderId) {
+    public long countByFolder(UserId ownerId, FolderId folderId, String mimeType) {
+        return mongoTemplate.count(folderQuery(ownerId, folderId, mimeType), FileDocument.class);
+    }
+
+    /**
+     * Matches on {@code nameKey}, the normalization folder name paths use, rather than through
+     * the listing collation, so a path resolves folders and files by one rule. Served by the
+     * {@code live_name_key} index.
+     */
+    @Override
+    public Optional<StoredFile> findByFolderAndName(UserId ownerId, FolderId folderId, String name) {
+        Query query = folderQuery(ownerId, folderId, null);
+        query.addCriteria(Criteria.where("nameKey").is(Folder.normalizeName(name)));
+        query.with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        return Optional.ofNullable(mongoTemplate.findOne(query, FileDocument.class)).map(this::toDomain);
+    }
+
+    @Override
+    public List<StoredFile> findUploadingCreatedBefore(Instant createdBefore, StoredFile after, int limit) {
+        Query query = new Query(Criteria.where("status").is(FileStatus.UPLOADING).and("createdAt").lt(createdBefore));
+        query.addCriteria(LiveIndexes.live());
+        if (after != null) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("createdAt").gt(after.getCreatedAt()),
+                    Criteria.where("createdAt").is(after.getCreatedAt()).and("_id").gt(after.getId().getValue())));
+        }
+        query.with(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("_id"))).limit(Math.max(limit, 1));
+        return mongoTemplate.find(query, FileDocument.class).stream().map(this::toDomain).toList();
+    }
+
+    private static Query folderQuery(UserId ownerId, FolderId folderId, String mimeType) {
         Query query = new Query();
         query.addCriteria(Criteria.where("ownerId").is(ownerId.getValue()));
+        query.addCriteria(LiveIndexes.live());
         if (folderId == null) {
             query.addCriteria(Criteria.where("folderId").isNull());
         } else {
             query.addCriteria(Criteria.where("folderId").is(folderId.getValue()));
         }
-        return mongoTemplate.count(query, FileDocument.class);
+        if (mimeType != null) {
+            query.addCriteria(Criteria.where("mimeType").is(mimeType));
+        }
+        return query;
     }
 
     private FileDocument toDocument(StoredFile f) {
@@ -93,11 +333,13 @@ public class MongoFileRepository implements FileRepository {
                 .id(f.getId().getValue())
                 .ownerId(f.getOwnerId().getValue())
                 .name(f.getName())
+                .nameKey(Folder.normalizeName(f.getName()))
                 .mimeType(f.getMimeType())
                 .size(f.getSize())
                 .folderId(f.getFolderId() != null ? f.getFolderId().getValue() : null)
                 .status(f.getStatus())
                 .currentVersion(f.getCurrentVersion())
+                .head(f.getHead().map(MongoFileRepository::toHeadDocument).orElse(null))
                 .deleted(f.isDeleted())
                 .createdAt(f.getCreatedAt())
                 .updatedAt(f.getUpdatedAt())
@@ -114,9 +356,28 @@ public class MongoFileRepository implements FileRepository {
                 d.getFolderId() != null ? new FolderId(d.getFolderId()) : null,
                 d.getStatus() != null ? d.getStatus() : FileStatus.ACTIVE,
                 d.getCurrentVersion(),
+                d.getHead() != null ? toHead(d.getHead()) : null,
                 d.isDeleted(),
                 d.getCreatedAt(),
                 d.getUpdatedAt()
         );
     }
+
+    private static FileDocument.CurrentVersion toHeadDocument(VersionSnapshot v) {
+        return FileDocument.CurrentVersion.builder()
+                .versionNumber(v.versionNumber())
+                .storageKey(v.storageKey())
+                .size(v.size())
+                .checksumAlgorithm(v.checksum() != null ? v.checksum().getAlgorithm() : null)
+                .checksumValue(v.checksum() != null ? v.checksum().getValue() : null)
+                .build();
+    }
+
+    private static VersionSnapshot toHead(FileDocument.CurrentVersion v) {
+        Checksum checksum = null;
+        if (v.getChecksumAlgorithm() != null && v.getChecksumValue() != null) {
+            checksum = new Checksum(v.getChecksumAlgorithm(), v.getChecksumValue());
+        }
+        return new VersionSnapshot(v.getVersionNumber(), v.getStorageKey(), v.getSize(), checksum);
+    }
 }
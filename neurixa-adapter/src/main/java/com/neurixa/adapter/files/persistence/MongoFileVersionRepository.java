@@ -5,15 +5,23 @@ import com.neurixa.core.files.domain.FileId;
 import com.neurixa.core.files.domain.FileVersion;
 import com.neurixa.core.files.domain.FileVersionId;
 import com.neurixa.core.files.port.FileVersionRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class MongoFileVersionRepository implements FileVersionRepository {
     private final FileVersionMongoRepository mongoRepository;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public FileVersion save(FileVersion version) {
@@ -23,8 +31,36 @@ public class MongoFileVersionRepository implements FileVersionRepository {
     }
 
     @Override
-    public List<FileVersion> findByFileId(FileId fileId) {
-        return mongoRepository.findByFileId(fileId.getValue()).stream().map(this::toDomain).toList();
+    public Optional<FileVersion> findByFileIdAndVersion(FileId fileId, int versionNumber) {
+        return mongoRepository.findByFileIdAndVersionNumber(fileId.getValue(), versionNumber).map(this::toDomain);
+    }
+
+    @Override
+    public List<FileVersion> findByFileId(FileId fileId, int page, int size) {
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1));
+        return mongoRepository.findByFileIdOrderByVersionNumberDesc(fileId.getValue(), pageable)
+                .stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public long countByFileId(FileId fileId) {
+        return mongoRepository.countByFileId(fileId.getValue());
+    }
+
+    /**
+     * {@code (fileId, versionNumber)} serves the point lookup, the newest-first history
+     * walk and the count; unique, so a retried upload cannot record a version twice.
+     * {@code storageKey} lets backups walk blobs in key order, deduplicating as they go.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexOperations ops = mongoTemplate.indexOps(FileVersionDocument.class);
+        ops.ensureIndex(new Index()
+                .on("fileId", Sort.Direction.ASC)
+                .on("versionNumber", Sort.Direction.ASC)
+                .unique()
+                .named("file_version"));
+        ops.ensureIndex(new Index().on("storageKey", Sort.Direction.ASC).named("storage_key"));
     }
 
     private FileVersionDocument toDocument(FileVersion v) {
@@ -1,29 +1,54 @@
 package com.neurixa.adapter.files.persistence;
 
+import com.neurixa.adapter.maintenance.LiveIndexes;
 import com.neurixa.core.domain.UserId;
 import com.neurixa.core.files.domain.Folder;
 import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.exception.FolderNameConflictException;
 import com.neurixa.core.files.port.FolderRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class MongoFolderRepository implements FolderRepository {
+    private static final Logger log = LoggerFactory.getLogger(MongoFolderRepository.class);
+    private static final int BACKFILL_BATCH = 500;
+
     private final FolderMongoRepository mongoRepository;
     private final MongoTemplate mongoTemplate;
 
+    /** A concurrent create or rename of a same-named sibling loses on the unique name path index. */
     @Override
     public Folder save(Folder folder) {
         FolderDocument doc = toDocument(folder);
-        FolderDocument saved = mongoRepository.save(doc);
-        return toDomain(saved);
+        try {
+            return toDomain(mongoRepository.save(doc));
+        } catch (DuplicateKeyException e) {
+            throw new FolderNameConflictException("A folder with this name already exists here");
+        }
     }
 
     @Override
@@ -35,13 +60,13 @@ public class MongoFolderRepository implements FolderRepository {
 
     @Override
     public List<Folder> findChildren(UserId ownerId, FolderId parentId) {
-        List<FolderDocument> docs = mongoRepository.findByOwnerIdAndParentId(ownerId.getValue(), parentId.getValue());
+        List<FolderDocument> docs = mongoRepository.findByOwnerIdAndParentIdAndDeletedFalse(ownerId.getValue(), parentId.getValue());
         return docs.stream().map(this::toDomain).toList();
     }
 
     @Override
     public List<Folder> findRoots(UserId ownerId) {
-        List<FolderDocument> docs = mongoRepository.findByOwnerIdAndParentIdIsNull(ownerId.getValue());
+        List<FolderDocument> docs = mongoRepository.findByOwnerIdAndParentIdIsNullAndDeletedFalse(ownerId.getValue());
         return docs.stream().map(this::toDomain).toList();
     }
 
@@ -50,6 +75,7 @@ public class MongoFolderRepository implements FolderRepository {
         Query query = new Query();
         query.addCriteria(Criteria.where("ownerId").is(ownerId.getValue()));
         query.addCriteria(Criteria.where("parentId").is(parentId.getValue()));
+        query.addCriteria(LiveIndexes.live());
         query.skip((long) Math.max(page, 0) * Math.max(size, 1));
         query.limit(Math.max(size, 1));
         query.with(org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Order.desc("updatedAt")));
@@ -61,6 +87,7 @@ public class MongoFolderRepository implements FolderRepository {
         Query query = new Query();
         query.addCriteria(Criteria.where("ownerId").is(ownerId.getValue()));
         query.addCriteria(Criteria.where("parentId").isNull());
+        query.addCriteria(LiveIndexes.live());
         query.skip((long) Math.max(page, 0) * Math.max(size, 1));
         query.limit(Math.max(size, 1));
         query.with(org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Order.desc("updatedAt")));
@@ -72,6 +99,7 @@ public class MongoFolderRepository implements FolderRepository {
         Query query = new Query();
         query.addCriteria(Criteria.where("ownerId").is(ownerId.getValue()));
         query.addCriteria(Criteria.where("parentId").is(parentId.getValue()));
+        query.addCriteria(LiveIndexes.live());
         return mongoTemplate.count(query, FolderDocument.class);
     }
 
@@ -80,9 +108,137 @@ public class MongoFolderRepository implements FolderRepository {
         Query query = new Query();
         query.addCriteria(Criteria.where("ownerId").is(ownerId.getValue()));
         query.addCriteria(Criteria.where("parentId").isNull());
+        query.addCriteria(LiveIndexes.live());
         return mongoTemplate.count(query, FolderDocument.class);
     }
 
+    @Override
+    public List<Folder> findByNamePaths(UserId ownerId, Collection<String> namePaths) {
+        if (namePaths.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(Criteria.where("ownerId").is(ownerId.getValue())
+                .and("namePath").in(namePaths)
+                .and("deleted").is(false));
+        query.with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        Map<String, Folder> oldestByNamePath = new HashMap<>();
+        for (FolderDocument doc : mongoTemplate.find(query, FolderDocument.class)) {
+            oldestByNamePath.putIfAbsent(doc.getNamePath(), toDomain(doc));
+        }
+        return List.copyOf(oldestByNamePath.values());
+    }
+
+    @Override
+    public boolean existsByNamePath(UserId ownerId, String namePath, FolderId excluding) {
+        Criteria criteria = Criteria.where("ownerId").is(ownerId.getValue()).and("namePath").is(namePath);
+        if (excluding != null) {
+            criteria.and("_id").ne(excluding.getValue());
+        }
+        Query query = new Query(criteria);
+        query.addCriteria(LiveIndexes.live());
+        return mongoTemplate.exists(query, FolderDocument.class);
+    }
+
+    /**
+     * One {@code updateMulti} with an aggregation pipeline: descendants are matched by id-path
+     * prefix (served by the {@code path} index) and both prefixes are swapped server-side.
+     * Ids are UUIDs, so the path needs no regex escaping and the prefix stays index-friendly.
+     */
+    @Override
+    public long updateSubtree(Folder previous, Folder updated) {
+        String oldPath = previous.getPath();
+        String oldNamePath = previous.getNamePath();
+        if (oldPath.equals(updated.getPath()) && oldNamePath.equals(updated.getNamePath())) {
+            return 0;
+        }
+        Query descendants = new Query(Criteria.where("ownerId").is(previous.getOwnerId().getValue())
+                .and("path").regex("^" + oldPath + "/"));
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("path").toValue(StringOperators.Concat.stringValue(updated.getPath())
+                        .concatValueOf(StringOperators.valueOf("path").substringCP(oldPath.length(), Integer.MAX_VALUE)))
+                .set("namePath").toValue(StringOperators.Concat.stringValue(updated.getNamePath())
+                        .concatValueOf(StringOperators.valueOf("namePath")
+                                .substringCP(oldNamePath.codePointCount(0, oldNamePath.length()), Integer.MAX_VALUE)));
+        return mongoTemplate.updateMulti(descendants, update, FolderDocument.class).getModifiedCount();
+    }
+
+    /**
+     * Both indexes are partial over live folders. {@code live_owner_name_path_unique} keeps
+     * sibling names distinct and replaces the earlier {@code owner_name_path} and
+     * {@code live_owner_name_path}; it also requires {@code namePath}, so folders the backfill
+     * could not reach do not collide on a missing value. It is built after the backfill. If
+     * live folders already share a name path it cannot be built: the non-unique index is kept
+     * and a warning logged until they are renamed.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexOperations ops = mongoTemplate.indexOps(FolderDocument.class);
+        LiveIndexes.ensure(ops, LiveIndexes.live(new Index()
+                .on("ownerId", Sort.Direction.ASC)
+                .on("parentId", Sort.Direction.ASC)
+                .on("updatedAt", Sort.Direction.ASC)
+                .named("live_children")));
+        backfillNamePaths();
+        try {
+            LiveIndexes.ensure(ops, new Index()
+                    .on("ownerId", Sort.Direction.ASC)
+                    .on("namePath", Sort.Direction.ASC)
+                    .unique()
+                    .partial(PartialIndexFilter.of(LiveIndexes.live().and("namePath").exists(true)))
+                    .named("live_owner_name_path_unique"), "owner_name_path", "live_owner_name_path");
+        } catch (DuplicateKeyException e) {
+            log.warn("Folder name paths are not unique yet; keeping the non-unique index: {}", e.getMessage());
+            LiveIndexes.ensure(ops, LiveIndexes.live(new Index()
+                    .on("ownerId", Sort.Direction.ASC)
+                    .on("namePath", Sort.Direction.ASC)
+                    .named("live_owner_name_path")), "owner_name_path");
+        }
+    }
+
+    /**
+     * Fills {@code namePath} on folders written before it existed. Parents are processed
+     * before children (shallowest id path first), so each name path extends one already known.
+     * Idempotent: only documents still missing the field are touched.
+     */
+    void backfillNamePaths() {
+        List<FolderDocument> legacy = mongoTemplate.find(
+                new Query(Criteria.where("namePath").exists(false)), FolderDocument.class);
+        if (legacy.isEmpty()) {
+            return;
+        }
+        legacy.sort(Comparator.comparingLong(d -> d.getPath().chars().filter(c -> c == '/').count()));
+
+        Map<String, String> namePaths = new HashMap<>();
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FolderDocument.class);
+        int batched = 0;
+        int updated = 0;
+        for (FolderDocument doc : legacy) {
+            String parentNamePath = "";
+            if (doc.getParentId() != null) {
+                parentNamePath = namePaths.computeIfAbsent(doc.getParentId(),
+                        id -> mongoRepository.findById(id).map(FolderDocument::getNamePath).orElse(null));
+                if (parentNamePath == null) {
+                    log.warn("Skipping name path backfill for folder {}: parent {} has none", doc.getId(), doc.getParentId());
+                    continue;
+                }
+            }
+            String namePath = parentNamePath + "/" + Folder.normalizeName(doc.getName());
+            namePaths.put(doc.getId(), namePath);
+            ops.updateOne(new Query(Criteria.where("_id").is(doc.getId())), Update.update("namePath", namePath));
+            if (++batched == BACKFILL_BATCH) {
+                ops.execute();
+                updated += batched;
+                batched = 0;
+                ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FolderDocument.class);
+            }
+        }
+        if (batched > 0) {
+            ops.execute();
+            updated += batched;
+        }
+        log.info("Backfilled name paths on {} of {} folders", updated, legacy.size());
+    }
+
     private FolderDocument toDocument(Folder folder) {
         return FolderDocument.builder()
                 .id(folder.getId().getValue())
@@ -90,6 +246,7 @@ public class MongoFolderRepository implements FolderRepository {
                 .name(folder.getName())
                 .parentId(folder.getParentId() != null ? folder.getParentId().getValue() : null)
                 .path(folder.getPath())
+                .namePath(folder.getNamePath())
                 .deleted(folder.isDeleted())
                 .createdAt(folder.getCreatedAt())
                 .updatedAt(folder.getUpdatedAt())
@@ -103,6 +260,7 @@ public class MongoFolderRepository implements FolderRepository {
                 d.getName(),
                 d.getParentId() != null ? new FolderId(d.getParentId()) : null,
                 d.getPath(),
+                d.getNamePath(),
                 d.isDeleted(),
                 d.getCreatedAt(),
                 d.getUpdatedAt()
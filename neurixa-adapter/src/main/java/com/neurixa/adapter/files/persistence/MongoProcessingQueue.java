@@ -0,0 +1,123 @@
+package com.neurixa.adapter.files.persistence;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.ProcessingTask;
+import com.neurixa.core.files.port.ProcessingQueue;
+import jakarta.annotation.PostConstruct;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Processing queue in {@code processing_jobs}.
+ *
+ * Claiming is a single {@code findAndModify} that flips the oldest due job to RUNNING
+ * under a lease, so any number of app nodes can poll the same collection. A job whose
+ * lease expired (worker crashed or stalled) is claimable again. Completed jobs are
+ * deleted; jobs that ran out of attempts stay as FAILED for inspection. There is at most
+ * one job per file version, so enqueuing is an upsert that leaves an existing job alone.
+ */
+@Repository
+public class MongoProcessingQueue implements ProcessingQueue {
+
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+
+    public MongoProcessingQueue(MongoTemplate mongoTemplate) {
+        this(mongoTemplate, Clock.systemUTC());
+    }
+
+    MongoProcessingQueue(MongoTemplate mongoTemplate, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexOperations ops = mongoTemplate.indexOps(ProcessingJobDocument.class);
+        ops.ensureIndex(new Index().on("state", Sort.Direction.ASC).on("availableAt", Sort.Direction.ASC)
+                .named("state_availableAt"));
+        ops.ensureIndex(new Index().on("state", Sort.Direction.ASC).on("leaseExpiresAt", Sort.Direction.ASC)
+                .named("state_leaseExpiresAt"));
+        ops.ensureIndex(new Index().on("fileId", Sort.Direction.ASC).on("versionNumber", Sort.Direction.ASC)
+                .unique().named("fileId_versionNumber"));
+    }
+
+    @Override
+    public void enqueue(ProcessingTask task) {
+        Instant now = clock.instant();
+        Query version = new Query(Criteria.where("fileId").is(task.fileId().getValue())
+                .and("versionNumber").is(task.versionNumber()));
+        Update insertOnly = new Update()
+                .setOnInsert("ownerId", task.ownerId().getValue())
+                .setOnInsert("state", ProcessingJobDocument.State.PENDING)
+                .setOnInsert("attempts", 0)
+                .setOnInsert("availableAt", now)
+                .setOnInsert("createdAt", now);
+        try {
+            mongoTemplate.upsert(version, insertOnly, ProcessingJobDocument.class);
+        } catch (DuplicateKeyException e) {
+            // A concurrent enqueue of the same version inserted first; its job stands.
+        }
+    }
+
+    @Override
+    public Optional<ProcessingTask> claim(String workerId, Duration lease) {
+        Instant now = clock.instant();
+        Criteria due = new Criteria().orOperator(
+                Criteria.where("state").is(ProcessingJobDocument.State.PENDING).and("availableAt").lte(now),
+                Criteria.where("state").is(ProcessingJobDocument.State.RUNNING).and("leaseExpiresAt").lte(now));
+        Query query = new Query(due).with(Sort.by(Sort.Order.asc("availableAt")));
+        Update update = new Update()
+                .set("state", ProcessingJobDocument.State.RUNNING)
+                .set("leaseOwner", workerId)
+                .set("leaseExpiresAt", now.plus(lease))
+                .inc("attempts", 1);
+        ProcessingJobDocument claimed = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), ProcessingJobDocument.class);
+        return Optional.ofNullable(claimed).map(this::toTask);
+    }
+
+    @Override
+    public void complete(ProcessingTask task) {
+        mongoTemplate.remove(leased(task), ProcessingJobDocument.class);
+    }
+
+    @Override
+    public void fail(ProcessingTask task, String error, Duration retryAfter) {
+        Update update = new Update()
+                .set("lastError", error)
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt");
+        if (retryAfter != null) {
+            update.set("state", ProcessingJobDocument.State.PENDING)
+                    .set("availableAt", clock.instant().plus(retryAfter));
+        } else {
+            update.set("state", ProcessingJobDocument.State.FAILED);
+        }
+        mongoTemplate.updateFirst(leased(task), update, ProcessingJobDocument.class);
+    }
+
+    /** Matches the job only while this worker still holds its lease. */
+    private Query leased(ProcessingTask task) {
+        return new Query(Criteria.where("_id").is(task.id()).and("leaseOwner").is(task.workerId()));
+    }
+
+    private ProcessingTask toTask(ProcessingJobDocument d) {
+        return new ProcessingTask(d.getId(), new FileId(d.getFileId()), new UserId(d.getOwnerId()),
+                d.getVersionNumber(), d.getAttempts(), d.getLeaseOwner());
+    }
+}
@@ -0,0 +1,37 @@
+package com.neurixa.adapter.files.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "processing_jobs")
+public class ProcessingJobDocument {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        FAILED
+    }
+
+    @Id
+    private String id;
+    private String fileId;
+    private String ownerId;
+    private int versionNumber;
+    private State state;
+    private int attempts;
+    private Instant availableAt;
+    private String leaseOwner;
+    private Instant leaseExpiresAt;
+    private String lastError;
+    private Instant createdAt;
+}
@@ -0,0 +1,142 @@
+package com.neurixa.adapter.files.storage;
+
+import com.neurixa.adapter.files.config.StorageProperties;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ObjectStoreClient} backed by the AWS SDK v2 with a pooled Apache HTTP client,
+ * so concurrent part uploads and ranged reads reuse keep-alive connections.
+ */
+public class AwsObjectStoreClient implements ObjectStoreClient, AutoCloseable {
+
+    private final S3Client s3;
+    private final String bucket;
+
+    public AwsObjectStoreClient(StorageProperties.S3Properties properties) {
+        this.bucket = properties.getBucket();
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(properties.getRegion()))
+                .credentialsProvider(credentials(properties))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(properties.isPathStyleAccess())
+                        .build())
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(properties.getMaxConnections())
+                        .connectionTimeout(Duration.ofSeconds(5))
+                        .socketTimeout(Duration.ofSeconds(60)));
+        if (StringUtils.hasText(properties.getEndpoint())) {
+            builder.endpointOverride(URI.create(properties.getEndpoint()));
+        }
+        this.s3 = builder.build();
+    }
+
+    private static AwsCredentialsProvider credentials(StorageProperties.S3Properties properties) {
+        if (StringUtils.hasText(properties.getAccessKey())) {
+            return StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(properties.getAccessKey(), properties.getSecretKey()));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+
+    @Override
+    public void putObject(String key, byte[] data, int length) {
+        s3.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentLength((long) length).build(),
+                body(data, length));
+    }
+
+    @Override
+    public String createMultipartUpload(String key) {
+        return s3.createMultipartUpload(CreateMultipartUploadRequest.builder().bucket(bucket).key(key).build())
+                .uploadId();
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, byte[] data, int length) {
+        return s3.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket).key(key).uploadId(uploadId)
+                        .partNumber(partNumber).contentLength((long) length)
+                        .build(),
+                body(data, length)).eTag();
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, List<String> partETags) {
+        List<CompletedPart> parts = new ArrayList<>(partETags.size());
+        for (int i = 0; i < partETags.size(); i++) {
+            parts.add(CompletedPart.builder().partNumber(i + 1).eTag(partETags.get(i)).build());
+        }
+        s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket).key(key).uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        s3.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+    }
+
+    @Override
+    public long objectSize(String key) {
+        try {
+            return s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build()).contentLength();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new UncheckedIOException(new NoSuchFileException(key));
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream getRange(String key, long start, long endInclusive) {
+        return s3.getObject(GetObjectRequest.builder()
+                .bucket(bucket).key(key)
+                .range("bytes=" + start + "-" + endInclusive)
+                .build());
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
+    @Override
+    public void close() {
+        s3.close();
+    }
+
+    private static RequestBody body(byte[] data, int length) {
+        return RequestBody.fromInputStream(new ByteArrayInputStream(data, 0, length), length);
+    }
+}
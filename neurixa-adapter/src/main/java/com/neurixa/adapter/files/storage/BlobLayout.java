@@ -0,0 +1,136 @@
+package com.neurixa.adapter.files.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Where a blob with a given storage key sits below a volume root. Paths use {@code /}.
+ */
+enum BlobLayout {
+
+    /**
+     * {@code <key>} as is. Generated keys start with {@code yyyy/MM/dd}, so each day's
+     * uploads share one directory, which grows with daily volume.
+     */
+    FLAT {
+        @Override
+        String path(String storageKey) {
+            return storageKey;
+        }
+
+        @Override
+        Optional<String> key(String relativePath) {
+            return Optional.of(relativePath);
+        }
+    },
+
+    /**
+     * {@code ab/cd/<escaped key>}: two levels of 256 directories taken from a hash of the
+     * key, with the key flattened into one file name. Directory sizes stay flat however
+     * many blobs arrive per day, and the set of directories is fixed.
+     *
+     * A key whose flattened name would exceed {@link #MAX_NAME_BYTES} keeps its flat path,
+     * so older long keys stay writable; new keys are generated short enough by
+     * {@link #fitFilename}.
+     */
+    HASHED {
+        @Override
+        String path(String storageKey) {
+            String name = escape(storageKey);
+            if (!fits(name)) {
+                return FLAT.path(storageKey);
+            }
+            // The last digest bytes: the volume ring places keys by the first ones, and reusing
+            // those would crowd each volume's blobs into the few directories of its arcs.
+            String hex = HexFormat.of().formatHex(md5(storageKey), 14, 16);
+            return hex.substring(0, 2) + "/" + hex.substring(2, 4) + "/" + name;
+        }
+
+        @Override
+        Optional<String> key(String relativePath) {
+            String[] parts = relativePath.split("/");
+            if (parts.length != 3 || parts[0].length() != 2 || parts[1].length() != 2) {
+                return Optional.empty();
+            }
+            String key = unescape(parts[2]);
+            return key != null && path(key).equals(relativePath) ? Optional.of(key) : Optional.empty();
+        }
+    };
+
+    /** The longest file name common file systems accept, in bytes. */
+    static final int MAX_NAME_BYTES = 255;
+
+    abstract String path(String storageKey);
+
+    /**
+     * @return the key stored at {@code relativePath}, if the path belongs to this layout
+     */
+    abstract Optional<String> key(String relativePath);
+
+    /**
+     * The key of a blob found at {@code relativePath} under either layout.
+     */
+    static String keyOf(String relativePath) {
+        return HASHED.key(relativePath).orElse(relativePath);
+    }
+
+    static BlobLayout of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Shortens {@code filename}, keeping its extension, so that {@code prefix + filename}
+     * fits in one file name under either layout.
+     */
+    static String fitFilename(String prefix, String filename) {
+        if (fits(escape(prefix + filename))) {
+            return filename;
+        }
+        int dot = filename.lastIndexOf('.');
+        String extension = dot > 0 && filename.length() - dot <= 16 ? filename.substring(dot) : "";
+        String stem = filename.substring(0, filename.length() - extension.length());
+        while (!stem.isEmpty() && !fits(escape(prefix + stem + extension))) {
+            stem = stem.substring(0, stem.offsetByCodePoints(stem.length(), -1));
+        }
+        return stem + extension;
+    }
+
+    private static boolean fits(String name) {
+        return name.getBytes(StandardCharsets.UTF_8).length <= MAX_NAME_BYTES;
+    }
+
+    private static String escape(String key) {
+        return key.replace("%", "%25").replace("/", "%2F");
+    }
+
+    private static String unescape(String name) {
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '%') {
+                key.append(c);
+            } else if (name.startsWith("%2F", i)) {
+                key.append('/');
+                i += 2;
+            } else if (name.startsWith("%25", i)) {
+                key.append('%');
+                i += 2;
+            } else {
+                return null;
+            }
+        }
+        return key.toString();
+    }
+
+    private static byte[] md5(String value) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,542 @@
+package com.neurixa.adapter.files.storage;
+
+import com.neurixa.core.files.port.StorageProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-through LRU cache for small, hot blobs (featured images, logos, shared PDFs).
+ *
+ * Cached bytes live in a fixed arena of direct (off-heap) buffers carved into equal blocks,
+ * so the cache never allocates after startup and never adds to heap or GC pause times.
+ * A cache hit is served straight from the arena — no filesystem syscall.
+ *
+ * Entries are reference counted: a blob evicted or deleted while a client is still streaming
+ * it keeps its blocks until that stream is closed, so readers never see recycled memory.
+ *
+ * A miss streams the blob from the backing store to the caller while copying it aside; it
+ * is cached once fully read, unless it outgrew {@code maxEntryBytes} or its key was
+ * invalidated meanwhile, so a delete or overwrite racing the fill can never bring the old
+ * bytes back. Writes invalidate both before and after reaching the backend, so a fill that
+ * starts while the write is in progress is discarded too.
+ *
+ * Blobs small enough to cache are never handed out as local files, so public media served
+ * by sendfile still goes through the cache; only larger blobs go out from the backend's disk.
+ */
+public class CachingStorageProvider implements StorageProvider, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingStorageProvider.class);
+    private static final int MAX_SLAB_BYTES = 1 << 30;
+
+    private final StorageProvider delegate;
+    private final int maxEntryBytes;
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final ByteBuffer[] slabs;
+    private final int totalBlocks;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ArrayDeque<Integer> freeBlocks;
+    // Keys with fills in flight. Invalidating a key bumps its generation, and a fill that
+    // started under an older one is not cached. Entries go once their last fill ends.
+    private final Map<String, Fills> fills = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+
+    public CachingStorageProvider(StorageProvider delegate, long maxBytes, int maxEntryBytes, int blockSize) {
+        this.delegate = Objects.requireNonNull(delegate);
+        if (blockSize <= 0 || blockSize > MAX_SLAB_BYTES) {
+            throw new IllegalArgumentException("blockSize must be between 1 and " + MAX_SLAB_BYTES);
+        }
+        if (maxBytes < blockSize) {
+            throw new IllegalArgumentException("maxBytes must be at least one block");
+        }
+        if (maxEntryBytes <= 0 || maxEntryBytes > maxBytes) {
+            throw new IllegalArgumentException("maxEntryBytes must be > 0 and <= maxBytes");
+        }
+        this.maxEntryBytes = maxEntryBytes;
+        this.blockSize = blockSize;
+        this.blocksPerSlab = MAX_SLAB_BYTES / blockSize;
+        this.totalBlocks = (int) Math.min(maxBytes / blockSize, Integer.MAX_VALUE);
+
+        int slabCount = (totalBlocks + blocksPerSlab - 1) / blocksPerSlab;
+        this.slabs = new ByteBuffer[slabCount];
+        int remaining = totalBlocks;
+        for (int i = 0; i < slabCount; i++) {
+            int blocks = Math.min(remaining, blocksPerSlab);
+            slabs[i] = ByteBuffer.allocateDirect(blocks * blockSize);
+            remaining -= blocks;
+        }
+        this.freeBlocks = new ArrayDeque<>(totalBlocks);
+        for (int i = 0; i < totalBlocks; i++) {
+            freeBlocks.add(i);
+        }
+        log.info("Initialized off-heap blob cache: capacity={} bytes, blockSize={}, maxEntry={}",
+                (long) totalBlocks * blockSize, blockSize, maxEntryBytes);
+    }
+
+    @Override
+    public String store(InputStream data, String filename) {
+        // Write-around: new keys are cached on first read, not on upload.
+        return delegate.store(data, filename);
+    }
+
+    @Override
+    public void storeAt(String storageKey, InputStream data) {
+        invalidate(storageKey);
+        try {
+            delegate.storeAt(storageKey, data);
+        } finally {
+            invalidate(storageKey);
+        }
+    }
+
+    @Override
+    public InputStream retrieve(String storageKey) {
+        InputStream cached = openCached(storageKey);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return loadAndCache(storageKey);
+    }
+
+    /**
+     * Empty for blobs this cache holds or would hold, so callers read them through
+     * {@link #retrieve}; a larger blob still goes out via sendfile from the backend's file.
+     */
+    @Override
+    public Optional<Path> localPath(String storageKey) {
+        if (isCached(storageKey)) {
+            return Optional.empty();
+        }
+        Optional<Path> local = delegate.localPath(storageKey);
+        if (local.isPresent() && sizeOf(local.get()) <= maxEntryBytes) {
+            return Optional.empty();
+        }
+        return local;
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            // Let the caller hit the same error when it opens the file.
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public void delete(String storageKey) {
+        invalidate(storageKey);
+        try {
+            delegate.delete(storageKey);
+        } finally {
+            invalidate(storageKey);
+        }
+    }
+
+    public void invalidate(String storageKey) {
+        lock.lock();
+        try {
+            Fills inFlight = fills.get(storageKey);
+            if (inFlight != null) {
+                inFlight.generation++;
+            }
+            Entry removed = entries.remove(storageKey);
+            if (removed != null) {
+                removed.release();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isCached(String storageKey) {
+        lock.lock();
+        try {
+            return entries.containsKey(storageKey);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private InputStream openCached(String storageKey) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(storageKey);
+            if (entry == null || !entry.retain()) {
+                return null;
+            }
+            return new EntryInputStream(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private InputStream loadAndCache(String storageKey) {
+        long generation = beginFill(storageKey);
+        try {
+            return new FillingInputStream(storageKey, generation, delegate.retrieve(storageKey));
+        } catch (RuntimeException e) {
+            endFill(storageKey);
+            throw e;
+        }
+    }
+
+    private long beginFill(String storageKey) {
+        lock.lock();
+        try {
+            Fills inFlight = fills.computeIfAbsent(storageKey, k -> new Fills());
+            inFlight.count++;
+            return inFlight.generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void endFill(String storageKey) {
+        lock.lock();
+        try {
+            Fills inFlight = fills.get(storageKey);
+            if (inFlight != null && --inFlight.count == 0) {
+                fills.remove(storageKey);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Caches a completed fill, unless its key was invalidated since the fill began. */
+    private void put(String storageKey, long generation, byte[] data, int length) {
+        int needed = Math.max(1, (length + blockSize - 1) / blockSize);
+        lock.lock();
+        try {
+            Fills inFlight = fills.get(storageKey);
+            if (inFlight == null || generation != inFlight.generation || entries.containsKey(storageKey)) {
+                return;
+            }
+            if (!reserve(needed)) {
+                return;
+            }
+            int[] blocks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                blocks[i] = freeBlocks.poll();
+            }
+            Entry entry = new Entry(blocks, length);
+            int offset = 0;
+            for (int block : blocks) {
+                int len = Math.min(blockSize, length - offset);
+                if (len > 0) {
+                    slab(block).put(slabOffset(block), data, offset, len);
+                }
+                offset += len;
+            }
+            entries.put(storageKey, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Fills {
+        private long generation;
+        private int count;
+    }
+
+    /**
+     * Evicts least-recently-used entries until {@code needed} blocks are free.
+     * Entries still being streamed are unlinked immediately; their blocks return on close.
+     */
+    private boolean reserve(int needed) {
+        if (needed > totalBlocks) {
+            return false;
+        }
+        Iterator<Map.Entry<String, Entry>> lru = entries.entrySet().iterator();
+        while (freeBlocks.size() < needed && lru.hasNext()) {
+            Entry victim = lru.next().getValue();
+            lru.remove();
+            victim.release();
+            evictions.increment();
+        }
+        return freeBlocks.size() >= needed;
+    }
+
+    // Slabs are only ever accessed with absolute gets and puts, which leave the shared
+    // position alone, so concurrent readers need no view of their own.
+    private ByteBuffer slab(int block) {
+        return slabs[block / blocksPerSlab];
+    }
+
+    private int slabOffset(int block) {
+        return (block % blocksPerSlab) * blockSize;
+    }
+
+    private void returnBlocks(int[] blocks) {
+        lock.lock();
+        try {
+            for (int block : blocks) {
+                freeBlocks.add(block);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public long getUsedBytes() {
+        lock.lock();
+        try {
+            return (long) (totalBlocks - freeBlocks.size()) * blockSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCapacityBytes() {
+        return (long) totalBlocks * blockSize;
+    }
+
+    public int getEntryCount() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("neurixa.storage.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit").description("Blob cache lookups served from memory").register(registry);
+        FunctionCounter.builder("neurixa.storage.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss").description("Blob cache lookups that went to the backing store").register(registry);
+        FunctionCounter.builder("neurixa.storage.cache.evictions", evictions, LongAdder::sum)
+                .description("Entries evicted to make room").register(registry);
+        FunctionCounter.builder("neurixa.storage.cache.bypasses", bypasses, LongAdder::sum)
+                .description("Reads too large to be cached").register(registry);
+        Gauge.builder("neurixa.storage.cache.hit.ratio", this, CachingStorageProvider::getHitRatio)
+                .register(registry);
+        Gauge.builder("neurixa.storage.cache.used.bytes", this, CachingStorageProvider::getUsedBytes)
+                .baseUnit("bytes").register(registry);
+        Gauge.builder("neurixa.storage.cache.capacity.bytes", this, CachingStorageProvider::getCapacityBytes)
+                .baseUnit("bytes").register(registry);
+        Gauge.builder("neurixa.storage.cache.entries", this, CachingStorageProvider::getEntryCount)
+                .register(registry);
+    }
+
+    private final class Entry {
+        private final int[] blocks;
+        private final int length;
+        // One reference held by the cache itself, plus one per open reader.
+        private final AtomicInteger refs = new AtomicInteger(1);
+
+        private Entry(int[] blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+        }
+
+        private boolean retain() {
+            int current;
+            do {
+                current = refs.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!refs.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void release() {
+            if (refs.decrementAndGet() == 0) {
+                returnBlocks(blocks);
+            }
+        }
+    }
+
+    private final class EntryInputStream extends InputStream {
+        private final Entry entry;
+        private int position;
+        private boolean closed;
+
+        private EntryInputStream(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public int read() {
+            if (closed || position >= entry.length) {
+                return -1;
+            }
+            int block = entry.blocks[position / blockSize];
+            int value = slab(block).get(slabOffset(block) + position % blockSize) & 0xFF;
+            position++;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (closed || position >= entry.length) {
+                return -1;
+            }
+            int total = 0;
+            while (len > 0 && position < entry.length) {
+                int inBlock = position % blockSize;
+                int chunk = Math.min(len, Math.min(blockSize - inBlock, entry.length - position));
+                int block = entry.blocks[position / blockSize];
+                slab(block).get(slabOffset(block) + inBlock, b, off, chunk);
+                position += chunk;
+                off += chunk;
+                len -= chunk;
+                total += chunk;
+            }
+            return total;
+        }
+
+        @Override
+        public int available() {
+            return closed ? 0 : entry.length - position;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, (long) entry.length - position));
+            position += (int) skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                entry.release();
+            }
+        }
+    }
+
+    /**
+     * Passes a backing-store stream through to the caller, keeping a copy of at most
+     * {@code maxEntryBytes} that is cached once the stream has been read to the end.
+     */
+    private final class FillingInputStream extends InputStream {
+        private final String storageKey;
+        private final long generation;
+        private final InputStream source;
+        private byte[] copy = new byte[Math.min(maxEntryBytes, 8192)];
+        private int copied;
+        private boolean done;
+
+        private FillingInputStream(String storageKey, long generation, InputStream source) {
+            this.storageKey = storageKey;
+            this.generation = generation;
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = source.read();
+            if (value < 0) {
+                finish();
+            } else {
+                append(new byte[] {(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = source.read(b, off, len);
+            if (n < 0) {
+                finish();
+            } else {
+                append(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return source.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Closed before the end: the copy is incomplete, so it is dropped.
+            copy = null;
+            if (!done) {
+                done = true;
+                endFill(storageKey);
+            }
+            source.close();
+        }
+
+        private void append(byte[] b, int off, int len) {
+            if (copy == null || len == 0) {
+                return;
+            }
+            if (copied + len > maxEntryBytes) {
+                // Too large to cache; the rest is streamed without copying.
+                bypasses.increment();
+                copy = null;
+                return;
+            }
+            if (copied + len > copy.length) {
+                copy = Arrays.copyOf(copy, Math.min(maxEntryBytes, Math.max(copied + len, copy.length * 2)));
+            }
+            System.arraycopy(b, off, copy, copied, len);
+            copied += len;
+        }
+
+        private void finish() {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (copy != null) {
+                put(storageKey, generation, copy, copied);
+            }
+            copy = null;
+            endFill(storageKey);
+        }
+    }
+}
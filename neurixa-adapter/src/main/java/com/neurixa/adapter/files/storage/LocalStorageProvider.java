@@ -2,41 +2,202 @@ package com.neurixa.adapter.files.storage;
 
 import com.neurixa.adapter.files.config.StorageProperties;
 import com.neurixa.core.files.port.StorageProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileStore;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
+/**
+ * Stores blobs on one or more local volumes.
+ *
+ * With several volumes configured, each storage key is placed by consistent hashing,
+ * so reads and writes spread across disks. When a volume is added, a background
+ * rebalancer moves the keys that now belong to it; until then, reads fall back to
+ * the volume that still holds the blob. A completed pass records the volumes and layout
+ * it placed blobs for in {@value #RING_DESCRIPTOR} on every volume; at startup a pass runs
+ * only when that record differs from the configuration, or on request.
+ *
+ * Below each root, blobs are laid out by {@link BlobLayout}: by default in two levels of
+ * hashed directories, so no directory grows with daily upload volume. Directories known
+ * to exist are cached, so a write costs no extra {@code mkdir} calls. Blobs still in the
+ * previous layout stay readable and are moved by the same background pass as rebalancing.
+ */
 @Component
-public class LocalStorageProvider implements StorageProvider {
+@Qualifier("storageBackend")
+@ConditionalOnProperty(prefix = "neurixa.storage", name = "type", havingValue = "local", matchIfMissing = true)
+public class LocalStorageProvider implements StorageProvider, MeterBinder {
 
     private static final Logger log = LoggerFactory.getLogger(LocalStorageProvider.class);
-    private final Path root;
+    private static final int LOCK_STRIPES = 64;
+    private static final String STAGING_PREFIX = ".stg-";
+    static final String RING_DESCRIPTOR = ".neurixa-ring";
+
+    private final List<Volume> volumes;
+    private final ConsistentHashRing<Volume> ring;
+    private final BlobLayout layout;
+    private final List<BlobLayout> readLayouts;
+    private final int virtualNodes;
+    private final boolean rebalanceOnStartup;
+    private final boolean rebalanceOnVolumeChange;
+    private final ReentrantLock[] keyLocks = new ReentrantLock[LOCK_STRIPES];
+    // Bounded: the hashed layout has a fixed set of directories, the flat one a few per day.
+    private final Set<Path> knownDirectories = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebalancing = new AtomicBoolean();
+    private ExecutorService rebalancer;
 
     public LocalStorageProvider(StorageProperties properties) {
-        this.root = Path.of(properties.getLocal().getRoot()).toAbsolutePath();
+        StorageProperties.LocalStorageProperties local = properties.getLocal();
+        List<String> roots = local.getVolumes().isEmpty() ? List.of(local.getRoot()) : local.getVolumes();
+        Map<String, Volume> byName = new LinkedHashMap<>();
+        for (String root : roots) {
+            Path path = Path.of(root).toAbsolutePath().normalize();
+            byName.putIfAbsent(path.toString(), new Volume(path));
+        }
+        this.volumes = List.copyOf(byName.values());
+        this.virtualNodes = local.getVirtualNodes();
+        this.ring = new ConsistentHashRing<>(byName, virtualNodes);
+        this.layout = BlobLayout.of(local.getLayout());
+        this.readLayouts = layout == BlobLayout.HASHED
+                ? List.of(BlobLayout.HASHED, BlobLayout.FLAT)
+                : List.of(BlobLayout.FLAT, BlobLayout.HASHED);
+        this.rebalanceOnStartup = local.isRebalanceOnStartup();
+        this.rebalanceOnVolumeChange = local.isRebalanceOnVolumeChange();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            keyLocks[i] = new ReentrantLock();
+        }
     }
 
     @PostConstruct
     public void init() {
+        for (Volume volume : volumes) {
+            try {
+                Files.createDirectories(volume.root);
+                knownDirectories.add(volume.root);
+                if (!Files.isWritable(volume.root)) {
+                    throw new IOException("Storage root is not writable: " + volume.root);
+                }
+                log.info("Initialized local storage at: {}", volume.root);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to initialize local storage at: " + volume.root, e);
+            }
+        }
+        rebalancer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-rebalancer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (rebalanceOnStartup) {
+            requestRebalance();
+        } else if (rebalanceOnVolumeChange && placementChanged()) {
+            log.info("Volumes or layout changed since the last completed rebalance; starting one");
+            requestRebalance();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (rebalancer != null) {
+            rebalancer.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts a {@link #rebalance} pass in the background, unless one is already running.
+     *
+     * @return whether a pass was started
+     */
+    public boolean requestRebalance() {
+        if (!rebalancing.compareAndSet(false, true)) {
+            return false;
+        }
         try {
-            Files.createDirectories(root);
-            if (!Files.isWritable(root)) {
-                throw new IOException("Storage root is not writable: " + root);
+            rebalancer.submit(() -> {
+                try {
+                    rebalance();
+                } finally {
+                    rebalancing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebalancing.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /** Whether any volume lacks a record of the current volumes and layout. */
+    boolean placementChanged() {
+        String expected = ringDescriptor();
+        for (Volume volume : volumes) {
+            try {
+                if (!expected.equals(Files.readString(volume.root.resolve(RING_DESCRIPTOR)))) {
+                    return true;
+                }
+            } catch (NoSuchFileException e) {
+                return true;
+            } catch (IOException e) {
+                log.warn("Could not read {} on volume {}", RING_DESCRIPTOR, volume.root, e);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String ringDescriptor() {
+        StringBuilder descriptor = new StringBuilder()
+                .append("layout=").append(layout).append('\n')
+                .append("virtual-nodes=").append(virtualNodes).append('\n');
+        volumes.stream().map(volume -> volume.root.toString()).sorted()
+                .forEach(root -> descriptor.append("volume=").append(root).append('\n'));
+        return descriptor.toString();
+    }
+
+    private void recordPlacement() {
+        String descriptor = ringDescriptor();
+        for (Volume volume : volumes) {
+            Path target = volume.root.resolve(RING_DESCRIPTOR);
+            Path staging = stagingFor(target);
+            try {
+                Files.writeString(staging, descriptor);
+                Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                discard(staging);
+                log.warn("Could not record placement on volume {}; the next startup rebalances again", volume.root, e);
             }
-            log.info("Initialized local storage at: {}", root);
-        } catch (IOException e) {
-            throw new UncheckedIOException("Failed to initialize local storage at: " + root, e);
         }
     }
 
@@ -48,41 +209,331 @@ public class LocalStorageProvider implements StorageProvider {
                 throw new IllegalArgumentException("Invalid filename");
             }
             LocalDate d = LocalDate.now();
-            String key = d.getYear() + "/" + String.format("%02d", d.getMonthValue()) + "/" + String.format("%02d", d.getDayOfMonth())
-                    + "/" + UUID.randomUUID() + "-" + safeFilename;
-            Path target = root.resolve(key);
-            Files.createDirectories(target.getParent());
-            Files.copy(data, target, StandardCopyOption.REPLACE_EXISTING);
+            String prefix = d.getYear() + "/" + String.format("%02d", d.getMonthValue()) + "/" + String.format("%02d", d.getDayOfMonth())
+                    + "/" + UUID.randomUUID() + "-";
+            // The hashed layout flattens the whole key into one file name, so a long name is cut short.
+            String key = prefix + BlobLayout.fitFilename(prefix, safeFilename);
+            Volume volume = ring.locate(key);
+            Path target = pathOf(volume, key);
+            long start = System.nanoTime();
+            copyInto(data, target);
+            volume.record(volume.writes, start);
             return key;
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Writes to a staging file and renames it into place, so readers never see a partial blob.
+     * The key comes from outside (a backup), so it is checked before it becomes a path.
+     */
+    @Override
+    public void storeAt(String storageKey, InputStream data) {
+        StorageProvider.requireSafeKey(storageKey);
+        Volume volume = ring.locate(storageKey);
+        Path target = pathOf(volume, storageKey);
+        Path staging = stagingFor(target);
+        ReentrantLock lock = lockFor(storageKey);
+        long start = System.nanoTime();
+        try {
+            copyInto(data, staging);
+            lock.lock();
+            try {
+                Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                lock.unlock();
+            }
+            volume.record(volume.writes, start);
+        } catch (IOException e) {
+            discard(staging);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A fixed-length sibling name, so staging works for keys whose file name is already
+     * at the file system's limit.
+     */
+    private static Path stagingFor(Path target) {
+        return target.resolveSibling(STAGING_PREFIX + UUID.randomUUID());
+    }
+
+    private static void discard(Path staging) {
+        try {
+            Files.deleteIfExists(staging);
+        } catch (IOException e) {
+            log.warn("Could not remove staging file {}", staging, e);
+        }
+    }
+
     @Override
     public InputStream retrieve(String storageKey) {
         try {
-            Path p = root.resolve(storageKey).normalize();
-            if (!p.startsWith(root)) {
-                throw new SecurityException("Attempted to access file outside storage root");
+            Optional<Located> found = find(storageKey);
+            if (found.isPresent()) {
+                return open(found.get().volume(), found.get().path());
             }
-            return Files.newInputStream(p);
+            Volume primary = ring.locate(storageKey);
+            return open(primary, pathOf(primary, storageKey));
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    @Override
+    public Optional<Path> localPath(String storageKey) {
+        return find(storageKey).map(Located::path);
+    }
+
+    private record Located(Volume volume, Path path) {
+    }
+
+    /**
+     * Where the blob is now: the place the ring and layout assign it, or, until the
+     * background pass reaches it, the volume or layout that held it before.
+     */
+    private Optional<Located> find(String storageKey) {
+        Volume primary = ring.locate(storageKey);
+        for (BlobLayout candidate : readLayouts) {
+            Path p = primary.resolve(candidate.path(storageKey));
+            if (Files.isRegularFile(p)) {
+                return Optional.of(new Located(primary, p));
+            }
+        }
+        for (Volume volume : volumes) {
+            if (volume == primary) {
+                continue;
+            }
+            for (BlobLayout candidate : readLayouts) {
+                Path p = volume.resolve(candidate.path(storageKey));
+                if (Files.isRegularFile(p)) {
+                    return Optional.of(new Located(volume, p));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static InputStream open(Volume volume, Path path) throws IOException {
+        long start = System.nanoTime();
+        InputStream in = Files.newInputStream(path);
+        volume.record(volume.reads, start);
+        return in;
+    }
+
     @Override
     public void delete(String storageKey) {
+        Volume primary = ring.locate(storageKey);
+        ReentrantLock lock = lockFor(storageKey);
+        lock.lock();
+        try {
+            for (Volume volume : volumes) {
+                long start = System.nanoTime();
+                for (BlobLayout candidate : readLayouts) {
+                    Files.deleteIfExists(volume.resolve(candidate.path(storageKey)));
+                }
+                if (volume == primary) {
+                    volume.record(volume.deletes, start);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves every blob that is not on the volume the ring assigns it to, or not at the
+     * path the configured layout assigns it, and removes directories left empty by
+     * moving out of the previous layout. Walks every volume: call through
+     * {@link #requestRebalance} outside tests. A pass that covers every volume records
+     * the placement, so later startups skip it.
+     *
+     * @return the number of blobs moved
+     */
+    public int rebalance() {
+        int moved = 0;
+        boolean complete = true;
+        for (Volume volume : volumes) {
+            try (Stream<Path> walk = Files.walk(volume.root)) {
+                Iterator<Path> files = walk.filter(Files::isRegularFile).iterator();
+                while (files.hasNext()) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        log.info("Rebalance interrupted after moving {} blobs", moved);
+                        return moved;
+                    }
+                    Path file = files.next();
+                    String relative = volume.root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                    if (file.getFileName().toString().startsWith(STAGING_PREFIX) || relative.equals(RING_DESCRIPTOR)) {
+                        continue;
+                    }
+                    String key = BlobLayout.keyOf(relative);
+                    Volume owner = ring.locate(key);
+                    boolean relayout = !relative.equals(layout.path(key));
+                    if ((owner != volume || relayout) && move(key, file, volume, owner)) {
+                        moved++;
+                        if (relayout) {
+                            pruneEmptyParents(volume, file);
+                        }
+                    }
+                }
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("Rebalance of volume {} stopped early", volume.root, e);
+                complete = false;
+            }
+        }
+        if (complete) {
+            recordPlacement();
+        }
+        log.info("Rebalance complete: moved {} blobs across {} volumes into the {} layout", moved, volumes.size(), layout);
+        return moved;
+    }
+
+    private boolean move(String key, Path source, Volume from, Volume to) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            if (!Files.exists(source)) {
+                return false;
+            }
+            Path target = pathOf(to, key);
+            ensureDirectory(target.getParent());
+            if (from == to) {
+                // Same file system: a rename, no copy.
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                return true;
+            }
+            Path staging = stagingFor(target);
+            // Copy then rename, so readers on the target volume never see a partial blob.
+            try {
+                Files.copy(source, staging);
+                Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                discard(staging);
+                throw e;
+            }
+            Files.delete(source);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("Failed to move {} from {} to {}", key, from.root, to.root, e);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void pruneEmptyParents(Volume volume, Path file) {
+        for (Path dir = file.getParent(); dir != null && !dir.equals(volume.root); dir = dir.getParent()) {
+            knownDirectories.remove(dir);
+            try {
+                Files.delete(dir);
+            } catch (DirectoryNotEmptyException | NoSuchFileException e) {
+                return;
+            } catch (IOException e) {
+                log.debug("Could not remove directory {}", dir, e);
+                return;
+            }
+        }
+    }
+
+    private Path pathOf(Volume volume, String storageKey) {
+        return volume.resolve(layout.path(storageKey));
+    }
+
+    /**
+     * Creates {@code target} from {@code data}. If a cached directory has been removed
+     * meanwhile, the cache entry is dropped and the write retried once; the target is
+     * opened before {@code data} is read, so nothing has been consumed yet.
+     */
+    private void copyInto(InputStream data, Path target) throws IOException {
+        ensureDirectory(target.getParent());
         try {
+            Files.copy(data, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (NoSuchFileException e) {
+            knownDirectories.remove(target.getParent());
+            ensureDirectory(target.getParent());
+            Files.copy(data, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void ensureDirectory(Path dir) throws IOException {
+        if (!knownDirectories.contains(dir)) {
+            Files.createDirectories(dir);
+            knownDirectories.add(dir);
+        }
+    }
+
+    private ReentrantLock lockFor(String key) {
+        return keyLocks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Volume volume : volumes) {
+            String name = volume.root.toString();
+            volume.reads = ioTimer(registry, name, "read");
+            volume.writes = ioTimer(registry, name, "write");
+            volume.deletes = ioTimer(registry, name, "delete");
+            Gauge.builder("neurixa.storage.volume.usable.bytes", volume, Volume::usableBytes)
+                    .tag("volume", name).baseUnit("bytes").register(registry);
+            Gauge.builder("neurixa.storage.volume.fill.ratio", volume, Volume::fillRatio)
+                    .tag("volume", name).register(registry);
+        }
+    }
+
+    private static Timer ioTimer(MeterRegistry registry, String volume, String op) {
+        return Timer.builder("neurixa.storage.volume.io")
+                .description("Latency of blob writes, opens for read, and deletes per volume")
+                .tag("volume", volume)
+                .tag("op", op)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static final class Volume {
+        private final Path root;
+        private volatile Timer reads;
+        private volatile Timer writes;
+        private volatile Timer deletes;
+
+        private Volume(Path root) {
+            this.root = root;
+        }
+
+        private Path resolve(String storageKey) {
             Path p = root.resolve(storageKey).normalize();
             if (!p.startsWith(root)) {
                 throw new SecurityException("Attempted to access file outside storage root");
             }
-            Files.deleteIfExists(p);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+            return p;
+        }
+
+        private void record(Timer timer, long startNanos) {
+            if (timer != null) {
+                timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private double usableBytes() {
+            try {
+                return Files.getFileStore(root).getUsableSpace();
+            } catch (IOException e) {
+                return Double.NaN;
+            }
+        }
+
+        private double fillRatio() {
+            try {
+                FileStore store = Files.getFileStore(root);
+                long total = store.getTotalSpace();
+                return total == 0 ? Double.NaN : 1.0 - (double) store.getUsableSpace() / total;
+            } catch (IOException e) {
+                return Double.NaN;
+            }
         }
     }
 }
-
@@ -0,0 +1,41 @@
+package com.neurixa.adapter.files.storage;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * The subset of the S3 object API used by {@link S3StorageProvider}.
+ *
+ * Kept narrow so the provider can be exercised against an in-process stand-in
+ * and pointed at any S3-compatible store (AWS, MinIO, Ceph RGW, ...).
+ */
+public interface ObjectStoreClient {
+
+    void putObject(String key, byte[] data, int length);
+
+    String createMultipartUpload(String key);
+
+    /**
+     * @return the ETag of the uploaded part
+     */
+    String uploadPart(String key, String uploadId, int partNumber, byte[] data, int length);
+
+    /**
+     * @param partETags ETags in part-number order, starting at part 1
+     */
+    void completeMultipartUpload(String key, String uploadId, List<String> partETags);
+
+    void abortMultipartUpload(String key, String uploadId);
+
+    /**
+     * @throws java.io.UncheckedIOException wrapping {@link java.nio.file.NoSuchFileException} if the key is absent
+     */
+    long objectSize(String key);
+
+    /**
+     * Opens a ranged GET for bytes {@code [start, endInclusive]}.
+     */
+    InputStream getRange(String key, long start, long endInclusive);
+
+    void deleteObject(String key);
+}
@@ -0,0 +1,306 @@
+package com.neurixa.adapter.files.storage;
+
+import com.neurixa.core.files.port.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * StorageProvider for S3-compatible object stores.
+ *
+ * Uploads larger than one part are sent as a multipart upload with up to
+ * {@code maxConcurrency} parts in flight; a failed part aborts the upload so no
+ * orphaned parts are left behind. Downloads larger than one range are read with
+ * ranged GETs, prefetching the next {@code prefetchRanges} ranges in the background.
+ *
+ * Storage keys use the same {@code yyyy/MM/dd/<uuid>-<filename>} layout as
+ * {@link LocalStorageProvider}, so existing metadata stays valid after a migration.
+ * Peak buffer memory is {@code maxConcurrency * partSize} per upload and
+ * {@code (prefetchRanges + 1) * rangeSize} per download. Part uploads and range downloads
+ * of all transfers share a pool of at most {@code transferThreads} threads; work beyond
+ * that queues rather than opening more connections.
+ */
+public class S3StorageProvider implements StorageProvider, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(S3StorageProvider.class);
+    private static final int MAX_PARTS = 10_000;
+    /** S3 rejects a multipart upload whose parts, other than the last, are smaller than this. */
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final ObjectStoreClient client;
+    private final String keyPrefix;
+    private final int partSize;
+    private final int maxConcurrency;
+    private final int rangeSize;
+    private final int prefetchRanges;
+    private final ExecutorService transfers;
+
+    public S3StorageProvider(ObjectStoreClient client, String keyPrefix, int partSize,
+                             int maxConcurrency, int rangeSize, int prefetchRanges, int transferThreads) {
+        this(client, keyPrefix, partSize, MIN_PART_SIZE, maxConcurrency, rangeSize, prefetchRanges, transferThreads);
+    }
+
+    // Tests use parts below the S3 minimum, which the in-memory client does not enforce.
+    S3StorageProvider(ObjectStoreClient client, String keyPrefix, int partSize, int minPartSize,
+                      int maxConcurrency, int rangeSize, int prefetchRanges, int transferThreads) {
+        this.client = Objects.requireNonNull(client);
+        if (partSize < minPartSize) {
+            throw new IllegalArgumentException("partSize must be at least " + minPartSize + " bytes");
+        }
+        if (rangeSize <= 0) {
+            throw new IllegalArgumentException("rangeSize must be positive");
+        }
+        if (maxConcurrency <= 0 || prefetchRanges < 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive and prefetchRanges non-negative");
+        }
+        if (transferThreads <= 0) {
+            throw new IllegalArgumentException("transferThreads must be positive");
+        }
+        this.keyPrefix = keyPrefix == null ? "" : keyPrefix;
+        this.partSize = partSize;
+        this.maxConcurrency = maxConcurrency;
+        this.rangeSize = rangeSize;
+        this.prefetchRanges = prefetchRanges;
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(transferThreads, transferThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads());
+        pool.allowCoreThreadTimeOut(true);
+        this.transfers = pool;
+    }
+
+    @Override
+    public String store(InputStream data, String filename) {
+        String safeFilename = StringUtils.cleanPath(filename);
+        if (safeFilename.contains("..")) {
+            throw new IllegalArgumentException("Invalid filename");
+        }
+        LocalDate d = LocalDate.now();
+        String key = d.getYear() + "/" + String.format("%02d", d.getMonthValue()) + "/" + String.format("%02d", d.getDayOfMonth())
+                + "/" + UUID.randomUUID() + "-" + safeFilename;
+        storeAt(key, data);
+        return key;
+    }
+
+    @Override
+    public void storeAt(String storageKey, InputStream data) {
+        try {
+            byte[] first = data.readNBytes(partSize);
+            if (first.length < partSize) {
+                client.putObject(objectKey(storageKey), first, first.length);
+            } else {
+                uploadMultipart(objectKey(storageKey), first, data);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void uploadMultipart(String objectKey, byte[] first, InputStream data) throws IOException {
+        String uploadId = client.createMultipartUpload(objectKey);
+        List<Future<String>> parts = new ArrayList<>();
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            byte[] chunk = first;
+            while (chunk.length > 0) {
+                if (parts.size() == MAX_PARTS) {
+                    throw new IllegalArgumentException("File exceeds " + MAX_PARTS + " parts of " + partSize + " bytes");
+                }
+                inFlight.acquire();
+                if (failure.get() != null) {
+                    inFlight.release();
+                    break;
+                }
+                byte[] body = chunk;
+                int partNumber = parts.size() + 1;
+                parts.add(transfers.submit(() -> {
+                    try {
+                        return client.uploadPart(objectKey, uploadId, partNumber, body, body.length);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+                chunk = data.readNBytes(partSize);
+            }
+            List<String> eTags = new ArrayList<>(parts.size());
+            for (Future<String> part : parts) {
+                eTags.add(part.get());
+            }
+            client.completeMultipartUpload(objectKey, uploadId, eTags);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(objectKey, uploadId, parts);
+            throw new InterruptedIOException("Interrupted while uploading " + objectKey);
+        } catch (ExecutionException e) {
+            abort(objectKey, uploadId, parts);
+            throw new IOException("Multipart upload failed for " + objectKey, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(objectKey, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private void abort(String objectKey, String uploadId, List<Future<String>> parts) {
+        parts.forEach(part -> part.cancel(true));
+        try {
+            client.abortMultipartUpload(objectKey, uploadId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort multipart upload {} for {}", uploadId, objectKey, e);
+        }
+    }
+
+    @Override
+    public InputStream retrieve(String storageKey) {
+        String objectKey = objectKey(storageKey);
+        long size = client.objectSize(objectKey);
+        if (size == 0) {
+            return InputStream.nullInputStream();
+        }
+        if (size <= rangeSize) {
+            return client.getRange(objectKey, 0, size - 1);
+        }
+        return new RangedInputStream(objectKey, size);
+    }
+
+    @Override
+    public void delete(String storageKey) {
+        client.deleteObject(objectKey(storageKey));
+    }
+
+    @Override
+    public void close() {
+        transfers.shutdownNow();
+    }
+
+    private String objectKey(String storageKey) {
+        if (storageKey.contains("..")) {
+            throw new SecurityException("Invalid storage key");
+        }
+        return keyPrefix + storageKey;
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "s3-transfer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Streams an object as consecutive ranged GETs, keeping a bounded window of
+     * ranges downloading ahead of the reader.
+     */
+    private final class RangedInputStream extends InputStream {
+        private final String objectKey;
+        private final long size;
+        private final ArrayDeque<Future<byte[]>> window = new ArrayDeque<>();
+        private long nextRangeStart;
+        private byte[] current = new byte[0];
+        private int position;
+        private boolean closed;
+
+        private RangedInputStream(String objectKey, long size) {
+            this.objectKey = objectKey;
+            this.size = size;
+            for (int i = 0; i <= prefetchRanges; i++) {
+                scheduleNextRange();
+            }
+        }
+
+        private void scheduleNextRange() {
+            if (nextRangeStart >= size) {
+                return;
+            }
+            long start = nextRangeStart;
+            long end = Math.min(start + rangeSize, size) - 1;
+            nextRangeStart = end + 1;
+            window.add(transfers.submit(() -> {
+                try (InputStream in = client.getRange(objectKey, start, end)) {
+                    return in.readAllBytes();
+                }
+            }));
+        }
+
+        private boolean fill() throws IOException {
+            while (position >= current.length) {
+                Future<byte[]> next = window.poll();
+                if (next == null) {
+                    return false;
+                }
+                try {
+                    current = next.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading " + objectKey);
+                } catch (ExecutionException e) {
+                    throw new IOException("Ranged read failed for " + objectKey, e.getCause());
+                }
+                position = 0;
+                scheduleNextRange();
+            }
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (closed || !fill()) {
+                return -1;
+            }
+            return current[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (closed || !fill()) {
+                return -1;
+            }
+            int n = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return closed ? 0 : current.length - position;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                window.forEach(f -> f.cancel(true));
+                window.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.neurixa.adapter.maintenance;
+
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Partial indexes over live (not soft-deleted) documents.
+ *
+ * Tombstones are left out of the index entirely, so index size tracks live data only.
+ * The planner uses a partial index only when the query implies its filter: queries
+ * must match {@code deleted: false} exactly, not {@code deleted: {$ne: true}}.
+ */
+public final class LiveIndexes {
+
+    private LiveIndexes() {
+    }
+
+    /**
+     * The criterion every query served by a live index must include.
+     */
+    public static Criteria live() {
+        return Criteria.where("deleted").is(false);
+    }
+
+    public static Index live(Index index) {
+        return index.partial(PartialIndexFilter.of(live()));
+    }
+
+    /**
+     * Ensures {@code index} and drops the full indexes it replaces, if they still exist.
+     */
+    public static void ensure(IndexOperations ops, Index index, String... superseded) {
+        ops.ensureIndex(index);
+        if (superseded.length == 0) {
+            return;
+        }
+        Set<String> existing = ops.getIndexInfo().stream().map(IndexInfo::getName).collect(Collectors.toSet());
+        for (String name : superseded) {
+            if (existing.contains(name)) {
+                ops.dropIndex(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.neurixa.adapter.maintenance;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves soft-deleted documents older than a cutoff out of the hot collections into
+ * {@code <collection>_archive}, in batches.
+ *
+ * Each batch is copied with idempotent upserts before the originals are removed, so a
+ * crash between the two steps only repeats the copy. The removal re-checks
+ * {@code deleted: true}, so a document restored meanwhile stays where it is, and its
+ * copy is dropped from the archive. Versions follow only the files that were actually
+ * removed into {@code file_versions_archive}; a crash just after a file removal leaves
+ * that batch's versions in place, unreachable without their file.
+ *
+ * Age is measured from {@code deletedAt} where the entity records it, and from
+ * {@code updatedAt} for files and folders, which are not modified once deleted.
+ */
+public class MongoTombstoneCompactor {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoTombstoneCompactor.class);
+    private static final String ARCHIVE_SUFFIX = "_archive";
+    private static final String FILES = "files";
+    private static final String FILE_VERSIONS = "file_versions";
+
+    private record Target(String collection, String ageField) {
+    }
+
+    private static final List<Target> TARGETS = List.of(
+            new Target(FILES, "updatedAt"),
+            new Target("folders", "updatedAt"),
+            new Target("comments", "deletedAt"),
+            new Target("articles", "deletedAt"));
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public MongoTombstoneCompactor(MongoTemplate mongoTemplate, int batchSize, int maxBatchesPerRun) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be > 0");
+        if (maxBatchesPerRun <= 0) throw new IllegalArgumentException("maxBatchesPerRun must be > 0");
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * A small partial index over tombstones only, so finding compaction candidates
+     * never scans live documents.
+     */
+    public void ensureIndexes() {
+        for (Target target : TARGETS) {
+            mongoTemplate.indexOps(target.collection()).ensureIndex(new Index()
+                    .on(target.ageField(), Sort.Direction.ASC)
+                    .partial(PartialIndexFilter.of(Criteria.where("deleted").is(true)))
+                    .named("tombstone_" + target.ageField()));
+        }
+    }
+
+    /**
+     * Archives tombstones older than {@code cutoff}, at most {@code maxBatchesPerRun}
+     * batches per collection; the rest is left for the next run.
+     *
+     * @return documents archived per collection
+     */
+    public Map<String, Long> compact(Instant cutoff) {
+        Map<String, Long> archived = new LinkedHashMap<>();
+        for (Target target : TARGETS) {
+            long moved = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                BatchOutcome outcome = compactBatch(target, cutoff);
+                moved += outcome.archived();
+                if (outcome.candidates() < batchSize) {
+                    break;
+                }
+            }
+            archived.put(target.collection(), moved);
+            if (moved > 0) {
+                log.info("event=tombstones_archived collection={} count={} cutoff={}", target.collection(), moved, cutoff);
+            }
+        }
+        return archived;
+    }
+
+    private record BatchOutcome(int candidates, int archived) {
+    }
+
+    private BatchOutcome compactBatch(Target target, Instant cutoff) {
+        Query candidates = new Query(Criteria.where("deleted").is(true).and(target.ageField()).lt(cutoff))
+                .with(Sort.by(Sort.Direction.ASC, target.ageField()))
+                .limit(batchSize);
+        List<Document> batch = mongoTemplate.find(candidates, Document.class, target.collection());
+        if (batch.isEmpty()) {
+            return new BatchOutcome(0, 0);
+        }
+        List<Object> ids = batch.stream().map(d -> d.get("_id")).toList();
+        String archive = target.collection() + ARCHIVE_SUFFIX;
+        copy(batch, archive);
+        long removed = mongoTemplate.remove(new Query(Criteria.where("_id").in(ids).and("deleted").is(true)),
+                target.collection()).getDeletedCount();
+        List<Object> gone = ids;
+        if (removed < ids.size()) {
+            // Restored between the read and the removal: live again, so not archived.
+            Query stillPresent = new Query(Criteria.where("_id").in(ids));
+            stillPresent.fields().include("_id");
+            Set<Object> restored = mongoTemplate.find(stillPresent, Document.class, target.collection()).stream()
+                    .map(d -> d.get("_id"))
+                    .collect(Collectors.toSet());
+            mongoTemplate.remove(new Query(Criteria.where("_id").in(restored)), archive);
+            gone = ids.stream().filter(id -> !restored.contains(id)).toList();
+        }
+        if (FILES.equals(target.collection()) && !gone.isEmpty()) {
+            archiveVersions(gone);
+        }
+        return new BatchOutcome(batch.size(), gone.size());
+    }
+
+    private void archiveVersions(List<Object> fileIds) {
+        List<Document> versions = mongoTemplate.find(new Query(Criteria.where("fileId").in(fileIds)), Document.class, FILE_VERSIONS);
+        if (versions.isEmpty()) {
+            return;
+        }
+        copy(versions, FILE_VERSIONS + ARCHIVE_SUFFIX);
+        mongoTemplate.remove(new Query(Criteria.where("fileId").in(fileIds)), FILE_VERSIONS);
+    }
+
+    private void copy(List<Document> documents, String archiveCollection) {
+        Instant archivedAt = Instant.now();
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, archiveCollection);
+        for (Document document : documents) {
+            document.put("archivedAt", archivedAt);
+            ops.replaceOne(new Query(Criteria.where("_id").is(document.get("_id"))), document,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        ops.execute();
+    }
+}
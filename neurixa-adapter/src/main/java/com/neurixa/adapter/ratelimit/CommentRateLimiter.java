@@ -0,0 +1,146 @@
+package com.neurixa.adapter.ratelimit;
+
+import com.neurixa.adapter.ratelimit.RedisSlidingWindowLimiter.Limit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how fast comments can be posted, per client address, per author email and per
+ * article, checked before the comment is touched.
+ *
+ * Each node first takes a token from its own {@link TokenBucketLimiter}s, which turns a
+ * burst hitting one node away in memory without a network call. A request refused by one
+ * scope gives back the tokens it took from the others, so a flood of posts to one article
+ * does not use up its authors' own limits. Requests that pass are
+ * then checked against the same limits cluster-wide by a {@link RedisSlidingWindowLimiter}
+ * in one round trip. If Redis is unavailable the local limits alone apply, so posting
+ * keeps working.
+ *
+ * IPv6 clients are limited per /64, the block a single host usually controls.
+ */
+public class CommentRateLimiter implements MeterBinder {
+
+    /** What a limit counts requests by. */
+    public enum Scope {
+        IP, EMAIL, ARTICLE
+    }
+
+    /** {@code permits} comments per {@code window} for each value of the scope. */
+    public record Rule(int permits, Duration window) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(CommentRateLimiter.class);
+    private static final String KEY_PREFIX = "ratelimit:comments:";
+
+    private final Map<Scope, Rule> rules;
+    private final Map<Scope, TokenBucketLimiter> local = new EnumMap<>(Scope.class);
+    private final RedisSlidingWindowLimiter cluster;
+    private final Map<Scope, LongAdder> localRejections = new EnumMap<>(Scope.class);
+    private final LongAdder clusterRejections = new LongAdder();
+    private final LongAdder clusterFailures = new LongAdder();
+
+    public CommentRateLimiter(Map<Scope, Rule> rules, RedisSlidingWindowLimiter cluster, int maxLocalKeys) {
+        if (!rules.keySet().containsAll(List.of(Scope.values()))) {
+            throw new IllegalArgumentException("A rule is required for every scope");
+        }
+        this.rules = new EnumMap<>(rules);
+        this.cluster = cluster;
+        for (Scope scope : Scope.values()) {
+            Rule rule = rules.get(scope);
+            local.put(scope, new TokenBucketLimiter(rule.permits(), rule.window(), maxLocalKeys));
+            localRejections.put(scope, new LongAdder());
+        }
+    }
+
+    /**
+     * Counts one comment post.
+     *
+     * @throws RateLimitExceededException if any limit is exhausted
+     */
+    public void acquire(String clientAddress, String authorEmail, UUID articleId) {
+        Map<Scope, String> subjects = new EnumMap<>(Scope.class);
+        subjects.put(Scope.IP, addressBlock(clientAddress));
+        subjects.put(Scope.EMAIL, authorEmail.trim().toLowerCase(Locale.ROOT));
+        subjects.put(Scope.ARTICLE, articleId.toString());
+
+        List<Map.Entry<Scope, String>> taken = new ArrayList<>(subjects.size());
+        for (Map.Entry<Scope, String> subject : subjects.entrySet()) {
+            long waitNanos = local.get(subject.getKey()).tryAcquire(subject.getValue());
+            if (waitNanos > 0) {
+                taken.forEach(t -> local.get(t.getKey()).release(t.getValue()));
+                localRejections.get(subject.getKey()).increment();
+                throw new RateLimitExceededException(Duration.ofNanos(waitNanos));
+            }
+            taken.add(subject);
+        }
+
+        List<Limit> limits = subjects.entrySet().stream()
+                .map(subject -> {
+                    Rule rule = rules.get(subject.getKey());
+                    String key = KEY_PREFIX + subject.getKey().name().toLowerCase(Locale.ROOT) + ":" + subject.getValue();
+                    return new Limit(key, rule.permits(), rule.window());
+                })
+                .toList();
+        Duration retryAfter;
+        try {
+            retryAfter = cluster.tryAcquire(limits);
+        } catch (DataAccessException e) {
+            clusterFailures.increment();
+            log.warn("event=comment_rate_limit_redis_failed error={}", e.getMessage());
+            return;
+        }
+        if (!retryAfter.isZero()) {
+            clusterRejections.increment();
+            throw new RateLimitExceededException(retryAfter);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Scope scope : Scope.values()) {
+            FunctionCounter.builder("neurixa.comments.ratelimit.rejections", localRejections.get(scope), LongAdder::sum)
+                    .tag("tier", "local").tag("scope", scope.name().toLowerCase(Locale.ROOT))
+                    .description("Comment posts refused by this node's limits").register(registry);
+        }
+        FunctionCounter.builder("neurixa.comments.ratelimit.rejections", clusterRejections, LongAdder::sum)
+                .tag("tier", "cluster").tag("scope", "any")
+                .description("Comment posts refused by the cluster-wide limits").register(registry);
+        FunctionCounter.builder("neurixa.comments.ratelimit.redis.failures", clusterFailures, LongAdder::sum)
+                .description("Cluster-wide checks skipped because Redis failed").register(registry);
+    }
+
+    /** The address itself for IPv4, its /64 prefix for IPv6. */
+    static String addressBlock(String clientAddress) {
+        if (clientAddress == null || clientAddress.indexOf(':') < 0) {
+            return String.valueOf(clientAddress);
+        }
+        try {
+            // A literal address is parsed without a DNS lookup.
+            byte[] bytes = InetAddress.getByName(clientAddress).getAddress();
+            if (bytes.length != 16) {
+                return clientAddress;
+            }
+            for (int i = 8; i < 16; i++) {
+                bytes[i] = 0;
+            }
+            return InetAddress.getByAddress(bytes).getHostAddress() + "/64";
+        } catch (UnknownHostException e) {
+            return clientAddress;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.neurixa.adapter.ratelimit;
+
+import java.time.Duration;
+
+/** A request was refused by a rate limit; it may be retried after {@link #getRetryAfter()}. */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super("Too many requests. Try again later.");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
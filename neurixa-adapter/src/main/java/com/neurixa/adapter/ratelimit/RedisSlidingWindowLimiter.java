@@ -0,0 +1,81 @@
+package com.neurixa.adapter.ratelimit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cluster-wide sliding-window limits, shared by all nodes through Redis.
+ *
+ * Each key is a sorted set of the timestamps of the requests it allowed within its window.
+ * A request is checked against several keys in one script call, which is one round trip,
+ * and is recorded in all of them only if every one has room, so a rejected request never
+ * uses up another key's allowance. The window slides exactly, and a rejection knows when
+ * the oldest counted request will leave it, which becomes the Retry-After.
+ *
+ * Keys are passed to one script together, so under Redis Cluster they would need a
+ * common hash tag; this runs against a single Redis.
+ */
+public class RedisSlidingWindowLimiter {
+
+    /** One limit to check: {@code permits} requests per {@code window} for {@code key}. */
+    public record Limit(String key, int permits, Duration window) {
+    }
+
+    // KEYS: one sorted set per limit. ARGV: now (ms), member, then window (ms) and permits per key.
+    // Returns 0 if allowed, otherwise milliseconds until every full key has room again.
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local retry = 0
+            for i, key in ipairs(KEYS) do
+              local window = tonumber(ARGV[2 * i + 1])
+              local permits = tonumber(ARGV[2 * i + 2])
+              redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+              local excess = redis.call('ZCARD', key) - permits
+              if excess >= 0 then
+                local freed = redis.call('ZRANGE', key, excess, excess, 'WITHSCORES')
+                retry = math.max(retry, tonumber(freed[2]) + window - now, 1)
+              end
+            end
+            if retry > 0 then
+              return retry
+            end
+            for i, key in ipairs(KEYS) do
+              redis.call('ZADD', key, now, ARGV[2])
+              redis.call('PEXPIRE', key, ARGV[2 * i + 1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    public RedisSlidingWindowLimiter(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    /**
+     * Counts one request against every limit, if all of them allow it.
+     *
+     * @return zero if allowed, otherwise how long until all of them would
+     */
+    public Duration tryAcquire(List<Limit> limits) {
+        long now = System.currentTimeMillis();
+        List<String> keys = new ArrayList<>(limits.size());
+        List<String> args = new ArrayList<>(2 + 2 * limits.size());
+        args.add(Long.toString(now));
+        // Unique per request, so two requests in the same millisecond both count.
+        args.add(now + ":" + Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        for (Limit limit : limits) {
+            keys.add(limit.key());
+            args.add(Long.toString(limit.window().toMillis()));
+            args.add(Integer.toString(limit.permits()));
+        }
+        Long retryMillis = redis.execute(SCRIPT, keys, args.toArray());
+        return retryMillis == null ? Duration.ZERO : Duration.ofMillis(retryMillis);
+    }
+}
@@ -0,0 +1,112 @@
+package com.neurixa.adapter.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-key token buckets in this node's memory: {@code permits} requests per {@code window}
+ * per key, refilled continuously, with bursts of up to {@code permits}.
+ *
+ * An acquire is a map lookup and a few arithmetic operations under the bucket's own lock,
+ * so unrelated keys never contend. A bucket that has refilled completely holds no state
+ * worth keeping; such buckets are swept once the map grows past {@code maxKeys}.
+ */
+public class TokenBucketLimiter {
+
+    private final double permits;
+    private final double permitsPerNano;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public TokenBucketLimiter(int permits, Duration window, int maxKeys) {
+        if (permits <= 0) throw new IllegalArgumentException("permits must be > 0");
+        if (window.isNegative() || window.isZero()) throw new IllegalArgumentException("window must be positive");
+        if (maxKeys <= 0) throw new IllegalArgumentException("maxKeys must be > 0");
+        this.permits = permits;
+        this.permitsPerNano = permits / (double) window.toNanos();
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes a token for {@code key}.
+     *
+     * @return zero if a token was taken, otherwise how long until one is available
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(permits, now));
+        long wait = bucket.tryAcquire(now);
+        if (buckets.size() > maxKeys) {
+            sweep(now);
+        }
+        return wait;
+    }
+
+    /**
+     * Returns a token taken by {@link #tryAcquire} for a request that went no further. A
+     * bucket swept meanwhile already counts as full.
+     */
+    public void release(String key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.release();
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            // Still full of active keys, as under a flood of distinct addresses: start over
+            // rather than grow without bound. Redis still enforces the cluster-wide limits.
+            if (buckets.size() > maxKeys) {
+                buckets.clear();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        private synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / permitsPerNano);
+        }
+
+        private synchronized void release() {
+            tokens = Math.min(permits, tokens + 1);
+        }
+
+        private synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= permits;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(permits, tokens + (now - refilledAt) * permitsPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
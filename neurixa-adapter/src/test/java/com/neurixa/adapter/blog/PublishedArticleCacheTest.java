@@ -0,0 +1,128 @@
+package com.neurixa.adapter.blog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.Slug;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublishedArticleCacheTest {
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    private PublishedArticleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PublishedArticleCache(redis, new ObjectMapper().findAndRegisterModules(), new ArticleMapper(),
+                Duration.ofMinutes(10), Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        // Given
+        when(redis.opsForValue()).thenReturn(valueOps);
+        Article article = Article.createDraft("Viral Post", "Content", "Excerpt");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<Optional<Article>>> futures = new ArrayList<>();
+        List<Optional<Article>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> cache.bySlug(article.getSlug(), () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return Optional.of(article);
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<Optional<Article>> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(results).allSatisfy(found -> assertThat(found).hasValueSatisfying(
+                a -> assertThat(a.getTitle()).isEqualTo("Viral Post")));
+    }
+
+    @Test
+    void shouldReloadAfterEvict() {
+        // Given
+        when(redis.opsForValue()).thenReturn(valueOps);
+        Article article = Article.createDraft("Hello World", "Content", "Excerpt");
+        AtomicInteger loads = new AtomicInteger();
+        cache.bySlug(article.getSlug(), () -> load(loads, article));
+        cache.bySlug(article.getSlug(), () -> load(loads, article));
+
+        // When
+        cache.evictSlug(article.getSlug());
+        cache.bySlug(article.getSlug(), () -> load(loads, article));
+
+        // Then
+        assertThat(loads).hasValue(2);
+        verify(redis).delete("blog:article:slug:" + article.getSlug().getValue());
+        verify(redis).convertAndSend(PublishedArticleCache.CHANNEL, "slug:" + article.getSlug().getValue());
+    }
+
+    @Test
+    void shouldFallBackToLoaderWhenRedisIsDown() {
+        // Given
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        Article article = Article.createDraft("Hello World", "Content", "Excerpt");
+
+        // When
+        Optional<Article> found = cache.bySlug(new Slug("Hello World"), () -> Optional.of(article));
+
+        // Then
+        assertThat(found).hasValueSatisfying(a -> assertThat(a.getArticleId()).isEqualTo(article.getArticleId()));
+    }
+
+    private static Optional<Article> load(AtomicInteger loads, Article article) {
+        loads.incrementAndGet();
+        return Optional.of(article);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.neurixa.adapter.files.content;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnippetsTest {
+
+    private static final String TEXT = "Quarterly report.\n\nThe   shipment was delayed by customs for three weeks, "
+            + "and the invoice was reissued in March with corrected totals for every line item.";
+
+    @Test
+    void shouldCenterOnFirstMatchingTermAndCollapseWhitespace() {
+        String snippet = Snippets.around(TEXT, "INVOICE", 40);
+
+        assertThat(snippet).startsWith("…").endsWith("…").contains("invoice was reissued");
+        assertThat(snippet).doesNotContain("  ").doesNotContain("\n");
+    }
+
+    @Test
+    void shouldFallBackToPrefixWhenOnlyTheStemMatches() {
+        String snippet = Snippets.around(TEXT, "reissuing", 30);
+
+        assertThat(snippet).contains("reissued");
+    }
+
+    @Test
+    void shouldStartAtBeginningWhenNoTermOccurs() {
+        String snippet = Snippets.around(TEXT, "zebra", 20);
+
+        assertThat(snippet).startsWith("Quarterly report.").endsWith("…");
+    }
+
+    @Test
+    void shouldNotMatchInsideLongerWords() {
+        String snippet = Snippets.around("itemized items listed, and then the item alone matters most of all here", "item", 20);
+
+        assertThat(snippet).isEqualTo("…the item alone…");
+    }
+}
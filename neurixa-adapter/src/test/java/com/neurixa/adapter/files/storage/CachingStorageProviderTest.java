@@ -0,0 +1,216 @@
+package com.neurixa.adapter.files.storage;
+
+import com.neurixa.core.files.port.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingStorageProviderTest {
+
+    private static final int BLOCK = 16;
+
+    @Mock
+    private StorageProvider delegate;
+
+    private CachingStorageProvider cache;
+
+    @BeforeEach
+    void setUp() {
+        // 4 blocks of 16 bytes, entries up to 40 bytes
+        cache = new CachingStorageProvider(delegate, 4 * BLOCK, 40, BLOCK);
+    }
+
+    @Test
+    void shouldServeSecondReadFromCache() throws IOException {
+        // Given
+        when(delegate.retrieve("k1")).thenAnswer(inv -> stream("hello off-heap cache"));
+
+        // When
+        String first = read(cache.retrieve("k1"));
+        String second = read(cache.retrieve("k1"));
+
+        // Then
+        assertThat(first).isEqualTo("hello off-heap cache");
+        assertThat(second).isEqualTo("hello off-heap cache");
+        verify(delegate, times(1)).retrieve("k1");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getUsedBytes()).isEqualTo(2 * BLOCK);
+    }
+
+    @Test
+    void shouldInvalidateOnDelete() throws IOException {
+        // Given
+        when(delegate.retrieve("k1")).thenAnswer(inv -> stream("abc"));
+        read(cache.retrieve("k1"));
+
+        // When
+        cache.delete("k1");
+        read(cache.retrieve("k1"));
+
+        // Then
+        verify(delegate).delete("k1");
+        verify(delegate, times(2)).retrieve("k1");
+        assertThat(cache.getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheBlobDeletedWhileItWasBeingRead() throws IOException {
+        // Given
+        when(delegate.retrieve("k1")).thenAnswer(inv -> stream("stale bytes"));
+        InputStream inFlight = cache.retrieve("k1");
+
+        // When
+        cache.delete("k1");
+        String served = read(inFlight);
+
+        // Then
+        assertThat(served).isEqualTo("stale bytes");
+        assertThat(cache.getEntryCount()).isZero();
+        assertThat(cache.getUsedBytes()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheBlobClosedBeforeTheEnd() throws IOException {
+        // Given
+        when(delegate.retrieve("k1")).thenAnswer(inv -> stream("partially read"));
+
+        // When
+        try (InputStream in = cache.retrieve("k1")) {
+            in.readNBytes(4);
+        }
+
+        // Then
+        assertThat(cache.getEntryCount()).isZero();
+    }
+
+    @Test
+    void shouldBypassCacheForLargeBlobs() throws IOException {
+        // Given
+        String large = "x".repeat(100);
+        when(delegate.retrieve("big")).thenAnswer(inv -> stream(large));
+
+        // When
+        String first = read(cache.retrieve("big"));
+        String second = read(cache.retrieve("big"));
+
+        // Then
+        assertThat(first).isEqualTo(large);
+        assertThat(second).isEqualTo(large);
+        verify(delegate, times(2)).retrieve("big");
+        assertThat(cache.getEntryCount()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedWhenBudgetIsFull() throws IOException {
+        // Given — each entry needs two blocks, the arena holds four
+        String payload = "y".repeat(20);
+        when(delegate.retrieve("a")).thenAnswer(inv -> stream(payload));
+        when(delegate.retrieve("b")).thenAnswer(inv -> stream(payload));
+        when(delegate.retrieve("c")).thenAnswer(inv -> stream(payload));
+        read(cache.retrieve("a"));
+        read(cache.retrieve("b"));
+        read(cache.retrieve("a")); // touch a, so b becomes eldest
+
+        // When
+        read(cache.retrieve("c"));
+        read(cache.retrieve("a"));
+        read(cache.retrieve("b"));
+
+        // Then
+        verify(delegate, times(1)).retrieve("a");
+        verify(delegate, times(2)).retrieve("b");
+        assertThat(cache.getUsedBytes()).isLessThanOrEqualTo(cache.getCapacityBytes());
+    }
+
+    @Test
+    void shouldKeepBlocksOfEvictedEntryUntilOpenReaderCloses() throws IOException {
+        // Given
+        when(delegate.retrieve("k1")).thenAnswer(inv -> stream("0123456789abcdef0123"));
+        read(cache.retrieve("k1"));
+        InputStream open = cache.retrieve("k1");
+
+        // When
+        cache.invalidate("k1");
+
+        // Then
+        assertThat(cache.getUsedBytes()).isEqualTo(2 * BLOCK);
+        assertThat(read(open)).isEqualTo("0123456789abcdef0123");
+        assertThat(cache.getUsedBytes()).isZero();
+    }
+
+    @Test
+    void shouldKeepCachingOtherKeysWhileOneIsInvalidated() throws IOException {
+        // Given
+        when(delegate.retrieve("k1")).thenAnswer(inv -> stream("unrelated"));
+        InputStream inFlight = cache.retrieve("k1");
+
+        // When
+        cache.invalidate("k2");
+        read(inFlight);
+
+        // Then
+        assertThat(cache.getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheFillThatStartedWhileBlobWasBeingOverwritten() throws IOException {
+        // Given — a read starts after the first invalidation, while the backend is still writing
+        when(delegate.retrieve("k1")).thenAnswer(inv -> stream("old bytes"));
+        InputStream[] startedDuringWrite = new InputStream[1];
+        doAnswer(inv -> {
+            startedDuringWrite[0] = cache.retrieve("k1");
+            return null;
+        }).when(delegate).storeAt(eq("k1"), any());
+
+        // When
+        cache.storeAt("k1", stream("new bytes"));
+        read(startedDuringWrite[0]);
+
+        // Then
+        assertThat(cache.getEntryCount()).isZero();
+    }
+
+    @Test
+    void shouldHideLocalFilesOfCacheableBlobs(@TempDir Path dir) throws IOException {
+        // Given
+        Path small = Files.writeString(dir.resolve("small"), "logo");
+        Path large = Files.writeString(dir.resolve("large"), "z".repeat(100));
+        when(delegate.localPath("small")).thenReturn(Optional.of(small));
+        when(delegate.localPath("large")).thenReturn(Optional.of(large));
+
+        // When / Then — small blobs are read through the cache, large ones go out by sendfile
+        assertThat(cache.localPath("small")).isEmpty();
+        assertThat(cache.localPath("large")).contains(large);
+    }
+
+    private static InputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
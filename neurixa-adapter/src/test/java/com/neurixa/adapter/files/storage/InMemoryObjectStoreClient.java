@@ -0,0 +1,111 @@
+package com.neurixa.adapter.files.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process S3 stand-in for tests. Mirrors the multipart semantics that matter:
+ * parts may arrive out of order, completion requires matching ETags, and aborting
+ * discards uploaded parts.
+ */
+class InMemoryObjectStoreClient implements ObjectStoreClient {
+
+    final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    final Map<String, ConcurrentSkipListMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    final List<long[]> rangeRequests = new CopyOnWriteArrayList<>();
+    final AtomicInteger partsInFlight = new AtomicInteger();
+    final AtomicInteger maxPartsInFlight = new AtomicInteger();
+    final AtomicInteger aborts = new AtomicInteger();
+    volatile int failOnPart = -1;
+    volatile long partDelayMillis;
+
+    @Override
+    public void putObject(String key, byte[] data, int length) {
+        objects.put(key, Arrays.copyOf(data, length));
+    }
+
+    @Override
+    public String createMultipartUpload(String key) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentSkipListMap<>());
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, byte[] data, int length) {
+        int now = partsInFlight.incrementAndGet();
+        maxPartsInFlight.accumulateAndGet(now, Math::max);
+        try {
+            if (partDelayMillis > 0) {
+                Thread.sleep(partDelayMillis);
+            }
+            if (partNumber == failOnPart) {
+                throw new IllegalStateException("Simulated part failure");
+            }
+            uploads.get(uploadId).put(partNumber, Arrays.copyOf(data, length));
+            return etag(partNumber, length);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            partsInFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, List<String> partETags) {
+        ConcurrentSkipListMap<Integer, byte[]> parts = uploads.remove(uploadId);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < partETags.size(); i++) {
+            byte[] part = parts.get(i + 1);
+            if (part == null || !etag(i + 1, part.length).equals(partETags.get(i))) {
+                throw new IllegalStateException("Invalid part " + (i + 1));
+            }
+            out.writeBytes(part);
+        }
+        objects.put(key, out.toByteArray());
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        aborts.incrementAndGet();
+        uploads.remove(uploadId);
+    }
+
+    @Override
+    public long objectSize(String key) {
+        byte[] data = objects.get(key);
+        if (data == null) {
+            throw new UncheckedIOException(new NoSuchFileException(key));
+        }
+        return data.length;
+    }
+
+    @Override
+    public InputStream getRange(String key, long start, long endInclusive) {
+        rangeRequests.add(new long[]{start, endInclusive});
+        byte[] data = objects.get(key);
+        int end = (int) Math.min(endInclusive + 1, data.length);
+        return new ByteArrayInputStream(Arrays.copyOfRange(data, (int) start, end));
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        objects.remove(key);
+    }
+
+    private static String etag(int partNumber, int length) {
+        return "\"" + partNumber + "-" + length + "\"";
+    }
+}
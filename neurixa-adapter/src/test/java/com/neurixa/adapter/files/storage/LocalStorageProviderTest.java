@@ -11,8 +11,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class LocalStorageProviderTest {
 
@@ -25,6 +30,7 @@ class LocalStorageProviderTest {
     void setUp() {
         StorageProperties properties = new StorageProperties();
         properties.getLocal().setRoot(tempDir.toString());
+        properties.getLocal().setRebalanceOnVolumeChange(false);
         storageProvider = new LocalStorageProvider(properties);
         storageProvider.init();
     }
@@ -45,6 +51,34 @@ class LocalStorageProviderTest {
         assertThat(new String(retrieved.readAllBytes())).isEqualTo(content);
     }
 
+    @Test
+    void shouldStoreAtGivenKeyReplacingExistingBlob() throws IOException {
+        // Given
+        String storageKey = "2026/03/01/restored-report.pdf";
+        storageProvider.storeAt(storageKey, new ByteArrayInputStream("old".getBytes()));
+
+        // When
+        storageProvider.storeAt(storageKey, new ByteArrayInputStream("restored".getBytes()));
+
+        // Then
+        assertThat(new String(storageProvider.retrieve(storageKey).readAllBytes())).isEqualTo("restored");
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    void shouldRejectStoreAtKeysThatEscapeTheirPlace() throws IOException {
+        for (String key : List.of("", "..", "../../etc/x", "a/../b", "/etc/x", "a//b", "./a", "a\\..\\b")) {
+            assertThatThrownBy(() -> storageProvider.storeAt(key, new ByteArrayInputStream("x".getBytes())))
+                    .as(key)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
     @Test
     void shouldDeleteFile() {
         // Given
@@ -59,4 +93,240 @@ class LocalStorageProviderTest {
         // Then
         assertThat(Files.exists(tempDir.resolve(storageKey))).isFalse();
     }
+
+    @Test
+    void shouldPlaceBlobsInTwoLevelsOfHashedDirectories() throws IOException {
+        // When
+        for (int i = 0; i < 50; i++) {
+            storageProvider.store(new ByteArrayInputStream(("blob-" + i).getBytes()), "f" + i + ".txt");
+        }
+
+        // Then
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertThat(files.filter(Files::isRegularFile).map(tempDir::relativize))
+                    .hasSize(50)
+                    .allSatisfy(p -> {
+                        assertThat(p.getNameCount()).isEqualTo(3);
+                        assertThat(p.getName(0).toString()).matches("[0-9a-f]{2}");
+                        assertThat(p.getName(1).toString()).matches("[0-9a-f]{2}");
+                    });
+        }
+    }
+
+    @Test
+    void shouldReadFlatBlobsAndMoveThemIntoHashedLayout() throws IOException {
+        // Given
+        String legacyKey = "2025/11/30/0b8c-invoice.pdf";
+        Path legacy = tempDir.resolve(legacyKey);
+        Files.createDirectories(legacy.getParent());
+        Files.writeString(legacy, "legacy");
+        LocalStorageProvider provider = provider(tempDir.toString(), "hashed");
+
+        // When
+        String beforeRelayout = new String(provider.retrieve(legacyKey).readAllBytes());
+        int moved = provider.rebalance();
+
+        // Then
+        assertThat(beforeRelayout).isEqualTo("legacy");
+        assertThat(moved).isEqualTo(1);
+        assertThat(Files.exists(tempDir.resolve("2025"))).isFalse();
+        assertThat(provider.localPath(legacyKey)).hasValueSatisfying(p ->
+                assertThat(tempDir.relativize(p).getNameCount()).isEqualTo(3));
+        assertThat(new String(provider.retrieve(legacyKey).readAllBytes())).isEqualTo("legacy");
+        assertThat(provider.rebalance()).isZero();
+    }
+
+    @Test
+    void shouldMoveHashedBlobsBackWhenSwitchedToFlatLayout() throws IOException {
+        // Given
+        String key = provider(tempDir.toString(), "hashed").store(new ByteArrayInputStream("x".getBytes()), "x.txt");
+        LocalStorageProvider flat = provider(tempDir.toString(), "flat");
+
+        // When
+        int moved = flat.rebalance();
+
+        // Then
+        assertThat(moved).isEqualTo(1);
+        assertThat(Files.isRegularFile(tempDir.resolve(key))).isTrue();
+    }
+
+    @Test
+    void shouldStoreFileWithLongNameInHashedLayout() throws IOException {
+        // Given — 250 bytes: the flat layout accepted it as the last path segment
+        String filename = "r".repeat(246) + ".pdf";
+
+        // When
+        String storageKey = storageProvider.store(new ByteArrayInputStream("long".getBytes()), filename);
+
+        // Then
+        assertThat(storageKey).endsWith(".pdf");
+        assertThat(new String(storageProvider.retrieve(storageKey).readAllBytes())).isEqualTo("long");
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertThat(files.filter(Files::isRegularFile).map(tempDir::relativize))
+                    .singleElement()
+                    .satisfies(p -> assertThat(p.getNameCount()).isEqualTo(3))
+                    .satisfies(p -> assertThat(p.getFileName().toString().getBytes().length)
+                            .isLessThanOrEqualTo(BlobLayout.MAX_NAME_BYTES));
+        }
+    }
+
+    @Test
+    void shouldKeepExistingLongKeysAtTheirFlatPath() throws IOException {
+        // Given — generated before keys were shortened
+        String legacyKey = "2025/11/30/0b8c0b8c-0b8c-0b8c-0b8c-0b8c0b8c0b8c-" + "s".repeat(210) + ".pdf";
+
+        // When
+        storageProvider.storeAt(legacyKey, new ByteArrayInputStream("legacy".getBytes()));
+
+        // Then
+        assertThat(Files.isRegularFile(tempDir.resolve(legacyKey))).isTrue();
+        assertThat(new String(storageProvider.retrieve(legacyKey).readAllBytes())).isEqualTo("legacy");
+        assertThat(storageProvider.rebalance()).isZero();
+    }
+
+    @Test
+    void shouldRecreateDirectoryRemovedAfterItWasCached() throws IOException {
+        // Given
+        String storageKey = "2026/03/01/probe.txt";
+        storageProvider.storeAt(storageKey, new ByteArrayInputStream("first".getBytes()));
+        Path directory = storageProvider.localPath(storageKey).orElseThrow().getParent();
+        storageProvider.delete(storageKey);
+        Files.delete(directory);
+
+        // When
+        storageProvider.storeAt(storageKey, new ByteArrayInputStream("second".getBytes()));
+
+        // Then
+        assertThat(new String(storageProvider.retrieve(storageKey).readAllBytes())).isEqualTo("second");
+    }
+
+    @Test
+    void shouldSpreadBlobsAcrossVolumes() throws IOException {
+        // Given
+        LocalStorageProvider striped = stripedProvider(4, false);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            striped.store(new ByteArrayInputStream(("blob-" + i).getBytes()), "f" + i + ".txt");
+        }
+
+        // Then
+        for (int v = 0; v < 4; v++) {
+            assertThat(countFiles(tempDir.resolve("vol" + v))).isBetween(20L, 80L);
+        }
+    }
+
+    @Test
+    void shouldRebalanceOnlyAFractionOfKeysWhenVolumeIsAdded() throws IOException {
+        // Given
+        LocalStorageProvider threeVolumes = stripedProvider(3, false);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            keys.add(threeVolumes.store(new ByteArrayInputStream(("blob-" + i).getBytes()), "f" + i + ".txt"));
+        }
+        LocalStorageProvider fourVolumes = stripedProvider(4, false);
+
+        // When
+        String beforeRebalance = new String(fourVolumes.retrieve(keys.get(0)).readAllBytes());
+        int moved = fourVolumes.rebalance();
+
+        // Then
+        assertThat(beforeRebalance).isEqualTo("blob-0");
+        assertThat(moved).isBetween(30, 130);
+        assertThat(countFiles(tempDir.resolve("vol3"))).isEqualTo(moved);
+        for (int i = 0; i < keys.size(); i++) {
+            try (InputStream in = fourVolumes.retrieve(keys.get(i))) {
+                assertThat(new String(in.readAllBytes())).isEqualTo("blob-" + i);
+            }
+        }
+        assertThat(fourVolumes.rebalance()).isZero();
+    }
+
+    @Test
+    void shouldMoveLongKeysToANewVolume() throws IOException {
+        // Given — file names close to the 255-byte limit
+        LocalStorageProvider twoVolumes = stripedProvider(2, false);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            String key = "2025/11/30/" + UUID.randomUUID() + "-" + "s".repeat(200) + i;
+            twoVolumes.storeAt(key, new ByteArrayInputStream(("blob-" + i).getBytes()));
+            keys.add(key);
+        }
+        LocalStorageProvider threeVolumes = stripedProvider(3, false);
+
+        // When
+        int moved = threeVolumes.rebalance();
+
+        // Then
+        assertThat(moved).isPositive();
+        assertThat(countFiles(tempDir.resolve("vol2"))).isEqualTo(moved);
+        for (int i = 0; i < keys.size(); i++) {
+            try (InputStream in = threeVolumes.retrieve(keys.get(i))) {
+                assertThat(new String(in.readAllBytes())).isEqualTo("blob-" + i);
+            }
+        }
+    }
+
+    @Test
+    void shouldRebalanceAtStartupOnlyWhenVolumesChanged() throws IOException {
+        // Given
+        LocalStorageProvider threeVolumes = stripedProvider(3, false);
+        threeVolumes.store(new ByteArrayInputStream("x".getBytes()), "x.txt");
+        assertThat(threeVolumes.placementChanged()).isTrue();
+
+        // When
+        threeVolumes.rebalance();
+
+        // Then
+        assertThat(stripedProvider(3, false).placementChanged()).isFalse();
+        assertThat(stripedProvider(4, false).placementChanged()).isTrue();
+        assertThat(provider(tempDir.resolve("vol0").toString(), "hashed").placementChanged()).isTrue();
+        assertThat(threeVolumes.rebalance()).isZero();
+    }
+
+    @Test
+    void shouldDeleteBlobFromEveryVolume() throws IOException {
+        // Given
+        LocalStorageProvider striped = stripedProvider(2, false);
+        String storageKey = striped.store(new ByteArrayInputStream("x".getBytes()), "x.txt");
+
+        // When
+        striped.delete(storageKey);
+
+        // Then
+        assertThat(countFiles(tempDir.resolve("vol0")) + countFiles(tempDir.resolve("vol1"))).isZero();
+    }
+
+    private LocalStorageProvider provider(String root, String layout) {
+        StorageProperties properties = new StorageProperties();
+        properties.getLocal().setRoot(root);
+        properties.getLocal().setLayout(layout);
+        properties.getLocal().setRebalanceOnStartup(false);
+        properties.getLocal().setRebalanceOnVolumeChange(false);
+        LocalStorageProvider provider = new LocalStorageProvider(properties);
+        provider.init();
+        return provider;
+    }
+
+    private LocalStorageProvider stripedProvider(int volumeCount, boolean rebalanceOnStartup) {
+        StorageProperties properties = new StorageProperties();
+        List<String> volumes = new ArrayList<>();
+        for (int i = 0; i < volumeCount; i++) {
+            volumes.add(tempDir.resolve("vol" + i).toString());
+        }
+        properties.getLocal().setVolumes(volumes);
+        properties.getLocal().setRebalanceOnStartup(rebalanceOnStartup);
+        properties.getLocal().setRebalanceOnVolumeChange(false);
+        LocalStorageProvider provider = new LocalStorageProvider(properties);
+        provider.init();
+        return provider;
+    }
+
+    private static long countFiles(Path root) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            return walk.filter(Files::isRegularFile)
+                    .filter(p -> !p.getFileName().toString().equals(LocalStorageProvider.RING_DESCRIPTOR))
+                    .count();
+        }
+    }
 }
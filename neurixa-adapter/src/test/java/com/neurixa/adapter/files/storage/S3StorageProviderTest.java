@@ -0,0 +1,125 @@
+package com.neurixa.adapter.files.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3StorageProviderTest {
+
+    private static final int PART = 1024;
+    private static final int RANGE = 512;
+
+    private InMemoryObjectStoreClient client;
+    private S3StorageProvider storageProvider;
+
+    @BeforeEach
+    void setUp() {
+        client = new InMemoryObjectStoreClient();
+        storageProvider = new S3StorageProvider(client, "blobs/", PART, PART, 3, RANGE, 2, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageProvider.close();
+    }
+
+    @Test
+    void shouldStoreSmallFileWithSinglePut() throws IOException {
+        // Given
+        byte[] content = "test content".getBytes();
+
+        // When
+        String storageKey = storageProvider.store(new ByteArrayInputStream(content), "test.txt");
+
+        // Then
+        assertThat(storageKey).matches("\\d{4}/\\d{2}/\\d{2}/.+-test\\.txt");
+        assertThat(client.objects).containsKey("blobs/" + storageKey);
+        assertThat(client.maxPartsInFlight.get()).isZero();
+        try (InputStream in = storageProvider.retrieve(storageKey)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void shouldUploadLargeFileAsParallelMultipart() {
+        // Given
+        byte[] content = randomBytes(PART * 10 + 123);
+        client.partDelayMillis = 20;
+
+        // When
+        String storageKey = storageProvider.store(new ByteArrayInputStream(content), "large.bin");
+
+        // Then
+        assertThat(client.objects.get("blobs/" + storageKey)).isEqualTo(content);
+        assertThat(client.maxPartsInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(3);
+        assertThat(client.uploads).isEmpty();
+    }
+
+    @Test
+    void shouldAbortMultipartUploadWhenPartFails() {
+        // Given
+        byte[] content = randomBytes(PART * 6);
+        client.failOnPart = 2;
+
+        // When / Then
+        assertThatThrownBy(() -> storageProvider.store(new ByteArrayInputStream(content), "broken.bin"))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(client.aborts.get()).isEqualTo(1);
+        assertThat(client.uploads).isEmpty();
+        assertThat(client.objects).isEmpty();
+    }
+
+    @Test
+    void shouldRetrieveLargeFileWithRangedGets() throws IOException {
+        // Given
+        byte[] content = randomBytes(RANGE * 5 + 7);
+        String storageKey = storageProvider.store(new ByteArrayInputStream(content), "range.bin");
+
+        // When
+        byte[] retrieved;
+        try (InputStream in = storageProvider.retrieve(storageKey)) {
+            retrieved = in.readAllBytes();
+        }
+
+        // Then
+        assertThat(retrieved).isEqualTo(content);
+        assertThat(client.rangeRequests).hasSize(6);
+        assertThat(client.rangeRequests.get(5)).containsExactly(RANGE * 5L, RANGE * 5L + 6);
+    }
+
+    @Test
+    void shouldDeleteFile() {
+        // Given
+        String storageKey = storageProvider.store(new ByteArrayInputStream("x".getBytes()), "delete.txt");
+
+        // When
+        storageProvider.delete(storageKey);
+
+        // Then
+        assertThat(client.objects).isEmpty();
+        assertThatThrownBy(() -> storageProvider.retrieve(storageKey)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void shouldRejectPartSizeBelowS3Minimum() {
+        // When / Then
+        assertThatThrownBy(() -> new S3StorageProvider(client, "blobs/", 1024 * 1024, 3, RANGE, 2, 4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("partSize");
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,46 @@
+package com.neurixa.adapter.maintenance;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LiveIndexesTest {
+
+    @Mock
+    private IndexOperations ops;
+
+    @Test
+    void shouldRestrictIndexToLiveDocuments() {
+        Index index = LiveIndexes.live(new Index().on("ownerId", Sort.Direction.ASC).named("live_owner"));
+
+        Document options = index.getIndexOptions();
+        assertThat(options.get("partialFilterExpression", Document.class)).isEqualTo(new Document("deleted", false));
+    }
+
+    @Test
+    void shouldDropSupersededIndexesThatExist() {
+        Index index = LiveIndexes.live(new Index().on("ownerId", Sort.Direction.ASC).named("live_owner"));
+        when(ops.getIndexInfo()).thenReturn(List.of(IndexInfo.indexInfoOf(
+                new Document("name", "owner").append("key", new Document("ownerId", 1)))));
+
+        LiveIndexes.ensure(ops, index, "owner", "never_created");
+
+        verify(ops).ensureIndex(index);
+        verify(ops).dropIndex("owner");
+        verify(ops, never()).dropIndex("never_created");
+    }
+}
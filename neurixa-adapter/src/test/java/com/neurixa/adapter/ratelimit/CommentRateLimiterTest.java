@@ -0,0 +1,116 @@
+package com.neurixa.adapter.ratelimit;
+
+import com.neurixa.adapter.ratelimit.CommentRateLimiter.Rule;
+import com.neurixa.adapter.ratelimit.CommentRateLimiter.Scope;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentRateLimiterTest {
+
+    @Mock
+    private RedisSlidingWindowLimiter cluster;
+
+    private CommentRateLimiter limiter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new CommentRateLimiter(Map.of(
+                Scope.IP, new Rule(2, Duration.ofMinutes(1)),
+                Scope.EMAIL, new Rule(10, Duration.ofMinutes(1)),
+                Scope.ARTICLE, new Rule(10, Duration.ofMinutes(1))), cluster, 1000);
+        registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+    }
+
+    @Test
+    void shouldRefuseLocallyWithoutCallingRedis() {
+        // Given
+        when(cluster.tryAcquire(anyList())).thenReturn(Duration.ZERO);
+        UUID articleId = UUID.randomUUID();
+        limiter.acquire("10.0.0.1", "a@example.com", articleId);
+        limiter.acquire("10.0.0.1", "b@example.com", articleId);
+
+        // When / Then
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.1", "c@example.com", articleId))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> assertThat(((RateLimitExceededException) e).getRetryAfter()).isPositive());
+        verify(cluster, times(2)).tryAcquire(anyList());
+        assertThat(registry.get("neurixa.comments.ratelimit.rejections").tag("tier", "local").tag("scope", "ip")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefuseWhenClusterLimitIsExhausted() {
+        // Given
+        when(cluster.tryAcquire(anyList())).thenReturn(Duration.ofSeconds(42));
+
+        // When / Then
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.1", "a@example.com", UUID.randomUUID()))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> assertThat(((RateLimitExceededException) e).getRetryAfter()).isEqualTo(Duration.ofSeconds(42)));
+        assertThat(registry.get("neurixa.comments.ratelimit.rejections").tag("tier", "cluster")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFallBackToLocalLimitsWhenRedisFails() {
+        // Given
+        when(cluster.tryAcquire(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When / Then
+        assertThatCode(() -> limiter.acquire("10.0.0.1", "a@example.com", UUID.randomUUID())).doesNotThrowAnyException();
+        assertThat(registry.get("neurixa.comments.ratelimit.redis.failures").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveBackTokensOfOtherScopesWhenOneRefuses() {
+        // Given — the article allows one post a minute, the client two
+        CommentRateLimiter strict = new CommentRateLimiter(Map.of(
+                Scope.IP, new Rule(2, Duration.ofMinutes(1)),
+                Scope.EMAIL, new Rule(10, Duration.ofMinutes(1)),
+                Scope.ARTICLE, new Rule(1, Duration.ofMinutes(1))), cluster, 1000);
+        when(cluster.tryAcquire(anyList())).thenReturn(Duration.ZERO);
+        UUID busy = UUID.randomUUID();
+        strict.acquire("10.0.0.1", "a@example.com", busy);
+
+        // When
+        assertThatThrownBy(() -> strict.acquire("10.0.0.2", "b@example.com", busy))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        // Then — the refused post cost 10.0.0.2 nothing
+        assertThatCode(() -> {
+            strict.acquire("10.0.0.2", "b@example.com", UUID.randomUUID());
+            strict.acquire("10.0.0.2", "b@example.com", UUID.randomUUID());
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldGroupIpv6ClientsByPrefix() {
+        // When
+        String first = CommentRateLimiter.addressBlock("2001:db8:1:2:aaaa:bbbb:cccc:dddd");
+        String second = CommentRateLimiter.addressBlock("2001:db8:1:2::1");
+
+        // Then
+        assertThat(first).isEqualTo(second).endsWith("/64");
+        assertThat(CommentRateLimiter.addressBlock("192.0.2.7")).isEqualTo("192.0.2.7");
+    }
+}
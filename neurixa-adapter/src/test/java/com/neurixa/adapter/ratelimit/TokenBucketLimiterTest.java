@@ -0,0 +1,71 @@
+package com.neurixa.adapter.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketLimiterTest {
+
+    @Test
+    void shouldAllowBurstUpToPermitsThenReportWait() {
+        // Given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, Duration.ofMinutes(1), 100);
+
+        // When
+        long first = limiter.tryAcquire("1.2.3.4");
+        long second = limiter.tryAcquire("1.2.3.4");
+        long third = limiter.tryAcquire("1.2.3.4");
+        long fourth = limiter.tryAcquire("1.2.3.4");
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        assertThat(fourth).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(20).toNanos());
+    }
+
+    @Test
+    void shouldReturnReleasedTokenWithoutExceedingPermits() {
+        // Given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, Duration.ofMinutes(1), 100);
+        limiter.tryAcquire("a");
+
+        // When
+        limiter.release("a");
+        limiter.release("a");
+        limiter.release("unknown");
+
+        // Then
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void shouldKeepKeysIndependent() {
+        // Given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, Duration.ofMinutes(1), 100);
+        limiter.tryAcquire("a");
+
+        // When / Then
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void shouldSweepRefilledBucketsBeyondMaxKeys() throws Exception {
+        // Given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, Duration.ofMillis(1), 10);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+        Thread.sleep(5);
+
+        // When
+        limiter.tryAcquire("one-more");
+
+        // Then
+        assertThat(limiter.size()).isLessThanOrEqualTo(10);
+    }
+}
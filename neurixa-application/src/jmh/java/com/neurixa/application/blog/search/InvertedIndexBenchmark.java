@@ -0,0 +1,91 @@
+package com.neurixa.application.blog.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency over a synthetic corpus: {@code documents} articles with an 8-word title,
+ * a 30-word excerpt and a 300-word body drawn from a skewed 20,000-word vocabulary, so a few
+ * terms appear in most documents and most terms in few.
+ *
+ * Run with {@code ./gradlew :neurixa-application:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class InvertedIndexBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+
+    @Param({"100000"})
+    int documents;
+
+    private InvertedIndex index;
+    private String[] vocabulary;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        Random random = new Random(42);
+        vocabulary = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            vocabulary[i] = word(random);
+        }
+        index = new InvertedIndex();
+        for (int doc = 0; doc < documents; doc++) {
+            index.put(UUID.randomUUID(), doc, text(random, 8), text(random, 30), text(random, 300));
+        }
+    }
+
+    /** A term found in most documents: the worst case for a single term. */
+    @Benchmark
+    public List<SearchHit> commonTerm() {
+        return index.search(vocabulary[0], 10);
+    }
+
+    @Benchmark
+    public List<SearchHit> threeCommonTerms() {
+        return index.search(vocabulary[1] + " " + vocabulary[5] + " " + vocabulary[50], 10);
+    }
+
+    @Benchmark
+    public List<SearchHit> twoRareTerms() {
+        return index.search(vocabulary[3_000] + " " + vocabulary[19_000], 10);
+    }
+
+    private String text(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            // Cubing skews picks towards the start of the vocabulary, roughly like word frequencies.
+            int rank = (int) (Math.pow(random.nextDouble(), 3) * VOCABULARY);
+            text.append(vocabulary[rank]).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 4 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
@@ -16,7 +16,7 @@ public class ArticleCommandService {
 
     public Article createDraft(String title, String content, String excerpt) {
         Article article = Article.createDraft(title, content, excerpt);
-        articleRepository.save(article);
+        save(article);
         return article;
     }
 
@@ -24,7 +24,7 @@ public class ArticleCommandService {
         Article article = articleRepository.findById(new ArticleId(articleId))
                 .orElseThrow(() -> new IllegalArgumentException("Article not found."));
         article.update(title, content, excerpt);
-        articleRepository.save(article);
+        save(article);
         return article;
     }
 
@@ -32,14 +32,22 @@ public class ArticleCommandService {
         Article article = articleRepository.findById(new ArticleId(articleId))
                 .orElseThrow(() -> new IllegalArgumentException("Article not found."));
         article.softDelete();
-        articleRepository.save(article);
+        save(article);
     }
 
     public Article publish(UUID articleId) {
         Article article = articleRepository.findById(new ArticleId(articleId))
                 .orElseThrow(() -> new IllegalArgumentException("Article not found."));
         article.publish();
-        articleRepository.save(article);
+        save(article);
+        return article;
+    }
+
+    public Article unpublish(UUID articleId) {
+        Article article = articleRepository.findById(new ArticleId(articleId))
+                .orElseThrow(() -> new IllegalArgumentException("Article not found."));
+        article.unpublish();
+        save(article);
         return article;
     }
 
@@ -47,7 +55,7 @@ public class ArticleCommandService {
         Article article = articleRepository.findById(new ArticleId(articleId))
                 .orElseThrow(() -> new IllegalArgumentException("Article not found."));
         article.restore();
-        articleRepository.save(article);
+        save(article);
         return article;
     }
 
@@ -55,11 +63,24 @@ public class ArticleCommandService {
         Article article = articleRepository.findById(new ArticleId(articleId))
                 .orElseThrow(() -> new IllegalArgumentException("Article not found."));
         article.archive();
-        articleRepository.save(article);
+        save(article);
+        return article;
+    }
+
+    public Article changeFeaturedImage(UUID articleId, UUID featuredImageId) {
+        Article article = articleRepository.findById(new ArticleId(articleId))
+                .orElseThrow(() -> new IllegalArgumentException("Article not found."));
+        article.changeFeaturedImage(featuredImageId);
+        save(article);
         return article;
     }
 
     public void incrementViewCount(UUID articleId) {
         articleRepository.incrementViewCountAtomic(new ArticleId(articleId));
     }
+
+    /** The repository moves the article's pending events to the outbox as part of the save. */
+    private void save(Article article) {
+        articleRepository.save(article);
+    }
 }
@@ -1,7 +1,9 @@
 package com.neurixa.application.blog;
 
 import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleCursor;
 import com.neurixa.domain.blog.ArticleRepository;
+import com.neurixa.domain.blog.ArticleSummary;
 import com.neurixa.domain.blog.Slug;
 import com.neurixa.domain.blog.exception.ArticleNotFoundException;
 import java.util.List;
@@ -9,6 +11,8 @@ import java.util.Objects;
 
 public class ArticleQueryService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final ArticleRepository articleRepository;
 
     public ArticleQueryService(ArticleRepository articleRepository) {
@@ -20,10 +24,26 @@ public class ArticleQueryService {
                 .orElseThrow(() -> new ArticleNotFoundException("Article not found: " + slug));
     }
 
-    public List<Article> listPublished(int page, int size) {
+    public List<ArticleSummary> listPublished(int page, int size) {
         return articleRepository.findPublished(page, size);
     }
 
+    /**
+     * Newest published articles after {@code cursor} (from the newest when blank), and the
+     * cursor for the next slice, or null when this was the last.
+     */
+    public PublishedArticleSlice listPublishedAfter(String cursor, int size) {
+        ArticleCursor after = cursor == null || cursor.isBlank() ? null : ArticleCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        // One extra row tells whether another slice follows, without a count.
+        List<ArticleSummary> articles = articleRepository.findPublishedAfter(after, limit + 1);
+        if (articles.size() <= limit) {
+            return new PublishedArticleSlice(articles, null);
+        }
+        List<ArticleSummary> slice = articles.subList(0, limit);
+        return new PublishedArticleSlice(slice, ArticleCursor.after(slice.get(limit - 1)).encode());
+    }
+
     public long countPublished() {
         return articleRepository.countPublished();
     }
@@ -0,0 +1,150 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.application.blog.search.InvertedIndex;
+import com.neurixa.application.blog.search.SearchHit;
+import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.ArticleRepository;
+import com.neurixa.domain.blog.ArticleStatus;
+import com.neurixa.domain.blog.ArticleSummary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over published articles, served from an in-memory {@link InvertedIndex}.
+ *
+ * The index is kept current one article at a time ({@link #reindex}, {@link #remove}) as
+ * articles change, and {@link #reconcile} catches up with changes it was not told about by
+ * comparing each published article's {@code updatedAt} with the version it was indexed at.
+ * Only articles that differ are loaded with their bodies, a batch at a time, so a node
+ * starting from a recent snapshot does not re-read the whole archive.
+ */
+public class ArticleSearchService {
+
+    private static final int MAX_RESULTS = 50;
+    static final int RECONCILE_BATCH_SIZE = 200;
+
+    private final ArticleRepository articleRepository;
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    public ArticleSearchService(ArticleRepository articleRepository) {
+        this.articleRepository = Objects.requireNonNull(articleRepository);
+    }
+
+    /** Published articles matching {@code query}, most relevant first. */
+    public List<ArticleSummary> search(String query, int limit) {
+        List<SearchHit> hits = index.search(query, Math.min(Math.max(limit, 1), MAX_RESULTS));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ArticleSummary> found = articleRepository
+                .findPublishedByIds(hits.stream().map(hit -> new ArticleId(hit.id())).toList()).stream()
+                .collect(Collectors.toMap(summary -> summary.articleId().getValue(), Function.identity()));
+        // Hits unpublished since they were indexed are dropped here until the index catches up.
+        List<ArticleSummary> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            ArticleSummary summary = found.get(hit.id());
+            if (summary != null) {
+                results.add(summary);
+            }
+        }
+        return results;
+    }
+
+    /** Indexes the article's current state, or drops it if it is no longer published. */
+    public void reindex(ArticleId articleId) {
+        articleRepository.findById(articleId)
+                .filter(article -> article.getStatus() == ArticleStatus.PUBLISHED && !article.isDeleted())
+                .ifPresentOrElse(this::put, () -> index.remove(articleId.getValue()));
+    }
+
+    public void remove(ArticleId articleId) {
+        index.remove(articleId.getValue());
+    }
+
+    /**
+     * Brings the index in line with the published articles.
+     *
+     * @return number of articles indexed or dropped
+     */
+    public int reconcile() {
+        InvertedIndex current = index;
+        Set<UUID> published = new HashSet<>();
+        List<ArticleId> stale = new ArrayList<>();
+        articleRepository.forEachPublished(Integer.MAX_VALUE, summary -> {
+            UUID id = summary.articleId().getValue();
+            published.add(id);
+            OptionalLong indexed = current.version(id);
+            if (indexed.isEmpty() || indexed.getAsLong() != versionOf(summary.updatedAt())) {
+                stale.add(summary.articleId());
+            }
+        });
+        int changed = 0;
+        for (UUID id : current.ids()) {
+            if (!published.contains(id) && current.remove(id)) {
+                changed++;
+            }
+        }
+        // Bodies are loaded a batch at a time; one read per article made a cold start slow.
+        for (int from = 0; from < stale.size(); from += RECONCILE_BATCH_SIZE) {
+            List<ArticleId> batch = stale.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, stale.size()));
+            Set<UUID> loaded = new HashSet<>();
+            for (Article article : articleRepository.findPublishedArticlesByIds(batch)) {
+                put(article);
+                loaded.add(article.getArticleId().getValue());
+            }
+            // Unpublished since the scan.
+            for (ArticleId id : batch) {
+                if (!loaded.contains(id.getValue())) {
+                    index.remove(id.getValue());
+                }
+            }
+            changed += batch.size();
+        }
+        return changed;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /** Increases whenever the index changes; see {@link InvertedIndex#modifications()}. */
+    public long modifications() {
+        return index.modifications();
+    }
+
+    public void writeSnapshot(OutputStream out) throws IOException {
+        index.writeSnapshot(out);
+    }
+
+    /**
+     * Replaces the index with a snapshot. Changes made since the snapshot was written are
+     * picked up by the next {@link #reconcile}.
+     */
+    public void loadSnapshot(InputStream in) throws IOException {
+        index = InvertedIndex.readSnapshot(in);
+    }
+
+    private void put(Article article) {
+        index.put(article.getArticleId().getValue(), versionOf(article.getUpdatedAt()),
+                article.getTitle(), article.getExcerpt(), article.getContent());
+    }
+
+    /** Mongo keeps milliseconds, so a fresh in-memory timestamp must compare at that precision. */
+    private static long versionOf(Instant updatedAt) {
+        return updatedAt == null ? 0 : updatedAt.toEpochMilli();
+    }
+}
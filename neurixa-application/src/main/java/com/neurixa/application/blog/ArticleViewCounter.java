@@ -0,0 +1,81 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.ArticleRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces article views in memory and writes them to the store in periodic batches.
+ *
+ * A view costs one striped {@link LongAdder} increment, with no contention between
+ * readers of the same hot article; each flush writes one {@code $inc} per article
+ * viewed since the last one, however many views it had. A crash loses at most the
+ * views of the current flush interval; a failed flush puts its deltas back.
+ */
+public class ArticleViewCounter {
+
+    private final ArticleRepository articleRepository;
+    private final int batchSize;
+    private final ConcurrentHashMap<ArticleId, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public ArticleViewCounter(ArticleRepository articleRepository, int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be > 0");
+        this.articleRepository = Objects.requireNonNull(articleRepository);
+        this.batchSize = batchSize;
+    }
+
+    public void record(ArticleId articleId) {
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Writes the views counted so far.
+     *
+     * Counters are drained with {@link LongAdder#sumThenReset()}, which loses no
+     * concurrent increment, and left in place for the next interval. A counter found
+     * empty is removed; a view racing with that removal can be dropped, which is the
+     * price of never locking the record path.
+     *
+     * @return the number of views written
+     */
+    public long flush() {
+        Map<ArticleId, Long> batch = new HashMap<>();
+        long written = 0;
+        for (Map.Entry<ArticleId, LongAdder> entry : pending.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+            if (views == 0) {
+                pending.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            batch.put(entry.getKey(), views);
+            if (batch.size() == batchSize) {
+                written += write(batch);
+                batch = new HashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            written += write(batch);
+        }
+        return written;
+    }
+
+    private long write(Map<ArticleId, Long> batch) {
+        try {
+            articleRepository.incrementViewCounts(batch);
+        } catch (RuntimeException e) {
+            batch.forEach((id, views) -> pending.computeIfAbsent(id, k -> new LongAdder()).add(views));
+            throw e;
+        }
+        return batch.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /** Views counted but not yet written. */
+    public long pendingViews() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
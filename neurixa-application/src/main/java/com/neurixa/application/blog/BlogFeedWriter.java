@@ -0,0 +1,220 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.ArticleRepository;
+import com.neurixa.domain.blog.ArticleSummary;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes the sitemap and the RSS and Atom feeds of published articles.
+ *
+ * Documents are written element by element as articles are read, so memory use is the same
+ * for ten articles or a million. Output depends only on the articles, never on when it was
+ * written, so identical content produces identical bytes on every node.
+ */
+public class BlogFeedWriter {
+
+    /** Most URLs a single sitemap may list; later (older) articles are left out. */
+    public static final int MAX_SITEMAP_URLS = 50_000;
+
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final XMLOutputFactory XML = XMLOutputFactory.newFactory();
+
+    private final ArticleRepository articleRepository;
+    private final String siteUrl;
+    private final String articlePath;
+    private final String title;
+    private final String description;
+    private final int feedSize;
+
+    public BlogFeedWriter(ArticleRepository articleRepository, String siteUrl, String articlePath,
+                          String title, String description, int feedSize) {
+        if (feedSize <= 0) throw new IllegalArgumentException("feedSize must be > 0");
+        this.articleRepository = Objects.requireNonNull(articleRepository);
+        this.siteUrl = stripTrailingSlash(Objects.requireNonNull(siteUrl));
+        this.articlePath = Objects.requireNonNull(articlePath);
+        this.title = Objects.requireNonNull(title);
+        this.description = Objects.requireNonNull(description);
+        this.feedSize = feedSize;
+    }
+
+    /**
+     * @return when the most recently changed listed article changed, or the epoch if none
+     */
+    public Instant writeSitemap(OutputStream out) throws IOException {
+        try {
+            XMLStreamWriter xml = start(out);
+            xml.writeStartElement("urlset");
+            xml.writeDefaultNamespace(SITEMAP_NS);
+            Instant[] lastModified = {Instant.EPOCH};
+            articleRepository.forEachPublished(MAX_SITEMAP_URLS, article -> {
+                Instant modified = lastModified(article);
+                write(() -> {
+                    xml.writeStartElement("url");
+                    element(xml, "loc", link(article));
+                    element(xml, "lastmod", DateTimeFormatter.ISO_INSTANT.format(modified));
+                    xml.writeEndElement();
+                });
+                lastModified[0] = max(lastModified[0], modified);
+            });
+            end(xml);
+            return lastModified[0];
+        } catch (XMLStreamException | UncheckedXmlException e) {
+            throw new IOException("Cannot write sitemap", e);
+        }
+    }
+
+    /**
+     * RSS 2.0 with the {@code feedSize} newest articles.
+     *
+     * @return when the most recently changed listed article changed, or the epoch if none
+     */
+    public Instant writeRss(OutputStream out) throws IOException {
+        List<ArticleSummary> articles = articleRepository.findPublished(0, feedSize);
+        Instant lastModified = lastModified(articles);
+        try {
+            XMLStreamWriter xml = start(out);
+            xml.writeStartElement("rss");
+            xml.writeAttribute("version", "2.0");
+            xml.writeStartElement("channel");
+            element(xml, "title", title);
+            element(xml, "link", siteUrl);
+            element(xml, "description", description);
+            element(xml, "lastBuildDate", rfc1123(lastModified));
+            for (ArticleSummary article : articles) {
+                xml.writeStartElement("item");
+                element(xml, "title", article.title());
+                element(xml, "link", link(article));
+                xml.writeStartElement("guid");
+                xml.writeAttribute("isPermaLink", "false");
+                xml.writeCharacters(article.articleId().toString());
+                xml.writeEndElement();
+                element(xml, "pubDate", rfc1123(article.publishedAt()));
+                if (article.excerpt() != null) {
+                    element(xml, "description", article.excerpt());
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            end(xml);
+            return lastModified;
+        } catch (XMLStreamException e) {
+            throw new IOException("Cannot write RSS feed", e);
+        }
+    }
+
+    /**
+     * Atom with the {@code feedSize} newest articles.
+     *
+     * @return when the most recently changed listed article changed, or the epoch if none
+     */
+    public Instant writeAtom(OutputStream out) throws IOException {
+        List<ArticleSummary> articles = articleRepository.findPublished(0, feedSize);
+        Instant lastModified = lastModified(articles);
+        try {
+            XMLStreamWriter xml = start(out);
+            xml.writeStartElement("feed");
+            xml.writeDefaultNamespace(ATOM_NS);
+            element(xml, "title", title);
+            element(xml, "subtitle", description);
+            element(xml, "id", siteUrl + "/");
+            element(xml, "updated", DateTimeFormatter.ISO_INSTANT.format(lastModified));
+            link(xml, siteUrl + "/");
+            for (ArticleSummary article : articles) {
+                xml.writeStartElement("entry");
+                element(xml, "title", article.title());
+                element(xml, "id", "urn:uuid:" + article.articleId());
+                link(xml, link(article));
+                element(xml, "published", DateTimeFormatter.ISO_INSTANT.format(article.publishedAt()));
+                element(xml, "updated", DateTimeFormatter.ISO_INSTANT.format(lastModified(article)));
+                if (article.excerpt() != null) {
+                    element(xml, "summary", article.excerpt());
+                }
+                xml.writeEndElement();
+            }
+            end(xml);
+            return lastModified;
+        } catch (XMLStreamException e) {
+            throw new IOException("Cannot write Atom feed", e);
+        }
+    }
+
+    private String link(ArticleSummary article) {
+        return siteUrl + articlePath + article.slug().getValue();
+    }
+
+    private static XMLStreamWriter start(OutputStream out) throws XMLStreamException {
+        XMLStreamWriter xml = XML.createXMLStreamWriter(out, "UTF-8");
+        xml.writeStartDocument("UTF-8", "1.0");
+        return xml;
+    }
+
+    private static void end(XMLStreamWriter xml) throws XMLStreamException {
+        xml.writeEndElement();
+        xml.writeEndDocument();
+        xml.flush();
+        xml.close();
+    }
+
+    private static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text == null ? "" : text);
+        xml.writeEndElement();
+    }
+
+    private static void link(XMLStreamWriter xml, String href) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        xml.writeAttribute("href", href);
+    }
+
+    private static Instant lastModified(List<ArticleSummary> articles) {
+        return articles.stream().map(BlogFeedWriter::lastModified).reduce(Instant.EPOCH, BlogFeedWriter::max);
+    }
+
+    private static Instant lastModified(ArticleSummary article) {
+        Instant published = article.publishedAt() != null ? article.publishedAt() : Instant.EPOCH;
+        return article.updatedAt() != null ? max(published, article.updatedAt()) : published;
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static String rfc1123(Instant instant) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(instant.atZone(ZoneOffset.UTC));
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static void write(XmlAction action) {
+        try {
+            action.run();
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface XmlAction {
+        void run() throws XMLStreamException;
+    }
+
+    /** Carries a write failure out of the repository callback. */
+    private static final class UncheckedXmlException extends RuntimeException {
+        UncheckedXmlException(XMLStreamException cause) {
+            super(cause);
+        }
+    }
+}
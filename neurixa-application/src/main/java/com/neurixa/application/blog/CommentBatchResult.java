@@ -0,0 +1,11 @@
+package com.neurixa.application.blog;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a batch moderation. {@code skipped} holds the ids that were not found or whose
+ * comment was not in a state the action applies to, such as approving a rejected comment.
+ */
+public record CommentBatchResult(List<UUID> updated, List<UUID> skipped) {
+}
@@ -1,45 +1,189 @@
 package com.neurixa.application.blog;
 
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.ArticleRepository;
 import com.neurixa.domain.blog.Comment;
 import com.neurixa.domain.blog.CommentId;
 import com.neurixa.domain.blog.CommentRepository;
+import com.neurixa.domain.blog.CommentStatus;
+import com.neurixa.domain.blog.CommentTransition;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Comment moderation. Each article carries the number of its approved comments, adjusted
+ * here whenever a comment enters or leaves the approved state, so article pages never count.
+ */
 public class CommentCommandService {
 
+    public static final int MAX_BATCH_SIZE = 5_000;
+    private static final int MAX_DELETE_ATTEMPTS = 3;
+
     private final CommentRepository commentRepository;
+    private final ArticleRepository articleRepository;
+    private final PendingCommentCount pendingCommentCount;
 
-    public CommentCommandService(CommentRepository commentRepository) {
+    public CommentCommandService(CommentRepository commentRepository, ArticleRepository articleRepository,
+                                 PendingCommentCount pendingCommentCount) {
         this.commentRepository = Objects.requireNonNull(commentRepository);
+        this.articleRepository = Objects.requireNonNull(articleRepository);
+        this.pendingCommentCount = Objects.requireNonNull(pendingCommentCount);
     }
 
     public Comment add(UUID articleId, String authorName, String authorEmail, String content, UUID replyTo) {
         Comment comment = Comment.create(articleId, authorName, authorEmail, content, replyTo);
         commentRepository.save(comment);
+        pendingCommentCount.invalidate();
         return comment;
     }
 
     public Comment approve(UUID commentId) {
-        Comment comment = commentRepository.findById(new CommentId(commentId))
-                .orElseThrow(() -> new IllegalArgumentException("Comment not found."));
+        Comment comment = find(commentId);
+        CommentTransition transition = new CommentTransition(comment, comment.getStatus());
         comment.approve();
-        commentRepository.save(comment);
+        write(transition);
+        articleRepository.adjustCommentCount(comment.getArticleId(), 1);
+        pendingCommentCount.invalidate();
         return comment;
     }
 
+    /** Only pending comments can be rejected, so the approved count is unaffected. */
     public Comment reject(UUID commentId) {
-        Comment comment = commentRepository.findById(new CommentId(commentId))
-                .orElseThrow(() -> new IllegalArgumentException("Comment not found."));
+        Comment comment = find(commentId);
+        CommentTransition transition = new CommentTransition(comment, comment.getStatus());
         comment.reject();
-        commentRepository.save(comment);
+        write(transition);
+        pendingCommentCount.invalidate();
         return comment;
     }
 
+    /**
+     * A delete that loses a race to an approve or reject is retried against the new state, so
+     * the count is adjusted by whatever status the comment actually left.
+     */
     public void delete(UUID commentId) {
-        Comment comment = commentRepository.findById(new CommentId(commentId))
+        for (int attempt = 1; ; attempt++) {
+            Comment comment = find(commentId);
+            if (comment.isDeleted()) {
+                return;
+            }
+            CommentTransition transition = new CommentTransition(comment, comment.getStatus());
+            comment.softDelete();
+            if (commentRepository.moderate(transition)) {
+                if (transition.from() == CommentStatus.APPROVED) {
+                    articleRepository.adjustCommentCount(comment.getArticleId(), -1);
+                }
+                pendingCommentCount.invalidate();
+                return;
+            }
+            if (attempt == MAX_DELETE_ATTEMPTS) {
+                throw new IllegalStateException("Comment changed while it was being deleted.");
+            }
+        }
+    }
+
+    public CommentBatchResult approveAll(Collection<UUID> commentIds) {
+        return moderateAll(commentIds, Comment::approve);
+    }
+
+    public CommentBatchResult rejectAll(Collection<UUID> commentIds) {
+        return moderateAll(commentIds, Comment::reject);
+    }
+
+    public CommentBatchResult deleteAll(Collection<UUID> commentIds) {
+        return moderateAll(commentIds, Comment::softDelete);
+    }
+
+    /**
+     * Applies {@code action} to every comment in one read and one conditional bulk write, plus
+     * one bulk write for the articles' approved counts, however many comments there are. Each
+     * approval still raises its own event. A comment the action does not apply to, or that
+     * another moderator changed between the read and the write, is skipped rather than failing
+     * the batch, and neither counts nor events are touched for it.
+     */
+    private CommentBatchResult moderateAll(Collection<UUID> commentIds, Consumer<Comment> action) {
+        Set<UUID> requested = new LinkedHashSet<>(commentIds);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " comments can be moderated at once.");
+        }
+        Map<UUID, Comment> found = commentRepository
+                .findAllById(requested.stream().map(CommentId::new).toList()).stream()
+                .collect(Collectors.toMap(comment -> comment.getCommentId().getValue(), Function.identity()));
+        Map<UUID, CommentTransition> transitions = new LinkedHashMap<>();
+        for (UUID id : requested) {
+            Comment comment = found.get(id);
+            if (comment == null) {
+                continue;
+            }
+            CommentStatus before = comment.getStatus();
+            if (apply(action, comment)) {
+                transitions.put(id, new CommentTransition(comment, before));
+            }
+        }
+        Set<CommentId> written = commentRepository.moderateAll(List.copyOf(transitions.values()));
+        List<UUID> updated = new ArrayList<>();
+        List<UUID> skipped = new ArrayList<>();
+        Map<ArticleId, Integer> countDeltas = new HashMap<>();
+        for (UUID id : requested) {
+            CommentTransition transition = transitions.get(id);
+            if (transition == null || !written.contains(transition.comment().getCommentId())) {
+                skipped.add(id);
+                continue;
+            }
+            updated.add(id);
+            int delta = approvedDelta(transition.from(), transition.comment().getStatus());
+            if (delta != 0) {
+                countDeltas.merge(transition.comment().getArticleId(), delta, Integer::sum);
+            }
+        }
+        articleRepository.adjustCommentCounts(countDeltas);
+        if (!updated.isEmpty()) {
+            pendingCommentCount.invalidate();
+        }
+        return new CommentBatchResult(updated, skipped);
+    }
+
+    private Comment find(UUID commentId) {
+        return commentRepository.findById(new CommentId(commentId))
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found."));
-        comment.softDelete();
-        commentRepository.save(comment);
+    }
+
+    /** Fails the way the domain does when the comment is no longer in the state it was read in. */
+    private void write(CommentTransition transition) {
+        if (!commentRepository.moderate(transition)) {
+            throw new IllegalStateException("Comment was moderated concurrently.");
+        }
+    }
+
+    /** @return whether the action changed the comment */
+    private static boolean apply(Consumer<Comment> action, Comment comment) {
+        CommentStatus before = comment.getStatus();
+        try {
+            action.accept(comment);
+        } catch (IllegalStateException e) {
+            return false;
+        }
+        return comment.getStatus() != before;
+    }
+
+    private static int approvedDelta(CommentStatus before, CommentStatus after) {
+        if (before != CommentStatus.APPROVED && after == CommentStatus.APPROVED) {
+            return 1;
+        }
+        if (before == CommentStatus.APPROVED && after != CommentStatus.APPROVED) {
+            return -1;
+        }
+        return 0;
     }
 }
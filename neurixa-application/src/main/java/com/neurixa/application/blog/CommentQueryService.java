@@ -1,14 +1,25 @@
 package com.neurixa.application.blog;
 
 import com.neurixa.domain.blog.Comment;
+import com.neurixa.domain.blog.CommentCursor;
+import com.neurixa.domain.blog.CommentId;
 import com.neurixa.domain.blog.CommentRepository;
 import com.neurixa.domain.blog.CommentStatus;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 public class CommentQueryService {
 
+    private static final int MAX_THREADS_PER_PAGE = 50;
+    private static final int MAX_QUEUE_SLICE_SIZE = 500;
+    static final int MAX_COMMENTS_PER_PAGE = 1000;
+    private static final Comparator<Comment> OLDEST_FIRST = Comparator
+            .comparing(Comment::getCreatedAt)
+            .thenComparing(comment -> comment.getCommentId().value());
+
     private final CommentRepository commentRepository;
 
     public CommentQueryService(CommentRepository commentRepository) {
@@ -18,4 +29,54 @@ public class CommentQueryService {
     public List<Comment> listByArticleAndStatus(UUID articleId, CommentStatus status) {
         return commentRepository.findByArticleIdAndStatus(articleId, status);
     }
+
+    /**
+     * The moderation queue: pending comments across all articles, oldest first. Pass the
+     * previous slice's {@code nextCursor}, or null to start from the oldest.
+     */
+    public PendingCommentSlice listPending(String cursor, int size) {
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_QUEUE_SLICE_SIZE);
+        // One extra row tells whether another slice follows, without a count.
+        List<Comment> comments = commentRepository.findByStatusAfter(CommentStatus.PENDING, after, limit + 1);
+        if (comments.size() <= limit) {
+            return new PendingCommentSlice(comments, null);
+        }
+        List<Comment> slice = comments.subList(0, limit);
+        return new PendingCommentSlice(slice, CommentCursor.after(slice.get(limit - 1)).encode());
+    }
+
+    /**
+     * A page of the article's approved comments as reply trees, paged by top-level comment
+     * so a thread is never split across pages. Pass the previous page's {@code nextCursor},
+     * or null for the oldest threads.
+     *
+     * The top-level comments are read by keyset, then their replies one level per query.
+     * At most {@link #MAX_COMMENTS_PER_PAGE} comments are read for a page; replies beyond
+     * that, the newest and deepest, are left out. A reply whose parent is not approved is
+     * hidden along with it.
+     */
+    public CommentThreadPage listThreads(UUID articleId, String cursor, int size) {
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_THREADS_PER_PAGE);
+        List<Comment> roots = commentRepository.findTopLevelAfter(articleId, CommentStatus.APPROVED, after, limit + 1);
+        boolean hasNext = roots.size() > limit;
+        if (hasNext) {
+            roots = roots.subList(0, limit);
+        }
+        List<Comment> comments = new ArrayList<>(roots);
+        List<CommentId> parents = roots.stream().map(Comment::getCommentId).toList();
+        while (!parents.isEmpty() && comments.size() < MAX_COMMENTS_PER_PAGE) {
+            List<Comment> replies = commentRepository.findReplies(parents, CommentStatus.APPROVED,
+                    MAX_COMMENTS_PER_PAGE - comments.size());
+            comments.addAll(replies);
+            parents = replies.stream().map(Comment::getCommentId).toList();
+        }
+        comments.sort(OLDEST_FIRST);
+        List<CommentThread> threads = CommentThread.assemble(comments);
+        if (!hasNext) {
+            return new CommentThreadPage(threads, null);
+        }
+        return new CommentThreadPage(threads, CommentCursor.after(roots.get(roots.size() - 1)).encode());
+    }
 }
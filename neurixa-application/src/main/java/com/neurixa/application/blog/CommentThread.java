@@ -0,0 +1,47 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.Comment;
+import com.neurixa.domain.blog.CommentCursor;
+import com.neurixa.domain.blog.CommentId;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** An approved comment and its approved replies, each reply list oldest first. */
+public record CommentThread(Comment comment, List<CommentThread> replies) {
+
+    /** Thread order, and the order a {@link CommentCursor} pages through. */
+    static final Comparator<CommentThread> OLDEST_FIRST = Comparator
+            .comparing((CommentThread thread) -> thread.comment().getCreatedAt())
+            .thenComparing(thread -> thread.comment().getCommentId().value());
+
+    /**
+     * Builds the reply trees of {@code comments}, which must be oldest first, in linear time.
+     * A reply whose parent is not among them (pending, rejected or deleted) starts a thread
+     * of its own rather than disappearing with its parent.
+     *
+     * @return the top-level threads, oldest first
+     */
+    static List<CommentThread> assemble(List<Comment> comments) {
+        Map<CommentId, CommentThread> byId = new HashMap<>(comments.size() * 4 / 3 + 1);
+        for (Comment comment : comments) {
+            byId.put(comment.getCommentId(), new CommentThread(comment, new ArrayList<>()));
+        }
+        List<CommentThread> threads = new ArrayList<>();
+        for (Comment comment : comments) {
+            CommentThread node = byId.get(comment.getCommentId());
+            CommentThread parent = comment.getReplyTo() == null ? null : byId.get(comment.getReplyTo());
+            if (parent == null || parent == node) {
+                threads.add(node);
+            } else {
+                parent.replies().add(node);
+            }
+        }
+        // Already ordered by time; this only settles ties on the id, as the cursor needs.
+        threads.sort(OLDEST_FIRST);
+        return threads;
+    }
+}
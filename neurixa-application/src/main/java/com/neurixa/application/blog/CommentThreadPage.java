@@ -0,0 +1,11 @@
+package com.neurixa.application.blog;
+
+import java.util.List;
+
+/** One page of an article's top-level comment threads; {@code nextCursor} is null on the last page. */
+public record CommentThreadPage(List<CommentThread> threads, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.shared.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Hands domain events to whoever reacts to them. Called by {@link OutboxRelay} with each
+ * batch taken from the outbox, so an event may arrive more than once.
+ */
+@FunctionalInterface
+public interface DomainEventPublisher {
+    void publish(List<DomainEvent> events);
+}
@@ -1,19 +1,22 @@
 package com.neurixa.application.blog;
 
 import com.neurixa.domain.blog.ArticleId;
-import com.neurixa.domain.blog.ArticleRepository;
 import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * Counts a view of an article. The count reaches the article on the next flush of the
+ * {@link ArticleViewCounter}, not on this call.
+ */
 public class IncrementViewCountUseCase {
 
-    private final ArticleRepository articleRepository;
+    private final ArticleViewCounter articleViewCounter;
 
-    public IncrementViewCountUseCase(ArticleRepository articleRepository) {
-        this.articleRepository = Objects.requireNonNull(articleRepository);
+    public IncrementViewCountUseCase(ArticleViewCounter articleViewCounter) {
+        this.articleViewCounter = Objects.requireNonNull(articleViewCounter);
     }
 
     public void execute(UUID articleId) {
-        articleRepository.incrementViewCountAtomic(new ArticleId(articleId));
+        articleViewCounter.record(new ArticleId(articleId));
     }
 }
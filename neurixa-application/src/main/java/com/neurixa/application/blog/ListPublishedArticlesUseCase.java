@@ -1,11 +1,9 @@
 package com.neurixa.application.blog;
 
-import com.neurixa.domain.blog.Article;
 import com.neurixa.domain.blog.ArticleRepository;
-import com.neurixa.domain.blog.ArticleStatus;
-import java.util.List;
+import com.neurixa.domain.blog.ArticleSummary;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 public class ListPublishedArticlesUseCase {
 
@@ -15,7 +13,8 @@ public class ListPublishedArticlesUseCase {
         this.articleRepository = Objects.requireNonNull(articleRepository);
     }
 
-    public List<Article> execute() {
-        return articleRepository.findPublished(0, Integer.MAX_VALUE);
+    /** Streams every published article to {@code action}, newest first, without collecting them. */
+    public void execute(Consumer<ArticleSummary> action) {
+        articleRepository.forEachPublished(Integer.MAX_VALUE, action);
     }
 }
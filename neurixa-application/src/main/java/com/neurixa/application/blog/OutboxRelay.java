@@ -0,0 +1,70 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.shared.DomainEventOutbox;
+import com.neurixa.domain.blog.shared.OutboxEntry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Moves domain events from the outbox to their subscribers, a batch at a time, off the
+ * command path: saving an aggregate costs one outbox insert however many subscribers react.
+ *
+ * Events are published one at a time and the published ones acknowledged together, so an
+ * event whose subscriber fails is retried on its own once its lease ends, without holding
+ * back or repeating the rest of its batch. The outbox parks an event that keeps failing.
+ * A crash before the acknowledgement hands the batch out again, so subscribers may see an
+ * event twice and must be idempotent.
+ */
+public class OutboxRelay {
+
+    private final DomainEventOutbox outbox;
+    private final DomainEventPublisher publisher;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration lease;
+
+    public OutboxRelay(DomainEventOutbox outbox, DomainEventPublisher publisher,
+                       int batchSize, int maxBatchesPerRun, Duration lease) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be > 0");
+        if (maxBatchesPerRun <= 0) throw new IllegalArgumentException("maxBatchesPerRun must be > 0");
+        if (lease.isNegative() || lease.isZero()) throw new IllegalArgumentException("lease must be positive");
+        this.outbox = Objects.requireNonNull(outbox);
+        this.publisher = Objects.requireNonNull(publisher);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.lease = lease;
+    }
+
+    /**
+     * Relays up to {@code maxBatchesPerRun} batches; the rest waits for the next run.
+     *
+     * @return number of events published
+     */
+    public int relay() {
+        int published = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<OutboxEntry> entries = outbox.claim(batchSize, lease);
+            if (entries.isEmpty()) {
+                break;
+            }
+            List<String> delivered = new ArrayList<>(entries.size());
+            for (OutboxEntry entry : entries) {
+                try {
+                    publisher.publish(List.of(entry.event()));
+                    delivered.add(entry.id());
+                } catch (RuntimeException e) {
+                    outbox.fail(entry.id(), String.valueOf(e.getMessage()));
+                }
+            }
+            outbox.acknowledge(delivered);
+            published += delivered.size();
+            if (entries.size() < batchSize) {
+                break;
+            }
+        }
+        return published;
+    }
+}
@@ -0,0 +1,60 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.CommentRepository;
+import com.neurixa.domain.blog.CommentStatus;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of comments awaiting moderation, for the dashboard.
+ *
+ * The count is cached for {@code maxAge}, so dashboards polling on many screens cost one
+ * count query per interval per node. Moderation on this node drops the cached value at
+ * once; comments added or moderated elsewhere show up within {@code maxAge}.
+ */
+public class PendingCommentCount {
+
+    private record Cached(long count, long expiresAt) {
+    }
+
+    private final CommentRepository commentRepository;
+    private final long maxAgeNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Cached cached;
+
+    public PendingCommentCount(CommentRepository commentRepository, Duration maxAge) {
+        if (maxAge.isNegative() || maxAge.isZero()) throw new IllegalArgumentException("maxAge must be positive");
+        this.commentRepository = Objects.requireNonNull(commentRepository);
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public long get() {
+        Cached current = cached;
+        if (current != null && current.expiresAt() - System.nanoTime() > 0) {
+            return current.count();
+        }
+        return reload();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        cached = null;
+    }
+
+    /** Concurrent misses wait for one count instead of each running their own. */
+    private synchronized long reload() {
+        Cached current = cached;
+        if (current != null && current.expiresAt() - System.nanoTime() > 0) {
+            return current.count();
+        }
+        long started = generation.get();
+        long count = commentRepository.countByStatus(CommentStatus.PENDING);
+        // A count that raced with an invalidation may predate it; serve it once, keep none.
+        if (generation.get() == started) {
+            cached = new Cached(count, System.nanoTime() + maxAgeNanos);
+        }
+        return count;
+    }
+}
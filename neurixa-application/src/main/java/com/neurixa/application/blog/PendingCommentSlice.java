@@ -0,0 +1,13 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.Comment;
+
+import java.util.List;
+
+/** One slice of the moderation queue; {@code nextCursor} is null on the last slice. */
+public record PendingCommentSlice(List<Comment> comments, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.ArticleSummary;
+
+import java.util.List;
+
+/** One slice of the published listing; {@code nextCursor} is null on the last slice. */
+public record PublishedArticleSlice(List<ArticleSummary> articles, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
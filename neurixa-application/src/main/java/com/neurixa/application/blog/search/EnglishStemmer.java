@@ -0,0 +1,105 @@
+package com.neurixa.application.blog.search;
+
+/**
+ * Light English stemmer: folds plurals and the {@code -ed} / {@code -ing} forms onto one
+ * stem ("articles", "article"; "published", "publishing", "publish"). Deliberately less
+ * aggressive than Porter, so unrelated words rarely collide; a stem need not be a word.
+ */
+final class EnglishStemmer {
+
+    private static final int MIN_STEM = 3;
+
+    private EnglishStemmer() {
+    }
+
+    static String stem(String term) {
+        if (term.length() <= MIN_STEM || !isAlphabetic(term)) {
+            return term;
+        }
+        return suffixes(plural(term));
+    }
+
+    private static String plural(String term) {
+        if (term.endsWith("sses") || term.endsWith("xes") || term.endsWith("ches") || term.endsWith("shes")) {
+            return term.substring(0, term.length() - 2);
+        }
+        if (term.endsWith("ies")) {
+            return term.length() > 4 ? term.substring(0, term.length() - 3) + "y" : term.substring(0, term.length() - 1);
+        }
+        if (term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us") && !term.endsWith("is")) {
+            return term.substring(0, term.length() - 1);
+        }
+        return term;
+    }
+
+    private static String suffixes(String term) {
+        String stem;
+        if (term.endsWith("ing")) {
+            stem = term.substring(0, term.length() - 3);
+        } else if (term.endsWith("ed") && !term.endsWith("eed")) {
+            stem = term.substring(0, term.length() - 2);
+        } else {
+            return term;
+        }
+        if (stem.length() < MIN_STEM || !hasVowel(stem)) {
+            return term;
+        }
+        // Restore the e that the suffix replaced: "created" -> "create", "making" -> "make".
+        if (stem.endsWith("at") || stem.endsWith("bl") || stem.endsWith("iz")) {
+            return stem + "e";
+        }
+        // "running" -> "run", but "falling" keeps its double l.
+        int n = stem.length();
+        char last = stem.charAt(n - 1);
+        if (last == stem.charAt(n - 2) && !isVowel(last) && last != 'l' && last != 's' && last != 'z') {
+            return stem.substring(0, n - 1);
+        }
+        if (vowelGroups(stem) == 1 && endsConsonantVowelConsonant(stem)) {
+            return stem + "e";
+        }
+        return stem;
+    }
+
+    private static int vowelGroups(String s) {
+        int groups = 0;
+        boolean inVowels = false;
+        for (int i = 0; i < s.length(); i++) {
+            boolean vowel = isVowel(s.charAt(i));
+            if (vowel && !inVowels) {
+                groups++;
+            }
+            inVowels = vowel;
+        }
+        return groups;
+    }
+
+    private static boolean endsConsonantVowelConsonant(String s) {
+        int n = s.length();
+        char last = s.charAt(n - 1);
+        return !isVowel(s.charAt(n - 3)) && isVowel(s.charAt(n - 2)) && !isVowel(last)
+                && last != 'w' && last != 'x' && last != 'y';
+    }
+
+    private static boolean hasVowel(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isVowel(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u' || c == 'y';
+    }
+
+    private static boolean isAlphabetic(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,414 @@
+package com.neurixa.application.blog.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index with BM25 ranking over a title, an excerpt and a body.
+ *
+ * Each document gets an ordinal; every term maps to the ordinals containing it, in ascending
+ * order, with the term's frequency. Title and excerpt occurrences count {@link #TITLE_WEIGHT}
+ * and {@link #EXCERPT_WEIGHT} times, so a match there outranks one deep in the body.
+ *
+ * Replacing or removing a document only marks its ordinal dead. Dead ordinals are skipped
+ * when scoring and dropped by compaction once they are a quarter of the index; until then
+ * they still count towards document frequencies and the average length, a small skew.
+ *
+ * Thread-safe: any number of searches run concurrently, also with a snapshot being written;
+ * updates take an exclusive lock.
+ */
+public final class InvertedIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int EXCERPT_WEIGHT = 2;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int SNAPSHOT_MAGIC = 0x4E58_4958;
+    private static final int SNAPSHOT_FORMAT = 1;
+    private static final int MIN_DEAD_TO_COMPACT = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final BitSet dead = new BitSet();
+    private UUID[] ids = new UUID[1024];
+    private long[] versions = new long[1024];
+    private int[] lengths = new int[1024];
+    private int maxDoc;
+    private int deadCount;
+    private long totalLength;
+    private long modifications;
+
+    /**
+     * Indexes a document, replacing any earlier one with the same id.
+     *
+     * @param version caller-defined; returned by {@link #version} to tell whether a stored
+     *                document is current
+     */
+    public void put(UUID id, long version, String title, String excerpt, String body) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        int length = count(title, TITLE_WEIGHT, frequencies)
+                + count(excerpt, EXCERPT_WEIGHT, frequencies)
+                + count(body, 1, frequencies);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int ordinal = maxDoc++;
+            ensureCapacity(maxDoc);
+            ids[ordinal] = id;
+            versions[ordinal] = version;
+            lengths[ordinal] = length;
+            totalLength += length;
+            ordinals.put(id, ordinal);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new Postings()).add(ordinal, frequency[0]));
+            modifications++;
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** @return whether the document was indexed */
+    public boolean remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeLocked(id);
+            if (removed) {
+                modifications++;
+                compactIfSparse();
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** The version the document was indexed with, or empty if it is not indexed. */
+    public OptionalLong version(UUID id) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            return ordinal == null ? OptionalLong.empty() : OptionalLong.of(versions[ordinal]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<UUID> ids() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(ordinals.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Increases on every change; compare two readings to tell whether the index changed. */
+    public long modifications() {
+        lock.readLock().lock();
+        try {
+            return modifications;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents matching any query term, best first. Cost is proportional to the number of
+     * postings of the query terms, not to the size of the index.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new HashSet<>(SearchTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (maxDoc == 0) {
+                return List.of();
+            }
+            float averageLength = (float) totalLength / maxDoc;
+            float[] scores = new float[maxDoc];
+            int[] touched = new int[16];
+            int matched = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (maxDoc - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (dead.get(doc)) {
+                        continue;
+                    }
+                    int tf = list.frequencies[i];
+                    float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    if (scores[doc] == 0) {
+                        if (matched == touched.length) {
+                            touched = Arrays.copyOf(touched, matched * 2);
+                        }
+                        touched[matched++] = doc;
+                    }
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+            PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Candidate::score));
+            for (int i = 0; i < matched; i++) {
+                int doc = touched[i];
+                if (top.size() < limit) {
+                    top.add(new Candidate(doc, scores[doc]));
+                } else if (scores[doc] > top.peek().score()) {
+                    top.poll();
+                    top.add(new Candidate(doc, scores[doc]));
+                }
+            }
+            List<SearchHit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Candidate candidate = top.poll();
+                hits.add(new SearchHit(ids[candidate.doc()], candidate.score()));
+            }
+            Collections.reverse(hits);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the live documents; dead ordinals are compacted away first. Only the compaction
+     * is exclusive: the lock is then downgraded, so searches keep running while the snapshot
+     * is serialized, and updates wait until it is written.
+     */
+    public void writeSnapshot(OutputStream out) throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (deadCount > 0) {
+                compactLocked();
+            }
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            data.writeInt(SNAPSHOT_MAGIC);
+            data.writeInt(SNAPSHOT_FORMAT);
+            data.writeInt(maxDoc);
+            for (int doc = 0; doc < maxDoc; doc++) {
+                data.writeLong(ids[doc].getMostSignificantBits());
+                data.writeLong(ids[doc].getLeastSignificantBits());
+                data.writeLong(versions[doc]);
+                data.writeInt(lengths[doc]);
+            }
+            data.writeInt(postings.size());
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                Postings list = entry.getValue();
+                data.writeUTF(entry.getKey());
+                writeVarInt(data, list.size);
+                // Ordinals ascend, so gaps are small and mostly fit in a byte or two.
+                int previous = 0;
+                for (int i = 0; i < list.size; i++) {
+                    writeVarInt(data, list.docs[i] - previous);
+                    writeVarInt(data, list.frequencies[i]);
+                    previous = list.docs[i];
+                }
+            }
+            data.flush();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Reads an index written by {@link #writeSnapshot}. */
+    public static InvertedIndex readSnapshot(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != SNAPSHOT_MAGIC || data.readInt() != SNAPSHOT_FORMAT) {
+            throw new IOException("Not a search index snapshot, or an unsupported format");
+        }
+        InvertedIndex index = new InvertedIndex();
+        int documents = data.readInt();
+        index.ensureCapacity(documents);
+        for (int doc = 0; doc < documents; doc++) {
+            UUID id = new UUID(data.readLong(), data.readLong());
+            index.ids[doc] = id;
+            index.versions[doc] = data.readLong();
+            index.lengths[doc] = data.readInt();
+            index.totalLength += index.lengths[doc];
+            index.ordinals.put(id, doc);
+        }
+        index.maxDoc = documents;
+        int terms = data.readInt();
+        for (int t = 0; t < terms; t++) {
+            String term = data.readUTF();
+            int size = readVarInt(data);
+            Postings list = new Postings(size);
+            int doc = 0;
+            for (int i = 0; i < size; i++) {
+                doc += readVarInt(data);
+                if (doc < 0 || doc >= documents) {
+                    throw new IOException("Corrupt search index snapshot");
+                }
+                list.add(doc, readVarInt(data));
+            }
+            index.postings.put(term, list);
+        }
+        return index;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt search index snapshot");
+    }
+
+    private static int count(String text, int weight, Map<String, int[]> frequencies) {
+        int[] length = {0};
+        SearchTokenizer.tokenize(text, term -> {
+            frequencies.computeIfAbsent(term, t -> new int[1])[0] += weight;
+            length[0] += weight;
+        });
+        return length[0];
+    }
+
+    private boolean removeLocked(UUID id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return false;
+        }
+        dead.set(ordinal);
+        deadCount++;
+        return true;
+    }
+
+    private void compactIfSparse() {
+        if (deadCount >= MIN_DEAD_TO_COMPACT && deadCount * 4L >= maxDoc) {
+            compactLocked();
+        }
+    }
+
+    /** Renumbers live documents densely and drops dead ones from every postings list. */
+    private void compactLocked() {
+        int[] remap = new int[maxDoc];
+        int live = 0;
+        long liveLength = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (dead.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = live;
+            ids[live] = ids[doc];
+            versions[live] = versions[doc];
+            lengths[live] = lengths[doc];
+            ordinals.put(ids[live], live);
+            liveLength += lengths[live];
+            live++;
+        }
+        Arrays.fill(ids, live, maxDoc, null);
+        postings.values().removeIf(list -> list.retain(remap) == 0);
+        maxDoc = live;
+        totalLength = liveLength;
+        dead.clear();
+        deadCount = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int size = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, size);
+        versions = Arrays.copyOf(versions, size);
+        lengths = Arrays.copyOf(lengths, size);
+    }
+
+    private record Candidate(int doc, float score) {
+    }
+
+    /** Growable parallel arrays of ascending ordinals and term frequencies. */
+    private static final class Postings {
+        int[] docs;
+        int[] frequencies;
+        int size;
+
+        Postings() {
+            this(4);
+        }
+
+        Postings(int capacity) {
+            docs = new int[Math.max(capacity, 1)];
+            frequencies = new int[docs.length];
+        }
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        /** Keeps entries whose ordinal maps to a live one, renumbered; returns the new size. */
+        int retain(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.neurixa.application.blog.search;
+
+import java.util.UUID;
+
+/** A matching document and its BM25 score; higher is more relevant. */
+public record SearchHit(UUID id, double score) {
+}
@@ -0,0 +1,70 @@
+package com.neurixa.application.blog.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into index terms: runs of letters and digits, lower-cased, accents removed,
+ * stop words dropped, then stemmed. Documents and queries go through the same steps, so
+ * "Publishing" finds "published".
+ */
+public final class SearchTokenizer {
+
+    /** Longer runs (encoded data, URLs without separators) are not worth indexing. */
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+            "no", "not", "of", "on", "or", "such", "that", "the", "their", "then", "there", "these",
+            "they", "this", "to", "was", "will", "with");
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        tokenize(text, terms::add);
+        return terms;
+    }
+
+    public static void tokenize(String text, Consumer<String> sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        StringBuilder token = new StringBuilder(MAX_TOKEN_LENGTH);
+        boolean ascii = true;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c);
+                ascii &= c < 128;
+                continue;
+            }
+            if (!token.isEmpty()) {
+                emit(token, ascii, sink);
+                token.setLength(0);
+                ascii = true;
+            }
+        }
+    }
+
+    private static void emit(StringBuilder token, boolean ascii, Consumer<String> sink) {
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            return;
+        }
+        String term = token.toString().toLowerCase(Locale.ROOT);
+        if (!ascii) {
+            term = MARKS.matcher(Normalizer.normalize(term, Normalizer.Form.NFD)).replaceAll("");
+        }
+        if (term.isEmpty() || STOP_WORDS.contains(term)) {
+            return;
+        }
+        sink.accept(EnglishStemmer.stem(term));
+    }
+}
@@ -4,6 +4,7 @@ import com.neurixa.domain.blog.Article;
 import com.neurixa.domain.blog.ArticleId;
 import com.neurixa.domain.blog.ArticleRepository;
 import com.neurixa.domain.blog.ArticleStatus;
+import com.neurixa.domain.blog.event.ArticleUnpublishedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -88,6 +89,22 @@ class ArticleCommandServiceTest {
                 .hasMessageContaining("Cannot publish a deleted article");
     }
 
+    @Test
+    void shouldUnpublishAndLeaveEventForRepository() {
+        Article article = Article.createDraft("My Title", "Some content", "excerpt");
+        article.publish();
+        article.pullDomainEvents();
+        UUID id = article.getArticleId().getValue();
+        when(articleRepository.findById(new ArticleId(id))).thenReturn(Optional.of(article));
+
+        Article result = service.unpublish(id);
+
+        assertThat(result.getStatus()).isEqualTo(ArticleStatus.DRAFT);
+        verify(articleRepository).save(article);
+        // The repository moves pending events to the outbox; this mock leaves them in place.
+        assertThat(result.pullDomainEvents()).singleElement().isInstanceOf(ArticleUnpublishedEvent.class);
+    }
+
     // ── update ────────────────────────────────────────────────────────────────
 
     @Test
@@ -1,7 +1,9 @@
 package com.neurixa.application.blog;
 
 import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleCursor;
 import com.neurixa.domain.blog.ArticleRepository;
+import com.neurixa.domain.blog.ArticleSummary;
 import com.neurixa.domain.blog.Slug;
 import com.neurixa.domain.blog.exception.ArticleNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -51,11 +53,11 @@ class ArticleQueryServiceTest {
 
     @Test
     void shouldListPublishedArticles() {
-        Article a1 = Article.createDraft("Post 1", "Content 1", "excerpt 1");
-        Article a2 = Article.createDraft("Post 2", "Content 2", "excerpt 2");
+        ArticleSummary a1 = published("Post 1");
+        ArticleSummary a2 = published("Post 2");
         when(articleRepository.findPublished(0, 10)).thenReturn(List.of(a1, a2));
 
-        List<Article> result = service.listPublished(0, 10);
+        List<ArticleSummary> result = service.listPublished(0, 10);
 
         assertThat(result).hasSize(2);
         verify(articleRepository).findPublished(0, 10);
@@ -65,7 +67,7 @@ class ArticleQueryServiceTest {
     void shouldReturnEmptyListWhenNoPublishedArticles() {
         when(articleRepository.findPublished(0, 10)).thenReturn(List.of());
 
-        List<Article> result = service.listPublished(0, 10);
+        List<ArticleSummary> result = service.listPublished(0, 10);
 
         assertThat(result).isEmpty();
     }
@@ -86,9 +88,49 @@ class ArticleQueryServiceTest {
         assertThat(service.countPublished()).isZero();
     }
 
+    @Test
+    void shouldReturnCursorWhenMoreArticlesFollowTheSlice() {
+        ArticleSummary a1 = published("Post 1");
+        ArticleSummary a2 = published("Post 2");
+        ArticleSummary a3 = published("Post 3");
+        when(articleRepository.findPublishedAfter(null, 3)).thenReturn(List.of(a1, a2, a3));
+
+        PublishedArticleSlice slice = service.listPublishedAfter("", 2);
+
+        assertThat(slice.articles()).containsExactly(a1, a2);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(ArticleCursor.decode(slice.nextCursor())).isEqualTo(ArticleCursor.after(a2));
+    }
+
+    @Test
+    void shouldContinueAfterCursorAndStopOnLastSlice() {
+        ArticleSummary a3 = published("Post 3");
+        ArticleCursor cursor = ArticleCursor.after(published("Post 2"));
+        when(articleRepository.findPublishedAfter(cursor, 3)).thenReturn(List.of(a3));
+
+        PublishedArticleSlice slice = service.listPublishedAfter(cursor.encode(), 2);
+
+        assertThat(slice.articles()).containsExactly(a3);
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> service.listPublishedAfter("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(articleRepository);
+    }
+
     @Test
     void shouldThrowWhenRepositoryIsNull() {
         assertThatThrownBy(() -> new ArticleQueryService(null))
                 .isInstanceOf(NullPointerException.class);
     }
+
+    private static ArticleSummary published(String title) {
+        Article article = Article.createDraft(title, "Content", "excerpt");
+        article.publish();
+        return ArticleSummary.of(article);
+    }
 }
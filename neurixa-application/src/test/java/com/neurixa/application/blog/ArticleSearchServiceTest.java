@@ -0,0 +1,125 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.ArticleRepository;
+import com.neurixa.domain.blog.ArticleSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchServiceTest {
+
+    @Mock
+    ArticleRepository articleRepository;
+
+    @Test
+    void shouldIndexPublishedArticleAndReturnSummariesInRankOrder() {
+        ArticleSearchService service = new ArticleSearchService(articleRepository);
+        Article best = published("Kafka streams", "Kafka everywhere");
+        Article other = published("Brokers", "Kafka is one option");
+        when(articleRepository.findById(best.getArticleId())).thenReturn(Optional.of(best));
+        when(articleRepository.findById(other.getArticleId())).thenReturn(Optional.of(other));
+        service.reindex(other.getArticleId());
+        service.reindex(best.getArticleId());
+        when(articleRepository.findPublishedByIds(anyList()))
+                .thenReturn(List.of(ArticleSummary.of(other), ArticleSummary.of(best)));
+
+        List<ArticleSummary> results = service.search("kafka", 10);
+
+        assertThat(results).extracting(ArticleSummary::articleId)
+                .containsExactly(best.getArticleId(), other.getArticleId());
+    }
+
+    @Test
+    void shouldDropArticleThatIsNoLongerPublished() {
+        ArticleSearchService service = new ArticleSearchService(articleRepository);
+        Article article = published("Kafka streams", "Content");
+        when(articleRepository.findById(article.getArticleId())).thenReturn(Optional.of(article));
+        service.reindex(article.getArticleId());
+        article.unpublish();
+
+        service.reindex(article.getArticleId());
+
+        assertThat(service.size()).isZero();
+        assertThat(service.search("kafka", 10)).isEmpty();
+        verify(articleRepository, never()).findPublishedByIds(anyList());
+    }
+
+    @Test
+    void shouldReconcileOnlyChangedArticles() {
+        ArticleSearchService service = new ArticleSearchService(articleRepository);
+        Article unchanged = published("Unchanged", "Content");
+        Article added = published("Added", "Content");
+        Article withdrawn = published("Withdrawn", "Content");
+        when(articleRepository.findById(unchanged.getArticleId())).thenReturn(Optional.of(unchanged));
+        when(articleRepository.findById(withdrawn.getArticleId())).thenReturn(Optional.of(withdrawn));
+        service.reindex(unchanged.getArticleId());
+        service.reindex(withdrawn.getArticleId());
+        doAnswer(invocation -> {
+            Consumer<ArticleSummary> action = invocation.getArgument(1);
+            action.accept(ArticleSummary.of(unchanged));
+            action.accept(ArticleSummary.of(added));
+            return null;
+        }).when(articleRepository).forEachPublished(anyInt(), any());
+        when(articleRepository.findPublishedArticlesByIds(List.of(added.getArticleId()))).thenReturn(List.of(added));
+
+        int changed = service.reconcile();
+
+        assertThat(changed).isEqualTo(2);
+        assertThat(service.size()).isEqualTo(2);
+        verify(articleRepository, times(1)).findById(unchanged.getArticleId());
+        verify(articleRepository, never()).findById(added.getArticleId());
+    }
+
+    @Test
+    void shouldLoadStaleArticlesInBatches() {
+        ArticleSearchService service = new ArticleSearchService(articleRepository);
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i <= ArticleSearchService.RECONCILE_BATCH_SIZE; i++) {
+            articles.add(published("Article " + i, "Content"));
+        }
+        Article withdrawn = articles.get(0);
+        doAnswer(invocation -> {
+            Consumer<ArticleSummary> action = invocation.getArgument(1);
+            articles.forEach(article -> action.accept(ArticleSummary.of(article)));
+            return null;
+        }).when(articleRepository).forEachPublished(anyInt(), any());
+        when(articleRepository.findPublishedArticlesByIds(anyList())).thenAnswer(invocation -> {
+            List<ArticleId> ids = invocation.getArgument(0);
+            return articles.stream()
+                    .filter(article -> article != withdrawn && ids.contains(article.getArticleId()))
+                    .toList();
+        });
+
+        int changed = service.reconcile();
+
+        assertThat(changed).isEqualTo(articles.size());
+        assertThat(service.size()).isEqualTo(articles.size() - 1);
+        verify(articleRepository, times(2)).findPublishedArticlesByIds(anyList());
+        verify(articleRepository, never()).findById(any());
+    }
+
+    private static Article published(String title, String content) {
+        Article article = Article.createDraft(title, content, "excerpt");
+        article.publish();
+        return article;
+    }
+}
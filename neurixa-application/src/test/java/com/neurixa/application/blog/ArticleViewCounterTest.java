@@ -0,0 +1,88 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCounterTest {
+
+    @Mock
+    ArticleRepository articleRepository;
+
+    ArticleViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new ArticleViewCounter(articleRepository, 2);
+    }
+
+    @Test
+    void shouldWriteOneDeltaPerArticleInBatches() {
+        ArticleId hot = ArticleId.generate();
+        ArticleId warm = ArticleId.generate();
+        ArticleId cold = ArticleId.generate();
+        for (int i = 0; i < 1000; i++) {
+            counter.record(hot);
+        }
+        counter.record(warm);
+        counter.record(warm);
+        counter.record(cold);
+        Map<ArticleId, Long> written = new HashMap<>();
+        doAnswer(inv -> {
+            Map<ArticleId, Long> batch = inv.getArgument(0);
+            assertThat(batch.size()).isLessThanOrEqualTo(2);
+            written.putAll(batch);
+            return null;
+        }).when(articleRepository).incrementViewCounts(anyMap());
+
+        long views = counter.flush();
+
+        assertThat(views).isEqualTo(1003);
+        assertThat(written).containsExactlyInAnyOrderEntriesOf(Map.of(hot, 1000L, warm, 2L, cold, 1L));
+        verify(articleRepository, times(2)).incrementViewCounts(anyMap());
+        verify(articleRepository, never()).incrementViewCountAtomic(any());
+    }
+
+    @Test
+    void shouldNotWriteWhenNothingWasViewedSinceLastFlush() {
+        counter.record(ArticleId.generate());
+        counter.flush();
+        clearInvocations(articleRepository);
+
+        assertThat(counter.flush()).isZero();
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldKeepDeltasOfFailedFlushForTheNextOne() {
+        ArticleId id = ArticleId.generate();
+        counter.record(id);
+        counter.record(id);
+        doThrow(new IllegalStateException("mongo down")).doNothing()
+                .when(articleRepository).incrementViewCounts(anyMap());
+
+        assertThatThrownBy(counter::flush).isInstanceOf(IllegalStateException.class);
+        counter.record(id);
+        counter.flush();
+
+        ArgumentCaptor<Map<ArticleId, Long>> batches = ArgumentCaptor.forClass(Map.class);
+        verify(articleRepository, times(2)).incrementViewCounts(batches.capture());
+        assertThat(batches.getAllValues().get(1)).containsExactlyEntriesOf(Map.of(id, 3L));
+        assertThat(counter.pendingViews()).isZero();
+    }
+}
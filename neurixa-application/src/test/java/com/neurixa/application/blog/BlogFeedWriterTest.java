@@ -0,0 +1,102 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleRepository;
+import com.neurixa.domain.blog.ArticleSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BlogFeedWriterTest {
+
+    @Mock
+    ArticleRepository articleRepository;
+
+    @Test
+    void shouldStreamSitemapWithEscapedLinks() throws Exception {
+        ArticleSummary article = published("Tom & Jerry", "Cat <and> mouse");
+        doAnswer(invocation -> {
+            Consumer<ArticleSummary> action = invocation.getArgument(1);
+            action.accept(article);
+            return null;
+        }).when(articleRepository).forEachPublished(eq(BlogFeedWriter.MAX_SITEMAP_URLS), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Instant lastModified = writer().writeSitemap(out);
+
+        String xml = out.toString(StandardCharsets.UTF_8);
+        assertThat(xml).contains("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">");
+        assertThat(xml).contains("<loc>https://blog.example/blog/" + article.slug().getValue() + "</loc>");
+        assertThat(lastModified).isEqualTo(article.updatedAt());
+        verify(articleRepository, never()).findPublished(anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldWriteRssAndAtomFromNewestArticles() throws Exception {
+        ArticleSummary article = published("Tom & Jerry", "Cat <and> mouse");
+        when(articleRepository.findPublished(0, 20)).thenReturn(List.of(article));
+        ByteArrayOutputStream rss = new ByteArrayOutputStream();
+        ByteArrayOutputStream atom = new ByteArrayOutputStream();
+
+        writer().writeRss(rss);
+        writer().writeAtom(atom);
+
+        assertThat(rss.toString(StandardCharsets.UTF_8))
+                .contains("<rss version=\"2.0\">")
+                .contains("<title>Tom &amp; Jerry</title>")
+                .contains("<description>Cat &lt;and&gt; mouse</description>");
+        assertThat(atom.toString(StandardCharsets.UTF_8))
+                .contains("<feed xmlns=\"http://www.w3.org/2005/Atom\">")
+                .contains("<id>urn:uuid:" + article.articleId() + "</id>")
+                .contains("<summary>Cat &lt;and&gt; mouse</summary>");
+    }
+
+    @Test
+    void shouldProduceIdenticalBytesForUnchangedArticles() throws Exception {
+        ArticleSummary article = published("Stable", "Excerpt");
+        when(articleRepository.findPublished(0, 20)).thenReturn(List.of(article));
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        writer().writeAtom(first);
+        writer().writeAtom(second);
+
+        assertThat(second.toByteArray()).isEqualTo(first.toByteArray());
+    }
+
+    @Test
+    void shouldUseEpochWhenNothingIsPublished() throws Exception {
+        when(articleRepository.findPublished(0, 20)).thenReturn(List.of());
+
+        Instant lastModified = writer().writeRss(new ByteArrayOutputStream());
+
+        assertThat(lastModified).isEqualTo(Instant.EPOCH);
+    }
+
+    private BlogFeedWriter writer() {
+        return new BlogFeedWriter(articleRepository, "https://blog.example/", "/blog/", "Blog", "Latest", 20);
+    }
+
+    private static ArticleSummary published(String title, String excerpt) {
+        Article article = Article.createDraft(title, "Content", excerpt);
+        article.publish();
+        return ArticleSummary.of(article);
+    }
+}
@@ -1,17 +1,25 @@
 package com.neurixa.application.blog;
 
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.ArticleRepository;
 import com.neurixa.domain.blog.Comment;
 import com.neurixa.domain.blog.CommentId;
 import com.neurixa.domain.blog.CommentRepository;
 import com.neurixa.domain.blog.CommentStatus;
+import com.neurixa.domain.blog.CommentTransition;
+import com.neurixa.domain.blog.event.CommentApprovedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -24,6 +32,12 @@ class CommentCommandServiceTest {
     @Mock
     CommentRepository commentRepository;
 
+    @Mock
+    ArticleRepository articleRepository;
+
+    @Mock
+    PendingCommentCount pendingCommentCount;
+
     @InjectMocks
     CommentCommandService service;
 
@@ -76,11 +90,27 @@ class CommentCommandServiceTest {
         Comment comment = Comment.create(UUID.randomUUID(), "Alice", "alice@example.com", "Great!", null);
         UUID id = comment.getCommentId().getValue();
         when(commentRepository.findById(new CommentId(id))).thenReturn(Optional.of(comment));
+        when(commentRepository.moderate(any())).thenReturn(true);
 
         Comment result = service.approve(id);
 
         assertThat(result.getStatus()).isEqualTo(CommentStatus.APPROVED);
-        verify(commentRepository).save(argThat(c -> c.getStatus() == CommentStatus.APPROVED));
+        verify(commentRepository).moderate(argThat(t -> t.from() == CommentStatus.PENDING
+                && t.comment().getStatus() == CommentStatus.APPROVED));
+        verify(articleRepository).adjustCommentCount(comment.getArticleId(), 1);
+    }
+
+    @Test
+    void shouldNotCountApprovalThatLostARace() {
+        Comment comment = Comment.create(UUID.randomUUID(), "Alice", "alice@example.com", "Great!", null);
+        UUID id = comment.getCommentId().getValue();
+        when(commentRepository.findById(new CommentId(id))).thenReturn(Optional.of(comment));
+        when(commentRepository.moderate(any())).thenReturn(false);
+
+        assertThatThrownBy(() -> service.approve(id))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("moderated concurrently");
+        verifyNoInteractions(articleRepository);
     }
 
     @Test
@@ -113,10 +143,13 @@ class CommentCommandServiceTest {
         UUID id = comment.getCommentId().getValue();
         when(commentRepository.findById(new CommentId(id))).thenReturn(Optional.of(comment));
 
+        when(commentRepository.moderate(any())).thenReturn(true);
+
         Comment result = service.reject(id);
 
         assertThat(result.getStatus()).isEqualTo(CommentStatus.REJECTED);
-        verify(commentRepository).save(argThat(c -> c.getStatus() == CommentStatus.REJECTED));
+        verify(commentRepository).moderate(argThat(t -> t.comment().getStatus() == CommentStatus.REJECTED));
+        verifyNoInteractions(articleRepository);
     }
 
     @Test
@@ -149,9 +182,44 @@ class CommentCommandServiceTest {
         UUID id = comment.getCommentId().getValue();
         when(commentRepository.findById(new CommentId(id))).thenReturn(Optional.of(comment));
 
+        when(commentRepository.moderate(any())).thenReturn(true);
+
+        service.delete(id);
+
+        verify(commentRepository).moderate(argThat(t -> t.comment().isDeleted()
+                && t.comment().getStatus() == CommentStatus.DELETED));
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void shouldDecrementCommentCountWhenDeletingApprovedComment() {
+        Comment comment = Comment.create(UUID.randomUUID(), "Alice", "alice@example.com", "Content", null);
+        comment.approve();
+        UUID id = comment.getCommentId().getValue();
+        when(commentRepository.findById(new CommentId(id))).thenReturn(Optional.of(comment));
+        when(commentRepository.moderate(any())).thenReturn(true);
+
+        service.delete(id);
+
+        verify(articleRepository).adjustCommentCount(comment.getArticleId(), -1);
+    }
+
+    @Test
+    void shouldRetryDeleteThatRacedAnApproval() {
+        UUID articleId = UUID.randomUUID();
+        Comment pending = Comment.create(articleId, "Alice", "alice@example.com", "Content", null);
+        UUID id = pending.getCommentId().getValue();
+        Comment approvedMeanwhile = Comment.fromState(pending.getCommentId(), pending.getArticleId(), "Alice",
+                "alice@example.com", "Content", CommentStatus.APPROVED, null, pending.getCreatedAt(),
+                pending.getCreatedAt(), false, null);
+        when(commentRepository.findById(new CommentId(id)))
+                .thenReturn(Optional.of(pending), Optional.of(approvedMeanwhile));
+        when(commentRepository.moderate(any())).thenReturn(false, true);
+
         service.delete(id);
 
-        verify(commentRepository).save(argThat(c -> c.isDeleted() && c.getStatus() == CommentStatus.DELETED));
+        verify(commentRepository, times(2)).moderate(any());
+        verify(articleRepository).adjustCommentCount(new ArticleId(articleId), -1);
     }
 
     @Test
@@ -164,9 +232,80 @@ class CommentCommandServiceTest {
                 .hasMessageContaining("Comment not found");
     }
 
+    // ── batch ─────────────────────────────────────────────────────────────────
+
+    @Test
+    void shouldApproveBatchInOneWriteAndSkipIneligibleComments() {
+        UUID articleId = UUID.randomUUID();
+        Comment first = Comment.create(articleId, "Alice", "alice@example.com", "Great!", null);
+        Comment second = Comment.create(articleId, "Bob", "bob@example.com", "Thanks!", null);
+        Comment approved = Comment.create(articleId, "Carol", "carol@example.com", "Nice", null);
+        approved.approve();
+        approved.pullDomainEvents();
+        UUID missing = UUID.randomUUID();
+        when(commentRepository.findAllById(anyCollection())).thenReturn(List.of(first, second, approved));
+        when(commentRepository.moderateAll(anyList())).thenReturn(Set.of(first.getCommentId(), second.getCommentId()));
+
+        CommentBatchResult result = service.approveAll(List.of(
+                first.getCommentId().getValue(), second.getCommentId().getValue(),
+                approved.getCommentId().getValue(), missing));
+
+        assertThat(result.updated()).containsExactly(first.getCommentId().getValue(), second.getCommentId().getValue());
+        assertThat(result.skipped()).containsExactly(approved.getCommentId().getValue(), missing);
+        verify(commentRepository).moderateAll(List.of(
+                new CommentTransition(first, CommentStatus.PENDING), new CommentTransition(second, CommentStatus.PENDING)));
+        verify(commentRepository, never()).save(any());
+        verify(articleRepository).adjustCommentCounts(Map.of(new ArticleId(articleId), 2));
+        verify(pendingCommentCount).invalidate();
+        assertThat(first.pullDomainEvents()).singleElement().isInstanceOf(CommentApprovedEvent.class);
+        assertThat(second.pullDomainEvents()).singleElement().isInstanceOf(CommentApprovedEvent.class);
+    }
+
+    @Test
+    void shouldSkipBatchWritesThatDidNotMatch() {
+        UUID articleId = UUID.randomUUID();
+        Comment won = Comment.create(articleId, "Alice", "alice@example.com", "Great!", null);
+        Comment lost = Comment.create(articleId, "Bob", "bob@example.com", "Thanks!", null);
+        when(commentRepository.findAllById(anyCollection())).thenReturn(List.of(won, lost));
+        when(commentRepository.moderateAll(anyList())).thenReturn(Set.of(won.getCommentId()));
+
+        CommentBatchResult result = service.approveAll(List.of(won.getCommentId().getValue(), lost.getCommentId().getValue()));
+
+        assertThat(result.updated()).containsExactly(won.getCommentId().getValue());
+        assertThat(result.skipped()).containsExactly(lost.getCommentId().getValue());
+        verify(articleRepository).adjustCommentCounts(Map.of(new ArticleId(articleId), 1));
+    }
+
+    @Test
+    void shouldDecrementCommentCountsForApprovedCommentsDeletedInBatch() {
+        UUID articleId = UUID.randomUUID();
+        Comment approved = Comment.create(articleId, "Alice", "alice@example.com", "Great!", null);
+        approved.approve();
+        Comment pending = Comment.create(articleId, "Spammer", "spam@example.com", "Buy now!", null);
+        when(commentRepository.findAllById(anyCollection())).thenReturn(List.of(approved, pending));
+        when(commentRepository.moderateAll(anyList())).thenReturn(Set.of(approved.getCommentId(), pending.getCommentId()));
+
+        CommentBatchResult result = service.deleteAll(List.of(approved.getCommentId().getValue(), pending.getCommentId().getValue()));
+
+        assertThat(result.updated()).hasSize(2);
+        assertThat(approved.isDeleted()).isTrue();
+        assertThat(pending.isDeleted()).isTrue();
+        verify(articleRepository).adjustCommentCounts(Map.of(new ArticleId(articleId), -1));
+    }
+
+    @Test
+    void shouldThrowWhenBatchIsTooLarge() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(CommentCommandService.MAX_BATCH_SIZE + 1).toList();
+
+        assertThatThrownBy(() -> service.rejectAll(ids))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At most");
+        verifyNoInteractions(commentRepository);
+    }
+
     @Test
     void shouldThrowWhenRepositoryIsNull() {
-        assertThatThrownBy(() -> new CommentCommandService(null))
+        assertThatThrownBy(() -> new CommentCommandService(null, articleRepository, pendingCommentCount))
                 .isInstanceOf(NullPointerException.class);
     }
 }
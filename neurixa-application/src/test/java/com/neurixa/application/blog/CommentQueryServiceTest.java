@@ -1,6 +1,9 @@
 package com.neurixa.application.blog;
 
+import com.neurixa.domain.blog.ArticleId;
 import com.neurixa.domain.blog.Comment;
+import com.neurixa.domain.blog.CommentCursor;
+import com.neurixa.domain.blog.CommentId;
 import com.neurixa.domain.blog.CommentRepository;
 import com.neurixa.domain.blog.CommentStatus;
 import org.junit.jupiter.api.Test;
@@ -9,6 +12,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -79,9 +84,120 @@ class CommentQueryServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void shouldNestRepliesUnderTheirThreads() {
+        UUID articleId = UUID.randomUUID();
+        Comment first = approved(articleId, null, 1);
+        Comment second = approved(articleId, null, 2);
+        Comment reply = approved(articleId, first, 3);
+        Comment nested = approved(articleId, reply, 4);
+        when(commentRepository.findTopLevelAfter(articleId, CommentStatus.APPROVED, null, 11))
+                .thenReturn(List.of(first, second));
+        when(commentRepository.findReplies(eq(List.of(first.getCommentId(), second.getCommentId())),
+                eq(CommentStatus.APPROVED), anyInt())).thenReturn(List.of(reply));
+        when(commentRepository.findReplies(eq(List.of(reply.getCommentId())), eq(CommentStatus.APPROVED), anyInt()))
+                .thenReturn(List.of(nested));
+        when(commentRepository.findReplies(eq(List.of(nested.getCommentId())), eq(CommentStatus.APPROVED), anyInt()))
+                .thenReturn(List.of());
+
+        CommentThreadPage page = service.listThreads(articleId, null, 10);
+
+        assertThat(page.threads()).extracting(CommentThread::comment).containsExactly(first, second);
+        CommentThread thread = page.threads().get(0);
+        assertThat(thread.replies()).extracting(CommentThread::comment).containsExactly(reply);
+        assertThat(thread.replies().get(0).replies()).extracting(CommentThread::comment).containsExactly(nested);
+        assertThat(page.hasNext()).isFalse();
+        verify(commentRepository, never()).findByArticleIdAndStatus(any(), any());
+    }
+
+    @Test
+    void shouldStopReadingRepliesAtThePageBudget() {
+        UUID articleId = UUID.randomUUID();
+        Comment root = approved(articleId, null, 1);
+        List<Comment> replies = new ArrayList<>();
+        for (int i = 1; i < CommentQueryService.MAX_COMMENTS_PER_PAGE; i++) {
+            replies.add(approved(articleId, root, 1 + i));
+        }
+        when(commentRepository.findTopLevelAfter(articleId, CommentStatus.APPROVED, null, 11))
+                .thenReturn(List.of(root));
+        when(commentRepository.findReplies(List.of(root.getCommentId()), CommentStatus.APPROVED,
+                CommentQueryService.MAX_COMMENTS_PER_PAGE - 1)).thenReturn(replies);
+
+        CommentThreadPage page = service.listThreads(articleId, null, 10);
+
+        assertThat(page.threads()).singleElement().satisfies(thread ->
+                assertThat(thread.replies()).hasSize(CommentQueryService.MAX_COMMENTS_PER_PAGE - 1));
+        verify(commentRepository, times(1)).findReplies(anyList(), any(), anyInt());
+    }
+
+    @Test
+    void shouldPageByThreadWithCursor() {
+        UUID articleId = UUID.randomUUID();
+        Comment first = approved(articleId, null, 1);
+        Comment reply = approved(articleId, first, 2);
+        Comment second = approved(articleId, null, 3);
+        Comment third = approved(articleId, null, 4);
+        when(commentRepository.findTopLevelAfter(articleId, CommentStatus.APPROVED, null, 3))
+                .thenReturn(List.of(first, second, third));
+        when(commentRepository.findTopLevelAfter(articleId, CommentStatus.APPROVED, CommentCursor.after(second), 3))
+                .thenReturn(List.of(third));
+        when(commentRepository.findReplies(eq(List.of(first.getCommentId(), second.getCommentId())),
+                eq(CommentStatus.APPROVED), anyInt())).thenReturn(List.of(reply));
+        when(commentRepository.findReplies(eq(List.of(reply.getCommentId())), eq(CommentStatus.APPROVED), anyInt()))
+                .thenReturn(List.of());
+        when(commentRepository.findReplies(eq(List.of(third.getCommentId())), eq(CommentStatus.APPROVED), anyInt()))
+                .thenReturn(List.of());
+
+        CommentThreadPage page1 = service.listThreads(articleId, null, 2);
+        CommentThreadPage page2 = service.listThreads(articleId, page1.nextCursor(), 2);
+
+        assertThat(page1.threads()).extracting(CommentThread::comment).containsExactly(first, second);
+        assertThat(page1.threads().get(0).replies()).hasSize(1);
+        assertThat(page1.hasNext()).isTrue();
+        assertThat(page2.threads()).extracting(CommentThread::comment).containsExactly(third);
+        assertThat(page2.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldSliceModerationQueueWithCursor() {
+        UUID articleId = UUID.randomUUID();
+        Comment first = pending(articleId, 1);
+        Comment second = pending(articleId, 2);
+        Comment third = pending(articleId, 3);
+        when(commentRepository.findByStatusAfter(CommentStatus.PENDING, null, 3)).thenReturn(List.of(first, second, third));
+        when(commentRepository.findByStatusAfter(CommentStatus.PENDING, CommentCursor.after(second), 3)).thenReturn(List.of(third));
+
+        PendingCommentSlice slice1 = service.listPending(null, 2);
+        PendingCommentSlice slice2 = service.listPending(slice1.nextCursor(), 2);
+
+        assertThat(slice1.comments()).containsExactly(first, second);
+        assertThat(slice1.hasNext()).isTrue();
+        assertThat(slice2.comments()).containsExactly(third);
+        assertThat(slice2.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> service.listThreads(UUID.randomUUID(), "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
     @Test
     void shouldThrowWhenRepositoryIsNull() {
         assertThatThrownBy(() -> new CommentQueryService(null))
                 .isInstanceOf(NullPointerException.class);
     }
+
+    private static Comment approved(UUID articleId, Comment replyTo, long second) {
+        Instant createdAt = Instant.ofEpochSecond(1_700_000_000L + second);
+        return Comment.fromState(CommentId.generate(), new ArticleId(articleId), "Alice", "alice@example.com", "Comment",
+                CommentStatus.APPROVED, replyTo != null ? replyTo.getCommentId() : null, createdAt, createdAt, false, null);
+    }
+
+    private static Comment pending(UUID articleId, long second) {
+        Instant createdAt = Instant.ofEpochSecond(1_700_000_000L + second);
+        return Comment.fromState(CommentId.generate(), new ArticleId(articleId), "Alice", "alice@example.com", "Comment",
+                CommentStatus.PENDING, null, createdAt, createdAt, false, null);
+    }
 }
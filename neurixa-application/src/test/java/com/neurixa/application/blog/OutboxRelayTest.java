@@ -0,0 +1,83 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.Slug;
+import com.neurixa.domain.blog.event.ArticlePublishedEvent;
+import com.neurixa.domain.blog.shared.DomainEventOutbox;
+import com.neurixa.domain.blog.shared.OutboxEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Mock
+    DomainEventOutbox outbox;
+
+    @Mock
+    DomainEventPublisher publisher;
+
+    @Test
+    void shouldPublishAndAcknowledgeBatchesUntilOutboxIsDrained() {
+        OutboxRelay relay = new OutboxRelay(outbox, publisher, 2, 10, LEASE);
+        OutboxEntry e1 = entry("1");
+        OutboxEntry e2 = entry("2");
+        OutboxEntry e3 = entry("3");
+        when(outbox.claim(2, LEASE)).thenReturn(List.of(e1, e2), List.of(e3));
+
+        int published = relay.relay();
+
+        assertThat(published).isEqualTo(3);
+        verify(publisher).publish(List.of(e1.event()));
+        verify(publisher).publish(List.of(e2.event()));
+        verify(publisher).publish(List.of(e3.event()));
+        verify(outbox).acknowledge(List.of("1", "2"));
+        verify(outbox).acknowledge(List.of("3"));
+        // A short batch means the outbox is empty; no further claim.
+        verify(outbox, times(2)).claim(2, LEASE);
+    }
+
+    @Test
+    void shouldAcknowledgeTheRestOfTheBatchWhenOneEventFails() {
+        OutboxRelay relay = new OutboxRelay(outbox, publisher, 10, 10, LEASE);
+        OutboxEntry poison = entry("1");
+        OutboxEntry e2 = entry("2");
+        when(outbox.claim(10, LEASE)).thenReturn(List.of(poison, e2));
+        doThrow(new IllegalStateException("listener failed")).when(publisher).publish(List.of(poison.event()));
+
+        int published = relay.relay();
+
+        assertThat(published).isEqualTo(1);
+        verify(publisher).publish(List.of(e2.event()));
+        verify(outbox).fail("1", "listener failed");
+        verify(outbox).acknowledge(List.of("2"));
+    }
+
+    @Test
+    void shouldStopAfterMaxBatchesPerRun() {
+        OutboxRelay relay = new OutboxRelay(outbox, publisher, 1, 2, LEASE);
+        when(outbox.claim(1, LEASE)).thenReturn(List.of(entry("1")), List.of(entry("2")), List.of(entry("3")));
+
+        int published = relay.relay();
+
+        assertThat(published).isEqualTo(2);
+        verify(outbox, times(2)).claim(1, LEASE);
+    }
+
+    private static OutboxEntry entry(String id) {
+        return new OutboxEntry(id, new ArticlePublishedEvent(ArticleId.generate(), new Slug("post-" + id)));
+    }
+}
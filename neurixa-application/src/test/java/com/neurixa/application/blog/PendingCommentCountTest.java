@@ -0,0 +1,49 @@
+package com.neurixa.application.blog;
+
+import com.neurixa.domain.blog.CommentRepository;
+import com.neurixa.domain.blog.CommentStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingCommentCountTest {
+
+    @Mock
+    CommentRepository commentRepository;
+
+    @Test
+    void shouldServeCountFromCacheUntilInvalidated() {
+        when(commentRepository.countByStatus(CommentStatus.PENDING)).thenReturn(7L, 5L);
+        PendingCommentCount count = new PendingCommentCount(commentRepository, Duration.ofMinutes(1));
+
+        assertThat(count.get()).isEqualTo(7);
+        assertThat(count.get()).isEqualTo(7);
+        count.invalidate();
+        assertThat(count.get()).isEqualTo(5);
+        verify(commentRepository, times(2)).countByStatus(CommentStatus.PENDING);
+    }
+
+    @Test
+    void shouldRecountOnceExpired() {
+        when(commentRepository.countByStatus(CommentStatus.PENDING)).thenReturn(7L, 5L);
+        PendingCommentCount count = new PendingCommentCount(commentRepository, Duration.ofNanos(1));
+
+        count.get();
+
+        assertThat(count.get()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaxAge() {
+        assertThatThrownBy(() -> new PendingCommentCount(commentRepository, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
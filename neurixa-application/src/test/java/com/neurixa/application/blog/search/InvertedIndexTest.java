@@ -0,0 +1,120 @@
+package com.neurixa.application.blog.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void shouldRankTitleMatchAboveBodyMention() {
+        UUID inTitle = UUID.randomUUID();
+        UUID inBody = UUID.randomUUID();
+        index.put(inBody, 1, "Message queues", "An overview", "We compare several brokers, Kafka among them.");
+        index.put(inTitle, 1, "Kafka partitions explained", "How Kafka scales", "Partitions and consumers.");
+
+        List<SearchHit> hits = index.search("kafka", 10);
+
+        assertThat(hits).extracting(SearchHit::id).containsExactly(inTitle, inBody);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void shouldMatchInflectedFormsAndIgnoreStopWords() {
+        UUID id = UUID.randomUUID();
+        index.put(id, 1, "Publishing articles", null, "Running a blog");
+
+        assertThat(index.search("the published article", 10)).extracting(SearchHit::id).containsExactly(id);
+        assertThat(index.search("runs", 10)).extracting(SearchHit::id).containsExactly(id);
+        assertThat(index.search("the and of", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceAndRemoveDocuments() {
+        UUID id = UUID.randomUUID();
+        index.put(id, 1, "Old title", null, "spring");
+        index.put(id, 2, "New title", null, "summer");
+
+        assertThat(index.search("spring", 10)).isEmpty();
+        assertThat(index.search("summer", 10)).extracting(SearchHit::id).containsExactly(id);
+        assertThat(index.version(id)).hasValue(2);
+
+        assertThat(index.remove(id)).isTrue();
+        assertThat(index.search("summer", 10)).isEmpty();
+        assertThat(index.version(id)).isEmpty();
+        assertThat(index.remove(id)).isFalse();
+    }
+
+    @Test
+    void shouldKeepResultsAcrossCompaction() {
+        UUID keep = UUID.randomUUID();
+        index.put(keep, 1, "Keeper", null, "needle");
+        for (int i = 0; i < 200; i++) {
+            UUID id = UUID.randomUUID();
+            index.put(id, 1, "Filler " + i, null, "needle haystack");
+            index.remove(id);
+        }
+
+        assertThat(index.search("needle", 10)).extracting(SearchHit::id).containsExactly(keep);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRestoreSnapshot() throws IOException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        index.put(first, 10, "Graph databases", null, "Nodes and edges");
+        index.put(second, 20, "Relational databases", null, "Tables and joins");
+        index.remove(first);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.writeSnapshot(out);
+
+        InvertedIndex restored = InvertedIndex.readSnapshot(new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(restored.ids()).containsExactly(second);
+        assertThat(restored.version(second)).hasValue(20);
+        assertThat(restored.search("database", 10)).isEqualTo(index.search("database", 10));
+    }
+
+    @Test
+    void shouldServeSearchesWhileSnapshotIsWritten() throws IOException {
+        UUID id = UUID.randomUUID();
+        index.put(id, 1, "Snapshots", null, "Written while readers keep searching");
+        List<List<SearchHit>> seen = new ArrayList<>();
+        OutputStream slow = new ByteArrayOutputStream() {
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                if (seen.isEmpty()) {
+                    seen.add(CompletableFuture.supplyAsync(() -> index.search("readers", 10))
+                            .orTimeout(5, TimeUnit.SECONDS)
+                            .join());
+                }
+                super.write(bytes, offset, length);
+            }
+        };
+
+        index.writeSnapshot(slow);
+
+        assertThat(seen).singleElement().satisfies(hits ->
+                assertThat(hits).extracting(SearchHit::id).containsExactly(id));
+    }
+
+    @Test
+    void shouldRejectForeignSnapshot() {
+        assertThatThrownBy(() -> InvertedIndex.readSnapshot(new ByteArrayInputStream(new byte[16])))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.adapter.blog.PublishedArticleCache;
+import com.neurixa.domain.blog.event.ArticleDeletedEvent;
+import com.neurixa.domain.blog.event.ArticleFeaturedImageChangedEvent;
+import com.neurixa.domain.blog.event.ArticlePublishedEvent;
+import com.neurixa.domain.blog.event.ArticleRestoredEvent;
+import com.neurixa.domain.blog.event.ArticleUnpublishedEvent;
+import com.neurixa.domain.blog.event.ArticleUpdatedEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Evicts cached public reads when an article changes. Events arrive after the article has
+ * been saved, so the next read reloads the new state.
+ *
+ * Listings and the published count are only evicted when the change is visible in them:
+ * the article entered or left the published state, or a published article was edited.
+ * Drafts can only be deleted or restored, so those evict the detail entry alone.
+ */
+public class ArticleCacheInvalidator {
+
+    private final PublishedArticleCache cache;
+
+    public ArticleCacheInvalidator(PublishedArticleCache cache) {
+        this.cache = cache;
+    }
+
+    @EventListener
+    public void onPublished(ArticlePublishedEvent event) {
+        cache.evictSlug(event.slug());
+        cache.evictListings();
+    }
+
+    @EventListener
+    public void onUnpublished(ArticleUnpublishedEvent event) {
+        cache.evictSlug(event.slug());
+        cache.evictListings();
+    }
+
+    @EventListener
+    public void onUpdated(ArticleUpdatedEvent event) {
+        cache.evictSlug(event.slug());
+        if (!event.previousSlug().equals(event.slug())) {
+            cache.evictSlug(event.previousSlug());
+        }
+        if (event.published()) {
+            cache.evictListings();
+        }
+    }
+
+    @EventListener
+    public void onFeaturedImageChanged(ArticleFeaturedImageChangedEvent event) {
+        cache.evictSlug(event.slug());
+        if (event.published()) {
+            cache.evictListings();
+        }
+    }
+
+    @EventListener
+    public void onDeleted(ArticleDeletedEvent event) {
+        cache.evictSlug(event.slug());
+    }
+
+    @EventListener
+    public void onRestored(ArticleRestoredEvent event) {
+        cache.evictSlug(event.slug());
+    }
+}
@@ -0,0 +1,115 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.application.blog.ArticleSearchService;
+import com.neurixa.domain.blog.event.ArticleDeletedEvent;
+import com.neurixa.domain.blog.event.ArticlePublishedEvent;
+import com.neurixa.domain.blog.event.ArticleUnpublishedEvent;
+import com.neurixa.domain.blog.event.ArticleUpdatedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Keeps this node's article search index current and persisted.
+ *
+ * On startup the index is loaded from its snapshot file and reconciled, which re-reads only
+ * articles changed since the snapshot. Article events update it one article at a time; a
+ * periodic reconcile picks up changes made on other nodes and writes a new snapshot if
+ * anything changed. The snapshot is also written on shutdown.
+ */
+public class ArticleSearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleSearchIndexer.class);
+
+    private final ArticleSearchService searchService;
+    private final Path snapshotFile;
+    private volatile long savedModifications = -1;
+
+    public ArticleSearchIndexer(ArticleSearchService searchService, Path snapshotFile) {
+        this.searchService = searchService;
+        this.snapshotFile = snapshotFile;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (Files.exists(snapshotFile)) {
+            try (InputStream in = Files.newInputStream(snapshotFile)) {
+                searchService.loadSnapshot(in);
+                savedModifications = searchService.modifications();
+                log.info("event=article_search_snapshot_loaded articles={}", searchService.size());
+            } catch (IOException | RuntimeException e) {
+                // An unreadable snapshot only costs a full reindex.
+                log.warn("event=article_search_snapshot_unreadable path={} error={}", snapshotFile, e.getMessage());
+            }
+        }
+        reconcile();
+    }
+
+    @EventListener
+    public void onPublished(ArticlePublishedEvent event) {
+        searchService.reindex(event.articleId());
+    }
+
+    @EventListener
+    public void onUpdated(ArticleUpdatedEvent event) {
+        if (event.published()) {
+            searchService.reindex(event.articleId());
+        }
+    }
+
+    @EventListener
+    public void onUnpublished(ArticleUnpublishedEvent event) {
+        searchService.remove(event.articleId());
+    }
+
+    @EventListener
+    public void onDeleted(ArticleDeletedEvent event) {
+        searchService.remove(event.articleId());
+    }
+
+    @Scheduled(fixedDelayString = "${neurixa.blog.search.reconcile-interval:PT5M}",
+            initialDelayString = "${neurixa.blog.search.reconcile-interval:PT5M}")
+    public void reconcile() {
+        try {
+            int changed = searchService.reconcile();
+            log.info("event=article_search_reconciled changed={} articles={}", changed, searchService.size());
+        } catch (RuntimeException e) {
+            log.warn("event=article_search_reconcile_failed error={}", e.getMessage(), e);
+        }
+        saveSnapshot();
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        long modifications = searchService.modifications();
+        if (modifications == savedModifications) {
+            return;
+        }
+        try {
+            Files.createDirectories(snapshotFile.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(snapshotFile.toAbsolutePath().getParent(), "search-index", ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    searchService.writeSnapshot(out);
+                }
+                Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            savedModifications = modifications;
+            log.debug("event=article_search_snapshot_saved path={}", snapshotFile);
+        } catch (IOException e) {
+            log.warn("event=article_search_snapshot_failed path={} error={}", snapshotFile, e.getMessage());
+        }
+    }
+}
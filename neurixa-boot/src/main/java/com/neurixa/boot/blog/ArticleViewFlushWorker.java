@@ -0,0 +1,41 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.application.blog.ArticleViewCounter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Writes coalesced article views every flush interval, and once more on shutdown so a
+ * clean restart loses none.
+ */
+public class ArticleViewFlushWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleViewFlushWorker.class);
+
+    private final ArticleViewCounter articleViewCounter;
+
+    public ArticleViewFlushWorker(ArticleViewCounter articleViewCounter) {
+        this.articleViewCounter = articleViewCounter;
+    }
+
+    @Scheduled(fixedDelayString = "${neurixa.blog.views.flush-interval:PT10S}")
+    public void flush() {
+        try {
+            long views = articleViewCounter.flush();
+            if (views > 0) {
+                log.debug("event=article_views_flushed views={}", views);
+            }
+        } catch (RuntimeException e) {
+            // The deltas were put back and go out with the next flush.
+            log.warn("event=article_views_flush_failed pending={} error={}",
+                    articleViewCounter.pendingViews(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -2,9 +2,19 @@ package com.neurixa.boot.blog;
 
 import com.neurixa.application.blog.ArticleCommandService;
 import com.neurixa.application.blog.ArticleQueryService;
+import com.neurixa.application.blog.ArticleSearchService;
+import com.neurixa.application.blog.IncrementViewCountUseCase;
+import com.neurixa.application.blog.PublishedArticleSlice;
 import com.neurixa.boot.dto.response.BlogArticleResponse;
+import com.neurixa.boot.dto.response.BlogArticleSummaryResponse;
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.usecase.VerifyFeaturedImageUseCase;
+import com.neurixa.core.usecase.GetUserByUsernameUseCase;
+import com.neurixa.dto.response.CursorPageResponse;
 import com.neurixa.dto.response.PageResponse;
 import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleStatus;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -18,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.security.Principal;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,11 +38,23 @@ public class BlogArticleController {
 
     private final ArticleCommandService articleCommandService;
     private final ArticleQueryService articleQueryService;
+    private final IncrementViewCountUseCase incrementViewCountUseCase;
+    private final ArticleSearchService articleSearchService;
+    private final GetUserByUsernameUseCase getUserByUsernameUseCase;
+    private final VerifyFeaturedImageUseCase verifyFeaturedImageUseCase;
 
     public BlogArticleController(ArticleCommandService articleCommandService,
-                                 ArticleQueryService articleQueryService) {
+                                 ArticleQueryService articleQueryService,
+                                 IncrementViewCountUseCase incrementViewCountUseCase,
+                                 ArticleSearchService articleSearchService,
+                                 GetUserByUsernameUseCase getUserByUsernameUseCase,
+                                 VerifyFeaturedImageUseCase verifyFeaturedImageUseCase) {
         this.articleCommandService = articleCommandService;
         this.articleQueryService = articleQueryService;
+        this.incrementViewCountUseCase = incrementViewCountUseCase;
+        this.articleSearchService = articleSearchService;
+        this.getUserByUsernameUseCase = getUserByUsernameUseCase;
+        this.verifyFeaturedImageUseCase = verifyFeaturedImageUseCase;
     }
 
     @PostMapping
@@ -57,23 +80,59 @@ public class BlogArticleController {
         return BlogArticleResponse.from(article);
     }
 
+    @PostMapping("/{id}/unpublish")
+    public BlogArticleResponse unpublishArticle(@PathVariable UUID id) {
+        Article article = articleCommandService.unpublish(id);
+        return BlogArticleResponse.from(article);
+    }
+
+    @PostMapping("/{id}/archive")
+    public BlogArticleResponse archiveArticle(@PathVariable UUID id) {
+        Article article = articleCommandService.archive(id);
+        return BlogArticleResponse.from(article);
+    }
+
+    /**
+     * Sets or clears the featured image, which must be a live image owned by the caller.
+     * Once the article is published, the image is served publicly at
+     * {@code /api/v1/public/media/{fileId}/v{n}}.
+     */
+    @PutMapping("/{id}/featured-image")
+    public BlogArticleResponse changeFeaturedImage(@PathVariable UUID id, @RequestBody ChangeFeaturedImageRequest request,
+                                                   Principal principal) {
+        if (request.fileId() != null) {
+            UserId ownerId = getUserByUsernameUseCase.execute(principal.getName()).getId();
+            verifyFeaturedImageUseCase.execute(ownerId, new FileId(request.fileId().toString()));
+        }
+        Article article = articleCommandService.changeFeaturedImage(id, request.fileId());
+        return BlogArticleResponse.from(article);
+    }
+
     @PostMapping("/{id}/restore")
     public BlogArticleResponse restoreArticle(@PathVariable UUID id) {
         Article article = articleCommandService.restore(id);
         return BlogArticleResponse.from(article);
     }
 
+    /**
+     * Counts a view of published articles. The returned {@code viewCount} trails recent
+     * views by up to one flush interval plus the article cache expiry ({@code neurixa.blog.cache.ttl}).
+     */
     @GetMapping("/{slug}")
     public BlogArticleResponse getArticle(@PathVariable String slug) {
         Article article = articleQueryService.getBySlug(slug);
+        if (article.getStatus() == ArticleStatus.PUBLISHED) {
+            incrementViewCountUseCase.execute(article.getArticleId().getValue());
+        }
         return BlogArticleResponse.from(article);
     }
 
+    /** Listings carry summaries; fetch an article by slug for its content. */
     @GetMapping
-    public PageResponse<BlogArticleResponse> listArticles(@RequestParam(defaultValue = "0") int page,
-                                                          @RequestParam(defaultValue = "10") int size) {
-        List<BlogArticleResponse> items = articleQueryService.listPublished(page, size).stream()
-                .map(BlogArticleResponse::from)
+    public PageResponse<BlogArticleSummaryResponse> listArticles(@RequestParam(defaultValue = "0") int page,
+                                                                 @RequestParam(defaultValue = "10") int size) {
+        List<BlogArticleSummaryResponse> items = articleQueryService.listPublished(page, size).stream()
+                .map(BlogArticleSummaryResponse::from)
                 .toList();
         long total = articleQueryService.countPublished();
         int totalPages = (int) Math.ceil((double) total / Math.max(size, 1));
@@ -82,6 +141,34 @@ public class BlogArticleController {
         return new PageResponse<>(items, page, size, total, totalPages, hasNext, hasPrevious);
     }
 
+    /**
+     * Cursor-based listing: pass the previous response's {@code nextCursor}, or an empty
+     * {@code cursor} for the newest articles. Costs the same at any depth and never skips or
+     * repeats articles when others are published meanwhile; prefer it over {@code page}.
+     */
+    @GetMapping(params = "cursor")
+    public CursorPageResponse<BlogArticleSummaryResponse> listArticlesAfter(@RequestParam String cursor,
+                                                                            @RequestParam(defaultValue = "10") int size) {
+        PublishedArticleSlice slice = articleQueryService.listPublishedAfter(cursor, size);
+        List<BlogArticleSummaryResponse> items = slice.articles().stream()
+                .map(BlogArticleSummaryResponse::from)
+                .toList();
+        return new CursorPageResponse<>(items, slice.nextCursor(), slice.hasNext());
+    }
+
+    /**
+     * Full-text search over title, excerpt and content of published articles, most relevant
+     * first. Served from this node's in-memory index; edits made on other nodes show up
+     * within {@code neurixa.blog.search.reconcile-interval}.
+     */
+    @GetMapping(params = "q")
+    public List<BlogArticleSummaryResponse> searchArticles(@RequestParam("q") String query,
+                                                           @RequestParam(defaultValue = "10") int size) {
+        return articleSearchService.search(query, size).stream()
+                .map(BlogArticleSummaryResponse::from)
+                .toList();
+    }
+
     public record CreateArticleRequest(
             @NotBlank(message = "Title is required")
             @Size(max = 500, message = "Title must not exceed 500 characters")
@@ -95,6 +182,8 @@ public class BlogArticleController {
             String excerpt
     ) {}
 
+    public record ChangeFeaturedImageRequest(UUID fileId) {}
+
     public record UpdateArticleRequest(
             @NotBlank(message = "Title is required")
             @Size(max = 500, message = "Title must not exceed 500 characters")
@@ -1,33 +1,63 @@
 package com.neurixa.boot.blog;
 
+import com.neurixa.adapter.ratelimit.CommentRateLimiter;
+import com.neurixa.application.blog.CommentBatchResult;
 import com.neurixa.application.blog.CommentCommandService;
+import com.neurixa.application.blog.CommentQueryService;
+import com.neurixa.application.blog.PendingCommentCount;
+import com.neurixa.application.blog.PendingCommentSlice;
 import com.neurixa.boot.dto.response.BlogCommentResponse;
 import com.neurixa.domain.blog.Comment;
+import com.neurixa.dto.response.CursorPageResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/blog/comments")
 public class BlogCommentController {
 
+    /** The moderation queue and batch moderation are for administrators only. */
+    private static final String MODERATOR = "hasAnyRole('ADMIN','SUPER_ADMIN')";
+
     private final CommentCommandService commentCommandService;
+    private final CommentQueryService commentQueryService;
+    private final PendingCommentCount pendingCommentCount;
+    private final CommentRateLimiter commentRateLimiter;
 
-    public BlogCommentController(CommentCommandService commentCommandService) {
+    public BlogCommentController(CommentCommandService commentCommandService,
+                                 CommentQueryService commentQueryService,
+                                 PendingCommentCount pendingCommentCount,
+                                 CommentRateLimiter commentRateLimiter) {
         this.commentCommandService = commentCommandService;
+        this.commentQueryService = commentQueryService;
+        this.pendingCommentCount = pendingCommentCount;
+        this.commentRateLimiter = commentRateLimiter;
     }
 
+    /**
+     * Rate limited per client address, author email and article; over the limit is a 429 with
+     * Retry-After. Behind a proxy the address comes from X-Forwarded-For, which is only believed
+     * from {@code server.tomcat.remoteip.internal-proxies}.
+     */
     @PostMapping
-    public BlogCommentResponse addComment(@Valid @RequestBody AddCommentRequest request) {
+    public BlogCommentResponse addComment(@Valid @RequestBody AddCommentRequest request, HttpServletRequest httpRequest) {
+        commentRateLimiter.acquire(httpRequest.getRemoteAddr(), request.authorEmail(), request.articleId());
         Comment comment = commentCommandService.add(request.articleId(), request.authorName(), request.authorEmail(), request.content(), request.replyTo());
         return BlogCommentResponse.from(comment);
     }
@@ -44,6 +74,58 @@ public class BlogCommentController {
         return BlogCommentResponse.from(comment);
     }
 
+    /**
+     * The moderation queue: pending comments of all articles, oldest first, with author emails.
+     * Pass the previous response's {@code nextCursor} to continue.
+     */
+    @PreAuthorize(MODERATOR)
+    @GetMapping("/pending")
+    public CursorPageResponse<BlogCommentResponse> listPending(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "50") int size) {
+        PendingCommentSlice slice = commentQueryService.listPending(cursor, size);
+        List<BlogCommentResponse> items = slice.comments().stream()
+                .map(BlogCommentResponse::from)
+                .toList();
+        return new CursorPageResponse<>(items, slice.nextCursor(), slice.hasNext());
+    }
+
+    /** Cached; see {@code neurixa.blog.comments.pending-count-max-age}. */
+    @PreAuthorize(MODERATOR)
+    @GetMapping("/pending/count")
+    public PendingCountResponse countPending() {
+        return new PendingCountResponse(pendingCommentCount.get());
+    }
+
+    /**
+     * Batch moderation: one read and one bulk write whatever the batch size. Comments that
+     * are missing or already moderated are reported as skipped instead of failing the batch.
+     */
+    @PreAuthorize(MODERATOR)
+    @PostMapping("/batch/approve")
+    public CommentBatchResult approveComments(@Valid @RequestBody BatchModerationRequest request) {
+        return commentCommandService.approveAll(request.ids());
+    }
+
+    @PreAuthorize(MODERATOR)
+    @PostMapping("/batch/reject")
+    public CommentBatchResult rejectComments(@Valid @RequestBody BatchModerationRequest request) {
+        return commentCommandService.rejectAll(request.ids());
+    }
+
+    @PreAuthorize(MODERATOR)
+    @PostMapping("/batch/delete")
+    public CommentBatchResult deleteComments(@Valid @RequestBody BatchModerationRequest request) {
+        return commentCommandService.deleteAll(request.ids());
+    }
+
+    public record PendingCountResponse(long count) {}
+
+    public record BatchModerationRequest(
+            @NotEmpty(message = "Comment IDs are required")
+            @Size(max = CommentCommandService.MAX_BATCH_SIZE, message = "At most 5,000 comments can be moderated at once")
+            List<@NotNull UUID> ids
+    ) {}
+
     public record AddCommentRequest(
             @NotNull(message = "Article ID is required")
             UUID articleId,
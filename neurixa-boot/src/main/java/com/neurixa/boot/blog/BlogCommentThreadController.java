@@ -0,0 +1,41 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.application.blog.CommentQueryService;
+import com.neurixa.application.blog.CommentThreadPage;
+import com.neurixa.boot.dto.response.BlogCommentThreadResponse;
+import com.neurixa.dto.response.CursorPageResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Serves an article's approved comments to readers without authentication. */
+@RestController
+@RequestMapping("/api/v1/public/blog/articles/{articleId}/comments")
+public class BlogCommentThreadController {
+
+    private final CommentQueryService commentQueryService;
+
+    public BlogCommentThreadController(CommentQueryService commentQueryService) {
+        this.commentQueryService = commentQueryService;
+    }
+
+    /**
+     * Top-level comments oldest first, each with all its replies nested. {@code size} counts
+     * threads; pass the previous response's {@code nextCursor} for the next page.
+     */
+    @GetMapping
+    public CursorPageResponse<BlogCommentThreadResponse> listThreads(@PathVariable UUID articleId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+        CommentThreadPage page = commentQueryService.listThreads(articleId, cursor, size);
+        List<BlogCommentThreadResponse> items = page.threads().stream()
+                .map(BlogCommentThreadResponse::from)
+                .toList();
+        return new CursorPageResponse<>(items, page.nextCursor(), page.hasNext());
+    }
+}
@@ -0,0 +1,213 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.application.blog.BlogFeedWriter;
+import com.neurixa.domain.blog.event.ArticlePublishedEvent;
+import com.neurixa.domain.blog.event.ArticleUnpublishedEvent;
+import com.neurixa.domain.blog.event.ArticleUpdatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the generated sitemap and feeds as files, rebuilt on the first request after an
+ * article was published, unpublished or edited while published.
+ *
+ * Each build streams straight to disk, so neither building nor serving holds a document in
+ * memory. Files are named by a hash of their content, which is also the ETag: a rebuild that
+ * changes nothing keeps the same ETag, on this node and on every other.
+ *
+ * Last-Modified starts as the newest change among the listed articles. When a rebuild
+ * changes the content, it moves to the build time if that is later, so removing an article
+ * still advances it and clients that send only If-Modified-Since see the change.
+ *
+ * Rebuilds are also forced after {@code maxAge}, which bounds staleness on nodes that do not
+ * receive other nodes' article events.
+ */
+public class BlogFeedCache {
+
+    public enum Feed {
+        SITEMAP("sitemap"), RSS("rss"), ATOM("atom");
+
+        private final String fileName;
+
+        Feed(String fileName) {
+            this.fileName = fileName;
+        }
+    }
+
+    /** A built document; {@code etag} is quoted, ready for the header. */
+    public record CachedFeed(Path path, String etag, Instant lastModified, long size) {
+    }
+
+    private record Built(CachedFeed feed, long version, long builtAt) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(BlogFeedCache.class);
+
+    private final BlogFeedWriter writer;
+    private final Path directory;
+    private final long maxAgeNanos;
+    private final AtomicLong version = new AtomicLong();
+    private final Map<Feed, Built> current = new ConcurrentHashMap<>();
+    private final Map<Feed, CachedFeed> retired = new ConcurrentHashMap<>();
+    private final Map<Feed, Object> locks = new EnumMap<>(Feed.class);
+
+    public BlogFeedCache(BlogFeedWriter writer, Path directory, Duration maxAge) {
+        if (maxAge.isNegative() || maxAge.isZero()) throw new IllegalArgumentException("maxAge must be positive");
+        this.writer = writer;
+        this.directory = directory;
+        this.maxAgeNanos = maxAge.toNanos();
+        for (Feed feed : Feed.values()) {
+            locks.put(feed, new Object());
+        }
+        prepareDirectory();
+    }
+
+    /** The current document, built first if articles changed since the last build. */
+    public CachedFeed get(Feed feed) {
+        Built built = current.get(feed);
+        if (isFresh(built)) {
+            return built.feed();
+        }
+        synchronized (locks.get(feed)) {
+            built = current.get(feed);
+            if (isFresh(built)) {
+                return built.feed();
+            }
+            return build(feed).feed();
+        }
+    }
+
+    @EventListener
+    public void onPublished(ArticlePublishedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onUnpublished(ArticleUnpublishedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onUpdated(ArticleUpdatedEvent event) {
+        if (event.published()) {
+            invalidate();
+        }
+    }
+
+    private void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private boolean isFresh(Built built) {
+        return built != null && built.version() == version.get() && System.nanoTime() - built.builtAt() < maxAgeNanos;
+    }
+
+    private Built build(Feed feed) {
+        // Read before writing, so a change made during the build triggers another one.
+        long buildVersion = version.get();
+        long builtAt = System.nanoTime();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, feed.fileName, ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            Instant contentModified;
+            try (OutputStream out = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), digest)) {
+                contentModified = switch (feed) {
+                    case SITEMAP -> writer.writeSitemap(out);
+                    case RSS -> writer.writeRss(out);
+                    case ATOM -> writer.writeAtom(out);
+                };
+            }
+            String hash = HexFormat.of().formatHex(digest.digest(), 0, 16);
+            Path target = directory.resolve(feed.fileName + "-" + hash + ".xml");
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Instant lastModified = lastModified(current.get(feed), target, contentModified);
+            Built built = new Built(new CachedFeed(target, "\"" + hash + "\"", lastModified, Files.size(target)),
+                    buildVersion, builtAt);
+            retire(feed, current.put(feed, built), target);
+            log.info("event=blog_feed_built feed={} etag={} bytes={}", feed, hash, built.feed().size());
+            return built;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("Cannot build " + feed, e);
+        } catch (NoSuchAlgorithmException e) {
+            deleteQuietly(temp);
+            throw new IllegalStateException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    private static Instant lastModified(Built previous, Path target, Instant contentModified) {
+        if (previous == null) {
+            return contentModified;
+        }
+        Instant before = previous.feed().lastModified();
+        if (previous.feed().path().equals(target)) {
+            return before;
+        }
+        Instant now = Instant.now();
+        Instant latest = before.isAfter(now) ? before : now;
+        return contentModified.isAfter(latest) ? contentModified : latest;
+    }
+
+    /**
+     * Keeps the replaced file for one more build, so a response that picked it up just
+     * before the swap can still read it; the one before that is deleted.
+     */
+    private void retire(Feed feed, Built replaced, Path target) {
+        if (replaced == null || replaced.feed().path().equals(target)) {
+            return;
+        }
+        CachedFeed older = retired.put(feed, replaced.feed());
+        if (older != null && !older.path().equals(target)) {
+            deleteQuietly(older.path());
+        }
+    }
+
+    private void prepareDirectory() {
+        try {
+            Files.createDirectories(directory);
+            // Files from a previous run are rebuilt on demand rather than trusted.
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, "*.{xml,tmp}")) {
+                for (Path path : stale) {
+                    deleteQuietly(path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare feed directory " + directory, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("event=blog_feed_delete_failed path={} error={}", path, e.getMessage());
+        }
+    }
+}
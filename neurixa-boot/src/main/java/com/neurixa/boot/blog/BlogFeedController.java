@@ -0,0 +1,61 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.boot.blog.BlogFeedCache.CachedFeed;
+import com.neurixa.boot.blog.BlogFeedCache.Feed;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * Serves the sitemap and the RSS and Atom feeds of published articles without authentication.
+ *
+ * Responses carry an ETag and Last-Modified, so crawlers revalidating with
+ * {@code If-None-Match} or {@code If-Modified-Since} get a 304 without a body.
+ */
+@RestController
+@RequestMapping("/api/v1/public/blog")
+public class BlogFeedController {
+
+    private static final CacheControl REVALIDATE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+    private static final MediaType RSS = MediaType.parseMediaType("application/rss+xml");
+
+    private final BlogFeedCache blogFeedCache;
+
+    public BlogFeedController(BlogFeedCache blogFeedCache) {
+        this.blogFeedCache = blogFeedCache;
+    }
+
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<Resource> sitemap() {
+        return serve(Feed.SITEMAP, MediaType.APPLICATION_XML);
+    }
+
+    @GetMapping("/rss.xml")
+    public ResponseEntity<Resource> rss() {
+        return serve(Feed.RSS, RSS);
+    }
+
+    @GetMapping("/atom.xml")
+    public ResponseEntity<Resource> atom() {
+        return serve(Feed.ATOM, MediaType.APPLICATION_ATOM_XML);
+    }
+
+    private ResponseEntity<Resource> serve(Feed feed, MediaType mediaType) {
+        CachedFeed cached = blogFeedCache.get(feed);
+        // Conditional requests are answered by Spring from these headers; the file is then not opened.
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .eTag(cached.etag())
+                .lastModified(cached.lastModified())
+                .cacheControl(REVALIDATE)
+                .contentLength(cached.size())
+                .body(new FileSystemResource(cached.path()));
+    }
+}
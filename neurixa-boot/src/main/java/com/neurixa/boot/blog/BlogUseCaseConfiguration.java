@@ -1,29 +1,139 @@
 package com.neurixa.boot.blog;
 
+import com.neurixa.adapter.blog.CachingArticleRepository;
+import com.neurixa.adapter.blog.PublishedArticleCache;
+import com.neurixa.adapter.blog.RedisDomainEventStream;
 import com.neurixa.application.blog.ArticleCommandService;
 import com.neurixa.application.blog.ArticleQueryService;
+import com.neurixa.application.blog.ArticleSearchService;
+import com.neurixa.application.blog.ArticleViewCounter;
+import com.neurixa.application.blog.BlogFeedWriter;
 import com.neurixa.application.blog.CategoryCommandService;
 import com.neurixa.application.blog.CommentCommandService;
 import com.neurixa.application.blog.CommentQueryService;
+import com.neurixa.application.blog.DomainEventPublisher;
+import com.neurixa.application.blog.IncrementViewCountUseCase;
+import com.neurixa.application.blog.OutboxRelay;
+import com.neurixa.application.blog.PendingCommentCount;
 import com.neurixa.application.blog.TagCommandService;
+import com.neurixa.core.files.usecase.GetPublicMediaUseCase;
 import com.neurixa.domain.blog.ArticleRepository;
 import com.neurixa.domain.blog.CategoryRepository;
 import com.neurixa.domain.blog.CommentRepository;
 import com.neurixa.domain.blog.TagRepository;
+import com.neurixa.domain.blog.shared.DomainEventOutbox;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+import java.time.Duration;
 
 @Configuration
+@EnableScheduling
 public class BlogUseCaseConfiguration {
 
+    @Bean
+    public DomainEventPublisher domainEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        return new SpringDomainEventPublisher(applicationEventPublisher);
+    }
+
+    /**
+     * Relayed events go to this node's listeners and, when the Redis stream is enabled, to
+     * the other nodes.
+     */
+    @Bean
+    public OutboxRelay outboxRelay(DomainEventOutbox domainEventOutbox,
+                                   DomainEventPublisher domainEventPublisher,
+                                   ObjectProvider<RedisDomainEventStream> redisDomainEventStream,
+                                   @Value("${neurixa.events.relay.batch-size:100}") int batchSize,
+                                   @Value("${neurixa.events.relay.max-batches-per-run:10}") int maxBatchesPerRun,
+                                   @Value("${neurixa.events.relay.lease:PT1M}") Duration lease) {
+        RedisDomainEventStream remote = redisDomainEventStream.getIfAvailable();
+        DomainEventPublisher publisher = remote == null ? domainEventPublisher : events -> {
+            domainEventPublisher.publish(events);
+            remote.append(events);
+        };
+        return new OutboxRelay(domainEventOutbox, publisher, batchSize, maxBatchesPerRun, lease);
+    }
+
+    @Bean
+    public OutboxRelayWorker outboxRelayWorker(OutboxRelay outboxRelay) {
+        return new OutboxRelayWorker(outboxRelay);
+    }
+
     @Bean
     public ArticleCommandService articleCommandService(ArticleRepository articleRepository) {
         return new ArticleCommandService(articleRepository);
     }
 
     @Bean
-    public ArticleQueryService articleQueryService(ArticleRepository articleRepository) {
-        return new ArticleQueryService(articleRepository);
+    public PublicMediaRegistry publicMediaRegistry(ArticleRepository articleRepository,
+                                                   GetPublicMediaUseCase getPublicMediaUseCase) {
+        return new PublicMediaRegistry(articleRepository, getPublicMediaUseCase);
+    }
+
+    /**
+     * Public reads go through the article cache; commands above load from the repository.
+     */
+    @Bean
+    public ArticleQueryService articleQueryService(ArticleRepository articleRepository,
+                                                   PublishedArticleCache publishedArticleCache,
+                                                   @Value("${neurixa.blog.cache.max-page-size:50}") int maxCachedPageSize) {
+        return new ArticleQueryService(
+                new CachingArticleRepository(articleRepository, publishedArticleCache, maxCachedPageSize));
+    }
+
+    @Bean
+    public ArticleCacheInvalidator articleCacheInvalidator(PublishedArticleCache publishedArticleCache) {
+        return new ArticleCacheInvalidator(publishedArticleCache);
+    }
+
+    @Bean
+    public BlogFeedWriter blogFeedWriter(ArticleRepository articleRepository,
+                                         @Value("${neurixa.blog.feeds.site-url:http://localhost:8080}") String siteUrl,
+                                         @Value("${neurixa.blog.feeds.article-path:/blog/}") String articlePath,
+                                         @Value("${neurixa.blog.feeds.title:Neurixa Blog}") String title,
+                                         @Value("${neurixa.blog.feeds.description:Latest articles}") String description,
+                                         @Value("${neurixa.blog.feeds.size:50}") int feedSize) {
+        return new BlogFeedWriter(articleRepository, siteUrl, articlePath, title, description, feedSize);
+    }
+
+    @Bean
+    public BlogFeedCache blogFeedCache(BlogFeedWriter blogFeedWriter,
+                                       @Value("${neurixa.blog.feeds.directory:${java.io.tmpdir}/neurixa-feeds}") Path directory,
+                                       @Value("${neurixa.blog.feeds.max-age:PT1H}") Duration maxAge) {
+        return new BlogFeedCache(blogFeedWriter, directory, maxAge);
+    }
+
+    @Bean
+    public ArticleSearchService articleSearchService(ArticleRepository articleRepository) {
+        return new ArticleSearchService(articleRepository);
+    }
+
+    @Bean
+    public ArticleSearchIndexer articleSearchIndexer(ArticleSearchService articleSearchService,
+                                                     @Value("${neurixa.blog.search.snapshot:${java.io.tmpdir}/neurixa-search/articles.idx}") Path snapshotFile) {
+        return new ArticleSearchIndexer(articleSearchService, snapshotFile);
+    }
+
+    @Bean
+    public ArticleViewCounter articleViewCounter(ArticleRepository articleRepository,
+                                                 @Value("${neurixa.blog.views.batch-size:500}") int batchSize) {
+        return new ArticleViewCounter(articleRepository, batchSize);
+    }
+
+    @Bean
+    public ArticleViewFlushWorker articleViewFlushWorker(ArticleViewCounter articleViewCounter) {
+        return new ArticleViewFlushWorker(articleViewCounter);
+    }
+
+    @Bean
+    public IncrementViewCountUseCase incrementViewCountUseCase(ArticleViewCounter articleViewCounter) {
+        return new IncrementViewCountUseCase(articleViewCounter);
     }
 
     @Bean
@@ -37,8 +147,16 @@ public class BlogUseCaseConfiguration {
     }
 
     @Bean
-    public CommentCommandService commentCommandService(CommentRepository commentRepository) {
-        return new CommentCommandService(commentRepository);
+    public PendingCommentCount pendingCommentCount(CommentRepository commentRepository,
+                                                   @Value("${neurixa.blog.comments.pending-count-max-age:PT30S}") Duration maxAge) {
+        return new PendingCommentCount(commentRepository, maxAge);
+    }
+
+    @Bean
+    public CommentCommandService commentCommandService(CommentRepository commentRepository,
+                                                       ArticleRepository articleRepository,
+                                                       PendingCommentCount pendingCommentCount) {
+        return new CommentCommandService(commentRepository, articleRepository, pendingCommentCount);
     }
 
     @Bean
@@ -0,0 +1,34 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.application.blog.OutboxRelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Polls the domain event outbox. Events reach subscribers within about one interval of
+ * the save that produced them.
+ */
+public class OutboxRelayWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayWorker.class);
+
+    private final OutboxRelay relay;
+
+    public OutboxRelayWorker(OutboxRelay relay) {
+        this.relay = relay;
+    }
+
+    @Scheduled(fixedDelayString = "${neurixa.events.relay.interval:PT1S}")
+    public void relay() {
+        try {
+            int published = relay.relay();
+            if (published > 0) {
+                log.debug("event=domain_events_relayed count={}", published);
+            }
+        } catch (RuntimeException e) {
+            // Unacknowledged entries are claimed again once their lease ends.
+            log.warn("event=domain_event_relay_failed error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.download.PublicMedia;
+import com.neurixa.core.files.port.StorageProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Serves featured images of published articles without authentication.
+ *
+ * URLs are version-addressed ({@code /api/v1/public/media/{fileId}/v{n}}) and a version's
+ * bytes never change, so responses are cacheable for a year and marked immutable.
+ * Local blobs are handed to Tomcat's sendfile support so the bytes never pass through the JVM.
+ */
+@RestController
+@RequestMapping("/api/v1/public/media")
+public class PublicMediaController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final PublicMediaRegistry publicMediaRegistry;
+    private final StorageProvider storageProvider;
+
+    public PublicMediaController(PublicMediaRegistry publicMediaRegistry, StorageProvider storageProvider) {
+        this.publicMediaRegistry = publicMediaRegistry;
+        this.storageProvider = storageProvider;
+    }
+
+    @GetMapping("/{fileId}/v{version}")
+    public ResponseEntity<Resource> media(@PathVariable String fileId,
+                                          @PathVariable int version,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          HttpServletRequest request) {
+        PublicMedia media = publicMediaRegistry.resolve(fileId, version)
+                .orElseThrow(() -> new ResourceNotFoundException("Media not found"));
+
+        String etag = "\"" + fileId + "-v" + version + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(IMMUTABLE).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(media.mimeType()))
+                .eTag(etag)
+                .cacheControl(IMMUTABLE)
+                .header("X-Content-Type-Options", "nosniff");
+
+        Optional<Path> local = storageProvider.localPath(media.storageKey());
+        if (local.isEmpty()) {
+            return response.contentLength(media.size())
+                    .body(new InputStreamResource(storageProvider.retrieve(media.storageKey())));
+        }
+        Path path = local.get();
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            long length = size(path);
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return response.contentLength(length).build();
+        }
+        return response.body(new FileSystemResource(path));
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
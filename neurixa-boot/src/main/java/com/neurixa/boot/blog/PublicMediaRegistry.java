@@ -0,0 +1,82 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.download.PublicMedia;
+import com.neurixa.core.files.usecase.GetPublicMediaUseCase;
+import com.neurixa.domain.blog.ArticleRepository;
+import com.neurixa.domain.blog.event.ArticleFeaturedImageChangedEvent;
+import com.neurixa.domain.blog.event.ArticlePublishedEvent;
+import com.neurixa.domain.blog.event.ArticleUnpublishedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory allowlist of file ids that may be served without authentication: the featured
+ * images of published articles.
+ *
+ * Rebuilt from the article collection when an article on this node is published, unpublished,
+ * archived, or gets a new featured image, and periodically to pick up changes made on other nodes.
+ * Resolved versions are cached until the next rebuild, which also drops files deleted since.
+ */
+public class PublicMediaRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicMediaRegistry.class);
+
+    private final ArticleRepository articleRepository;
+    private final GetPublicMediaUseCase getPublicMediaUseCase;
+    private final Map<String, PublicMedia> resolved = new ConcurrentHashMap<>();
+    private volatile Set<String> publicFileIds = Set.of();
+
+    public PublicMediaRegistry(ArticleRepository articleRepository, GetPublicMediaUseCase getPublicMediaUseCase) {
+        this.articleRepository = articleRepository;
+        this.getPublicMediaUseCase = getPublicMediaUseCase;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, ArticlePublishedEvent.class, ArticleUnpublishedEvent.class,
+            ArticleFeaturedImageChangedEvent.class})
+    public void onArticlesChanged() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${neurixa.blog.public-media.refresh-interval:PT5M}",
+            initialDelayString = "${neurixa.blog.public-media.refresh-interval:PT5M}")
+    public void rebuild() {
+        Set<String> ids = articleRepository.findPublishedFeaturedImageIds().stream()
+                .map(UUID::toString)
+                .collect(Collectors.toUnmodifiableSet());
+        publicFileIds = ids;
+        resolved.clear();
+        log.debug("event=public_media_rebuilt count={}", ids.size());
+    }
+
+    public boolean isPublic(String fileId) {
+        return publicFileIds.contains(fileId);
+    }
+
+    public Optional<PublicMedia> resolve(String fileId, int versionNumber) {
+        if (!isPublic(fileId)) {
+            return Optional.empty();
+        }
+        String key = fileId + "/" + versionNumber;
+        PublicMedia media = resolved.get(key);
+        if (media == null) {
+            Optional<PublicMedia> found = getPublicMediaUseCase.execute(new FileId(fileId), versionNumber);
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            media = found.get();
+            resolved.put(key, media);
+        }
+        return Optional.of(media);
+    }
+}
@@ -0,0 +1,25 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.application.blog.DomainEventPublisher;
+import com.neurixa.domain.blog.shared.DomainEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Publishes blog domain events as Spring application events, delivered synchronously
+ * to {@code @EventListener} methods in this node on the outbox relay's thread.
+ */
+public class SpringDomainEventPublisher implements DomainEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SpringDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -22,6 +22,7 @@ public class BlogArticleResponse {
     public Instant updatedAt;
     public Instant publishedAt;
     public int viewCount;
+    public int commentCount;
     public String metaTitle;
     public String metaDescription;
     public Set<UUID> categoryIds;
@@ -40,6 +41,7 @@ public class BlogArticleResponse {
         r.updatedAt = article.getUpdatedAt();
         r.publishedAt = article.getPublishedAt();
         r.viewCount = article.getViewCount();
+        r.commentCount = article.getCommentCount();
         r.metaTitle = article.getMetaTitle();
         r.metaDescription = article.getMetaDescription();
         r.categoryIds = article.getCategories().stream().map(CategoryId::getValue).collect(Collectors.toSet());
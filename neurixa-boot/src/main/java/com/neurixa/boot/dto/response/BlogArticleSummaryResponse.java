@@ -0,0 +1,41 @@
+package com.neurixa.boot.dto.response;
+
+import com.neurixa.domain.blog.ArticleSummary;
+import com.neurixa.domain.blog.CategoryId;
+import com.neurixa.domain.blog.TagId;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/** Listing entry: a {@link BlogArticleResponse} without the body and editorial fields. */
+public class BlogArticleSummaryResponse {
+    public UUID id;
+    public String title;
+    public String slug;
+    public String excerpt;
+    public UUID featuredImageId;
+    public Instant updatedAt;
+    public Instant publishedAt;
+    public int viewCount;
+    public int commentCount;
+    public Set<UUID> categoryIds;
+    public Set<UUID> tagIds;
+
+    public static BlogArticleSummaryResponse from(ArticleSummary summary) {
+        BlogArticleSummaryResponse r = new BlogArticleSummaryResponse();
+        r.id = summary.articleId().getValue();
+        r.title = summary.title();
+        r.slug = summary.slug().getValue();
+        r.excerpt = summary.excerpt();
+        r.featuredImageId = summary.featuredImageId();
+        r.updatedAt = summary.updatedAt();
+        r.publishedAt = summary.publishedAt();
+        r.viewCount = summary.viewCount();
+        r.commentCount = summary.commentCount();
+        r.categoryIds = summary.categories().stream().map(CategoryId::getValue).collect(Collectors.toSet());
+        r.tagIds = summary.tags().stream().map(TagId::getValue).collect(Collectors.toSet());
+        return r;
+    }
+}
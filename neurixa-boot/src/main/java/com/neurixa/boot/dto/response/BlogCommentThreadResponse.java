@@ -0,0 +1,30 @@
+package com.neurixa.boot.dto.response;
+
+import com.neurixa.application.blog.CommentThread;
+import com.neurixa.domain.blog.Comment;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/** Public view of an approved comment and its replies; the author's email is never shown. */
+public class BlogCommentThreadResponse {
+    public UUID id;
+    public String authorName;
+    public String content;
+    public UUID replyTo;
+    public Instant createdAt;
+    public List<BlogCommentThreadResponse> replies;
+
+    public static BlogCommentThreadResponse from(CommentThread thread) {
+        Comment comment = thread.comment();
+        BlogCommentThreadResponse r = new BlogCommentThreadResponse();
+        r.id = comment.getCommentId().getValue();
+        r.authorName = comment.getAuthorName();
+        r.content = comment.getContent();
+        r.replyTo = comment.getReplyTo() != null ? comment.getReplyTo().getValue() : null;
+        r.createdAt = comment.getCreatedAt();
+        r.replies = thread.replies().stream().map(BlogCommentThreadResponse::from).toList();
+        return r;
+    }
+}
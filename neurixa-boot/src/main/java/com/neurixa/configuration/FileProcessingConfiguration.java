@@ -0,0 +1,93 @@
+package com.neurixa.configuration;
+
+import com.neurixa.adapter.files.content.PdfTextExtractor;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.ContentIndex;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.FileVersionRepository;
+import com.neurixa.core.files.port.ProcessingQueue;
+import com.neurixa.core.files.port.StorageProvider;
+import com.neurixa.core.files.port.TextExtractor;
+import com.neurixa.core.files.processing.ChecksumStage;
+import com.neurixa.core.files.processing.ContentIndexStage;
+import com.neurixa.core.files.processing.FileProcessingStage;
+import com.neurixa.core.files.usecase.ProcessFileUseCase;
+import com.neurixa.core.files.usecase.RequeueStalledUploadsUseCase;
+import com.neurixa.processing.FileProcessingWorker;
+import com.neurixa.processing.StalledUploadSweeper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Post-upload processing. Stages are picked up from the context in {@link Order};
+ * set {@code neurixa.files.processing.enabled=false} on nodes that should only accept
+ * uploads and leave the queue to other nodes.
+ */
+@Configuration
+@EnableScheduling
+public class FileProcessingConfiguration {
+
+    @Bean
+    @Order(0)
+    public ChecksumStage checksumStage(StorageProvider storageProvider) {
+        return new ChecksumStage(storageProvider);
+    }
+
+    @Bean
+    public TextExtractor textExtractor(@Value("${neurixa.files.content.max-source-bytes:52428800}") long maxSourceBytes,
+                                       @Value("${neurixa.files.content.max-chars:1000000}") int maxChars,
+                                       @Value("${neurixa.files.content.timeout:PT30S}") Duration timeout,
+                                       @Value("${neurixa.files.content.max-concurrent:2}") int maxConcurrent,
+                                       @Value("${neurixa.files.content.max-cache-bytes:16777216}") long maxCacheBytes) {
+        return new PdfTextExtractor(maxSourceBytes, maxChars, timeout, maxConcurrent, maxCacheBytes);
+    }
+
+    @Bean
+    @Order(1)
+    public ContentIndexStage contentIndexStage(StorageProvider storageProvider, TextExtractor textExtractor,
+                                               ContentIndex contentIndex) {
+        return new ContentIndexStage(storageProvider, textExtractor, contentIndex);
+    }
+
+    @Bean
+    public ProcessFileUseCase processFileUseCase(ProcessingQueue processingQueue,
+                                                 FileRepository fileRepository,
+                                                 FileVersionRepository fileVersionRepository,
+                                                 List<FileProcessingStage> stages,
+                                                 @Value("${neurixa.files.processing.max-attempts:5}") int maxAttempts,
+                                                 ChangeLogRepository changeLogRepository) {
+        return new ProcessFileUseCase(processingQueue, fileRepository, fileVersionRepository, stages, maxAttempts,
+                changeLogRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "neurixa.files.processing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FileProcessingWorker fileProcessingWorker(ProcessingQueue processingQueue,
+                                                     ProcessFileUseCase processFileUseCase,
+                                                     @Value("${neurixa.files.processing.workers:2}") int workers,
+                                                     @Value("${neurixa.files.processing.lease:PT5M}") Duration lease) {
+        return new FileProcessingWorker(processingQueue, processFileUseCase, workers, lease);
+    }
+
+    @Bean
+    public RequeueStalledUploadsUseCase requeueStalledUploadsUseCase(FileRepository fileRepository,
+                                                                     ProcessingQueue processingQueue,
+                                                                     @Value("${neurixa.files.processing.stall-after:PT10M}") Duration stallAfter,
+                                                                     @Value("${neurixa.files.processing.sweep-batch-size:500}") int batchSize) {
+        return new RequeueStalledUploadsUseCase(fileRepository, processingQueue, stallAfter, batchSize, Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "neurixa.files.processing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public StalledUploadSweeper stalledUploadSweeper(RequeueStalledUploadsUseCase requeueStalledUploadsUseCase) {
+        return new StalledUploadSweeper(requeueStalledUploadsUseCase);
+    }
+}
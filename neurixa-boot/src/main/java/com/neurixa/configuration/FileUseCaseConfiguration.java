@@ -1,20 +1,42 @@
 package com.neurixa.configuration;
 
 import com.neurixa.adapter.files.config.StorageProperties;
+import com.neurixa.core.files.download.DownloadLinkSigner;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.ContentIndex;
 import com.neurixa.core.files.port.FileRepository;
 import com.neurixa.core.files.port.FileVersionRepository;
 import com.neurixa.core.files.port.FolderRepository;
+import com.neurixa.core.files.port.ProcessingQueue;
 import com.neurixa.core.files.port.StorageProvider;
+import com.neurixa.core.files.usecase.BulkDeleteFilesUseCase;
+import com.neurixa.core.files.usecase.BulkMoveFilesUseCase;
+import com.neurixa.core.files.usecase.CreateDownloadLinkUseCase;
 import com.neurixa.core.files.usecase.CreateFolderUseCase;
 import com.neurixa.core.files.usecase.DeleteFileUseCase;
+import com.neurixa.core.files.usecase.GetChangesUseCase;
+import com.neurixa.core.files.usecase.GetFileUseCase;
+import com.neurixa.core.files.usecase.GetPublicMediaUseCase;
+import com.neurixa.core.files.usecase.ListFileVersionsUseCase;
 import com.neurixa.core.files.usecase.ListFolderContentUseCase;
 import com.neurixa.core.files.usecase.ListFolderContentPagedUseCase;
 import com.neurixa.core.files.usecase.MoveFileUseCase;
+import com.neurixa.core.files.usecase.MoveFolderUseCase;
+import com.neurixa.core.files.usecase.OpenDownloadUseCase;
 import com.neurixa.core.files.usecase.RenameFileUseCase;
+import com.neurixa.core.files.usecase.RenameFolderUseCase;
+import com.neurixa.core.files.usecase.ResolvePathUseCase;
+import com.neurixa.core.files.usecase.SearchFileContentUseCase;
 import com.neurixa.core.files.usecase.UploadFileUseCase;
+import com.neurixa.core.files.usecase.VerifyFeaturedImageUseCase;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
 @Configuration
 public class FileUseCaseConfiguration {
     @Bean
@@ -22,14 +44,37 @@ public class FileUseCaseConfiguration {
                                                FileVersionRepository fileVersionRepository,
                                                FolderRepository folderRepository,
                                                StorageProvider storageProvider,
-                                               StorageProperties storageProperties) {
+                                               StorageProperties storageProperties,
+                                               ProcessingQueue processingQueue,
+                                               ChangeLogRepository changeLogRepository) {
         return new UploadFileUseCase(fileRepository, fileVersionRepository, folderRepository, storageProvider,
-                storageProperties.getAllowedMimeTypes(), storageProperties.getMaxFileSize());
+                storageProperties.getAllowedMimeTypes(), storageProperties.getMaxFileSize(), processingQueue,
+                changeLogRepository);
+    }
+
+    @Bean
+    public GetFileUseCase getFileUseCase(FileRepository fileRepository) {
+        return new GetFileUseCase(fileRepository);
+    }
+
+    @Bean
+    public CreateFolderUseCase createFolderUseCase(FolderRepository folderRepository, ChangeLogRepository changeLogRepository) {
+        return new CreateFolderUseCase(folderRepository, changeLogRepository);
+    }
+
+    @Bean
+    public RenameFolderUseCase renameFolderUseCase(FolderRepository folderRepository, ChangeLogRepository changeLogRepository) {
+        return new RenameFolderUseCase(folderRepository, changeLogRepository);
+    }
+
+    @Bean
+    public MoveFolderUseCase moveFolderUseCase(FolderRepository folderRepository, ChangeLogRepository changeLogRepository) {
+        return new MoveFolderUseCase(folderRepository, changeLogRepository);
     }
 
     @Bean
-    public CreateFolderUseCase createFolderUseCase(FolderRepository folderRepository) {
-        return new CreateFolderUseCase(folderRepository);
+    public ResolvePathUseCase resolvePathUseCase(FolderRepository folderRepository, FileRepository fileRepository) {
+        return new ResolvePathUseCase(folderRepository, fileRepository);
     }
 
     @Bean
@@ -43,17 +88,79 @@ public class FileUseCaseConfiguration {
     }
 
     @Bean
-    public RenameFileUseCase renameFileUseCase(FileRepository fileRepository) {
-        return new RenameFileUseCase(fileRepository);
+    public RenameFileUseCase renameFileUseCase(FileRepository fileRepository, ChangeLogRepository changeLogRepository) {
+        return new RenameFileUseCase(fileRepository, changeLogRepository);
+    }
+
+    @Bean
+    public MoveFileUseCase moveFileUseCase(FileRepository fileRepository, FolderRepository folderRepository,
+                                           ChangeLogRepository changeLogRepository) {
+        return new MoveFileUseCase(fileRepository, folderRepository, changeLogRepository);
+    }
+
+    @Bean
+    public DeleteFileUseCase deleteFileUseCase(FileRepository fileRepository, ChangeLogRepository changeLogRepository,
+                                               ContentIndex contentIndex) {
+        return new DeleteFileUseCase(fileRepository, changeLogRepository, contentIndex);
+    }
+
+    @Bean
+    public BulkMoveFilesUseCase bulkMoveFilesUseCase(FileRepository fileRepository, FolderRepository folderRepository,
+                                                     ChangeLogRepository changeLogRepository) {
+        return new BulkMoveFilesUseCase(fileRepository, folderRepository, changeLogRepository);
+    }
+
+    @Bean
+    public BulkDeleteFilesUseCase bulkDeleteFilesUseCase(FileRepository fileRepository, ChangeLogRepository changeLogRepository,
+                                                         ContentIndex contentIndex) {
+        return new BulkDeleteFilesUseCase(fileRepository, changeLogRepository, contentIndex);
+    }
+
+    @Bean
+    public SearchFileContentUseCase searchFileContentUseCase(FileRepository fileRepository, ContentIndex contentIndex) {
+        return new SearchFileContentUseCase(fileRepository, contentIndex);
+    }
+
+    @Bean
+    public ListFileVersionsUseCase listFileVersionsUseCase(FileRepository fileRepository,
+                                                           FileVersionRepository fileVersionRepository) {
+        return new ListFileVersionsUseCase(fileRepository, fileVersionRepository);
+    }
+
+    @Bean
+    public GetPublicMediaUseCase getPublicMediaUseCase(FileRepository fileRepository,
+                                                       FileVersionRepository fileVersionRepository) {
+        return new GetPublicMediaUseCase(fileRepository, fileVersionRepository);
+    }
+
+    @Bean
+    public VerifyFeaturedImageUseCase verifyFeaturedImageUseCase(FileRepository fileRepository) {
+        return new VerifyFeaturedImageUseCase(fileRepository);
+    }
+
+    @Bean
+    public DownloadLinkSigner downloadLinkSigner(@Value("${neurixa.files.downloads.secret}") String secret) {
+        return new DownloadLinkSigner(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Bean
+    public CreateDownloadLinkUseCase createDownloadLinkUseCase(FileRepository fileRepository,
+                                                               FileVersionRepository fileVersionRepository,
+                                                               DownloadLinkSigner downloadLinkSigner,
+                                                               @Value("${neurixa.files.downloads.default-ttl:PT15M}") Duration defaultTtl,
+                                                               @Value("${neurixa.files.downloads.max-ttl:PT24H}") Duration maxTtl) {
+        return new CreateDownloadLinkUseCase(fileRepository, fileVersionRepository, downloadLinkSigner,
+                defaultTtl, maxTtl, Clock.systemUTC());
     }
 
     @Bean
-    public MoveFileUseCase moveFileUseCase(FileRepository fileRepository, FolderRepository folderRepository) {
-        return new MoveFileUseCase(fileRepository, folderRepository);
+    public OpenDownloadUseCase openDownloadUseCase(DownloadLinkSigner downloadLinkSigner, StorageProvider storageProvider) {
+        return new OpenDownloadUseCase(downloadLinkSigner, storageProvider, Clock.systemUTC());
     }
 
     @Bean
-    public DeleteFileUseCase deleteFileUseCase(FileRepository fileRepository) {
-        return new DeleteFileUseCase(fileRepository);
+    public GetChangesUseCase getChangesUseCase(ChangeLogRepository changeLogRepository,
+                                               @Value("${neurixa.files.changes.retention:P30D}") Duration retention) {
+        return new GetChangesUseCase(changeLogRepository, retention, Clock.systemUTC());
     }
 }
@@ -0,0 +1,28 @@
+package com.neurixa.configuration;
+
+import com.neurixa.adapter.maintenance.MongoTombstoneCompactor;
+import com.neurixa.maintenance.TombstoneCompactionWorker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Archiving of soft-deleted documents. Safe to run on several nodes at once;
+ * set {@code neurixa.maintenance.tombstones.enabled=false} to keep it on fewer.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "neurixa.maintenance.tombstones", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TombstoneCompactionConfiguration {
+
+    @Bean
+    public TombstoneCompactionWorker tombstoneCompactionWorker(MongoTombstoneCompactor mongoTombstoneCompactor,
+                                                               @Value("${neurixa.maintenance.tombstones.retention:P30D}") Duration retention) {
+        return new TombstoneCompactionWorker(mongoTombstoneCompactor, retention, Clock.systemUTC());
+    }
+}
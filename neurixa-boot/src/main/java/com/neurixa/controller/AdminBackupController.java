@@ -0,0 +1,47 @@
+package com.neurixa.controller;
+
+import com.neurixa.adapter.backup.BackupArchiver;
+import com.neurixa.dto.response.BackupRestoreResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Backups stream to and from the raw servlet streams: the archive is never buffered
+ * or staged on disk, and a long transfer is not cut off by an async request timeout.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/backup")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class AdminBackupController {
+
+    private static final String ZIP = "application/zip";
+    private static final DateTimeFormatter FILE_STAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final BackupArchiver backupArchiver;
+
+    @GetMapping(produces = ZIP)
+    public void backup(HttpServletResponse response) throws IOException {
+        response.setContentType(ZIP);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"neurixa-backup-" + FILE_STAMP.format(Instant.now()) + ".zip\"");
+        backupArchiver.backup(response.getOutputStream());
+    }
+
+    @PostMapping(value = "/restore", consumes = ZIP)
+    public ResponseEntity<BackupRestoreResponse> restore(HttpServletRequest request) throws IOException {
+        BackupArchiver.RestoreSummary summary = backupArchiver.restore(request.getInputStream());
+        return ResponseEntity.ok(new BackupRestoreResponse(summary.documents(), summary.duplicatesSkipped(), summary.blobs()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.neurixa.controller;
+
+import com.neurixa.adapter.files.storage.LocalStorageProvider;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Storage maintenance. A rebalance walks every local volume, so it runs in the background
+ * and only on request or when the volumes change, never on every boot.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/storage")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class AdminStorageController {
+
+    private final ObjectProvider<LocalStorageProvider> localStorageProvider;
+
+    /** 202 when a pass starts, 409 when one is already running, 404 without local storage. */
+    @PostMapping("/rebalance")
+    public ResponseEntity<Void> rebalance() {
+        LocalStorageProvider provider = localStorageProvider.getIfAvailable();
+        if (provider == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return provider.requestRebalance()
+                ? ResponseEntity.accepted().build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.neurixa.controller;
+
+import com.neurixa.core.domain.User;
+import com.neurixa.core.files.domain.ChangePage;
+import com.neurixa.core.files.usecase.GetChangesUseCase;
+import com.neurixa.core.usecase.GetUserByUsernameUseCase;
+import com.neurixa.dto.response.ChangeFeedResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Incremental sync for clients that mirror a user's file tree.
+ * Call without {@code since} to get a starting token, then poll with the returned {@code nextToken}.
+ * A 410 response means the token is older than the retention window and the client must re-list.
+ */
+@RestController
+@RequestMapping("/api/v1/changes")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class ChangeFeedController {
+
+    private final GetUserByUsernameUseCase getUserByUsernameUseCase;
+    private final GetChangesUseCase getChangesUseCase;
+
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponse> changes(@RequestParam(value = "since", required = false) String since,
+                                                      @RequestParam(defaultValue = "" + GetChangesUseCase.DEFAULT_LIMIT) int limit,
+                                                      Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        ChangePage page = getChangesUseCase.execute(user.getId(), since, limit);
+        List<ChangeFeedResponse.Change> changes = page.changes().stream()
+                .map(e -> new ChangeFeedResponse.Change(e.sequence(), e.entityType(), e.entityId(), e.type(),
+                        e.name(), e.parentId(), e.occurredAt()))
+                .toList();
+        return ResponseEntity.ok(new ChangeFeedResponse(changes, page.nextToken(), page.hasMore()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.neurixa.controller;
+
+import com.neurixa.core.files.download.DownloadGrant;
+import com.neurixa.core.files.download.FileDownload;
+import com.neurixa.core.files.usecase.OpenDownloadUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Serves signed download links minted by {@code POST /api/v1/files/{id}/download-link}.
+ * No JWT: the token itself is the credential, verified without touching the database,
+ * and responses are publicly cacheable until the link expires.
+ */
+@RestController
+@RequestMapping("/api/v1/downloads")
+@RequiredArgsConstructor
+public class DownloadController {
+
+    private final OpenDownloadUseCase openDownloadUseCase;
+    private final Clock clock = Clock.systemUTC();
+
+    @GetMapping("/{token}")
+    public ResponseEntity<InputStreamResource> download(@PathVariable String token) {
+        FileDownload download = openDownloadUseCase.execute(token);
+        DownloadGrant grant = download.grant();
+        long maxAge = Math.max(0, Duration.between(clock.instant(), grant.expiresAt()).getSeconds());
+        MediaType mediaType = grant.mimeType() != null
+                ? MediaType.parseMediaType(grant.mimeType())
+                : MediaType.APPLICATION_OCTET_STREAM;
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAge)).cachePublic())
+                .header("Content-Disposition", ContentDisposition.inline()
+                        .filename(grant.filename(), StandardCharsets.UTF_8).build().toString())
+                .header("X-Content-Type-Options", "nosniff")
+                .body(new InputStreamResource(download.content()));
+    }
+}
@@ -3,25 +3,51 @@ package com.neurixa.controller;
 import com.neurixa.core.domain.User;
 import com.neurixa.core.domain.UserId;
 import com.neurixa.core.usecase.GetUserByUsernameUseCase;
+import com.neurixa.core.files.domain.BulkOperationResult;
+import com.neurixa.core.files.domain.ContentSearchHit;
 import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.FileSort;
+import com.neurixa.core.files.domain.FileStatus;
+import com.neurixa.core.files.domain.FileVersion;
+import com.neurixa.core.files.domain.FileVersionPage;
 import com.neurixa.core.files.domain.Folder;
 import com.neurixa.core.files.domain.FolderContent;
 import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.domain.ResolvedPath;
 import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.download.DownloadLink;
+import com.neurixa.core.files.usecase.BulkDeleteFilesUseCase;
+import com.neurixa.core.files.usecase.BulkMoveFilesUseCase;
+import com.neurixa.core.files.usecase.CreateDownloadLinkUseCase;
 import com.neurixa.core.files.usecase.CreateFolderUseCase;
 import com.neurixa.core.files.usecase.DeleteFileUseCase;
+import com.neurixa.core.files.usecase.GetFileUseCase;
+import com.neurixa.core.files.usecase.ListFileVersionsUseCase;
 import com.neurixa.core.files.usecase.ListFolderContentUseCase;
 import com.neurixa.core.files.usecase.MoveFileUseCase;
+import com.neurixa.core.files.usecase.MoveFolderUseCase;
 import com.neurixa.core.files.usecase.RenameFileUseCase;
+import com.neurixa.core.files.usecase.RenameFolderUseCase;
+import com.neurixa.core.files.usecase.ResolvePathUseCase;
+import com.neurixa.core.files.usecase.SearchFileContentUseCase;
 import com.neurixa.core.files.usecase.UploadFileUseCase;
+import com.neurixa.dto.request.BulkDeleteFilesRequest;
+import com.neurixa.dto.request.BulkMoveFilesRequest;
 import com.neurixa.dto.request.CreateFolderRequest;
 import com.neurixa.dto.request.MoveFileRequest;
+import com.neurixa.dto.request.MoveFolderRequest;
 import com.neurixa.dto.request.RenameFileRequest;
+import com.neurixa.dto.request.RenameFolderRequest;
+import com.neurixa.dto.response.BulkOperationResponse;
+import com.neurixa.dto.response.ContentSearchResultResponse;
+import com.neurixa.dto.response.DownloadLinkResponse;
 import com.neurixa.dto.response.FileResponse;
+import com.neurixa.dto.response.FileVersionResponse;
 import org.springframework.transaction.annotation.Transactional;
 import com.neurixa.dto.response.FolderContentPageResponse;
 import com.neurixa.dto.response.FolderContentResponse;
 import com.neurixa.dto.response.FolderResponse;
+import com.neurixa.dto.response.ResolvedPathResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +60,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.Principal;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -49,11 +76,21 @@ public class FileController {
     private final RenameFileUseCase renameFileUseCase;
     private final MoveFileUseCase moveFileUseCase;
     private final DeleteFileUseCase deleteFileUseCase;
+    private final BulkMoveFilesUseCase bulkMoveFilesUseCase;
+    private final BulkDeleteFilesUseCase bulkDeleteFilesUseCase;
+    private final GetFileUseCase getFileUseCase;
+    private final CreateDownloadLinkUseCase createDownloadLinkUseCase;
+    private final RenameFolderUseCase renameFolderUseCase;
+    private final MoveFolderUseCase moveFolderUseCase;
+    private final ResolvePathUseCase resolvePathUseCase;
+    private final ListFileVersionsUseCase listFileVersionsUseCase;
+    private final SearchFileContentUseCase searchFileContentUseCase;
     @Autowired(required = false)
     private com.neurixa.core.files.usecase.ListFolderContentPagedUseCase listFolderContentPagedUseCase;
 
-    // Writes to fileRepository AND fileVersionRepository — must be atomic.
+    // Writes to fileRepository, fileVersionRepository AND the processing queue — must be atomic.
     // Requires MongoDB replica set for true transaction support.
+    // Returns 202 while the file is still UPLOADING; poll GET /files/{id} or watch the change feed for PROCESSED.
     @Transactional
     @PostMapping(path = "/files/upload", consumes = {"multipart/form-data"})
     public ResponseEntity<FileResponse> upload(@RequestPart("file") MultipartFile file,
@@ -71,7 +108,8 @@ public class FileController {
                     parent,
                     is
             );
-            return ResponseEntity.status(HttpStatus.CREATED).body(toFileResponse(stored));
+            HttpStatus status = stored.getStatus() == FileStatus.UPLOADING ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+            return ResponseEntity.status(status).body(toFileResponse(stored));
         }
     }
 
@@ -84,6 +122,35 @@ public class FileController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toFolderResponse(folder));
     }
 
+    @PutMapping("/folders/{id}/rename")
+    public ResponseEntity<FolderResponse> renameFolder(@PathVariable String id, @Valid @RequestBody RenameFolderRequest request, Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        Folder updated = renameFolderUseCase.execute(user.getId(), new FolderId(id), request.name());
+        return ResponseEntity.ok(toFolderResponse(updated));
+    }
+
+    @PutMapping("/folders/{id}/move")
+    public ResponseEntity<FolderResponse> moveFolder(@PathVariable String id, @RequestBody MoveFolderRequest request, Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        FolderId target = request.targetParentId() != null && !request.targetParentId().isBlank() ? new FolderId(request.targetParentId()) : null;
+        Folder updated = moveFolderUseCase.execute(user.getId(), new FolderId(id), target);
+        return ResponseEntity.ok(toFolderResponse(updated));
+    }
+
+    /**
+     * Resolves a path such as {@code /Projects/2026/Invoices/report.pdf} to the folder or
+     * file it names. Matching ignores case; the leading slash is optional.
+     */
+    @GetMapping("/paths/resolve")
+    public ResponseEntity<ResolvedPathResponse> resolvePath(@RequestParam("path") String path, Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        ResolvedPath resolved = resolvePathUseCase.execute(user.getId(), path);
+        FolderResponse folder = resolved.folder() != null ? toFolderResponse(resolved.folder()) : null;
+        return ResponseEntity.ok(resolved.isFile()
+                ? new ResolvedPathResponse("FILE", folder, toFileResponse(resolved.file()))
+                : new ResolvedPathResponse("FOLDER", folder, null));
+    }
+
     @GetMapping("/folders/contents")
     public ResponseEntity<FolderContentResponse> listContents(@RequestParam(value = "parentId", required = false) String parentId,
                                                               Principal principal) {
@@ -102,11 +169,14 @@ public class FileController {
                                                                        @RequestParam(defaultValue = "20") int sizeFolders,
                                                                        @RequestParam(defaultValue = "0") int pageFiles,
                                                                        @RequestParam(defaultValue = "20") int sizeFiles,
+                                                                       @RequestParam(value = "sort", required = false) String sort,
+                                                                       @RequestParam(value = "mimeType", required = false) String mimeType,
                                                                        Principal principal) {
         User user = getUserByUsernameUseCase.execute(principal.getName());
         UserId ownerId = user.getId();
         FolderId parent = parentId != null && !parentId.isBlank() ? new FolderId(parentId) : null;
-        com.neurixa.core.files.domain.FolderContentPaged content = listFolderContentPagedUseCase.execute(ownerId, parent, pageFolders, sizeFolders, pageFiles, sizeFiles);
+        com.neurixa.core.files.domain.FolderContentPaged content = listFolderContentPagedUseCase.execute(ownerId, parent, pageFolders, sizeFolders, pageFiles, sizeFiles,
+                FileSort.parse(sort), mimeType);
         List<FolderResponse> folders = content.folders().stream().map(this::toFolderResponse).toList();
         List<FileResponse> files = content.files().stream().map(this::toFileResponse).toList();
         com.neurixa.dto.response.PageResponse<FolderResponse> foldersPage = new com.neurixa.dto.response.PageResponse<>(
@@ -124,6 +194,60 @@ public class FileController {
         return ResponseEntity.ok(new FolderContentPageResponse(foldersPage, filesPage));
     }
 
+    /**
+     * Ranked search over the text of the caller's documents. Files are indexed once
+     * processing finishes, so a fresh upload is searchable after its PROCESSED change.
+     */
+    @GetMapping("/files/search")
+    public ResponseEntity<com.neurixa.dto.response.PageResponse<ContentSearchResultResponse>> searchContent(@RequestParam("q") String query,
+                                                                                                          @RequestParam(defaultValue = "0") int page,
+                                                                                                          @RequestParam(defaultValue = "20") int size,
+                                                                                                          Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        com.neurixa.core.domain.Page<ContentSearchHit> hits = searchFileContentUseCase.execute(user.getId(), query, page, size);
+        List<ContentSearchResultResponse> content = hits.getContent().stream()
+                .map(h -> new ContentSearchResultResponse(toFileResponse(h.file()), h.score(), h.snippet()))
+                .toList();
+        return ResponseEntity.ok(new com.neurixa.dto.response.PageResponse<>(content, hits.getPageNumber(), hits.getPageSize(),
+                hits.getTotalElements(), hits.getTotalPages(), hits.hasNext(), hits.hasPrevious()));
+    }
+
+    @GetMapping("/files/{id}")
+    public ResponseEntity<FileResponse> get(@PathVariable String id, Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        StoredFile file = getFileUseCase.execute(user.getId(), new FileId(id));
+        return ResponseEntity.ok(toFileResponse(file));
+    }
+
+    @GetMapping("/files/{id}/versions")
+    public ResponseEntity<com.neurixa.dto.response.PageResponse<FileVersionResponse>> listVersions(@PathVariable String id,
+                                                                                                 @RequestParam(defaultValue = "0") int page,
+                                                                                                 @RequestParam(defaultValue = "20") int size,
+                                                                                                 Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        FileVersionPage versions = listFileVersionsUseCase.execute(user.getId(), new FileId(id), page, size);
+        List<FileVersionResponse> content = versions.versions().stream().map(this::toFileVersionResponse).toList();
+        int totalPages = (int) Math.ceil((double) versions.totalVersions() / Math.max(size, 1));
+        return ResponseEntity.ok(new com.neurixa.dto.response.PageResponse<>(
+                content, page, size, versions.totalVersions(), totalPages, page < totalPages - 1, page > 0));
+    }
+
+    /**
+     * Mints a signed link to a file version, served by {@code GET /api/v1/downloads/{token}}
+     * without authentication. {@code ttlSeconds} is capped by the server.
+     */
+    @PostMapping("/files/{id}/download-link")
+    public ResponseEntity<DownloadLinkResponse> createDownloadLink(@PathVariable String id,
+                                                                   @RequestParam(value = "version", required = false) Integer version,
+                                                                   @RequestParam(value = "ttlSeconds", required = false) Long ttlSeconds,
+                                                                   Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        Duration ttl = ttlSeconds != null ? Duration.ofSeconds(ttlSeconds) : null;
+        DownloadLink link = createDownloadLinkUseCase.execute(user.getId(), new FileId(id), version, ttl);
+        return ResponseEntity.ok(new DownloadLinkResponse("/api/v1/downloads/" + link.token(),
+                link.versionNumber(), link.expiresAt()));
+    }
+
     @PutMapping("/files/{id}/rename")
     public ResponseEntity<FileResponse> rename(@PathVariable String id, @Valid @RequestBody RenameFileRequest request, Principal principal) {
         User user = getUserByUsernameUseCase.execute(principal.getName());
@@ -146,6 +270,30 @@ public class FileController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/files/bulk/move")
+    public ResponseEntity<BulkOperationResponse> bulkMove(@Valid @RequestBody BulkMoveFilesRequest request, Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        FolderId target = request.targetFolderId() != null && !request.targetFolderId().isBlank() ? new FolderId(request.targetFolderId()) : null;
+        List<FileId> ids = request.fileIds().stream().map(FileId::new).toList();
+        BulkOperationResult result = bulkMoveFilesUseCase.execute(user.getId(), ids, target);
+        return ResponseEntity.ok(toBulkResponse(result));
+    }
+
+    @PostMapping("/files/bulk/delete")
+    public ResponseEntity<BulkOperationResponse> bulkDelete(@Valid @RequestBody BulkDeleteFilesRequest request, Principal principal) {
+        User user = getUserByUsernameUseCase.execute(principal.getName());
+        List<FileId> ids = request.fileIds().stream().map(FileId::new).toList();
+        BulkOperationResult result = bulkDeleteFilesUseCase.execute(user.getId(), ids);
+        return ResponseEntity.ok(toBulkResponse(result));
+    }
+
+    private BulkOperationResponse toBulkResponse(BulkOperationResult result) {
+        List<BulkOperationResponse.Item> items = result.items().stream()
+                .map(i -> new BulkOperationResponse.Item(i.fileId().getValue(), i.status(), i.message()))
+                .toList();
+        return new BulkOperationResponse(result.succeeded(), result.failed(), items);
+    }
+
     private FileResponse toFileResponse(StoredFile f) {
         return new FileResponse(
                 f.getId().getValue(),
@@ -160,12 +308,23 @@ public class FileController {
         );
     }
 
+    private FileVersionResponse toFileVersionResponse(FileVersion v) {
+        return new FileVersionResponse(
+                v.getVersionNumber(),
+                v.getSize(),
+                v.getChecksum() != null ? v.getChecksum().getAlgorithm() : null,
+                v.getChecksum() != null ? v.getChecksum().getValue() : null,
+                v.getCreatedAt()
+        );
+    }
+
     private FolderResponse toFolderResponse(Folder folder) {
         return new FolderResponse(
                 folder.getId().getValue(),
                 folder.getName(),
                 folder.getParentId() != null ? folder.getParentId().getValue() : null,
                 folder.getPath(),
+                folder.getNamePath(),
                 folder.getCreatedAt(),
                 folder.getUpdatedAt()
         );
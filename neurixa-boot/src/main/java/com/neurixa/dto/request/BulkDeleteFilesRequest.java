@@ -0,0 +1,12 @@
+package com.neurixa.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkDeleteFilesRequest(
+        @NotEmpty(message = "At least one file id is required")
+        @Size(max = 1000, message = "At most 1000 files can be deleted per request")
+        List<String> fileIds
+) {}
@@ -0,0 +1,14 @@
+package com.neurixa.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkMoveFilesRequest(
+        @NotEmpty(message = "At least one file id is required")
+        @Size(max = 1000, message = "At most 1000 files can be moved per request")
+        List<String> fileIds,
+
+        String targetFolderId
+) {}
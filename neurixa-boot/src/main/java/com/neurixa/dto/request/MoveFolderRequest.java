@@ -0,0 +1,5 @@
+package com.neurixa.dto.request;
+
+public record MoveFolderRequest(
+        String targetParentId
+) {}
@@ -0,0 +1,12 @@
+package com.neurixa.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public record RenameFolderRequest(
+        @NotBlank(message = "Folder name is required")
+        @Size(min = 1, max = 255, message = "Folder name must be between 1 and 255 characters")
+        @Pattern(regexp = "[^/]*", message = "Folder name must not contain '/'")
+        String name
+) {}
@@ -0,0 +1,9 @@
+package com.neurixa.dto.response;
+
+import java.util.Map;
+
+public record BackupRestoreResponse(
+        Map<String, Long> documents,
+        long duplicatesSkipped,
+        long blobs
+) {}
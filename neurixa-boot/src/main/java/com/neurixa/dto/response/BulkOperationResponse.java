@@ -0,0 +1,17 @@
+package com.neurixa.dto.response;
+
+import com.neurixa.core.files.domain.BulkItemOutcome;
+
+import java.util.List;
+
+public record BulkOperationResponse(
+        long succeeded,
+        long failed,
+        List<Item> items
+) {
+    public record Item(
+            String fileId,
+            BulkItemOutcome.Status status,
+            String message
+    ) {}
+}
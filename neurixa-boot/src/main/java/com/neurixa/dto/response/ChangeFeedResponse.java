@@ -0,0 +1,22 @@
+package com.neurixa.dto.response;
+
+import com.neurixa.core.files.domain.ChangeEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ChangeFeedResponse(
+        List<Change> changes,
+        String nextToken,
+        boolean hasMore
+) {
+    public record Change(
+            long sequence,
+            ChangeEvent.EntityType entityType,
+            String entityId,
+            ChangeEvent.Type type,
+            String name,
+            String parentId,
+            Instant occurredAt
+    ) {}
+}
@@ -0,0 +1,7 @@
+package com.neurixa.dto.response;
+
+public record ContentSearchResultResponse(
+        FileResponse file,
+        double score,
+        String snippet
+) {}
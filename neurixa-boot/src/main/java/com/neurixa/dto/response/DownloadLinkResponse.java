@@ -0,0 +1,9 @@
+package com.neurixa.dto.response;
+
+import java.time.Instant;
+
+public record DownloadLinkResponse(
+        String url,
+        int versionNumber,
+        Instant expiresAt
+) {}
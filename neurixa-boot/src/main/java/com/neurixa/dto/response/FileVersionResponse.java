@@ -0,0 +1,11 @@
+package com.neurixa.dto.response;
+
+import java.time.Instant;
+
+public record FileVersionResponse(
+        int versionNumber,
+        long size,
+        String checksumAlgorithm,
+        String checksumValue,
+        Instant createdAt
+) {}
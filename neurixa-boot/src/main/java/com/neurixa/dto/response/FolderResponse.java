@@ -7,6 +7,7 @@ public record FolderResponse(
         String name,
         String parentId,
         String path,
+        String namePath,
         Instant createdAt,
         Instant updatedAt
 ) {}
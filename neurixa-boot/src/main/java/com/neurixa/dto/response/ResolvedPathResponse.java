@@ -0,0 +1,11 @@
+package com.neurixa.dto.response;
+
+/**
+ * {@code type} is {@code FOLDER} or {@code FILE}. For a file, {@code folder} is its
+ * parent, or null when the file sits in the owner's root.
+ */
+public record ResolvedPathResponse(
+        String type,
+        FolderResponse folder,
+        FileResponse file
+) {}
@@ -1,5 +1,6 @@
 package com.neurixa.exception;
 
+import com.neurixa.adapter.ratelimit.RateLimitExceededException;
 import com.neurixa.core.exception.BusinessRuleViolationException;
 import com.neurixa.core.exception.DomainException;
 import com.neurixa.core.exception.InvalidCredentialsException;
@@ -7,15 +8,20 @@ import com.neurixa.core.exception.InvalidUserStateException;
 import com.neurixa.core.exception.ResourceNotFoundException;
 import com.neurixa.core.exception.UserAlreadyExistsException;
 import com.neurixa.core.exception.UserNotFoundException;
+import com.neurixa.core.files.exception.ChangeTokenExpiredException;
 import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.exception.FolderNameConflictException;
 import com.neurixa.core.files.exception.FolderOwnershipException;
+import com.neurixa.core.files.exception.InvalidDownloadLinkException;
 import com.neurixa.domain.blog.exception.ArticleNotFoundException;
 import com.neurixa.dto.response.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -38,6 +44,12 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), request);
     }
 
+    @ExceptionHandler(FolderNameConflictException.class)
+    public ResponseEntity<ErrorResponse> handleFolderNameConflict(
+            FolderNameConflictException ex, HttpServletRequest request) {
+        return error(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), request);
+    }
+
     // ── 404 Not Found ─────────────────────────────────────────────────────────
 
     @ExceptionHandler(UserNotFoundException.class)
@@ -58,6 +70,27 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request);
     }
 
+    // ── 410 Gone ──────────────────────────────────────────────────────────────
+
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangeTokenExpired(
+            ChangeTokenExpiredException ex, HttpServletRequest request) {
+        return error(HttpStatus.GONE, "Gone", ex.getMessage(), request);
+    }
+
+    // ── 429 Too Many Requests ─────────────────────────────────────────────────
+
+    /** Retry-After in whole seconds, rounded up so a client that honours it is not refused again. */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(
+            RateLimitExceededException ex, HttpServletRequest request) {
+        long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+                .body(new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests",
+                        ex.getMessage(), request.getRequestURI()));
+    }
+
     // ── 422 Unprocessable Entity ──────────────────────────────────────────────
 
     @ExceptionHandler(BusinessRuleViolationException.class)
@@ -78,6 +111,21 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity", ex.getMessage(), request);
     }
 
+    // ── 403 Forbidden ─────────────────────────────────────────────────────────
+
+    @ExceptionHandler(InvalidDownloadLinkException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDownloadLink(
+            InvalidDownloadLinkException ex, HttpServletRequest request) {
+        return error(HttpStatus.FORBIDDEN, "Forbidden", ex.getMessage(), request);
+    }
+
+    /** Raised by {@code @PreAuthorize}; without this the catch-all below would answer 500. */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDenied(
+            AccessDeniedException ex, HttpServletRequest request) {
+        return error(HttpStatus.FORBIDDEN, "Forbidden", "Access denied", request);
+    }
+
     // ── 401 Unauthorized ──────────────────────────────────────────────────────
 
     @ExceptionHandler(InvalidCredentialsException.class)
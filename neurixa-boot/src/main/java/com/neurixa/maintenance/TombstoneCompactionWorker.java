@@ -0,0 +1,40 @@
+package com.neurixa.maintenance;
+
+import com.neurixa.adapter.maintenance.MongoTombstoneCompactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Periodically archives soft-deleted files, folders, comments and articles once they
+ * are older than the retention period. Until then they can still be restored.
+ */
+public class TombstoneCompactionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(TombstoneCompactionWorker.class);
+
+    private final MongoTombstoneCompactor compactor;
+    private final Duration retention;
+    private final Clock clock;
+
+    public TombstoneCompactionWorker(MongoTombstoneCompactor compactor, Duration retention, Clock clock) {
+        if (retention.isNegative()) throw new IllegalArgumentException("retention must not be negative");
+        this.compactor = compactor;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    @Scheduled(initialDelayString = "${neurixa.maintenance.tombstones.initial-delay:PT5M}",
+            fixedDelayString = "${neurixa.maintenance.tombstones.interval:PT1H}")
+    public void compact() {
+        try {
+            compactor.compact(clock.instant().minus(retention));
+        } catch (RuntimeException e) {
+            // Batches already moved stay moved; the next run picks up the rest.
+            log.warn("event=tombstone_compaction_failed error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.neurixa.processing;
+
+import com.neurixa.core.files.domain.ProcessingTask;
+import com.neurixa.core.files.port.ProcessingQueue;
+import com.neurixa.core.files.usecase.ProcessFileUseCase;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls the processing queue and runs claimed tasks on a fixed pool of worker threads.
+ *
+ * Tasks are only claimed while a thread is free, so a node never holds leases it
+ * cannot work on, and processing load stays bounded regardless of upload rate.
+ */
+public class FileProcessingWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(FileProcessingWorker.class);
+
+    private final ProcessingQueue processingQueue;
+    private final ProcessFileUseCase processFileUseCase;
+    private final Duration lease;
+    private final Semaphore freeWorkers;
+    private final ExecutorService executor;
+    private final String workerId;
+
+    public FileProcessingWorker(ProcessingQueue processingQueue,
+                                ProcessFileUseCase processFileUseCase,
+                                int workers,
+                                Duration lease) {
+        if (workers <= 0) throw new IllegalArgumentException("workers must be > 0");
+        this.processingQueue = processingQueue;
+        this.processFileUseCase = processFileUseCase;
+        this.lease = lease;
+        this.freeWorkers = new Semaphore(workers);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "file-processing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.workerId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+
+    @Scheduled(fixedDelayString = "${neurixa.files.processing.poll-interval:PT1S}")
+    public void poll() {
+        while (freeWorkers.tryAcquire()) {
+            Optional<ProcessingTask> task;
+            try {
+                task = processingQueue.claim(workerId, lease);
+            } catch (RuntimeException e) {
+                freeWorkers.release();
+                log.warn("event=processing_claim_failed error={}", e.getMessage());
+                return;
+            }
+            if (task.isEmpty()) {
+                freeWorkers.release();
+                return;
+            }
+            executor.execute(() -> run(task.get()));
+        }
+    }
+
+    private void run(ProcessingTask task) {
+        try {
+            processFileUseCase.execute(task);
+        } catch (RuntimeException e) {
+            // The lease expires and another attempt picks the task up.
+            log.error("event=processing_task_crashed taskId={} fileId={}", task.id(), task.fileId().getValue(), e);
+        } finally {
+            freeWorkers.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.neurixa.processing;
+
+import com.neurixa.core.files.usecase.RequeueStalledUploadsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically hands files stuck in UPLOADING back to the processing queue. Every
+ * processing node may run it: enqueuing is idempotent per file version.
+ */
+public class StalledUploadSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(StalledUploadSweeper.class);
+
+    private final RequeueStalledUploadsUseCase requeueStalledUploads;
+
+    public StalledUploadSweeper(RequeueStalledUploadsUseCase requeueStalledUploads) {
+        this.requeueStalledUploads = requeueStalledUploads;
+    }
+
+    @Scheduled(initialDelayString = "${neurixa.files.processing.sweep-interval:PT5M}",
+            fixedDelayString = "${neurixa.files.processing.sweep-interval:PT5M}")
+    public void sweep() {
+        try {
+            requeueStalledUploads.execute();
+        } catch (RuntimeException e) {
+            // The next run tries again.
+            log.warn("event=stalled_upload_sweep_failed error={}", e.getMessage(), e);
+        }
+    }
+}
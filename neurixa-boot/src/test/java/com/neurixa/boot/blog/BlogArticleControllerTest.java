@@ -3,12 +3,22 @@ package com.neurixa.boot.blog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neurixa.application.blog.ArticleCommandService;
 import com.neurixa.application.blog.ArticleQueryService;
+import com.neurixa.application.blog.ArticleSearchService;
+import com.neurixa.application.blog.IncrementViewCountUseCase;
+import com.neurixa.application.blog.PublishedArticleSlice;
 import com.neurixa.config.security.JwtAuthenticationEntryPoint;
 import com.neurixa.config.security.JwtAuthenticationFilter;
 import com.neurixa.config.security.JwtTokenProvider;
 import com.neurixa.config.security.SecurityConfig;
 import com.neurixa.config.security.TokenBlacklistService;
+import com.neurixa.core.domain.User;
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.usecase.VerifyFeaturedImageUseCase;
+import com.neurixa.core.usecase.GetUserByUsernameUseCase;
 import com.neurixa.domain.blog.Article;
+import com.neurixa.domain.blog.ArticleSummary;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -37,6 +47,10 @@ class BlogArticleControllerTest {
 
     @MockBean ArticleCommandService articleCommandService;
     @MockBean ArticleQueryService articleQueryService;
+    @MockBean IncrementViewCountUseCase incrementViewCountUseCase;
+    @MockBean ArticleSearchService articleSearchService;
+    @MockBean GetUserByUsernameUseCase getUserByUsernameUseCase;
+    @MockBean VerifyFeaturedImageUseCase verifyFeaturedImageUseCase;
     @MockBean JwtTokenProvider jwtTokenProvider;
     @MockBean TokenBlacklistService tokenBlacklistService;
     @MockBean UserDetailsService userDetailsService;
@@ -92,8 +106,8 @@ class BlogArticleControllerTest {
     @Test
     @WithMockUser
     void listArticles_returns200WithPage() throws Exception {
-        Article a1 = Article.createDraft("Post 1", "Content 1", "Excerpt 1");
-        Article a2 = Article.createDraft("Post 2", "Content 2", "Excerpt 2");
+        ArticleSummary a1 = ArticleSummary.of(Article.createDraft("Post 1", "Content 1", "Excerpt 1"));
+        ArticleSummary a2 = ArticleSummary.of(Article.createDraft("Post 2", "Content 2", "Excerpt 2"));
         when(articleQueryService.listPublished(0, 10)).thenReturn(List.of(a1, a2));
         when(articleQueryService.countPublished()).thenReturn(2L);
 
@@ -103,9 +117,52 @@ class BlogArticleControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].excerpt").value("Excerpt 1"))
+                .andExpect(jsonPath("$.content[0].content").doesNotExist())
                 .andExpect(jsonPath("$.totalElements").value(2));
     }
 
+    @Test
+    @WithMockUser
+    void listArticlesAfter_returns200WithNextCursor() throws Exception {
+        ArticleSummary a1 = ArticleSummary.of(Article.createDraft("Post 1", "Content 1", "Excerpt 1"));
+        when(articleQueryService.listPublishedAfter("", 1))
+                .thenReturn(new PublishedArticleSlice(List.of(a1), "next"));
+
+        mockMvc.perform(get("/api/v1/blog/articles")
+                        .param("cursor", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        verify(articleQueryService, never()).countPublished();
+    }
+
+    @Test
+    @WithMockUser
+    void listArticlesAfter_invalidCursor_returns400() throws Exception {
+        when(articleQueryService.listPublishedAfter("bad", 10))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/v1/blog/articles").param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void searchArticles_returnsRankedSummaries() throws Exception {
+        ArticleSummary best = ArticleSummary.of(Article.createDraft("Kafka in depth", "Content", "Excerpt"));
+        ArticleSummary other = ArticleSummary.of(Article.createDraft("Queues", "Kafka mention", "Excerpt"));
+        when(articleSearchService.search("kafka", 10)).thenReturn(List.of(best, other));
+
+        mockMvc.perform(get("/api/v1/blog/articles").param("q", "kafka"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Kafka in depth"));
+        verify(articleQueryService, never()).listPublished(anyInt(), anyInt());
+    }
+
     @Test
     void listArticles_unauthenticated_returns401() throws Exception {
         mockMvc.perform(get("/api/v1/blog/articles"))
@@ -125,6 +182,21 @@ class BlogArticleControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("Hello World"))
                 .andExpect(jsonPath("$.slug").value(slug));
+        verify(incrementViewCountUseCase, never()).execute(any());
+    }
+
+    @Test
+    @WithMockUser
+    void getArticleBySlug_published_countsView() throws Exception {
+        Article article = Article.createDraft("Hello World", "Content", "Excerpt");
+        article.publish();
+        String slug = article.getSlug().getValue();
+        when(articleQueryService.getBySlug(slug)).thenReturn(article);
+
+        mockMvc.perform(get("/api/v1/blog/articles/{slug}", slug))
+                .andExpect(status().isOk());
+
+        verify(incrementViewCountUseCase).execute(article.getArticleId().getValue());
     }
 
     @Test
@@ -227,6 +299,46 @@ class BlogArticleControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    // ── PUT /api/blog/articles/{id}/featured-image ────────────────────────────
+
+    @Test
+    @WithMockUser(username = "author")
+    void changeFeaturedImage_ownImage_returns200() throws Exception {
+        Article article = Article.createDraft("Title", "Content", "Excerpt");
+        UUID id = article.getArticleId().getValue();
+        UUID fileId = UUID.randomUUID();
+        User author = mock(User.class);
+        when(author.getId()).thenReturn(new UserId("user-123"));
+        when(getUserByUsernameUseCase.execute("author")).thenReturn(author);
+        when(articleCommandService.changeFeaturedImage(id, fileId)).thenReturn(article);
+
+        mockMvc.perform(put("/api/v1/blog/articles/{id}/featured-image", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("fileId", fileId))))
+                .andExpect(status().isOk());
+
+        verify(verifyFeaturedImageUseCase).execute(new UserId("user-123"), new FileId(fileId.toString()));
+    }
+
+    @Test
+    @WithMockUser(username = "author")
+    void changeFeaturedImage_someoneElsesFile_returns404() throws Exception {
+        UUID id = UUID.randomUUID();
+        UUID fileId = UUID.randomUUID();
+        User author = mock(User.class);
+        when(author.getId()).thenReturn(new UserId("user-123"));
+        when(getUserByUsernameUseCase.execute("author")).thenReturn(author);
+        doThrow(new ResourceNotFoundException("File not found"))
+                .when(verifyFeaturedImageUseCase).execute(new UserId("user-123"), new FileId(fileId.toString()));
+
+        mockMvc.perform(put("/api/v1/blog/articles/{id}/featured-image", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("fileId", fileId))))
+                .andExpect(status().isNotFound());
+
+        verify(articleCommandService, never()).changeFeaturedImage(any(), any());
+    }
+
     // ── POST /api/blog/articles/{id}/restore ──────────────────────────────────
 
     @Test
@@ -0,0 +1,144 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.adapter.ratelimit.CommentRateLimiter;
+import com.neurixa.adapter.ratelimit.RateLimitExceededException;
+import com.neurixa.application.blog.CommentBatchResult;
+import com.neurixa.application.blog.CommentCommandService;
+import com.neurixa.application.blog.CommentQueryService;
+import com.neurixa.application.blog.PendingCommentCount;
+import com.neurixa.application.blog.PendingCommentSlice;
+import com.neurixa.config.security.JwtAuthenticationEntryPoint;
+import com.neurixa.config.security.JwtAuthenticationFilter;
+import com.neurixa.config.security.JwtTokenProvider;
+import com.neurixa.config.security.SecurityConfig;
+import com.neurixa.config.security.TokenBlacklistService;
+import com.neurixa.domain.blog.Comment;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BlogCommentController.class)
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtAuthenticationEntryPoint.class})
+class BlogCommentControllerTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @MockBean CommentCommandService commentCommandService;
+    @MockBean CommentQueryService commentQueryService;
+    @MockBean PendingCommentCount pendingCommentCount;
+    @MockBean CommentRateLimiter commentRateLimiter;
+    @MockBean JwtTokenProvider jwtTokenProvider;
+    @MockBean TokenBlacklistService tokenBlacklistService;
+    @MockBean UserDetailsService userDetailsService;
+
+    // ── POST /api/v1/blog/comments ────────────────────────────────────────────
+
+    @Test
+    @WithMockUser
+    void addComment_rateLimited_returns429WithRetryAfter() throws Exception {
+        UUID articleId = UUID.randomUUID();
+        doThrow(new RateLimitExceededException(Duration.ofMillis(1500)))
+                .when(commentRateLimiter).acquire(anyString(), eq("spam@example.com"), eq(articleId));
+
+        mockMvc.perform(post("/api/v1/blog/comments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"articleId\":\"" + articleId + "\",\"authorName\":\"Spammer\","
+                                + "\"authorEmail\":\"spam@example.com\",\"content\":\"Buy now!\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+        verify(commentCommandService, never()).add(any(), any(), any(), any(), any());
+    }
+
+    // ── GET /api/v1/blog/comments/pending ─────────────────────────────────────
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void listPending_returnsSliceWithCursor() throws Exception {
+        Comment comment = Comment.create(UUID.randomUUID(), "Alice", "alice@example.com", "Great post!", null);
+        when(commentQueryService.listPending(null, 50)).thenReturn(new PendingCommentSlice(List.of(comment), "next"));
+
+        mockMvc.perform(get("/api/v1/blog/comments/pending"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].authorEmail").value("alice@example.com"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void countPending_returnsCachedCount() throws Exception {
+        when(pendingCommentCount.get()).thenReturn(42L);
+
+        mockMvc.perform(get("/api/v1/blog/comments/pending/count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(42));
+    }
+
+    @Test
+    void listPending_unauthenticated_returns401() throws Exception {
+        mockMvc.perform(get("/api/v1/blog/comments/pending"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void listPending_asUser_returns403() throws Exception {
+        mockMvc.perform(get("/api/v1/blog/comments/pending"))
+                .andExpect(status().isForbidden());
+        verify(commentQueryService, never()).listPending(any(), anyInt());
+    }
+
+    // ── POST /api/v1/blog/comments/batch/* ────────────────────────────────────
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void approveComments_returnsUpdatedAndSkipped() throws Exception {
+        UUID approved = UUID.randomUUID();
+        UUID skipped = UUID.randomUUID();
+        when(commentCommandService.approveAll(List.of(approved, skipped)))
+                .thenReturn(new CommentBatchResult(List.of(approved), List.of(skipped)));
+
+        mockMvc.perform(post("/api/v1/blog/comments/batch/approve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + approved + "\",\"" + skipped + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[0]").value(approved.toString()))
+                .andExpect(jsonPath("$.skipped[0]").value(skipped.toString()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void rejectComments_emptyIds_returns400() throws Exception {
+        mockMvc.perform(post("/api/v1/blog/comments/batch/reject")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+        verify(commentCommandService, never()).rejectAll(anyCollection());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void deleteComments_asUser_returns403() throws Exception {
+        mockMvc.perform(post("/api/v1/blog/comments/batch/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + UUID.randomUUID() + "\"]}"))
+                .andExpect(status().isForbidden());
+        verify(commentCommandService, never()).deleteAll(anyCollection());
+    }
+}
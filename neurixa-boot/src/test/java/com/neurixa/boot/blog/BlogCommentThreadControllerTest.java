@@ -0,0 +1,68 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.application.blog.CommentQueryService;
+import com.neurixa.application.blog.CommentThread;
+import com.neurixa.application.blog.CommentThreadPage;
+import com.neurixa.config.security.JwtAuthenticationEntryPoint;
+import com.neurixa.config.security.JwtAuthenticationFilter;
+import com.neurixa.config.security.JwtTokenProvider;
+import com.neurixa.config.security.SecurityConfig;
+import com.neurixa.config.security.TokenBlacklistService;
+import com.neurixa.domain.blog.Comment;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BlogCommentThreadController.class)
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtAuthenticationEntryPoint.class})
+class BlogCommentThreadControllerTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @MockBean CommentQueryService commentQueryService;
+    @MockBean JwtTokenProvider jwtTokenProvider;
+    @MockBean TokenBlacklistService tokenBlacklistService;
+    @MockBean UserDetailsService userDetailsService;
+
+    // ── GET /api/v1/public/blog/articles/{articleId}/comments ─────────────────
+
+    @Test
+    void listThreads_unauthenticated_returnsNestedRepliesWithoutEmails() throws Exception {
+        UUID articleId = UUID.randomUUID();
+        Comment root = Comment.create(articleId, "Alice", "alice@example.com", "Great post!", null);
+        Comment reply = Comment.create(articleId, "Bob", "bob@example.com", "Agreed", root.getCommentId().getValue());
+        CommentThread thread = new CommentThread(root, List.of(new CommentThread(reply, List.of())));
+        when(commentQueryService.listThreads(articleId, null, 20))
+                .thenReturn(new CommentThreadPage(List.of(thread), "next"));
+
+        mockMvc.perform(get("/api/v1/public/blog/articles/{articleId}/comments", articleId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].authorName").value("Alice"))
+                .andExpect(jsonPath("$.content[0].authorEmail").doesNotExist())
+                .andExpect(jsonPath("$.content[0].replies[0].content").value("Agreed"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void listThreads_invalidCursor_returns400() throws Exception {
+        UUID articleId = UUID.randomUUID();
+        when(commentQueryService.listThreads(articleId, "bad", 20))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/v1/public/blog/articles/{articleId}/comments", articleId).param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+}
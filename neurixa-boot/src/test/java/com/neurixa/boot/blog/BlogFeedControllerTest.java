@@ -0,0 +1,77 @@
+package com.neurixa.boot.blog;
+
+import com.neurixa.boot.blog.BlogFeedCache.CachedFeed;
+import com.neurixa.boot.blog.BlogFeedCache.Feed;
+import com.neurixa.config.security.JwtAuthenticationEntryPoint;
+import com.neurixa.config.security.JwtAuthenticationFilter;
+import com.neurixa.config.security.JwtTokenProvider;
+import com.neurixa.config.security.SecurityConfig;
+import com.neurixa.config.security.TokenBlacklistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BlogFeedController.class)
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtAuthenticationEntryPoint.class})
+class BlogFeedControllerTest {
+
+    private static final String SITEMAP = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><urlset/>";
+
+    @Autowired MockMvc mockMvc;
+
+    @MockBean BlogFeedCache blogFeedCache;
+    @MockBean JwtTokenProvider jwtTokenProvider;
+    @MockBean TokenBlacklistService tokenBlacklistService;
+    @MockBean UserDetailsService userDetailsService;
+
+    @TempDir Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("sitemap.xml"), SITEMAP, StandardCharsets.UTF_8);
+        when(blogFeedCache.get(Feed.SITEMAP)).thenReturn(
+                new CachedFeed(file, "\"abc\"", Instant.parse("2024-05-01T10:00:00Z"), Files.size(file)));
+    }
+
+    // ── GET /api/v1/public/blog/sitemap.xml ───────────────────────────────────
+
+    @Test
+    void sitemap_unauthenticated_returns200WithValidators() throws Exception {
+        mockMvc.perform(get("/api/v1/public/blog/sitemap.xml"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/xml"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(content().string(SITEMAP));
+    }
+
+    @Test
+    void sitemap_matchingEtag_returns304() throws Exception {
+        mockMvc.perform(get("/api/v1/public/blog/sitemap.xml").header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void sitemap_notModifiedSince_returns304() throws Exception {
+        mockMvc.perform(get("/api/v1/public/blog/sitemap.xml")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 01 May 2024 10:00:00 GMT"))
+                .andExpect(status().isNotModified());
+    }
+}
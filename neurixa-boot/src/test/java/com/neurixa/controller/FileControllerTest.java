@@ -4,18 +4,31 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neurixa.core.domain.Role;
 import com.neurixa.core.domain.User;
 import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.BulkItemOutcome;
+import com.neurixa.core.files.domain.BulkOperationResult;
+import com.neurixa.core.files.domain.FileId;
 import com.neurixa.core.files.domain.FolderId;
 import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.download.DownloadLink;
 import com.neurixa.config.security.JwtTokenProvider;
 import com.neurixa.config.security.TokenBlacklistService;
 import com.neurixa.core.files.exception.FileValidationException;
 import com.neurixa.core.usecase.GetUserByUsernameUseCase;
 import com.neurixa.core.files.usecase.UploadFileUseCase;
+import com.neurixa.core.files.usecase.BulkDeleteFilesUseCase;
+import com.neurixa.core.files.usecase.BulkMoveFilesUseCase;
+import com.neurixa.core.files.usecase.CreateDownloadLinkUseCase;
 import com.neurixa.core.files.usecase.CreateFolderUseCase;
 import com.neurixa.core.files.usecase.DeleteFileUseCase;
+import com.neurixa.core.files.usecase.GetFileUseCase;
+import com.neurixa.core.files.usecase.ListFileVersionsUseCase;
+import com.neurixa.core.files.usecase.SearchFileContentUseCase;
 import com.neurixa.core.files.usecase.ListFolderContentUseCase;
 import com.neurixa.core.files.usecase.MoveFileUseCase;
+import com.neurixa.core.files.usecase.MoveFolderUseCase;
 import com.neurixa.core.files.usecase.RenameFileUseCase;
+import com.neurixa.core.files.usecase.RenameFolderUseCase;
+import com.neurixa.core.files.usecase.ResolvePathUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,13 +41,17 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.lang.reflect.Constructor;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(FileController.class)
@@ -73,6 +90,33 @@ class FileControllerTest {
     @MockBean
     private DeleteFileUseCase deleteFileUseCase;
 
+    @MockBean
+    private BulkMoveFilesUseCase bulkMoveFilesUseCase;
+
+    @MockBean
+    private BulkDeleteFilesUseCase bulkDeleteFilesUseCase;
+
+    @MockBean
+    private GetFileUseCase getFileUseCase;
+
+    @MockBean
+    private CreateDownloadLinkUseCase createDownloadLinkUseCase;
+
+    @MockBean
+    private RenameFolderUseCase renameFolderUseCase;
+
+    @MockBean
+    private MoveFolderUseCase moveFolderUseCase;
+
+    @MockBean
+    private ResolvePathUseCase resolvePathUseCase;
+
+    @MockBean
+    private ListFileVersionsUseCase listFileVersionsUseCase;
+
+    @MockBean
+    private SearchFileContentUseCase searchFileContentUseCase;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -109,6 +153,55 @@ class FileControllerTest {
                 .andExpect(jsonPath("$.name").value("test.txt"));
     }
 
+    @Test
+    @WithMockUser(username = "testuser")
+    void shouldAcceptUploadWhileFileIsProcessing() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "test.txt", "text/plain", "test content".getBytes());
+        StoredFile uploading = StoredFile.createNew(testUser.getId(), "test.txt", "text/plain", 12L, null);
+        when(getUserByUsernameUseCase.execute("testuser")).thenReturn(testUser);
+        when(uploadFileUseCase.execute(any(UserId.class), eq("test.txt"), eq("text/plain"), eq(12L), eq(null), any()))
+                .thenReturn(uploading);
+
+        // When & Then
+        mockMvc.perform(multipart("/api/v1/files/upload")
+                        .file(file)
+                        .with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("UPLOADING"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void shouldReturnFileStatus() throws Exception {
+        // Given
+        when(getUserByUsernameUseCase.execute("testuser")).thenReturn(testUser);
+        when(getFileUseCase.execute(testUser.getId(), testFile.getId())).thenReturn(testFile);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/files/" + testFile.getId().getValue()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ACTIVE"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void shouldMintSignedDownloadLink() throws Exception {
+        // Given
+        Instant expiresAt = Instant.parse("2026-03-01T10:15:00Z");
+        when(getUserByUsernameUseCase.execute("testuser")).thenReturn(testUser);
+        when(createDownloadLinkUseCase.execute(testUser.getId(), testFile.getId(), null, Duration.ofSeconds(300)))
+                .thenReturn(new DownloadLink("payload.signature", 1, expiresAt));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/files/" + testFile.getId().getValue() + "/download-link")
+                        .param("ttlSeconds", "300")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.url").value("/api/v1/downloads/payload.signature"))
+                .andExpect(jsonPath("$.versionNumber").value(1));
+    }
+
     @Test
     @WithMockUser(username = "testuser")
     void shouldUploadFileToFolderSuccessfully() throws Exception {
@@ -156,4 +249,37 @@ class FileControllerTest {
                         .with(csrf()))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void shouldReturnPerItemOutcomesForBulkMove() throws Exception {
+        // Given
+        FolderId target = new FolderId("folder-123");
+        when(getUserByUsernameUseCase.execute("testuser")).thenReturn(testUser);
+        when(bulkMoveFilesUseCase.execute(eq(testUser.getId()), eq(List.of(new FileId("f1"), new FileId("f2"))), eq(target)))
+                .thenReturn(new BulkOperationResult(List.of(
+                        BulkItemOutcome.succeeded(new FileId("f1")),
+                        BulkItemOutcome.notFound(new FileId("f2")))));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/files/bulk/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fileIds\":[\"f1\",\"f2\"],\"targetFolderId\":\"folder-123\"}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].status").value("NOT_FOUND"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void shouldRejectEmptyBulkDelete() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/files/bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fileIds\":[]}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
 }
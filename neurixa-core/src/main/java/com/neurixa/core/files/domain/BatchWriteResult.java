@@ -0,0 +1,23 @@
+package com.neurixa.core.files.domain;
+
+import java.util.Set;
+
+/**
+ * Outcome of a conditional batch write. A file is {@code failed} when its write errored, and
+ * {@code unmatched} when it was no longer in the state it was read in, so nothing was written.
+ */
+public record BatchWriteResult(Set<FileId> failed, Set<FileId> unmatched) {
+
+    public BatchWriteResult {
+        failed = Set.copyOf(failed);
+        unmatched = Set.copyOf(unmatched);
+    }
+
+    public static BatchWriteResult none() {
+        return new BatchWriteResult(Set.of(), Set.of());
+    }
+
+    public boolean written(FileId fileId) {
+        return !failed.contains(fileId) && !unmatched.contains(fileId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.neurixa.core.files.domain;
+
+import java.util.Objects;
+
+public record BulkItemOutcome(FileId fileId, Status status, String message) {
+
+    public enum Status {
+        SUCCEEDED,
+        NOT_FOUND,
+        /** The file changed between being read and written, so it was left alone. */
+        SKIPPED,
+        FAILED
+    }
+
+    public BulkItemOutcome {
+        Objects.requireNonNull(fileId);
+        Objects.requireNonNull(status);
+    }
+
+    public static BulkItemOutcome succeeded(FileId fileId) {
+        return new BulkItemOutcome(fileId, Status.SUCCEEDED, null);
+    }
+
+    public static BulkItemOutcome notFound(FileId fileId) {
+        return new BulkItemOutcome(fileId, Status.NOT_FOUND, "File not found");
+    }
+
+    public static BulkItemOutcome skipped(FileId fileId) {
+        return new BulkItemOutcome(fileId, Status.SKIPPED, "File changed during the request");
+    }
+
+    public static BulkItemOutcome failed(FileId fileId, String message) {
+        return new BulkItemOutcome(fileId, Status.FAILED, message);
+    }
+}
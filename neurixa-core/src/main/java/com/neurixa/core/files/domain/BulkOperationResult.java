@@ -0,0 +1,18 @@
+package com.neurixa.core.files.domain;
+
+import java.util.List;
+
+public record BulkOperationResult(List<BulkItemOutcome> items) {
+
+    public BulkOperationResult {
+        items = List.copyOf(items);
+    }
+
+    public long succeeded() {
+        return items.stream().filter(i -> i.status() == BulkItemOutcome.Status.SUCCEEDED).count();
+    }
+
+    public long failed() {
+        return items.size() - succeeded();
+    }
+}
@@ -0,0 +1,61 @@
+package com.neurixa.core.files.domain;
+
+import com.neurixa.core.domain.UserId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * One entry in an owner's change log. Carries enough state (name, parent) for a
+ * sync client to apply the change without re-fetching the entity.
+ *
+ * {@code sequence} is assigned by the {@link com.neurixa.core.files.port.ChangeLogRepository}
+ * on append and is strictly increasing per owner; it is 0 until then.
+ */
+public record ChangeEvent(long sequence,
+                          UserId ownerId,
+                          EntityType entityType,
+                          String entityId,
+                          Type type,
+                          String name,
+                          String parentId,
+                          Instant occurredAt) {
+
+    public enum EntityType {
+        FILE,
+        FOLDER
+    }
+
+    public enum Type {
+        CREATED,
+        RENAMED,
+        MOVED,
+        DELETED,
+        /** Post-upload processing finished; the file is now ACTIVE. */
+        PROCESSED,
+        /** Post-upload processing gave up; the file is now FAILED. */
+        PROCESSING_FAILED
+    }
+
+    public ChangeEvent {
+        Objects.requireNonNull(ownerId);
+        Objects.requireNonNull(entityType);
+        Objects.requireNonNull(entityId);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(occurredAt);
+    }
+
+    public static ChangeEvent of(StoredFile file, Type type) {
+        return new ChangeEvent(0, file.getOwnerId(), EntityType.FILE, file.getId().getValue(), type,
+                file.getName(), file.getFolderId() != null ? file.getFolderId().getValue() : null, Instant.now());
+    }
+
+    public static ChangeEvent of(Folder folder, Type type) {
+        return new ChangeEvent(0, folder.getOwnerId(), EntityType.FOLDER, folder.getId().getValue(), type,
+                folder.getName(), folder.getParentId() != null ? folder.getParentId().getValue() : null, Instant.now());
+    }
+
+    public ChangeEvent withSequence(long sequence) {
+        return new ChangeEvent(sequence, ownerId, entityType, entityId, type, name, parentId, occurredAt);
+    }
+}
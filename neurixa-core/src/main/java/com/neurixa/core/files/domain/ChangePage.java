@@ -0,0 +1,5 @@
+package com.neurixa.core.files.domain;
+
+import java.util.List;
+
+public record ChangePage(List<ChangeEvent> changes, String nextToken, boolean hasMore) {}
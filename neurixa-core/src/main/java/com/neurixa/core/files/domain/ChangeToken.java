@@ -0,0 +1,36 @@
+package com.neurixa.core.files.domain;
+
+import com.neurixa.core.files.exception.FileValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque sync cursor: the last sequence a client has applied and how current that position is.
+ * {@code positionAt} is the time of the newest change the client has seen, or the time it was
+ * known to be caught up; it only moves forward with the cursor, so the server can reject
+ * cursors whose following entries may already have been compacted.
+ */
+public record ChangeToken(long sequence, Instant positionAt) {
+
+    public String encode() {
+        String raw = sequence + "." + positionAt.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static ChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int dot = raw.indexOf('.');
+            long sequence = Long.parseLong(raw.substring(0, dot));
+            long positionAt = Long.parseLong(raw.substring(dot + 1));
+            if (sequence < 0) {
+                throw new FileValidationException("Invalid change token");
+            }
+            return new ChangeToken(sequence, Instant.ofEpochMilli(positionAt));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new FileValidationException("Invalid change token");
+        }
+    }
+}
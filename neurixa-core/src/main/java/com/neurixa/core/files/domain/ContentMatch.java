@@ -0,0 +1,13 @@
+package com.neurixa.core.files.domain;
+
+import java.util.Objects;
+
+/**
+ * A file whose content matched a search, as returned by the content index.
+ */
+public record ContentMatch(FileId fileId, double score, String snippet) {
+
+    public ContentMatch {
+        Objects.requireNonNull(fileId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.neurixa.core.files.domain;
+
+public record ContentSearchHit(
+        StoredFile file,
+        double score,
+        String snippet
+) {}
@@ -0,0 +1,70 @@
+package com.neurixa.core.files.domain;
+
+import com.neurixa.core.files.exception.FileValidationException;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Sort order for file listings. Ties are broken by file id in the same direction,
+ * so paging through equal names or sizes is stable.
+ */
+public record FileSort(Field field, boolean ascending) {
+
+    public enum Field {
+        UPDATED_AT("updatedAt"),
+        CREATED_AT("createdAt"),
+        /** Case-insensitive. */
+        NAME("name"),
+        SIZE("size"),
+        MIME_TYPE("mimeType");
+
+        private final String key;
+
+        Field(String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+
+    public static final FileSort DEFAULT = new FileSort(Field.UPDATED_AT, false);
+
+    public FileSort {
+        Objects.requireNonNull(field);
+    }
+
+    /**
+     * Parses {@code field[,asc|desc]}, e.g. {@code name}, {@code size,desc}.
+     * Without a direction, names and MIME types sort ascending and everything else descending.
+     * A null or blank value yields {@link #DEFAULT}.
+     */
+    public static FileSort parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        String[] parts = value.split(",", -1);
+        if (parts.length > 2) {
+            throw new FileValidationException("Invalid sort: " + value);
+        }
+        Field field = null;
+        for (Field f : Field.values()) {
+            if (f.key.equalsIgnoreCase(parts[0].trim())) {
+                field = f;
+            }
+        }
+        if (field == null) {
+            throw new FileValidationException("Unknown sort field: " + parts[0].trim());
+        }
+        if (parts.length == 1) {
+            return new FileSort(field, field == Field.NAME || field == Field.MIME_TYPE);
+        }
+        return switch (parts[1].trim().toLowerCase(Locale.ROOT)) {
+            case "asc" -> new FileSort(field, true);
+            case "desc" -> new FileSort(field, false);
+            default -> throw new FileValidationException("Invalid sort direction: " + parts[1].trim());
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.neurixa.core.files.domain;
 public enum FileStatus {
     UPLOADING,
     ACTIVE,
+    FAILED,
     DELETED
 }
 
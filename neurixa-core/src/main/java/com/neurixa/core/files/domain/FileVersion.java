@@ -33,6 +33,10 @@ public final class FileVersion {
         return new FileVersion(id, fileId, versionNumber, storageKey, size, checksum, createdAt);
     }
 
+    public FileVersion withChecksum(Checksum checksum) {
+        return new FileVersion(id, fileId, versionNumber, storageKey, size, checksum, createdAt);
+    }
+
     public FileVersionId getId() {
         return id;
     }
@@ -0,0 +1,8 @@
+package com.neurixa.core.files.domain;
+
+import java.util.List;
+
+public record FileVersionPage(
+        List<FileVersion> versions,
+        long totalVersions
+) {}
@@ -2,21 +2,32 @@ package com.neurixa.core.files.domain;
 
 import com.neurixa.core.domain.UserId;
 
+import java.text.Normalizer;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * A folder in an owner's tree.
+ *
+ * {@code path} chains folder ids ({@code /<id>/<id>}) and never changes on rename.
+ * {@code namePath} chains normalized names ({@code /projects/2026/invoices}) so a
+ * user-facing path resolves with one indexed lookup; it changes on rename and move,
+ * and the repository rewrites it for the whole subtree.
+ */
 public final class Folder {
     private final FolderId id;
     private final UserId ownerId;
     private final String name;
     private final FolderId parentId;
     private final String path;
+    private final String namePath;
     private final boolean deleted;
     private final Instant createdAt;
     private final Instant updatedAt;
 
-    private Folder(FolderId id, UserId ownerId, String name, FolderId parentId, String path, boolean deleted, Instant createdAt, Instant updatedAt) {
+    private Folder(FolderId id, UserId ownerId, String name, FolderId parentId, String path, String namePath, boolean deleted, Instant createdAt, Instant updatedAt) {
         this.id = Objects.requireNonNull(id);
         this.ownerId = Objects.requireNonNull(ownerId);
         if (name == null || name.isBlank()) throw new IllegalArgumentException("name is required");
@@ -24,41 +35,86 @@ public final class Folder {
         this.parentId = parentId;
         if (path == null || path.isBlank()) throw new IllegalArgumentException("path is required");
         this.path = path;
+        if (namePath == null || namePath.isBlank()) throw new IllegalArgumentException("namePath is required");
+        this.namePath = namePath;
         this.deleted = deleted;
         this.createdAt = Objects.requireNonNull(createdAt);
         this.updatedAt = Objects.requireNonNull(updatedAt);
     }
 
     public static Folder createRoot(UserId ownerId, String name) {
+        requireValidName(name);
         FolderId id = new FolderId(UUID.randomUUID().toString());
         String path = "/" + id.getValue();
         Instant now = Instant.now();
-        return new Folder(id, ownerId, name, null, path, false, now, now);
+        return new Folder(id, ownerId, name, null, path, "/" + normalizeName(name), false, now, now);
     }
 
     public static Folder createChild(UserId ownerId, String name, Folder parent) {
+        requireValidName(name);
         FolderId id = new FolderId(UUID.randomUUID().toString());
         String path = parent.getPath() + "/" + id.getValue();
         Instant now = Instant.now();
-        return new Folder(id, ownerId, name, parent.getId(), path, false, now, now);
+        return new Folder(id, ownerId, name, parent.getId(), path, parent.getNamePath() + "/" + normalizeName(name), false, now, now);
     }
 
     public Folder rename(String newName) {
         if (newName == null || newName.isBlank()) throw new IllegalArgumentException("newName required");
-        return new Folder(id, ownerId, newName, parentId, path, deleted, createdAt, Instant.now());
+        requireValidName(newName);
+        String parentNamePath = namePath.substring(0, namePath.lastIndexOf('/'));
+        return new Folder(id, ownerId, newName, parentId, path, parentNamePath + "/" + normalizeName(newName), deleted, createdAt, Instant.now());
     }
 
     public Folder move(Folder newParent) {
         String newPath = newParent.getPath() + "/" + id.getValue();
-        return new Folder(id, ownerId, name, newParent.getId(), newPath, deleted, createdAt, Instant.now());
+        return new Folder(id, ownerId, name, newParent.getId(), newPath, newParent.getNamePath() + "/" + normalizeName(name), deleted, createdAt, Instant.now());
+    }
+
+    public Folder moveToRoot() {
+        String newPath = "/" + id.getValue();
+        return new Folder(id, ownerId, name, null, newPath, "/" + normalizeName(name), deleted, createdAt, Instant.now());
     }
 
     public Folder markDeleted() {
-        return new Folder(id, ownerId, name, parentId, path, true, createdAt, Instant.now());
+        return new Folder(id, ownerId, name, parentId, path, namePath, true, createdAt, Instant.now());
+    }
+
+    /**
+     * True if {@code other} is this folder or lives somewhere below it.
+     */
+    public boolean contains(Folder other) {
+        return other.getPath().equals(path) || other.getPath().startsWith(path + "/");
     }
 
-    public static Folder from(FolderId id, UserId ownerId, String name, FolderId parentId, String path, boolean deleted, Instant createdAt, Instant updatedAt) {
-        return new Folder(id, ownerId, name, parentId, path, deleted, createdAt, updatedAt);
+    public static Folder from(FolderId id, UserId ownerId, String name, FolderId parentId, String path, String namePath, boolean deleted, Instant createdAt, Instant updatedAt) {
+        return new Folder(id, ownerId, name, parentId, path, namePath, deleted, createdAt, updatedAt);
+    }
+
+    /**
+     * Normalizes one name segment for {@code namePath}: Unicode NFC, trimmed, lower-cased.
+     * File names are matched by the same key, so a path resolves folders and files alike.
+     */
+    public static String normalizeName(String name) {
+        return Normalizer.normalize(name.strip(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes a user-facing path such as {@code Projects//2026/Invoices/} to
+     * {@code /projects/2026/invoices}. Returns {@code "/"} when no segment is left.
+     */
+    public static String normalizePath(String path) {
+        StringBuilder normalized = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (!segment.isBlank()) {
+                normalized.append('/').append(normalizeName(segment));
+            }
+        }
+        return normalized.isEmpty() ? "/" : normalized.toString();
+    }
+
+    private static void requireValidName(String name) {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("name is required");
+        if (name.indexOf('/') >= 0) throw new IllegalArgumentException("name must not contain '/'");
     }
 
     public FolderId getId() {
@@ -81,6 +137,10 @@ public final class Folder {
         return path;
     }
 
+    public String getNamePath() {
+        return namePath;
+    }
+
     public boolean isDeleted() {
         return deleted;
     }
@@ -0,0 +1,28 @@
+package com.neurixa.core.files.domain;
+
+import com.neurixa.core.domain.UserId;
+
+import java.util.Objects;
+
+/**
+ * A claimed unit of post-upload work for one file version.
+ *
+ * @param attempts how many times this task has been claimed, including the current claim
+ * @param workerId the worker holding the lease; completion is only accepted from it
+ */
+public record ProcessingTask(String id,
+                             FileId fileId,
+                             UserId ownerId,
+                             int versionNumber,
+                             int attempts,
+                             String workerId) {
+
+    public ProcessingTask {
+        Objects.requireNonNull(fileId);
+        Objects.requireNonNull(ownerId);
+    }
+
+    public static ProcessingTask pending(StoredFile file, int versionNumber) {
+        return new ProcessingTask(null, file.getId(), file.getOwnerId(), versionNumber, 0, null);
+    }
+}
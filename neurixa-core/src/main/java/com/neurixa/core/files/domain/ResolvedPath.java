@@ -0,0 +1,28 @@
+package com.neurixa.core.files.domain;
+
+import java.util.Objects;
+
+/**
+ * What a user-facing path points at: a folder, or a file inside {@code folder}.
+ * {@code folder} is null for a file in the owner's root.
+ */
+public record ResolvedPath(Folder folder, StoredFile file) {
+
+    public ResolvedPath {
+        if (folder == null && file == null) {
+            throw new IllegalArgumentException("folder or file is required");
+        }
+    }
+
+    public static ResolvedPath ofFolder(Folder folder) {
+        return new ResolvedPath(Objects.requireNonNull(folder), null);
+    }
+
+    public static ResolvedPath ofFile(Folder folder, StoredFile file) {
+        return new ResolvedPath(folder, Objects.requireNonNull(file));
+    }
+
+    public boolean isFile() {
+        return file != null;
+    }
+}
@@ -4,8 +4,14 @@ import com.neurixa.core.domain.UserId;
 
 import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * A file's metadata. {@code head} embeds the current version's storage key, size and
+ * checksum so downloads need no {@code file_versions} read; it is absent on files
+ * written before it existed and is ignored whenever it lags {@code currentVersion}.
+ */
 public final class StoredFile {
     private final FileId id;
     private final UserId ownerId;
@@ -15,6 +21,7 @@ public final class StoredFile {
     private final FolderId folderId;
     private final FileStatus status;
     private final int currentVersion;
+    private final VersionSnapshot head;
     private final boolean deleted;
     private final Instant createdAt;
     private final Instant updatedAt;
@@ -27,6 +34,7 @@ public final class StoredFile {
                        FolderId folderId,
                        FileStatus status,
                        int currentVersion,
+                       VersionSnapshot head,
                        boolean deleted,
                        Instant createdAt,
                        Instant updatedAt) {
@@ -41,6 +49,7 @@ public final class StoredFile {
         this.status = Objects.requireNonNull(status);
         if (currentVersion <= 0) throw new IllegalArgumentException("currentVersion must be > 0");
         this.currentVersion = currentVersion;
+        this.head = head;
         this.deleted = deleted;
         this.createdAt = Objects.requireNonNull(createdAt);
         this.updatedAt = Objects.requireNonNull(updatedAt);
@@ -57,6 +66,7 @@ public final class StoredFile {
                 folderId,
                 FileStatus.UPLOADING,
                 1,
+                null,
                 false,
                 now,
                 now
@@ -64,24 +74,36 @@ public final class StoredFile {
     }
 
     public StoredFile markActive() {
-        return new StoredFile(id, ownerId, name, mimeType, size, folderId, FileStatus.ACTIVE, currentVersion, deleted, createdAt, Instant.now());
+        return new StoredFile(id, ownerId, name, mimeType, size, folderId, FileStatus.ACTIVE, currentVersion, head, deleted, createdAt, Instant.now());
+    }
+
+    public StoredFile markFailed() {
+        return new StoredFile(id, ownerId, name, mimeType, size, folderId, FileStatus.FAILED, currentVersion, head, deleted, createdAt, Instant.now());
     }
 
     public StoredFile rename(String newName) {
         if (newName == null || newName.isBlank()) throw new IllegalArgumentException("newName required");
-        return new StoredFile(id, ownerId, newName, mimeType, size, folderId, status, currentVersion, deleted, createdAt, Instant.now());
+        return new StoredFile(id, ownerId, newName, mimeType, size, folderId, status, currentVersion, head, deleted, createdAt, Instant.now());
     }
 
     public StoredFile move(FolderId newFolderId) {
-        return new StoredFile(id, ownerId, name, mimeType, size, newFolderId, status, currentVersion, deleted, createdAt, Instant.now());
+        return new StoredFile(id, ownerId, name, mimeType, size, newFolderId, status, currentVersion, head, deleted, createdAt, Instant.now());
     }
 
     public StoredFile markDeleted() {
-        return new StoredFile(id, ownerId, name, mimeType, size, folderId, FileStatus.DELETED, currentVersion, true, createdAt, Instant.now());
+        return new StoredFile(id, ownerId, name, mimeType, size, folderId, FileStatus.DELETED, currentVersion, head, true, createdAt, Instant.now());
     }
 
     public StoredFile incrementVersion() {
-        return new StoredFile(id, ownerId, name, mimeType, size, folderId, status, currentVersion + 1, deleted, createdAt, Instant.now());
+        return new StoredFile(id, ownerId, name, mimeType, size, folderId, status, currentVersion + 1, head, deleted, createdAt, Instant.now());
+    }
+
+    /**
+     * Makes {@code version} the current version and embeds its snapshot.
+     */
+    public StoredFile withCurrentVersion(FileVersion version) {
+        if (!version.getFileId().equals(id)) throw new IllegalArgumentException("version belongs to another file");
+        return new StoredFile(id, ownerId, name, mimeType, size, folderId, status, version.getVersionNumber(), VersionSnapshot.of(version), deleted, createdAt, Instant.now());
     }
 
     public static StoredFile from(FileId id,
@@ -92,10 +114,11 @@ public final class StoredFile {
                                   FolderId folderId,
                                   FileStatus status,
                                   int currentVersion,
+                                  VersionSnapshot head,
                                   boolean deleted,
                                   Instant createdAt,
                                   Instant updatedAt) {
-        return new StoredFile(id, ownerId, name, mimeType, size, folderId, status, currentVersion, deleted, createdAt, updatedAt);
+        return new StoredFile(id, ownerId, name, mimeType, size, folderId, status, currentVersion, head, deleted, createdAt, updatedAt);
     }
 
     public FileId getId() {
@@ -130,6 +153,13 @@ public final class StoredFile {
         return currentVersion;
     }
 
+    /**
+     * The embedded snapshot of the current version, if present and up to date.
+     */
+    public Optional<VersionSnapshot> getHead() {
+        return head != null && head.versionNumber() == currentVersion ? Optional.of(head) : Optional.empty();
+    }
+
     public boolean isDeleted() {
         return deleted;
     }
@@ -0,0 +1,23 @@
+package com.neurixa.core.files.domain;
+
+import java.util.Objects;
+
+/**
+ * The fields of a file's current version that downloads need, embedded in the file
+ * itself so serving the current version takes one read instead of two.
+ *
+ * @param checksum null until the checksum stage has run
+ */
+public record VersionSnapshot(int versionNumber, String storageKey, long size, Checksum checksum) {
+
+    public VersionSnapshot {
+        if (versionNumber <= 0) throw new IllegalArgumentException("versionNumber must be > 0");
+        if (storageKey == null || storageKey.isBlank()) throw new IllegalArgumentException("storageKey is required");
+        if (size < 0) throw new IllegalArgumentException("size must be >= 0");
+    }
+
+    public static VersionSnapshot of(FileVersion version) {
+        Objects.requireNonNull(version);
+        return new VersionSnapshot(version.getVersionNumber(), version.getStorageKey(), version.getSize(), version.getChecksum());
+    }
+}
@@ -0,0 +1,17 @@
+package com.neurixa.core.files.download;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * What a signed download link authorizes: one stored blob, served under the given
+ * name and type, until {@code expiresAt}.
+ */
+public record DownloadGrant(String storageKey, String filename, String mimeType, Instant expiresAt) {
+
+    public DownloadGrant {
+        Objects.requireNonNull(storageKey);
+        Objects.requireNonNull(filename);
+        Objects.requireNonNull(expiresAt);
+    }
+}
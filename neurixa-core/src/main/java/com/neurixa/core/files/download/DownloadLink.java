@@ -0,0 +1,6 @@
+package com.neurixa.core.files.download;
+
+import java.time.Instant;
+
+public record DownloadLink(String token, int versionNumber, Instant expiresAt) {
+}
@@ -0,0 +1,97 @@
+package com.neurixa.core.files.download;
+
+import com.neurixa.core.files.exception.InvalidDownloadLinkException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Signs and verifies download tokens with HMAC-SHA256.
+ *
+ * The token carries everything needed to serve the blob, so verification needs
+ * no database or cache lookup. Format: {@code base64url(payload).base64url(mac)}.
+ */
+public class DownloadLinkSigner {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v1";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> mac;
+
+    public DownloadLinkSigner(byte[] secret) {
+        if (secret == null || secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("Download link secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.clone(), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac m = Mac.getInstance(ALGORITHM);
+                m.init(key);
+                return m;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(ALGORITHM + " not available", e);
+            }
+        });
+    }
+
+    public String sign(DownloadGrant grant) {
+        if (grant.storageKey().indexOf('\n') >= 0 || (grant.mimeType() != null && grant.mimeType().indexOf('\n') >= 0)) {
+            throw new IllegalArgumentException("Storage key and MIME type must not contain line breaks");
+        }
+        // Filename goes last so it may contain any character.
+        String payload = String.join("\n", VERSION, grant.storageKey(),
+                Long.toString(grant.expiresAt().getEpochSecond()),
+                grant.mimeType() != null ? grant.mimeType() : "",
+                grant.filename());
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(bytes) + "." + ENCODER.encodeToString(mac(bytes));
+    }
+
+    /**
+     * @throws InvalidDownloadLinkException if the token is malformed, forged, or expired at {@code now}
+     */
+    public DownloadGrant verify(String token, Instant now) {
+        int dot = token == null ? -1 : token.indexOf('.');
+        if (dot <= 0) {
+            throw new InvalidDownloadLinkException("Invalid download link");
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDownloadLinkException("Invalid download link");
+        }
+        if (!MessageDigest.isEqual(mac(payload), signature)) {
+            throw new InvalidDownloadLinkException("Invalid download link");
+        }
+        String[] fields = new String(payload, StandardCharsets.UTF_8).split("\n", 5);
+        if (fields.length != 5 || !VERSION.equals(fields[0])) {
+            throw new InvalidDownloadLinkException("Invalid download link");
+        }
+        Instant expiresAt;
+        try {
+            expiresAt = Instant.ofEpochSecond(Long.parseLong(fields[2]));
+        } catch (NumberFormatException e) {
+            throw new InvalidDownloadLinkException("Invalid download link");
+        }
+        if (!now.isBefore(expiresAt)) {
+            throw new InvalidDownloadLinkException("Download link has expired");
+        }
+        return new DownloadGrant(fields[1], fields[4], fields[3].isEmpty() ? null : fields[3], expiresAt);
+    }
+
+    private byte[] mac(byte[] payload) {
+        Mac m = mac.get();
+        m.reset();
+        return m.doFinal(payload);
+    }
+}
@@ -0,0 +1,9 @@
+package com.neurixa.core.files.download;
+
+import java.io.InputStream;
+
+/**
+ * An opened download; the caller must close {@code content}.
+ */
+public record FileDownload(DownloadGrant grant, InputStream content) {
+}
@@ -0,0 +1,9 @@
+package com.neurixa.core.files.download;
+
+import com.neurixa.core.files.domain.FileId;
+
+/**
+ * A file version that may be served without authentication.
+ */
+public record PublicMedia(FileId fileId, int versionNumber, String storageKey, String mimeType, long size) {
+}
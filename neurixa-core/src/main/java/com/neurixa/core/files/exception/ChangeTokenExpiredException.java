@@ -0,0 +1,13 @@
+package com.neurixa.core.files.exception;
+
+import com.neurixa.core.exception.DomainException;
+
+/**
+ * The change log no longer covers the client's position; it must re-list its tree and
+ * start over from a fresh token.
+ */
+public class ChangeTokenExpiredException extends DomainException {
+    public ChangeTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.neurixa.core.files.exception;
+
+import com.neurixa.core.exception.DomainException;
+
+/**
+ * Another live folder under the same parent already has the name, compared the way
+ * {@link com.neurixa.core.files.domain.Folder#normalizeName} compares names.
+ */
+public class FolderNameConflictException extends DomainException {
+    public FolderNameConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.neurixa.core.files.exception;
+
+import com.neurixa.core.exception.DomainException;
+
+/**
+ * A signed download link was tampered with, malformed, or past its expiry.
+ */
+public class InvalidDownloadLinkException extends DomainException {
+    public InvalidDownloadLinkException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.neurixa.core.files.port;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ChangeEvent;
+
+import java.util.List;
+
+public interface ChangeLogRepository {
+    /**
+     * Appends events, assigning each the next sequence number of its owner in list order.
+     */
+    void append(List<ChangeEvent> events);
+
+    default void append(ChangeEvent event) {
+        append(List.of(event));
+    }
+
+    List<ChangeEvent> findAfter(UserId ownerId, long afterSequence, int limit);
+
+    long latestSequence(UserId ownerId);
+}
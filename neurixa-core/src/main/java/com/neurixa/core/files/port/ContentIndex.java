@@ -0,0 +1,28 @@
+package com.neurixa.core.files.port;
+
+import com.neurixa.core.domain.Page;
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ContentMatch;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.StoredFile;
+
+import java.util.Collection;
+
+/**
+ * Full-text index over the extracted content of files, partitioned by owner.
+ */
+public interface ContentIndex {
+
+    /**
+     * Replaces the indexed text of {@code file}. A version older than the one already
+     * indexed is ignored, so redelivered processing tasks cannot roll the index back.
+     */
+    void index(StoredFile file, int versionNumber, String text);
+
+    void remove(Collection<FileId> fileIds);
+
+    /**
+     * Best matches first, each with a snippet of the text around the matched terms.
+     */
+    Page<ContentMatch> search(UserId ownerId, String query, int page, int size);
+}
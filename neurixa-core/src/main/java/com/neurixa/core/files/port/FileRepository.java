@@ -1,17 +1,72 @@
 package com.neurixa.core.files.port;
 
 import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.BatchWriteResult;
 import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.FileSort;
+import com.neurixa.core.files.domain.FileStatus;
 import com.neurixa.core.files.domain.FolderId;
 import com.neurixa.core.files.domain.StoredFile;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface FileRepository {
     StoredFile save(StoredFile file);
     Optional<StoredFile> findByIdAndOwner(FileId id, UserId ownerId);
+
+    /** Not owner-scoped: only for callers that authorize access some other way. */
+    Optional<StoredFile> findById(FileId id);
+    List<StoredFile> findByIdsAndOwner(Collection<FileId> ids, UserId ownerId);
+
+    /**
+     * Ends processing: sets the status, the embedded head snapshot and {@code updatedAt}, and
+     * nothing else, only if the file is still live, UPLOADING and at the version it was read
+     * at. A rename, move or delete made while it was processed is kept.
+     *
+     * @param file the file as read, carrying the head to embed
+     * @return the file as updated, or empty if it changed state meanwhile
+     */
+    Optional<StoredFile> finishProcessing(StoredFile file, FileStatus status);
+
+    /**
+     * Moves the files to {@code targetFolderId} in one unordered batch, each only if it is still
+     * live and in the folder it was read in. A failure on one file does not stop the others.
+     *
+     * @param files the files as read
+     */
+    BatchWriteResult moveAll(List<StoredFile> files, FolderId targetFolderId);
+
+    /**
+     * Soft-deletes the files in one unordered batch, each only if it is still live.
+     * A failure on one file does not stop the others.
+     *
+     * @param files the files as read
+     */
+    BatchWriteResult deleteAll(List<StoredFile> files);
     List<StoredFile> findByFolder(UserId ownerId, FolderId folderId);
-    List<StoredFile> findByFolder(UserId ownerId, FolderId folderId, int page, int size);
-    long countByFolder(UserId ownerId, FolderId folderId);
+
+    /**
+     * @param mimeType exact MIME type to match, or null for all files
+     */
+    List<StoredFile> findByFolder(UserId ownerId, FolderId folderId, FileSort sort, String mimeType, int page, int size);
+    long countByFolder(UserId ownerId, FolderId folderId, String mimeType);
+
+    /**
+     * Finds a non-deleted file by name within a folder, ignoring case.
+     *
+     * @param folderId the folder, or null for the owner's root
+     */
+    Optional<StoredFile> findByFolderAndName(UserId ownerId, FolderId folderId, String name);
+
+    /**
+     * Live files still in UPLOADING that were created before {@code createdBefore}, oldest
+     * first by {@code (createdAt, id)}.
+     *
+     * @param after the last file of the previous page, or null to start from the oldest
+     */
+    List<StoredFile> findUploadingCreatedBefore(Instant createdBefore, StoredFile after, int limit);
 }
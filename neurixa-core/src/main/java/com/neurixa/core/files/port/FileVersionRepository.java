@@ -4,9 +4,15 @@ import com.neurixa.core.files.domain.FileId;
 import com.neurixa.core.files.domain.FileVersion;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface FileVersionRepository {
     FileVersion save(FileVersion version);
-    List<FileVersion> findByFileId(FileId fileId);
-}
+    Optional<FileVersion> findByFileIdAndVersion(FileId fileId, int versionNumber);
 
+    /**
+     * One page of a file's version history, newest version first.
+     */
+    List<FileVersion> findByFileId(FileId fileId, int page, int size);
+    long countByFileId(FileId fileId);
+}
@@ -4,10 +4,15 @@ import com.neurixa.core.domain.UserId;
 import com.neurixa.core.files.domain.Folder;
 import com.neurixa.core.files.domain.FolderId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FolderRepository {
+    /**
+     * @throws com.neurixa.core.files.exception.FolderNameConflictException if another live
+     *         folder of the owner has the same name path
+     */
     Folder save(Folder folder);
     Optional<Folder> findByIdAndOwner(FolderId id, UserId ownerId);
     List<Folder> findChildren(UserId ownerId, FolderId parentId);
@@ -16,4 +21,21 @@ public interface FolderRepository {
     List<Folder> findRoots(UserId ownerId, int page, int size);
     long countChildren(UserId ownerId, FolderId parentId);
     long countRoots(UserId ownerId);
+
+    /**
+     * Finds non-deleted folders by normalized name path in one lookup. When two folders
+     * share a name path, only the oldest is returned.
+     */
+    List<Folder> findByNamePaths(UserId ownerId, Collection<String> namePaths);
+
+    /** Whether a live folder other than {@code excluding} (may be null) has {@code namePath}. */
+    boolean existsByNamePath(UserId ownerId, String namePath, FolderId excluding);
+
+    /**
+     * Rewrites {@code path} and {@code namePath} of every descendant of {@code previous}
+     * so they sit under {@code updated}. The folder itself is saved separately.
+     *
+     * @return the number of descendants rewritten
+     */
+    long updateSubtree(Folder previous, Folder updated);
 }
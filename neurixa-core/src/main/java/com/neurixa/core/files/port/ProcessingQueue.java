@@ -0,0 +1,30 @@
+package com.neurixa.core.files.port;
+
+import com.neurixa.core.files.domain.ProcessingTask;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Durable queue of post-upload processing tasks.
+ *
+ * A claimed task is leased to one worker; if the worker dies, the task becomes
+ * claimable again once the lease expires, so delivery is at-least-once and
+ * stages must be idempotent.
+ */
+public interface ProcessingQueue {
+    /**
+     * Idempotent per file version: a version that already has a job, in any state, keeps it.
+     */
+    void enqueue(ProcessingTask task);
+
+    Optional<ProcessingTask> claim(String workerId, Duration lease);
+
+    void complete(ProcessingTask task);
+
+    /**
+     * @param retryAfter when non-null, the task becomes claimable again after this delay;
+     *                   when null, the task is parked as failed
+     */
+    void fail(ProcessingTask task, String error, Duration retryAfter);
+}
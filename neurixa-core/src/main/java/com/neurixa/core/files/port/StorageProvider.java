@@ -1,10 +1,47 @@
 package com.neurixa.core.files.port;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public interface StorageProvider {
     String store(InputStream data, String filename);
+
+    /**
+     * Writes a blob under a known key, replacing any blob already there. Used by restore,
+     * where keys come from a backup rather than being generated.
+     */
+    void storeAt(String storageKey, InputStream data);
     InputStream retrieve(String storageKey);
     void delete(String storageKey);
+
+    /**
+     * The blob's file on a local filesystem, when the backend has one, so callers can
+     * hand it to the servlet container for zero-copy (sendfile) transfer.
+     */
+    default Optional<Path> localPath(String storageKey) {
+        return Optional.empty();
+    }
+
+    /**
+     * Checks a key that was not generated by {@link #store}, such as one read from a backup:
+     * relative, {@code /}-separated, with no empty, {@code .} or {@code ..} segments and no
+     * backslashes, so no backend or layout can resolve it outside its root or onto another key.
+     *
+     * @return the key
+     * @throws IllegalArgumentException if the key is unsafe
+     */
+    static String requireSafeKey(String storageKey) {
+        if (storageKey == null || storageKey.isEmpty() || storageKey.startsWith("/")
+                || storageKey.indexOf('\\') >= 0 || storageKey.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("Invalid storage key");
+        }
+        for (String segment : storageKey.split("/", -1)) {
+            if (segment.isEmpty() || segment.equals(".") || segment.equals("..")) {
+                throw new IllegalArgumentException("Invalid storage key");
+            }
+        }
+        return storageKey;
+    }
 }
 
@@ -0,0 +1,21 @@
+package com.neurixa.core.files.port;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Pulls plain text out of stored documents for the content index.
+ */
+public interface TextExtractor {
+
+    boolean supports(String mimeType);
+
+    /**
+     * @param size the blob size, known before reading
+     * @return the text, possibly truncated by the extractor's limits; empty when the
+     *         document cannot be read (corrupt, encrypted or over the size limit)
+     * @throws IOException when {@code content} itself cannot be read, which is worth a retry
+     */
+    Optional<String> extract(InputStream content, long size) throws IOException;
+}
@@ -0,0 +1,52 @@
+package com.neurixa.core.files.processing;
+
+import com.neurixa.core.files.domain.Checksum;
+import com.neurixa.core.files.domain.FileVersion;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.exception.StorageException;
+import com.neurixa.core.files.port.StorageProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Computes the SHA-256 of the stored blob and records it on the version.
+ */
+public class ChecksumStage implements FileProcessingStage {
+    private static final String ALGORITHM = "SHA-256";
+
+    private final StorageProvider storageProvider;
+
+    public ChecksumStage(StorageProvider storageProvider) {
+        this.storageProvider = Objects.requireNonNull(storageProvider);
+    }
+
+    @Override
+    public String name() {
+        return "checksum";
+    }
+
+    @Override
+    public FileVersion process(StoredFile file, FileVersion version) {
+        if (version.getChecksum() != null) {
+            return version;
+        }
+        try (InputStream in = storageProvider.retrieve(version.getStorageKey())) {
+            MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+            byte[] buffer = new byte[65536];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return version.withChecksum(new Checksum(ALGORITHM, HexFormat.of().formatHex(digest.digest())));
+        } catch (IOException e) {
+            throw new StorageException("Failed to read blob for checksum: " + version.getStorageKey(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    }
+}
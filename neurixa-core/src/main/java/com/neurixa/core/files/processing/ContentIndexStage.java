@@ -0,0 +1,53 @@
+package com.neurixa.core.files.processing;
+
+import com.neurixa.core.files.domain.FileVersion;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.exception.StorageException;
+import com.neurixa.core.files.port.ContentIndex;
+import com.neurixa.core.files.port.StorageProvider;
+import com.neurixa.core.files.port.TextExtractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Extracts the text of supported documents and adds it to the owner's content index.
+ *
+ * Only the current version is indexed. A document that cannot be read is left out of
+ * the index rather than failing the upload; only storage errors are retried.
+ */
+public class ContentIndexStage implements FileProcessingStage {
+
+    private final StorageProvider storageProvider;
+    private final TextExtractor textExtractor;
+    private final ContentIndex contentIndex;
+
+    public ContentIndexStage(StorageProvider storageProvider, TextExtractor textExtractor, ContentIndex contentIndex) {
+        this.storageProvider = Objects.requireNonNull(storageProvider);
+        this.textExtractor = Objects.requireNonNull(textExtractor);
+        this.contentIndex = Objects.requireNonNull(contentIndex);
+    }
+
+    @Override
+    public String name() {
+        return "content-index";
+    }
+
+    @Override
+    public FileVersion process(StoredFile file, FileVersion version) {
+        if (!textExtractor.supports(file.getMimeType()) || version.getVersionNumber() != file.getCurrentVersion()) {
+            return version;
+        }
+        Optional<String> text;
+        try (InputStream in = storageProvider.retrieve(version.getStorageKey())) {
+            text = textExtractor.extract(in, version.getSize());
+        } catch (IOException e) {
+            throw new StorageException("Failed to read blob for text extraction: " + version.getStorageKey(), e);
+        }
+        text.filter(t -> !t.isBlank())
+                .ifPresent(t -> contentIndex.index(file, version.getVersionNumber(), t));
+        return version;
+    }
+}
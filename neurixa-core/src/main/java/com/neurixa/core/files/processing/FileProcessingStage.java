@@ -0,0 +1,20 @@
+package com.neurixa.core.files.processing;
+
+import com.neurixa.core.files.domain.FileVersion;
+import com.neurixa.core.files.domain.StoredFile;
+
+/**
+ * One step of post-upload processing (hashing, thumbnails, indexing, scanning).
+ *
+ * Stages run in registration order on a worker thread, never on the upload request.
+ * A task can be delivered more than once, so a stage must be safe to re-run.
+ */
+public interface FileProcessingStage {
+
+    String name();
+
+    /**
+     * @return the version, updated with anything this stage derived from the content
+     */
+    FileVersion process(StoredFile file, FileVersion version);
+}
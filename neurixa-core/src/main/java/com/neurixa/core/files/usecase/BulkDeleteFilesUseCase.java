@@ -0,0 +1,75 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.BatchWriteResult;
+import com.neurixa.core.files.domain.BulkItemOutcome;
+import com.neurixa.core.files.domain.BulkOperationResult;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.ContentIndex;
+import com.neurixa.core.files.port.FileRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Soft-deletes many files with one ownership query and one batched write.
+ * Files that are already deleted count as succeeded, matching {@link DeleteFileUseCase};
+ * a file deleted by someone else between the read and the write is reported as skipped.
+ */
+public class BulkDeleteFilesUseCase {
+    private final FileRepository fileRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final ContentIndex contentIndex;
+
+    public BulkDeleteFilesUseCase(FileRepository fileRepository, ChangeLogRepository changeLogRepository,
+                                  ContentIndex contentIndex) {
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
+        this.contentIndex = Objects.requireNonNull(contentIndex);
+    }
+
+    public BulkOperationResult execute(UserId ownerId, List<FileId> fileIds) {
+        Objects.requireNonNull(ownerId);
+        Set<FileId> ids = BulkMoveFilesUseCase.distinct(fileIds);
+
+        Map<FileId, StoredFile> owned = fileRepository.findByIdsAndOwner(ids, ownerId).stream()
+                .collect(Collectors.toMap(StoredFile::getId, Function.identity()));
+
+        List<StoredFile> updates = owned.values().stream()
+                .filter(f -> !f.isDeleted())
+                .toList();
+        BatchWriteResult written = updates.isEmpty() ? BatchWriteResult.none() : fileRepository.deleteAll(updates);
+        List<StoredFile> deleted = updates.stream()
+                .filter(f -> written.written(f.getId()))
+                .map(StoredFile::markDeleted)
+                .toList();
+        if (!deleted.isEmpty()) {
+            changeLogRepository.append(deleted.stream()
+                    .map(f -> ChangeEvent.of(f, ChangeEvent.Type.DELETED))
+                    .toList());
+            contentIndex.remove(deleted.stream().map(StoredFile::getId).toList());
+        }
+
+        List<BulkItemOutcome> outcomes = new ArrayList<>(ids.size());
+        for (FileId id : ids) {
+            if (!owned.containsKey(id)) {
+                outcomes.add(BulkItemOutcome.notFound(id));
+            } else if (written.failed().contains(id)) {
+                outcomes.add(BulkItemOutcome.failed(id, "Delete could not be saved"));
+            } else if (written.unmatched().contains(id)) {
+                outcomes.add(BulkItemOutcome.skipped(id));
+            } else {
+                outcomes.add(BulkItemOutcome.succeeded(id));
+            }
+        }
+        return new BulkOperationResult(outcomes);
+    }
+}
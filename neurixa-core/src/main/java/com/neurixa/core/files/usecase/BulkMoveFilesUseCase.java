@@ -0,0 +1,103 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.BatchWriteResult;
+import com.neurixa.core.files.domain.BulkItemOutcome;
+import com.neurixa.core.files.domain.BulkOperationResult;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.Folder;
+import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.FolderRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Moves many files in one request: one ownership query, one target folder check
+ * and one batched write, instead of a find + save per file. Each write only applies if the
+ * file is still where it was read, so a concurrent move or delete is reported as skipped
+ * rather than overwritten.
+ */
+public class BulkMoveFilesUseCase {
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final FileRepository fileRepository;
+    private final FolderRepository folderRepository;
+    private final ChangeLogRepository changeLogRepository;
+
+    public BulkMoveFilesUseCase(FileRepository fileRepository, FolderRepository folderRepository, ChangeLogRepository changeLogRepository) {
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.folderRepository = Objects.requireNonNull(folderRepository);
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
+    }
+
+    public BulkOperationResult execute(UserId ownerId, List<FileId> fileIds, FolderId targetFolderId) {
+        Objects.requireNonNull(ownerId);
+        Set<FileId> ids = distinct(fileIds);
+
+        if (targetFolderId != null) {
+            Folder target = folderRepository.findByIdAndOwner(targetFolderId, ownerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Target folder not found"));
+            if (target.isDeleted()) {
+                throw new ResourceNotFoundException("Target folder not found");
+            }
+        }
+
+        Map<FileId, StoredFile> owned = fileRepository.findByIdsAndOwner(ids, ownerId).stream()
+                .collect(Collectors.toMap(StoredFile::getId, Function.identity()));
+
+        List<StoredFile> updates = new ArrayList<>();
+        for (FileId id : ids) {
+            StoredFile file = owned.get(id);
+            if (file != null && !file.isDeleted() && !Objects.equals(file.getFolderId(), targetFolderId)) {
+                updates.add(file);
+            }
+        }
+        BatchWriteResult written = updates.isEmpty() ? BatchWriteResult.none() : fileRepository.moveAll(updates, targetFolderId);
+        List<ChangeEvent> changes = updates.stream()
+                .filter(f -> written.written(f.getId()))
+                .map(f -> ChangeEvent.of(f.move(targetFolderId), ChangeEvent.Type.MOVED))
+                .toList();
+        if (!changes.isEmpty()) {
+            changeLogRepository.append(changes);
+        }
+
+        List<BulkItemOutcome> outcomes = new ArrayList<>(ids.size());
+        for (FileId id : ids) {
+            StoredFile file = owned.get(id);
+            if (file == null || file.isDeleted()) {
+                outcomes.add(BulkItemOutcome.notFound(id));
+            } else if (written.failed().contains(id)) {
+                outcomes.add(BulkItemOutcome.failed(id, "Move could not be saved"));
+            } else if (written.unmatched().contains(id)) {
+                outcomes.add(BulkItemOutcome.skipped(id));
+            } else {
+                outcomes.add(BulkItemOutcome.succeeded(id));
+            }
+        }
+        return new BulkOperationResult(outcomes);
+    }
+
+    static Set<FileId> distinct(List<FileId> fileIds) {
+        Objects.requireNonNull(fileIds);
+        if (fileIds.isEmpty()) {
+            throw new FileValidationException("At least one file id is required");
+        }
+        if (fileIds.size() > MAX_BATCH_SIZE) {
+            throw new FileValidationException("At most " + MAX_BATCH_SIZE + " files can be processed per request");
+        }
+        return new LinkedHashSet<>(fileIds);
+    }
+}
@@ -0,0 +1,87 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.FileStatus;
+import com.neurixa.core.files.domain.FileVersion;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.domain.VersionSnapshot;
+import com.neurixa.core.files.download.DownloadGrant;
+import com.neurixa.core.files.download.DownloadLink;
+import com.neurixa.core.files.download.DownloadLinkSigner;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.FileVersionRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Mints a signed, expiring link to one version of a file. Links to the current version
+ * read only the file document; older versions need one extra indexed lookup.
+ *
+ * Expiry is rounded up to a whole minute, so links requested for the same version
+ * within that minute are identical and browsers and proxies can reuse cached responses.
+ */
+public class CreateDownloadLinkUseCase {
+    private static final long EXPIRY_GRANULARITY_SECONDS = 60;
+
+    private final FileRepository fileRepository;
+    private final FileVersionRepository fileVersionRepository;
+    private final DownloadLinkSigner signer;
+    private final Duration defaultTtl;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    public CreateDownloadLinkUseCase(FileRepository fileRepository,
+                                     FileVersionRepository fileVersionRepository,
+                                     DownloadLinkSigner signer,
+                                     Duration defaultTtl,
+                                     Duration maxTtl,
+                                     Clock clock) {
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.fileVersionRepository = Objects.requireNonNull(fileVersionRepository);
+        this.signer = Objects.requireNonNull(signer);
+        this.defaultTtl = Objects.requireNonNull(defaultTtl);
+        this.maxTtl = Objects.requireNonNull(maxTtl);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * @param versionNumber the version to link to, or null for the current version
+     * @param ttl           requested lifetime, or null for the default; capped at the configured maximum
+     */
+    public DownloadLink execute(UserId ownerId, FileId fileId, Integer versionNumber, Duration ttl) {
+        Objects.requireNonNull(ownerId);
+        Objects.requireNonNull(fileId);
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            throw new FileValidationException("Link lifetime must be positive");
+        }
+
+        StoredFile file = fileRepository.findByIdAndOwner(fileId, ownerId)
+                .filter(f -> !f.isDeleted())
+                .orElseThrow(() -> new ResourceNotFoundException("File not found"));
+        if (file.getStatus() == FileStatus.FAILED) {
+            throw new FileValidationException("File failed processing and cannot be downloaded");
+        }
+
+        int version = versionNumber != null ? versionNumber : file.getCurrentVersion();
+        String storageKey = file.getHead()
+                .filter(h -> h.versionNumber() == version)
+                .map(VersionSnapshot::storageKey)
+                .orElseGet(() -> fileVersionRepository.findByFileIdAndVersion(fileId, version)
+                        .map(FileVersion::getStorageKey)
+                        .orElseThrow(() -> new ResourceNotFoundException("File version not found")));
+
+        Duration lifetime = ttl == null ? defaultTtl : (ttl.compareTo(maxTtl) > 0 ? maxTtl : ttl);
+        long expiry = clock.instant().plus(lifetime).getEpochSecond();
+        long rounded = Math.floorDiv(expiry + EXPIRY_GRANULARITY_SECONDS - 1, EXPIRY_GRANULARITY_SECONDS) * EXPIRY_GRANULARITY_SECONDS;
+        Instant expiresAt = Instant.ofEpochSecond(rounded);
+
+        String token = signer.sign(new DownloadGrant(storageKey, file.getName(), file.getMimeType(), expiresAt));
+        return new DownloadLink(token, version, expiresAt);
+    }
+}
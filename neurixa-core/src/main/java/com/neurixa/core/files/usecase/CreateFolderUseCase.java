@@ -2,8 +2,11 @@ package com.neurixa.core.files.usecase;
 
 import com.neurixa.core.domain.UserId;
 import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.ChangeEvent;
 import com.neurixa.core.files.domain.Folder;
 import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.exception.FolderNameConflictException;
+import com.neurixa.core.files.port.ChangeLogRepository;
 import com.neurixa.core.files.port.FolderRepository;
 
 import java.util.Objects;
@@ -11,9 +14,11 @@ import java.util.Optional;
 
 public class CreateFolderUseCase {
     private final FolderRepository folderRepository;
+    private final ChangeLogRepository changeLogRepository;
 
-    public CreateFolderUseCase(FolderRepository folderRepository) {
+    public CreateFolderUseCase(FolderRepository folderRepository, ChangeLogRepository changeLogRepository) {
         this.folderRepository = Objects.requireNonNull(folderRepository);
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
     }
 
     public Folder execute(UserId ownerId, String name, FolderId parentId) {
@@ -22,7 +27,8 @@ public class CreateFolderUseCase {
 
         if (parentId == null) {
             Folder folder = Folder.createRoot(ownerId, name);
-            return folderRepository.save(folder);
+            requireFreeName(folder);
+            return record(folderRepository.save(folder));
         }
 
         Optional<Folder> parent = folderRepository.findByIdAndOwner(parentId, ownerId);
@@ -30,7 +36,20 @@ public class CreateFolderUseCase {
             throw new ResourceNotFoundException("Parent folder not found");
         }
         Folder folder = Folder.createChild(ownerId, name, parent.get());
-        return folderRepository.save(folder);
+        requireFreeName(folder);
+        return record(folderRepository.save(folder));
+    }
+
+    /** The unique index catches a concurrent create; this gives the common case a clear error. */
+    private void requireFreeName(Folder folder) {
+        if (folderRepository.existsByNamePath(folder.getOwnerId(), folder.getNamePath(), null)) {
+            throw new FolderNameConflictException("A folder with this name already exists here");
+        }
+    }
+
+    private Folder record(Folder saved) {
+        changeLogRepository.append(ChangeEvent.of(saved, ChangeEvent.Type.CREATED));
+        return saved;
     }
 }
 
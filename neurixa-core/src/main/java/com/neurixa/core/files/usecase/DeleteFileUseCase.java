@@ -2,17 +2,26 @@ package com.neurixa.core.files.usecase;
 
 import com.neurixa.core.domain.UserId;
 import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.ChangeEvent;
 import com.neurixa.core.files.domain.FileId;
 import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.ContentIndex;
 import com.neurixa.core.files.port.FileRepository;
 
+import java.util.List;
 import java.util.Objects;
 
 public class DeleteFileUseCase {
     private final FileRepository fileRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final ContentIndex contentIndex;
 
-    public DeleteFileUseCase(FileRepository fileRepository) {
+    public DeleteFileUseCase(FileRepository fileRepository, ChangeLogRepository changeLogRepository,
+                             ContentIndex contentIndex) {
         this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
+        this.contentIndex = Objects.requireNonNull(contentIndex);
     }
 
     public StoredFile execute(UserId ownerId, FileId fileId) {
@@ -23,7 +32,10 @@ public class DeleteFileUseCase {
                 .orElseThrow(() -> new ResourceNotFoundException("File not found"));
 
         StoredFile updated = file.markDeleted();
-        return fileRepository.save(updated);
+        StoredFile saved = fileRepository.save(updated);
+        changeLogRepository.append(ChangeEvent.of(saved, ChangeEvent.Type.DELETED));
+        contentIndex.remove(List.of(fileId));
+        return saved;
     }
 }
 
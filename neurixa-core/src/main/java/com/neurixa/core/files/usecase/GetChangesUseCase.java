@@ -0,0 +1,99 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.ChangePage;
+import com.neurixa.core.files.domain.ChangeToken;
+import com.neurixa.core.files.exception.ChangeTokenExpiredException;
+import com.neurixa.core.files.port.ChangeLogRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Returns the changes an owner's sync client has not seen yet, so a poll costs
+ * O(changes) instead of re-listing every folder.
+ *
+ * Without a token, returns the current position: the client lists its tree once,
+ * then polls from that token (changes made during the listing are replayed, and
+ * applying them again is harmless).
+ *
+ * Expiry is keyed on the cursor position, not on when a token was handed out: a client paging
+ * slowly through an old backlog keeps the time of the last change it applied, so it gets a
+ * {@link ChangeTokenExpiredException} once the entries after its cursor may have been compacted,
+ * rather than a "settled gap" that silently skips them.
+ */
+public class GetChangesUseCase {
+    public static final int DEFAULT_LIMIT = 200;
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * Sequences are reserved before events are inserted, so a concurrent writer can leave a
+     * short-lived hole. A page stops at a hole younger than this instead of skipping past it.
+     */
+    static final Duration GAP_SETTLE_TIME = Duration.ofSeconds(30);
+
+    private final ChangeLogRepository changeLogRepository;
+    private final Duration retention;
+    private final Clock clock;
+
+    public GetChangesUseCase(ChangeLogRepository changeLogRepository, Duration retention, Clock clock) {
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
+        this.retention = Objects.requireNonNull(retention);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public ChangePage execute(UserId ownerId, String since, int limit) {
+        Objects.requireNonNull(ownerId);
+        Instant now = clock.instant();
+
+        if (since == null || since.isBlank()) {
+            long latest = changeLogRepository.latestSequence(ownerId);
+            return new ChangePage(List.of(), new ChangeToken(latest, now).encode(), false);
+        }
+
+        ChangeToken token = ChangeToken.decode(since);
+        if (token.positionAt().isBefore(now.minus(retention))) {
+            throw new ChangeTokenExpiredException("Change token has expired; a full resync is required");
+        }
+
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        List<ChangeEvent> fetched = changeLogRepository.findAfter(ownerId, token.sequence(), size + 1);
+        List<ChangeEvent> page = new ArrayList<>(Math.min(fetched.size(), size));
+        long cursor = token.sequence();
+        boolean blockedByGap = false;
+        for (ChangeEvent event : fetched) {
+            if (page.size() == size) {
+                break;
+            }
+            if (event.sequence() != cursor + 1 && event.occurredAt().isAfter(now.minus(GAP_SETTLE_TIME))) {
+                blockedByGap = true;
+                break;
+            }
+            page.add(event);
+            cursor = event.sequence();
+        }
+        boolean hasMore = !blockedByGap && fetched.size() > page.size();
+        return new ChangePage(page, new ChangeToken(cursor, positionAfter(token, page, blockedByGap, hasMore, now)).encode(), hasMore);
+    }
+
+    /**
+     * A client that has drained the log is current as of now. Otherwise the position is the
+     * newest change it has applied, and never earlier than the position it already held.
+     */
+    private static Instant positionAfter(ChangeToken token, List<ChangeEvent> page,
+                                         boolean blockedByGap, boolean hasMore, Instant now) {
+        if (!blockedByGap && !hasMore) {
+            return now;
+        }
+        if (page.isEmpty()) {
+            return token.positionAt();
+        }
+        Instant last = page.get(page.size() - 1).occurredAt();
+        return last.isAfter(token.positionAt()) ? last : token.positionAt();
+    }
+}
@@ -0,0 +1,26 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.FileRepository;
+
+import java.util.Objects;
+
+public class GetFileUseCase {
+    private final FileRepository fileRepository;
+
+    public GetFileUseCase(FileRepository fileRepository) {
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+    }
+
+    public StoredFile execute(UserId ownerId, FileId fileId) {
+        Objects.requireNonNull(ownerId);
+        Objects.requireNonNull(fileId);
+
+        return fileRepository.findByIdAndOwner(fileId, ownerId)
+                .filter(file -> !file.isDeleted())
+                .orElseThrow(() -> new ResourceNotFoundException("File not found"));
+    }
+}
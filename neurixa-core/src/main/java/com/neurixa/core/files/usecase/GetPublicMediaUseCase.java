@@ -0,0 +1,45 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.FileStatus;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.domain.VersionSnapshot;
+import com.neurixa.core.files.download.PublicMedia;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.FileVersionRepository;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Looks up a file version for unauthenticated serving. The caller decides whether the
+ * file is public; this only guarantees the file is a live, fully processed image.
+ * The current version is served from the file's embedded snapshot in one read.
+ */
+public class GetPublicMediaUseCase {
+    private final FileRepository fileRepository;
+    private final FileVersionRepository fileVersionRepository;
+
+    public GetPublicMediaUseCase(FileRepository fileRepository, FileVersionRepository fileVersionRepository) {
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.fileVersionRepository = Objects.requireNonNull(fileVersionRepository);
+    }
+
+    public Optional<PublicMedia> execute(FileId fileId, int versionNumber) {
+        Objects.requireNonNull(fileId);
+
+        Optional<StoredFile> file = fileRepository.findById(fileId)
+                .filter(f -> !f.isDeleted() && f.getStatus() == FileStatus.ACTIVE)
+                .filter(f -> f.getMimeType() != null && f.getMimeType().startsWith("image/"));
+        if (file.isEmpty()) {
+            return Optional.empty();
+        }
+        String mimeType = file.get().getMimeType();
+        Optional<VersionSnapshot> head = file.get().getHead().filter(h -> h.versionNumber() == versionNumber);
+        if (head.isPresent()) {
+            return Optional.of(new PublicMedia(fileId, versionNumber, head.get().storageKey(), mimeType, head.get().size()));
+        }
+        return fileVersionRepository.findByFileIdAndVersion(fileId, versionNumber)
+                .map(v -> new PublicMedia(fileId, versionNumber, v.getStorageKey(), mimeType, v.getSize()));
+    }
+}
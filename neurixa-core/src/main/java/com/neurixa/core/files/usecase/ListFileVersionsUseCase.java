@@ -0,0 +1,37 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.FileVersionPage;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.FileVersionRepository;
+
+import java.util.Objects;
+
+/**
+ * Pages through a file's version history, newest first.
+ */
+public class ListFileVersionsUseCase {
+    private final FileRepository fileRepository;
+    private final FileVersionRepository fileVersionRepository;
+
+    public ListFileVersionsUseCase(FileRepository fileRepository, FileVersionRepository fileVersionRepository) {
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.fileVersionRepository = Objects.requireNonNull(fileVersionRepository);
+    }
+
+    public FileVersionPage execute(UserId ownerId, FileId fileId, int page, int size) {
+        Objects.requireNonNull(ownerId);
+        Objects.requireNonNull(fileId);
+        if (page < 0) page = 0;
+        if (size <= 0 || size > 100) size = 20;
+
+        fileRepository.findByIdAndOwner(fileId, ownerId)
+                .filter(file -> !file.isDeleted())
+                .orElseThrow(() -> new ResourceNotFoundException("File not found"));
+
+        return new FileVersionPage(fileVersionRepository.findByFileId(fileId, page, size),
+                fileVersionRepository.countByFileId(fileId));
+    }
+}
@@ -2,6 +2,7 @@ package com.neurixa.core.files.usecase;
 
 import com.neurixa.core.domain.UserId;
 import com.neurixa.core.files.domain.Folder;
+import com.neurixa.core.files.domain.FileSort;
 import com.neurixa.core.files.domain.FolderContentPaged;
 import com.neurixa.core.files.domain.FolderId;
 import com.neurixa.core.files.domain.StoredFile;
@@ -21,7 +22,18 @@ public class ListFolderContentPagedUseCase {
     }
 
     public FolderContentPaged execute(UserId ownerId, FolderId folderId, int pageFolders, int sizeFolders, int pageFiles, int sizeFiles) {
+        return execute(ownerId, folderId, pageFolders, sizeFolders, pageFiles, sizeFiles, FileSort.DEFAULT, null);
+    }
+
+    /**
+     * @param fileSort order of the files page; folders keep their default order
+     * @param mimeType only list files of this MIME type, or null for all
+     */
+    public FolderContentPaged execute(UserId ownerId, FolderId folderId, int pageFolders, int sizeFolders, int pageFiles, int sizeFiles,
+                                      FileSort fileSort, String mimeType) {
         Objects.requireNonNull(ownerId);
+        Objects.requireNonNull(fileSort);
+        if (mimeType != null && mimeType.isBlank()) mimeType = null;
         if (pageFolders < 0) pageFolders = 0;
         if (sizeFolders <= 0 || sizeFolders > 100) sizeFolders = 20;
         if (pageFiles < 0) pageFiles = 0;
@@ -42,8 +54,8 @@ public class ListFolderContentPagedUseCase {
                 ? folderRepository.countRoots(ownerId)
                 : folderRepository.countChildren(ownerId, folderId);
 
-        List<StoredFile> files = fileRepository.findByFolder(ownerId, folderId, pageFiles, sizeFiles);
-        long totalFiles = fileRepository.countByFolder(ownerId, folderId);
+        List<StoredFile> files = fileRepository.findByFolder(ownerId, folderId, fileSort, mimeType, pageFiles, sizeFiles);
+        long totalFiles = fileRepository.countByFolder(ownerId, folderId, mimeType);
 
         return new FolderContentPaged(folders, totalFolders, files, totalFiles);
     }
@@ -2,10 +2,12 @@ package com.neurixa.core.files.usecase;
 
 import com.neurixa.core.domain.UserId;
 import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.ChangeEvent;
 import com.neurixa.core.files.domain.FileId;
 import com.neurixa.core.files.domain.Folder;
 import com.neurixa.core.files.domain.FolderId;
 import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.ChangeLogRepository;
 import com.neurixa.core.files.port.FileRepository;
 import com.neurixa.core.files.port.FolderRepository;
 
@@ -14,10 +16,12 @@ import java.util.Objects;
 public class MoveFileUseCase {
     private final FileRepository fileRepository;
     private final FolderRepository folderRepository;
+    private final ChangeLogRepository changeLogRepository;
 
-    public MoveFileUseCase(FileRepository fileRepository, FolderRepository folderRepository) {
+    public MoveFileUseCase(FileRepository fileRepository, FolderRepository folderRepository, ChangeLogRepository changeLogRepository) {
         this.fileRepository = Objects.requireNonNull(fileRepository);
         this.folderRepository = Objects.requireNonNull(folderRepository);
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
     }
 
     public StoredFile execute(UserId ownerId, FileId fileId, FolderId targetFolderId) {
@@ -36,7 +40,9 @@ public class MoveFileUseCase {
         }
 
         StoredFile updated = file.move(targetFolderId);
-        return fileRepository.save(updated);
+        StoredFile saved = fileRepository.save(updated);
+        changeLogRepository.append(ChangeEvent.of(saved, ChangeEvent.Type.MOVED));
+        return saved;
     }
 }
 
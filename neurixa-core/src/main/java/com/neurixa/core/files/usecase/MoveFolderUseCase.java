@@ -0,0 +1,56 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.Folder;
+import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.exception.FolderNameConflictException;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.FolderRepository;
+
+import java.util.Objects;
+
+public class MoveFolderUseCase {
+    private final FolderRepository folderRepository;
+    private final ChangeLogRepository changeLogRepository;
+
+    public MoveFolderUseCase(FolderRepository folderRepository, ChangeLogRepository changeLogRepository) {
+        this.folderRepository = Objects.requireNonNull(folderRepository);
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
+    }
+
+    /**
+     * @param targetParentId the new parent, or null to move the folder to the owner's root
+     */
+    public Folder execute(UserId ownerId, FolderId folderId, FolderId targetParentId) {
+        Objects.requireNonNull(ownerId);
+        Objects.requireNonNull(folderId);
+
+        Folder folder = folderRepository.findByIdAndOwner(folderId, ownerId)
+                .filter(f -> !f.isDeleted())
+                .orElseThrow(() -> new ResourceNotFoundException("Folder not found"));
+
+        Folder updated;
+        if (targetParentId == null) {
+            updated = folder.moveToRoot();
+        } else {
+            Folder target = folderRepository.findByIdAndOwner(targetParentId, ownerId)
+                    .filter(f -> !f.isDeleted())
+                    .orElseThrow(() -> new ResourceNotFoundException("Target folder not found"));
+            if (folder.contains(target)) {
+                throw new FileValidationException("A folder cannot be moved into itself or one of its subfolders");
+            }
+            updated = folder.move(target);
+        }
+
+        if (folderRepository.existsByNamePath(ownerId, updated.getNamePath(), folderId)) {
+            throw new FolderNameConflictException("A folder with this name already exists in the target folder");
+        }
+        Folder saved = folderRepository.save(updated);
+        folderRepository.updateSubtree(folder, saved);
+        changeLogRepository.append(ChangeEvent.of(saved, ChangeEvent.Type.MOVED));
+        return saved;
+    }
+}
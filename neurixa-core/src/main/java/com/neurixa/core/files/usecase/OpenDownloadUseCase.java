@@ -0,0 +1,30 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.files.download.DownloadGrant;
+import com.neurixa.core.files.download.DownloadLinkSigner;
+import com.neurixa.core.files.download.FileDownload;
+import com.neurixa.core.files.port.StorageProvider;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Serves a signed download link. Touches only the signer and the blob store:
+ * no user, file or version lookup.
+ */
+public class OpenDownloadUseCase {
+    private final DownloadLinkSigner signer;
+    private final StorageProvider storageProvider;
+    private final Clock clock;
+
+    public OpenDownloadUseCase(DownloadLinkSigner signer, StorageProvider storageProvider, Clock clock) {
+        this.signer = Objects.requireNonNull(signer);
+        this.storageProvider = Objects.requireNonNull(storageProvider);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public FileDownload execute(String token) {
+        DownloadGrant grant = signer.verify(token, clock.instant());
+        return new FileDownload(grant, storageProvider.retrieve(grant.storageKey()));
+    }
+}
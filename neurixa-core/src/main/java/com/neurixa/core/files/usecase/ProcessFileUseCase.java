@@ -0,0 +1,117 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.FileStatus;
+import com.neurixa.core.files.domain.FileVersion;
+import com.neurixa.core.files.domain.ProcessingTask;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.FileVersionRepository;
+import com.neurixa.core.files.port.ProcessingQueue;
+import com.neurixa.core.files.processing.FileProcessingStage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Runs the registered processing stages for a claimed task and moves the file out of
+ * UPLOADING: to ACTIVE on success, or to FAILED once the task has used up its attempts.
+ * Both transitions are published on the change feed so clients need not poll.
+ *
+ * The transition is a conditional update of the status and head only, so edits made while
+ * the stages ran survive it; a file deleted or superseded meanwhile is left as it is.
+ */
+public class ProcessFileUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessFileUseCase.class);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    private final ProcessingQueue processingQueue;
+    private final FileRepository fileRepository;
+    private final FileVersionRepository fileVersionRepository;
+    private final List<FileProcessingStage> stages;
+    private final int maxAttempts;
+    private final ChangeLogRepository changeLogRepository;
+
+    public ProcessFileUseCase(ProcessingQueue processingQueue,
+                              FileRepository fileRepository,
+                              FileVersionRepository fileVersionRepository,
+                              List<FileProcessingStage> stages,
+                              int maxAttempts,
+                              ChangeLogRepository changeLogRepository) {
+        this.processingQueue = Objects.requireNonNull(processingQueue);
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.fileVersionRepository = Objects.requireNonNull(fileVersionRepository);
+        this.stages = List.copyOf(stages);
+        if (maxAttempts <= 0) throw new IllegalArgumentException("maxAttempts must be > 0");
+        this.maxAttempts = maxAttempts;
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
+    }
+
+    public void execute(ProcessingTask task) {
+        Objects.requireNonNull(task);
+
+        Optional<StoredFile> fileOpt = fileRepository.findByIdAndOwner(task.fileId(), task.ownerId());
+        if (fileOpt.isEmpty() || fileOpt.get().isDeleted() || fileOpt.get().getStatus() != FileStatus.UPLOADING) {
+            // Deleted while queued, or already processed by a previous delivery.
+            processingQueue.complete(task);
+            return;
+        }
+        StoredFile file = fileOpt.get();
+
+        String stage = null;
+        try {
+            FileVersion version = fileVersionRepository.findByFileIdAndVersion(file.getId(), task.versionNumber())
+                    .orElseThrow(() -> new IllegalStateException("Version " + task.versionNumber() + " not found"));
+            FileVersion processed = version;
+            for (FileProcessingStage s : stages) {
+                stage = s.name();
+                processed = s.process(file, processed);
+            }
+            stage = null;
+            StoredFile processedFile = file;
+            if (processed != version) {
+                fileVersionRepository.save(processed);
+                if (processed.getVersionNumber() == file.getCurrentVersion()) {
+                    // Keep the embedded snapshot's checksum in step with the version document.
+                    processedFile = file.withCurrentVersion(processed);
+                }
+            }
+            fileRepository.finishProcessing(processedFile, FileStatus.ACTIVE)
+                    .ifPresent(saved -> changeLogRepository.append(ChangeEvent.of(saved, ChangeEvent.Type.PROCESSED)));
+            processingQueue.complete(task);
+            log.info("event=file_processed fileId={} version={} attempts={}",
+                    file.getId().getValue(), task.versionNumber(), task.attempts());
+        } catch (RuntimeException e) {
+            handleFailure(task, file, stage, e);
+        }
+    }
+
+    private void handleFailure(ProcessingTask task, StoredFile file, String stage, RuntimeException e) {
+        String error = (stage != null ? stage + ": " : "") + e.getMessage();
+        if (task.attempts() >= maxAttempts) {
+            log.error("event=file_processing_failed fileId={} attempts={} error={}",
+                    file.getId().getValue(), task.attempts(), error, e);
+            fileRepository.finishProcessing(file, FileStatus.FAILED)
+                    .ifPresent(saved -> changeLogRepository.append(ChangeEvent.of(saved, ChangeEvent.Type.PROCESSING_FAILED)));
+            processingQueue.fail(task, error, null);
+            return;
+        }
+        Duration retryAfter = backoff(task.attempts());
+        log.warn("event=file_processing_retry fileId={} attempts={} retryAfter={} error={}",
+                file.getId().getValue(), task.attempts(), retryAfter, error);
+        processingQueue.fail(task, error, retryAfter);
+    }
+
+    static Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 10);
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << shift);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
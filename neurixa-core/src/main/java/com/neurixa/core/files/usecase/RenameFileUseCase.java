@@ -2,17 +2,21 @@ package com.neurixa.core.files.usecase;
 
 import com.neurixa.core.domain.UserId;
 import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.ChangeEvent;
 import com.neurixa.core.files.domain.FileId;
 import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.ChangeLogRepository;
 import com.neurixa.core.files.port.FileRepository;
 
 import java.util.Objects;
 
 public class RenameFileUseCase {
     private final FileRepository fileRepository;
+    private final ChangeLogRepository changeLogRepository;
 
-    public RenameFileUseCase(FileRepository fileRepository) {
+    public RenameFileUseCase(FileRepository fileRepository, ChangeLogRepository changeLogRepository) {
         this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
     }
 
     public StoredFile execute(UserId ownerId, FileId fileId, String newName) {
@@ -24,7 +28,9 @@ public class RenameFileUseCase {
                 .orElseThrow(() -> new ResourceNotFoundException("File not found"));
 
         StoredFile updated = file.rename(newName);
-        return fileRepository.save(updated);
+        StoredFile saved = fileRepository.save(updated);
+        changeLogRepository.append(ChangeEvent.of(saved, ChangeEvent.Type.RENAMED));
+        return saved;
     }
 }
 
@@ -0,0 +1,48 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.Folder;
+import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.exception.FolderNameConflictException;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.FolderRepository;
+
+import java.util.Objects;
+
+public class RenameFolderUseCase {
+    private final FolderRepository folderRepository;
+    private final ChangeLogRepository changeLogRepository;
+
+    public RenameFolderUseCase(FolderRepository folderRepository, ChangeLogRepository changeLogRepository) {
+        this.folderRepository = Objects.requireNonNull(folderRepository);
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
+    }
+
+    public Folder execute(UserId ownerId, FolderId folderId, String newName) {
+        Objects.requireNonNull(ownerId);
+        Objects.requireNonNull(folderId);
+        Objects.requireNonNull(newName);
+
+        Folder folder = folderRepository.findByIdAndOwner(folderId, ownerId)
+                .filter(f -> !f.isDeleted())
+                .orElseThrow(() -> new ResourceNotFoundException("Folder not found"));
+
+        Folder updated = folder.rename(newName);
+        requireFreeName(updated);
+        Folder saved = folderRepository.save(updated);
+        if (!folder.getNamePath().equals(saved.getNamePath())) {
+            folderRepository.updateSubtree(folder, saved);
+        }
+        changeLogRepository.append(ChangeEvent.of(saved, ChangeEvent.Type.RENAMED));
+        return saved;
+    }
+
+    /** The folder itself is excluded, so a change of case alone is allowed. */
+    private void requireFreeName(Folder folder) {
+        if (folderRepository.existsByNamePath(folder.getOwnerId(), folder.getNamePath(), folder.getId())) {
+            throw new FolderNameConflictException("A folder with this name already exists here");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.files.domain.ProcessingTask;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.ProcessingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Enqueues files that have stayed in UPLOADING longer than {@code stallAfter}.
+ *
+ * An upload saves the file, then its version, then enqueues the task. Outside a
+ * transaction, a crash or a failed enqueue in between leaves the file without a job,
+ * and nothing else would ever pick it up. Enqueuing is idempotent per file version, so
+ * files whose job is merely waiting for a retry are left as they are.
+ *
+ * Each run reads one page and the next run continues after it, so files further back are
+ * reached even when the oldest ones all still have jobs; after the last page it starts over.
+ */
+public class RequeueStalledUploadsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RequeueStalledUploadsUseCase.class);
+
+    private final FileRepository fileRepository;
+    private final ProcessingQueue processingQueue;
+    private final Duration stallAfter;
+    private final int batchSize;
+    private final Clock clock;
+    private StoredFile resumeAfter;
+
+    public RequeueStalledUploadsUseCase(FileRepository fileRepository, ProcessingQueue processingQueue,
+                                        Duration stallAfter, int batchSize, Clock clock) {
+        if (stallAfter.isNegative()) throw new IllegalArgumentException("stallAfter must not be negative");
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be > 0");
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.processingQueue = Objects.requireNonNull(processingQueue);
+        this.stallAfter = stallAfter;
+        this.batchSize = batchSize;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * @return how many stalled files were handed to the queue
+     */
+    public synchronized int execute() {
+        List<StoredFile> stalled = fileRepository.findUploadingCreatedBefore(clock.instant().minus(stallAfter),
+                resumeAfter, batchSize);
+        resumeAfter = stalled.size() < batchSize ? null : stalled.get(stalled.size() - 1);
+        for (StoredFile file : stalled) {
+            processingQueue.enqueue(ProcessingTask.pending(file, file.getCurrentVersion()));
+        }
+        if (!stalled.isEmpty()) {
+            log.info("event=stalled_uploads_requeued count={}", stalled.size());
+        }
+        return stalled.size();
+    }
+}
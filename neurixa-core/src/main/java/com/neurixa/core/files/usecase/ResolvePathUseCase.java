@@ -0,0 +1,75 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.Folder;
+import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.domain.ResolvedPath;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.FolderRepository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Resolves a user-facing path such as {@code /Projects/2026/Invoices/report.pdf},
+ * matching names case-insensitively.
+ *
+ * The folder for the full path and the folder for its parent are fetched together by
+ * name path; only if the full path is not a folder is the last segment looked up as a
+ * file in the parent. That is at most two indexed queries, whatever the depth.
+ */
+public class ResolvePathUseCase {
+    private final FolderRepository folderRepository;
+    private final FileRepository fileRepository;
+
+    public ResolvePathUseCase(FolderRepository folderRepository, FileRepository fileRepository) {
+        this.folderRepository = Objects.requireNonNull(folderRepository);
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+    }
+
+    public ResolvedPath execute(UserId ownerId, String path) {
+        Objects.requireNonNull(ownerId);
+        Objects.requireNonNull(path);
+
+        String namePath = Folder.normalizePath(path);
+        if ("/".equals(namePath)) {
+            throw new FileValidationException("Path must name a folder or a file");
+        }
+        String parentNamePath = namePath.substring(0, namePath.lastIndexOf('/'));
+
+        List<String> lookup = parentNamePath.isEmpty() ? List.of(namePath) : List.of(namePath, parentNamePath);
+        List<Folder> folders = folderRepository.findByNamePaths(ownerId, lookup);
+        Optional<Folder> folder = match(folders, namePath);
+        if (folder.isPresent()) {
+            return ResolvedPath.ofFolder(folder.get());
+        }
+
+        Folder parent = null;
+        if (!parentNamePath.isEmpty()) {
+            parent = match(folders, parentNamePath)
+                    .orElseThrow(() -> new ResourceNotFoundException("Path not found"));
+        }
+        FolderId parentId = parent != null ? parent.getId() : null;
+        Folder resolvedParent = parent;
+        return fileRepository.findByFolderAndName(ownerId, parentId, lastSegment(path))
+                .map(file -> ResolvedPath.ofFile(resolvedParent, file))
+                .orElseThrow(() -> new ResourceNotFoundException("Path not found"));
+    }
+
+    private static Optional<Folder> match(List<Folder> folders, String namePath) {
+        return folders.stream().filter(f -> f.getNamePath().equals(namePath)).findFirst();
+    }
+
+    private static String lastSegment(String path) {
+        String[] segments = path.split("/");
+        for (int i = segments.length - 1; i >= 0; i--) {
+            if (!segments[i].isBlank()) {
+                return segments[i].strip();
+            }
+        }
+        throw new FileValidationException("Path must name a folder or a file");
+    }
+}
@@ -0,0 +1,59 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.Page;
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ContentMatch;
+import com.neurixa.core.files.domain.ContentSearchHit;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.ContentIndex;
+import com.neurixa.core.files.port.FileRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked full-text search over the content of the caller's files.
+ *
+ * Matches are re-checked against the file collection in one query, so a file deleted
+ * while its index entry is still being removed never shows up.
+ */
+public class SearchFileContentUseCase {
+    private static final int MAX_QUERY_LENGTH = 256;
+
+    private final FileRepository fileRepository;
+    private final ContentIndex contentIndex;
+
+    public SearchFileContentUseCase(FileRepository fileRepository, ContentIndex contentIndex) {
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+        this.contentIndex = Objects.requireNonNull(contentIndex);
+    }
+
+    public Page<ContentSearchHit> execute(UserId ownerId, String query, int page, int size) {
+        Objects.requireNonNull(ownerId);
+        if (query == null || query.isBlank()) {
+            throw new FileValidationException("Search query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new FileValidationException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (page < 0) page = 0;
+        if (size <= 0 || size > 50) size = 20;
+
+        Page<ContentMatch> matches = contentIndex.search(ownerId, query.strip(), page, size);
+        List<FileId> ids = matches.getContent().stream().map(ContentMatch::fileId).toList();
+        Map<FileId, StoredFile> files = ids.isEmpty() ? Map.of() : fileRepository.findByIdsAndOwner(ids, ownerId).stream()
+                .filter(f -> !f.isDeleted())
+                .collect(Collectors.toMap(StoredFile::getId, Function.identity()));
+
+        List<ContentSearchHit> hits = matches.getContent().stream()
+                .filter(m -> files.containsKey(m.fileId()))
+                .map(m -> new ContentSearchHit(files.get(m.fileId()), m.score(), m.snippet()))
+                .toList();
+        return new Page<>(hits, page, size, matches.getTotalElements());
+    }
+}
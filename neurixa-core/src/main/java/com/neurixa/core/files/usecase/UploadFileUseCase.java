@@ -1,15 +1,19 @@
 package com.neurixa.core.files.usecase;
 
 import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ChangeEvent;
 import com.neurixa.core.files.domain.FileVersion;
 import com.neurixa.core.files.domain.Folder;
 import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.domain.ProcessingTask;
 import com.neurixa.core.files.domain.StoredFile;
 import com.neurixa.core.files.exception.FileValidationException;
 import com.neurixa.core.files.exception.FolderOwnershipException;
+import com.neurixa.core.files.port.ChangeLogRepository;
 import com.neurixa.core.files.port.FileRepository;
 import com.neurixa.core.files.port.FileVersionRepository;
 import com.neurixa.core.files.port.FolderRepository;
+import com.neurixa.core.files.port.ProcessingQueue;
 import com.neurixa.core.files.port.StorageProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +23,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+/**
+ * Stores the blob and records the file in UPLOADING status, then hands it to the
+ * processing queue; a worker flips it to ACTIVE once all processing stages ran.
+ * Without a transaction, a crash between the save and the enqueue leaves the file
+ * unqueued; {@link RequeueStalledUploadsUseCase} enqueues it later.
+ */
 public class UploadFileUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(UploadFileUseCase.class);
@@ -29,19 +39,25 @@ public class UploadFileUseCase {
     private final StorageProvider storageProvider;
     private final Set<String> allowedMimeTypes;
     private final long maxFileSize;
+    private final ProcessingQueue processingQueue;
+    private final ChangeLogRepository changeLogRepository;
 
     public UploadFileUseCase(FileRepository fileRepository,
                              FileVersionRepository fileVersionRepository,
                              FolderRepository folderRepository,
                              StorageProvider storageProvider,
                              Set<String> allowedMimeTypes,
-                             long maxFileSize) {
+                             long maxFileSize,
+                             ProcessingQueue processingQueue,
+                             ChangeLogRepository changeLogRepository) {
         this.fileRepository = Objects.requireNonNull(fileRepository);
         this.fileVersionRepository = Objects.requireNonNull(fileVersionRepository);
         this.folderRepository = Objects.requireNonNull(folderRepository);
         this.storageProvider = Objects.requireNonNull(storageProvider);
         this.allowedMimeTypes = Objects.requireNonNull(allowedMimeTypes);
         this.maxFileSize = maxFileSize;
+        this.processingQueue = Objects.requireNonNull(processingQueue);
+        this.changeLogRepository = Objects.requireNonNull(changeLogRepository);
     }
 
     public StoredFile execute(UserId ownerId,
@@ -75,10 +91,12 @@ public class UploadFileUseCase {
         }
 
         String storageKey = storageProvider.store(data, originalFilename);
-        StoredFile file = StoredFile.createNew(ownerId, originalFilename, mimeType, size, targetFolderId).markActive();
-        StoredFile saved = fileRepository.save(file);
-        FileVersion version = FileVersion.createNew(saved.getId(), 1, storageKey, size, null);
+        StoredFile file = StoredFile.createNew(ownerId, originalFilename, mimeType, size, targetFolderId);
+        FileVersion version = FileVersion.createNew(file.getId(), 1, storageKey, size, null);
+        StoredFile saved = fileRepository.save(file.withCurrentVersion(version));
         fileVersionRepository.save(version);
+        processingQueue.enqueue(ProcessingTask.pending(saved, version.getVersionNumber()));
+        changeLogRepository.append(ChangeEvent.of(saved, ChangeEvent.Type.CREATED));
 
         log.info("event=file_uploaded fileId={} filename={} mimeType={} size={} folderId={} owner={}",
                 saved.getId().getValue(), originalFilename, mimeType, size,
@@ -0,0 +1,35 @@
+package com.neurixa.core.files.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.FileRepository;
+
+import java.util.Objects;
+
+/**
+ * Checks that a file may become an article's featured image: a live image owned by the
+ * caller. Featured images of published articles are served without authentication, so
+ * accepting any other file would publish it.
+ */
+public class VerifyFeaturedImageUseCase {
+    private final FileRepository fileRepository;
+
+    public VerifyFeaturedImageUseCase(FileRepository fileRepository) {
+        this.fileRepository = Objects.requireNonNull(fileRepository);
+    }
+
+    public void execute(UserId ownerId, FileId fileId) {
+        Objects.requireNonNull(ownerId);
+        Objects.requireNonNull(fileId);
+
+        StoredFile file = fileRepository.findByIdAndOwner(fileId, ownerId)
+                .filter(f -> !f.isDeleted())
+                .orElseThrow(() -> new ResourceNotFoundException("File not found"));
+        if (file.getMimeType() == null || !file.getMimeType().startsWith("image/")) {
+            throw new FileValidationException("Featured image must be an image");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.neurixa.core.files.domain;
+
+import com.neurixa.core.files.exception.FileValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileSortTest {
+
+    @Test
+    void shouldDefaultToMostRecentlyUpdated() {
+        assertThat(FileSort.parse(null)).isEqualTo(FileSort.DEFAULT);
+        assertThat(FileSort.parse(" ")).isEqualTo(new FileSort(FileSort.Field.UPDATED_AT, false));
+    }
+
+    @Test
+    void shouldParseFieldAndDirection() {
+        assertThat(FileSort.parse("name")).isEqualTo(new FileSort(FileSort.Field.NAME, true));
+        assertThat(FileSort.parse("size")).isEqualTo(new FileSort(FileSort.Field.SIZE, false));
+        assertThat(FileSort.parse("mimeType,desc")).isEqualTo(new FileSort(FileSort.Field.MIME_TYPE, false));
+        assertThat(FileSort.parse("createdAt, ASC")).isEqualTo(new FileSort(FileSort.Field.CREATED_AT, true));
+    }
+
+    @Test
+    void shouldRejectUnknownFieldOrDirection() {
+        assertThatThrownBy(() -> FileSort.parse("owner")).isInstanceOf(FileValidationException.class);
+        assertThatThrownBy(() -> FileSort.parse("name,up")).isInstanceOf(FileValidationException.class);
+        assertThatThrownBy(() -> FileSort.parse("name,asc,extra")).isInstanceOf(FileValidationException.class);
+    }
+}
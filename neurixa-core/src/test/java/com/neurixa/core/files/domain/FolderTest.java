@@ -0,0 +1,58 @@
+package com.neurixa.core.files.domain;
+
+import com.neurixa.core.domain.UserId;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FolderTest {
+
+    private final UserId ownerId = new UserId("user-123");
+
+    @Test
+    void shouldBuildNamePathAlongsideIdPath() {
+        Folder projects = Folder.createRoot(ownerId, "Projects");
+        Folder year = Folder.createChild(ownerId, " 2026 ", projects);
+
+        assertThat(projects.getNamePath()).isEqualTo("/projects");
+        assertThat(year.getNamePath()).isEqualTo("/projects/2026");
+        assertThat(year.getPath()).isEqualTo(projects.getPath() + "/" + year.getId().getValue());
+    }
+
+    @Test
+    void shouldRewriteNamePathOnRenameAndMove() {
+        Folder projects = Folder.createRoot(ownerId, "Projects");
+        Folder archive = Folder.createRoot(ownerId, "Archive");
+        Folder invoices = Folder.createChild(ownerId, "Invoices", projects);
+
+        Folder renamed = invoices.rename("Bills");
+        assertThat(renamed.getNamePath()).isEqualTo("/projects/bills");
+        assertThat(renamed.getPath()).isEqualTo(invoices.getPath());
+
+        Folder moved = renamed.move(archive);
+        assertThat(moved.getNamePath()).isEqualTo("/archive/bills");
+        assertThat(moved.moveToRoot().getNamePath()).isEqualTo("/bills");
+    }
+
+    @Test
+    void shouldNormalizeUserFacingPaths() {
+        assertThat(Folder.normalizePath("Projects//2026/Invoices/")).isEqualTo("/projects/2026/invoices");
+        assertThat(Folder.normalizePath("/")).isEqualTo("/");
+    }
+
+    @Test
+    void shouldDetectDescendants() {
+        Folder projects = Folder.createRoot(ownerId, "Projects");
+        Folder year = Folder.createChild(ownerId, "2026", projects);
+
+        assertThat(projects.contains(year)).isTrue();
+        assertThat(projects.contains(projects)).isTrue();
+        assertThat(year.contains(projects)).isFalse();
+    }
+
+    @Test
+    void shouldRejectSlashInName() {
+        assertThatThrownBy(() -> Folder.createRoot(ownerId, "a/b")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
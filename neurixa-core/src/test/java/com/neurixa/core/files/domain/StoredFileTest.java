@@ -42,4 +42,22 @@ class StoredFileTest {
         assertThat(deletedFile.getStatus()).isEqualTo(FileStatus.DELETED);
         assertThat(deletedFile.isDeleted()).isTrue();
     }
+
+    @Test
+    void shouldEmbedCurrentVersionSnapshot() {
+        FileVersion version = FileVersion.createNew(file.getId(), 1, "2026/03/01/uuid-test.txt", 100L, null);
+        StoredFile withHead = file.withCurrentVersion(version).markActive();
+
+        assertThat(withHead.getHead()).hasValueSatisfying(head -> {
+            assertThat(head.versionNumber()).isEqualTo(1);
+            assertThat(head.storageKey()).isEqualTo("2026/03/01/uuid-test.txt");
+        });
+    }
+
+    @Test
+    void shouldIgnoreSnapshotThatLagsCurrentVersion() {
+        FileVersion version = FileVersion.createNew(file.getId(), 1, "2026/03/01/uuid-test.txt", 100L, null);
+        assertThat(file.getHead()).isEmpty();
+        assertThat(file.withCurrentVersion(version).incrementVersion().getHead()).isEmpty();
+    }
 }
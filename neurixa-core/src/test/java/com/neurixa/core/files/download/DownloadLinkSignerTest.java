@@ -0,0 +1,61 @@
+package com.neurixa.core.files.download;
+
+import com.neurixa.core.files.exception.InvalidDownloadLinkException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownloadLinkSignerTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+    private final DownloadLinkSigner signer = new DownloadLinkSigner(secret("first"));
+
+    @Test
+    void shouldRoundTripGrant() {
+        // Given
+        DownloadGrant grant = new DownloadGrant("2026/03/01/uuid-photo.jpg", "holiday\nphoto.jpg", "image/jpeg",
+                NOW.plusSeconds(900));
+
+        // When
+        DownloadGrant verified = signer.verify(signer.sign(grant), NOW);
+
+        // Then
+        assertThat(verified).isEqualTo(grant);
+    }
+
+    @Test
+    void shouldRejectExpiredLink() {
+        // Given
+        String token = signer.sign(new DownloadGrant("key", "a.pdf", "application/pdf", NOW));
+
+        // When & Then
+        assertThatThrownBy(() -> signer.verify(token, NOW))
+                .isInstanceOf(InvalidDownloadLinkException.class)
+                .hasMessage("Download link has expired");
+    }
+
+    @Test
+    void shouldRejectTamperedOrForeignLinks() {
+        // Given
+        String token = signer.sign(new DownloadGrant("key", "a.pdf", "application/pdf", NOW.plusSeconds(60)));
+        String otherKeyToken = new DownloadLinkSigner(secret("second"))
+                .sign(new DownloadGrant("key", "a.pdf", "application/pdf", NOW.plusSeconds(60)));
+        String forgedPayload = signer.sign(new DownloadGrant("other", "a.pdf", "application/pdf", NOW.plusSeconds(60)))
+                .split("\\.")[0] + "." + token.split("\\.")[1];
+
+        // When & Then
+        assertThatThrownBy(() -> signer.verify(otherKeyToken, NOW)).isInstanceOf(InvalidDownloadLinkException.class);
+        assertThatThrownBy(() -> signer.verify(forgedPayload, NOW)).isInstanceOf(InvalidDownloadLinkException.class);
+        assertThatThrownBy(() -> signer.verify("not-a-token", NOW)).isInstanceOf(InvalidDownloadLinkException.class);
+        assertThatThrownBy(() -> signer.verify("@@@.###", NOW)).isInstanceOf(InvalidDownloadLinkException.class);
+    }
+
+    private static byte[] secret(String seed) {
+        return (seed + "-download-link-secret-for-tests-only").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,118 @@
+package com.neurixa.core.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.BatchWriteResult;
+import com.neurixa.core.files.domain.BulkItemOutcome;
+import com.neurixa.core.files.domain.BulkOperationResult;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.ContentIndex;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.usecase.BulkDeleteFilesUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkDeleteFilesUseCaseTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private ContentIndex contentIndex;
+
+    private BulkDeleteFilesUseCase deleteUseCase;
+
+    private UserId ownerId;
+    private StoredFile first;
+    private StoredFile second;
+
+    @BeforeEach
+    void setUp() {
+        deleteUseCase = new BulkDeleteFilesUseCase(fileRepository, changeLogRepository, contentIndex);
+        ownerId = new UserId("user-123");
+        first = StoredFile.createNew(ownerId, "a.txt", "text/plain", 10, null).markActive();
+        second = StoredFile.createNew(ownerId, "b.txt", "text/plain", 10, null).markActive();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeleteOnlyFilesWrittenAndReportTheRest() {
+        // Given
+        FileId missing = new FileId("missing");
+        when(fileRepository.findByIdsAndOwner(any(), any())).thenReturn(List.of(first, second));
+        when(fileRepository.deleteAll(anyList())).thenReturn(new BatchWriteResult(Set.of(), Set.of(second.getId())));
+
+        // When
+        BulkOperationResult result = deleteUseCase.execute(ownerId, List.of(first.getId(), second.getId(), missing));
+
+        // Then
+        assertThat(result.items()).extracting(BulkItemOutcome::status).containsExactly(
+                BulkItemOutcome.Status.SUCCEEDED, BulkItemOutcome.Status.SKIPPED, BulkItemOutcome.Status.NOT_FOUND);
+        ArgumentCaptor<List<ChangeEvent>> changes = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository).append(changes.capture());
+        assertThat(changes.getValue()).extracting(ChangeEvent::entityId).containsExactly(first.getId().getValue());
+        verify(contentIndex).remove(List.of(first.getId()));
+    }
+
+    @Test
+    void shouldReportFailedWrites() {
+        // Given
+        when(fileRepository.findByIdsAndOwner(any(), any())).thenReturn(List.of(first));
+        when(fileRepository.deleteAll(anyList())).thenReturn(new BatchWriteResult(Set.of(first.getId()), Set.of()));
+
+        // When
+        BulkOperationResult result = deleteUseCase.execute(ownerId, List.of(first.getId()));
+
+        // Then
+        assertThat(result.items()).extracting(BulkItemOutcome::status).containsExactly(BulkItemOutcome.Status.FAILED);
+        verify(changeLogRepository, never()).append(anyList());
+        verify(contentIndex, never()).remove(any());
+    }
+
+    @Test
+    void shouldSkipWriteWhenAllFilesAlreadyDeleted() {
+        // Given
+        StoredFile deleted = first.markDeleted();
+        when(fileRepository.findByIdsAndOwner(any(), any())).thenReturn(List.of(deleted));
+
+        // When
+        BulkOperationResult result = deleteUseCase.execute(ownerId, List.of(deleted.getId()));
+
+        // Then
+        verify(fileRepository, never()).deleteAll(anyList());
+        verify(contentIndex, never()).remove(any());
+        assertThat(result.items()).extracting(BulkItemOutcome::status)
+                .containsExactly(BulkItemOutcome.Status.SUCCEEDED);
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        List<FileId> ids = IntStream.range(0, 1001).mapToObj(i -> new FileId("f" + i)).toList();
+
+        assertThatThrownBy(() -> deleteUseCase.execute(ownerId, ids))
+                .isInstanceOf(FileValidationException.class);
+    }
+}
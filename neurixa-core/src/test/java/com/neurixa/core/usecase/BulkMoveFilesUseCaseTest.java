@@ -0,0 +1,149 @@
+package com.neurixa.core.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.BatchWriteResult;
+import com.neurixa.core.files.domain.BulkItemOutcome;
+import com.neurixa.core.files.domain.BulkOperationResult;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.Folder;
+import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.FolderRepository;
+import com.neurixa.core.files.usecase.BulkMoveFilesUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkMoveFilesUseCaseTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FolderRepository folderRepository;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    private BulkMoveFilesUseCase moveUseCase;
+
+    private UserId ownerId;
+    private FolderId targetId;
+    private StoredFile first;
+    private StoredFile second;
+
+    @BeforeEach
+    void setUp() {
+        moveUseCase = new BulkMoveFilesUseCase(fileRepository, folderRepository, changeLogRepository);
+        ownerId = new UserId("user-123");
+        targetId = new FolderId("folder-1");
+        first = StoredFile.createNew(ownerId, "a.txt", "text/plain", 10, null).markActive();
+        second = StoredFile.createNew(ownerId, "b.txt", "text/plain", 10, null).markActive();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMoveOwnedFilesInOneBatchAndReportMissingOnes() {
+        // Given
+        FileId missing = new FileId("missing");
+        when(folderRepository.findByIdAndOwner(targetId, ownerId))
+                .thenReturn(Optional.of(Folder.createRoot(ownerId, "Docs")));
+        when(fileRepository.findByIdsAndOwner(any(), any())).thenReturn(List.of(first, second));
+        when(fileRepository.moveAll(anyList(), eq(targetId)))
+                .thenReturn(new BatchWriteResult(Set.of(second.getId()), Set.of()));
+
+        // When
+        BulkOperationResult result = moveUseCase.execute(ownerId,
+                List.of(first.getId(), second.getId(), missing, first.getId()), targetId);
+
+        // Then
+        ArgumentCaptor<List<StoredFile>> moved = ArgumentCaptor.forClass(List.class);
+        verify(fileRepository).moveAll(moved.capture(), eq(targetId));
+        assertThat(moved.getValue()).containsExactly(first, second);
+        assertThat(result.items()).extracting(BulkItemOutcome::status).containsExactly(
+                BulkItemOutcome.Status.SUCCEEDED, BulkItemOutcome.Status.FAILED, BulkItemOutcome.Status.NOT_FOUND);
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(2);
+        ArgumentCaptor<List<ChangeEvent>> changes = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository).append(changes.capture());
+        assertThat(changes.getValue()).extracting(ChangeEvent::entityId).containsExactly(first.getId().getValue());
+        assertThat(changes.getValue()).extracting(ChangeEvent::parentId).containsExactly(targetId.getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReportFileChangedSinceItWasReadAsSkipped() {
+        // Given
+        when(folderRepository.findByIdAndOwner(targetId, ownerId))
+                .thenReturn(Optional.of(Folder.createRoot(ownerId, "Docs")));
+        when(fileRepository.findByIdsAndOwner(any(), any())).thenReturn(List.of(first, second));
+        when(fileRepository.moveAll(anyList(), eq(targetId)))
+                .thenReturn(new BatchWriteResult(Set.of(), Set.of(first.getId())));
+
+        // When
+        BulkOperationResult result = moveUseCase.execute(ownerId, List.of(first.getId(), second.getId()), targetId);
+
+        // Then
+        assertThat(result.items()).extracting(BulkItemOutcome::status).containsExactly(
+                BulkItemOutcome.Status.SKIPPED, BulkItemOutcome.Status.SUCCEEDED);
+        ArgumentCaptor<List<ChangeEvent>> changes = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository).append(changes.capture());
+        assertThat(changes.getValue()).extracting(ChangeEvent::entityId).containsExactly(second.getId().getValue());
+    }
+
+    @Test
+    void shouldNotWriteFilesAlreadyInTargetFolder() {
+        // Given
+        StoredFile inTarget = first.move(targetId);
+        when(folderRepository.findByIdAndOwner(targetId, ownerId))
+                .thenReturn(Optional.of(Folder.createRoot(ownerId, "Docs")));
+        when(fileRepository.findByIdsAndOwner(any(), any())).thenReturn(List.of(inTarget));
+
+        // When
+        BulkOperationResult result = moveUseCase.execute(ownerId, List.of(inTarget.getId()), targetId);
+
+        // Then
+        verify(fileRepository, never()).moveAll(anyList(), any());
+        verify(changeLogRepository, never()).append(anyList());
+        assertThat(result.succeeded()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectMissingTargetFolderBeforeLoadingFiles() {
+        // Given
+        when(folderRepository.findByIdAndOwner(targetId, ownerId)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> moveUseCase.execute(ownerId, List.of(first.getId()), targetId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(fileRepository, never()).findByIdsAndOwner(any(), any());
+    }
+
+    @Test
+    void shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> moveUseCase.execute(ownerId, List.of(), null))
+                .isInstanceOf(FileValidationException.class);
+    }
+}
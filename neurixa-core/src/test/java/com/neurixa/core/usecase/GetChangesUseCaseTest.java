@@ -0,0 +1,138 @@
+package com.neurixa.core.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.ChangePage;
+import com.neurixa.core.files.domain.ChangeToken;
+import com.neurixa.core.files.exception.ChangeTokenExpiredException;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.usecase.GetChangesUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetChangesUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    private GetChangesUseCase useCase;
+    private UserId ownerId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetChangesUseCase(changeLogRepository, Duration.ofDays(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        ownerId = new UserId("user-123");
+    }
+
+    @Test
+    void shouldReturnCurrentPositionWhenNoTokenGiven() {
+        // Given
+        when(changeLogRepository.latestSequence(ownerId)).thenReturn(42L);
+
+        // When
+        ChangePage page = useCase.execute(ownerId, null, 100);
+
+        // Then
+        assertThat(page.changes()).isEmpty();
+        assertThat(ChangeToken.decode(page.nextToken()).sequence()).isEqualTo(42L);
+    }
+
+    @Test
+    void shouldReturnBoundedPageAndAdvanceToken() {
+        // Given
+        String since = new ChangeToken(10, NOW.minusSeconds(60)).encode();
+        when(changeLogRepository.findAfter(ownerId, 10, 3))
+                .thenReturn(List.of(event(11, NOW.minusSeconds(50)), event(12, NOW.minusSeconds(40)), event(13, NOW.minusSeconds(30))));
+
+        // When
+        ChangePage page = useCase.execute(ownerId, since, 2);
+
+        // Then
+        assertThat(page.changes()).extracting(ChangeEvent::sequence).containsExactly(11L, 12L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(ChangeToken.decode(page.nextToken()).sequence()).isEqualTo(12L);
+    }
+
+    @Test
+    void shouldStopAtRecentSequenceGap() {
+        // Given — sequence 12 is reserved by an in-flight writer
+        String since = new ChangeToken(10, NOW.minusSeconds(60)).encode();
+        when(changeLogRepository.findAfter(ownerId, 10, 11))
+                .thenReturn(List.of(event(11, NOW.minusSeconds(5)), event(13, NOW.minusSeconds(1))));
+
+        // When
+        ChangePage page = useCase.execute(ownerId, since, 10);
+
+        // Then
+        assertThat(page.changes()).extracting(ChangeEvent::sequence).containsExactly(11L);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    void shouldRejectTokenOlderThanRetention() {
+        String since = new ChangeToken(10, NOW.minus(Duration.ofDays(31))).encode();
+
+        assertThatThrownBy(() -> useCase.execute(ownerId, since, 10))
+                .isInstanceOf(ChangeTokenExpiredException.class);
+    }
+
+    @Test
+    void shouldExpireSlowCursorOnceEntriesAfterItAreCompacted() {
+        // Given — a client pages through a month-old backlog one small page at a time
+        String since = new ChangeToken(10, NOW.minus(Duration.ofDays(29))).encode();
+        when(changeLogRepository.findAfter(ownerId, 10, 2))
+                .thenReturn(List.of(event(11, NOW.minus(Duration.ofDays(29))), event(12, NOW.minus(Duration.ofDays(29)))));
+        String next = useCase.execute(ownerId, since, 1).nextToken();
+
+        // When — two days later entries 12..19 have been TTL-compacted
+        GetChangesUseCase later = new GetChangesUseCase(changeLogRepository, Duration.ofDays(30),
+                Clock.fixed(NOW.plus(Duration.ofDays(2)), ZoneOffset.UTC));
+
+        // Then
+        assertThat(ChangeToken.decode(next).positionAt()).isEqualTo(NOW.minus(Duration.ofDays(29)));
+        assertThatThrownBy(() -> later.execute(ownerId, next, 1))
+                .isInstanceOf(ChangeTokenExpiredException.class);
+    }
+
+    @Test
+    void shouldRefreshPositionWhenClientIsCaughtUp() {
+        // Given
+        String since = new ChangeToken(10, NOW.minus(Duration.ofDays(20))).encode();
+        when(changeLogRepository.findAfter(ownerId, 10, 11)).thenReturn(List.of(event(11, NOW.minus(Duration.ofDays(20)))));
+
+        // When
+        ChangePage page = useCase.execute(ownerId, since, 10);
+
+        // Then
+        assertThat(page.hasMore()).isFalse();
+        assertThat(ChangeToken.decode(page.nextToken()).positionAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> useCase.execute(ownerId, "not-a-token", 10))
+                .isInstanceOf(FileValidationException.class);
+    }
+
+    private ChangeEvent event(long sequence, Instant occurredAt) {
+        return new ChangeEvent(sequence, ownerId, ChangeEvent.EntityType.FILE, "file-" + sequence,
+                ChangeEvent.Type.CREATED, "f.txt", null, occurredAt);
+    }
+}
@@ -0,0 +1,182 @@
+package com.neurixa.core.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.Checksum;
+import com.neurixa.core.files.domain.FileStatus;
+import com.neurixa.core.files.domain.FileVersion;
+import com.neurixa.core.files.domain.ProcessingTask;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.FileVersionRepository;
+import com.neurixa.core.files.port.ProcessingQueue;
+import com.neurixa.core.files.processing.FileProcessingStage;
+import com.neurixa.core.files.usecase.ProcessFileUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessFileUseCaseTest {
+
+    @Mock
+    private ProcessingQueue processingQueue;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileVersionRepository fileVersionRepository;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    private UserId ownerId;
+    private StoredFile file;
+    private FileVersion version;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = new UserId("user-123");
+        file = StoredFile.createNew(ownerId, "report.pdf", "application/pdf", 100L, null);
+        version = FileVersion.createNew(file.getId(), 1, "2026/03/01/uuid-report.pdf", 100L, null);
+    }
+
+    @Test
+    void shouldRunStagesAndActivateFile() {
+        // Given
+        FileProcessingStage stage = stage(v -> v.withChecksum(new Checksum("SHA-256", "abc")));
+        ProcessingTask task = task(1);
+        when(fileRepository.findByIdAndOwner(file.getId(), ownerId)).thenReturn(Optional.of(file));
+        when(fileVersionRepository.findByFileIdAndVersion(file.getId(), 1)).thenReturn(Optional.of(version));
+        when(fileRepository.finishProcessing(any(StoredFile.class), eq(FileStatus.ACTIVE)))
+                .thenAnswer(invocation -> Optional.of(invocation.<StoredFile>getArgument(0).markActive()));
+
+        // When
+        useCase(stage, 3).execute(task);
+
+        // Then
+        ArgumentCaptor<FileVersion> savedVersion = ArgumentCaptor.forClass(FileVersion.class);
+        verify(fileVersionRepository).save(savedVersion.capture());
+        assertThat(savedVersion.getValue().getChecksum().getValue()).isEqualTo("abc");
+        ArgumentCaptor<StoredFile> savedFile = ArgumentCaptor.forClass(StoredFile.class);
+        verify(fileRepository).finishProcessing(savedFile.capture(), eq(FileStatus.ACTIVE));
+        assertThat(savedFile.getValue().getHead()).hasValueSatisfying(head ->
+                assertThat(head.checksum().getValue()).isEqualTo("abc"));
+        ArgumentCaptor<ChangeEvent> event = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(changeLogRepository).append(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(ChangeEvent.Type.PROCESSED);
+        verify(processingQueue).complete(task);
+    }
+
+    @Test
+    void shouldRetryWithBackoffWhenStageFails() {
+        // Given
+        FileProcessingStage stage = stage(v -> {
+            throw new IllegalStateException("scanner unavailable");
+        });
+        ProcessingTask task = task(2);
+        when(fileRepository.findByIdAndOwner(file.getId(), ownerId)).thenReturn(Optional.of(file));
+        when(fileVersionRepository.findByFileIdAndVersion(file.getId(), 1)).thenReturn(Optional.of(version));
+
+        // When
+        useCase(stage, 3).execute(task);
+
+        // Then
+        verify(processingQueue).fail(task, "test: scanner unavailable", Duration.ofSeconds(20));
+        verify(fileRepository, never()).finishProcessing(any(), any());
+        verify(processingQueue, never()).complete(any());
+    }
+
+    @Test
+    void shouldMarkFileFailedAfterLastAttempt() {
+        // Given
+        FileProcessingStage stage = stage(v -> {
+            throw new IllegalStateException("corrupt");
+        });
+        ProcessingTask task = task(3);
+        when(fileRepository.findByIdAndOwner(file.getId(), ownerId)).thenReturn(Optional.of(file));
+        when(fileVersionRepository.findByFileIdAndVersion(file.getId(), 1)).thenReturn(Optional.of(version));
+        when(fileRepository.finishProcessing(file, FileStatus.FAILED)).thenReturn(Optional.of(file.markFailed()));
+
+        // When
+        useCase(stage, 3).execute(task);
+
+        // Then
+        ArgumentCaptor<ChangeEvent> event = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(changeLogRepository).append(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(ChangeEvent.Type.PROCESSING_FAILED);
+        verify(processingQueue).fail(eq(task), eq("test: corrupt"), isNull());
+    }
+
+    @Test
+    void shouldSkipFileThatIsNoLongerUploading() {
+        // Given
+        ProcessingTask task = task(1);
+        when(fileRepository.findByIdAndOwner(file.getId(), ownerId)).thenReturn(Optional.of(file.markActive()));
+
+        // When
+        useCase(stage(v -> v), 3).execute(task);
+
+        // Then
+        verify(processingQueue).complete(task);
+        verify(fileRepository, never()).finishProcessing(any(), any());
+    }
+
+    @Test
+    void shouldCompleteWithoutEventWhenFileChangedWhileProcessing() {
+        // Given — deleted after it was read
+        ProcessingTask task = task(1);
+        when(fileRepository.findByIdAndOwner(file.getId(), ownerId)).thenReturn(Optional.of(file));
+        when(fileVersionRepository.findByFileIdAndVersion(file.getId(), 1)).thenReturn(Optional.of(version));
+        when(fileRepository.finishProcessing(file, FileStatus.ACTIVE)).thenReturn(Optional.empty());
+
+        // When
+        useCase(stage(v -> v), 3).execute(task);
+
+        // Then
+        verify(fileRepository, never()).save(any());
+        verify(changeLogRepository, never()).append(any(ChangeEvent.class));
+        verify(processingQueue).complete(task);
+    }
+
+    private ProcessFileUseCase useCase(FileProcessingStage stage, int maxAttempts) {
+        return new ProcessFileUseCase(processingQueue, fileRepository, fileVersionRepository, List.of(stage),
+                maxAttempts, changeLogRepository);
+    }
+
+    private ProcessingTask task(int attempts) {
+        return new ProcessingTask("job-1", file.getId(), ownerId, 1, attempts, "worker-1");
+    }
+
+    private static FileProcessingStage stage(UnaryOperator<FileVersion> body) {
+        return new FileProcessingStage() {
+            @Override
+            public String name() {
+                return "test";
+            }
+
+            @Override
+            public FileVersion process(StoredFile file, FileVersion version) {
+                return body.apply(version);
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.neurixa.core.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.FileVersion;
+import com.neurixa.core.files.domain.ProcessingTask;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.port.ProcessingQueue;
+import com.neurixa.core.files.usecase.RequeueStalledUploadsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequeueStalledUploadsUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private ProcessingQueue processingQueue;
+
+    private RequeueStalledUploadsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RequeueStalledUploadsUseCase(fileRepository, processingQueue, Duration.ofMinutes(10), 100,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldEnqueueCurrentVersionOfFilesStuckInUploading() {
+        // Given — saved by an upload that died before enqueuing
+        StoredFile file = StoredFile.createNew(new UserId("user-123"), "report.pdf", "application/pdf", 100L, null);
+        StoredFile stuck = file.withCurrentVersion(FileVersion.createNew(file.getId(), 1, "2026/03/01/uuid-report.pdf", 100L, null));
+        when(fileRepository.findUploadingCreatedBefore(NOW.minus(Duration.ofMinutes(10)), null, 100)).thenReturn(List.of(stuck));
+
+        // When
+        int requeued = useCase.execute();
+
+        // Then
+        assertThat(requeued).isEqualTo(1);
+        ArgumentCaptor<ProcessingTask> task = ArgumentCaptor.forClass(ProcessingTask.class);
+        verify(processingQueue).enqueue(task.capture());
+        assertThat(task.getValue().fileId()).isEqualTo(stuck.getId());
+        assertThat(task.getValue().versionNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDoNothingWhenNoUploadIsStalled() {
+        when(fileRepository.findUploadingCreatedBefore(any(), any(), anyInt())).thenReturn(List.of());
+
+        assertThat(useCase.execute()).isZero();
+        verify(processingQueue, never()).enqueue(any());
+    }
+
+    @Test
+    void shouldContinueAfterThePreviousPageAndStartOverAtTheEnd() {
+        // Given — pages of two; the oldest files may all still have live jobs
+        RequeueStalledUploadsUseCase paged = new RequeueStalledUploadsUseCase(fileRepository, processingQueue,
+                Duration.ofMinutes(10), 2, Clock.fixed(NOW, ZoneOffset.UTC));
+        Instant cutoff = NOW.minus(Duration.ofMinutes(10));
+        StoredFile first = uploading("a.pdf");
+        StoredFile second = uploading("b.pdf");
+        StoredFile third = uploading("c.pdf");
+        when(fileRepository.findUploadingCreatedBefore(cutoff, null, 2)).thenReturn(List.of(first, second));
+        when(fileRepository.findUploadingCreatedBefore(cutoff, second, 2)).thenReturn(List.of(third));
+
+        // When
+        paged.execute();
+        paged.execute();
+        paged.execute();
+
+        // Then
+        verify(fileRepository, times(2)).findUploadingCreatedBefore(cutoff, null, 2);
+        verify(fileRepository).findUploadingCreatedBefore(cutoff, second, 2);
+    }
+
+    private static StoredFile uploading(String name) {
+        StoredFile file = StoredFile.createNew(new UserId("user-123"), name, "application/pdf", 100L, null);
+        return file.withCurrentVersion(FileVersion.createNew(file.getId(), 1, "2026/03/01/uuid-" + name, 100L, null));
+    }
+}
@@ -0,0 +1,88 @@
+package com.neurixa.core.usecase;
+
+import com.neurixa.core.domain.Page;
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ContentMatch;
+import com.neurixa.core.files.domain.ContentSearchHit;
+import com.neurixa.core.files.domain.FileId;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.ContentIndex;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.usecase.SearchFileContentUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchFileContentUseCaseTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private ContentIndex contentIndex;
+
+    private SearchFileContentUseCase useCase;
+    private UserId ownerId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new SearchFileContentUseCase(fileRepository, contentIndex);
+        ownerId = new UserId("user-123");
+    }
+
+    @Test
+    void shouldKeepRankOrderAndDropFilesDeletedSinceIndexing() {
+        // Given
+        StoredFile best = StoredFile.createNew(ownerId, "a.pdf", "application/pdf", 10, null).markActive();
+        StoredFile deleted = StoredFile.createNew(ownerId, "b.pdf", "application/pdf", 10, null).markDeleted();
+        StoredFile second = StoredFile.createNew(ownerId, "c.pdf", "application/pdf", 10, null).markActive();
+        FileId gone = new FileId("gone");
+        when(contentIndex.search(ownerId, "invoice", 0, 20)).thenReturn(new Page<>(List.of(
+                new ContentMatch(best.getId(), 3.0, "…invoice 42…"),
+                new ContentMatch(deleted.getId(), 2.0, "…"),
+                new ContentMatch(gone, 1.5, "…"),
+                new ContentMatch(second.getId(), 1.0, "…invoices…")), 0, 20, 4));
+        when(fileRepository.findByIdsAndOwner(any(), any())).thenReturn(List.of(second, deleted, best));
+
+        // When
+        Page<ContentSearchHit> result = useCase.execute(ownerId, "  invoice ", 0, 20);
+
+        // Then
+        assertThat(result.getContent()).extracting(ContentSearchHit::file).containsExactly(best, second);
+        assertThat(result.getContent().get(0).snippet()).isEqualTo("…invoice 42…");
+    }
+
+    @Test
+    void shouldRejectBlankQueryWithoutSearching() {
+        assertThatThrownBy(() -> useCase.execute(ownerId, " ", 0, 20))
+                .isInstanceOf(FileValidationException.class);
+        verifyNoInteractions(contentIndex);
+    }
+
+    @Test
+    void shouldNotLoadFilesWhenNothingMatches() {
+        // Given
+        when(contentIndex.search(any(), anyString(), anyInt(), anyInt())).thenReturn(new Page<>(List.of(), 0, 20, 0));
+
+        // When
+        Page<ContentSearchHit> result = useCase.execute(ownerId, "nothing", 0, 20);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        verifyNoInteractions(fileRepository);
+    }
+}
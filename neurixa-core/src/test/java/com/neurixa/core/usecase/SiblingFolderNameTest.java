@@ -0,0 +1,103 @@
+package com.neurixa.core.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.ChangeEvent;
+import com.neurixa.core.files.domain.Folder;
+import com.neurixa.core.files.exception.FolderNameConflictException;
+import com.neurixa.core.files.port.ChangeLogRepository;
+import com.neurixa.core.files.port.FolderRepository;
+import com.neurixa.core.files.usecase.CreateFolderUseCase;
+import com.neurixa.core.files.usecase.MoveFolderUseCase;
+import com.neurixa.core.files.usecase.RenameFolderUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** Sibling folder names stay unique across create, rename and move. */
+@ExtendWith(MockitoExtension.class)
+class SiblingFolderNameTest {
+
+    @Mock
+    private FolderRepository folderRepository;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    private UserId ownerId;
+    private Folder folder;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = new UserId("user-123");
+        folder = Folder.createRoot(ownerId, "Invoices");
+    }
+
+    @Test
+    void shouldAllowChangingOnlyTheCase() {
+        // Given
+        when(folderRepository.findByIdAndOwner(folder.getId(), ownerId)).thenReturn(Optional.of(folder));
+        when(folderRepository.existsByNamePath(ownerId, "/invoices", folder.getId())).thenReturn(false);
+        when(folderRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Folder renamed = new RenameFolderUseCase(folderRepository, changeLogRepository)
+                .execute(ownerId, folder.getId(), "INVOICES");
+
+        // Then
+        assertThat(renamed.getName()).isEqualTo("INVOICES");
+        verify(folderRepository, never()).updateSubtree(any(), any());
+        verify(changeLogRepository).append(any(ChangeEvent.class));
+    }
+
+    @Test
+    void shouldRejectRenameOntoSiblingName() {
+        // Given
+        when(folderRepository.findByIdAndOwner(folder.getId(), ownerId)).thenReturn(Optional.of(folder));
+        when(folderRepository.existsByNamePath(ownerId, "/receipts", folder.getId())).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> new RenameFolderUseCase(folderRepository, changeLogRepository)
+                .execute(ownerId, folder.getId(), "Receipts"))
+                .isInstanceOf(FolderNameConflictException.class);
+        verify(folderRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectCreatingSiblingWithNormalizedSameName() {
+        // Given — decomposed and upper case, it normalizes to the existing name
+        when(folderRepository.existsByNamePath(ownerId, "/inv\u00f3ices", null)).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> new CreateFolderUseCase(folderRepository, changeLogRepository)
+                .execute(ownerId, "INVO\u0301ICES", null))
+                .isInstanceOf(FolderNameConflictException.class);
+        verify(folderRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectMoveIntoFolderWithSameNamedChild() {
+        // Given
+        Folder target = Folder.createRoot(ownerId, "Archive");
+        when(folderRepository.findByIdAndOwner(folder.getId(), ownerId)).thenReturn(Optional.of(folder));
+        when(folderRepository.findByIdAndOwner(target.getId(), ownerId)).thenReturn(Optional.of(target));
+        when(folderRepository.existsByNamePath(ownerId, "/archive/invoices", folder.getId())).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> new MoveFolderUseCase(folderRepository, changeLogRepository)
+                .execute(ownerId, folder.getId(), target.getId()))
+                .isInstanceOf(FolderNameConflictException.class);
+        verify(folderRepository, never()).save(any());
+        verify(folderRepository, never()).updateSubtree(any(), any());
+    }
+}
@@ -1,19 +1,24 @@
 package com.neurixa.core.usecase;
 
 import com.neurixa.core.domain.UserId;
+import com.neurixa.core.files.domain.FileStatus;
 import com.neurixa.core.files.domain.Folder;
 import com.neurixa.core.files.domain.FolderId;
+import com.neurixa.core.files.domain.ProcessingTask;
 import com.neurixa.core.files.domain.StoredFile;
 import com.neurixa.core.files.exception.FileValidationException;
 import com.neurixa.core.files.exception.FolderOwnershipException;
+import com.neurixa.core.files.port.ChangeLogRepository;
 import com.neurixa.core.files.port.FileRepository;
 import com.neurixa.core.files.port.FileVersionRepository;
 import com.neurixa.core.files.port.FolderRepository;
+import com.neurixa.core.files.port.ProcessingQueue;
 import com.neurixa.core.files.port.StorageProvider;
 import com.neurixa.core.files.usecase.UploadFileUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -44,6 +49,12 @@ class UploadFileUseCaseTest {
     @Mock
     private StorageProvider storageProvider;
 
+    @Mock
+    private ProcessingQueue processingQueue;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
     private UploadFileUseCase useCase;
 
     private UserId ownerId;
@@ -58,7 +69,7 @@ class UploadFileUseCaseTest {
     void setUp() {
         allowedMimeTypes = Set.of("text/plain", "image/jpeg");
         maxFileSize = 200L;
-        useCase = new UploadFileUseCase(fileRepository, fileVersionRepository, folderRepository, storageProvider, allowedMimeTypes, maxFileSize);
+        useCase = new UploadFileUseCase(fileRepository, fileVersionRepository, folderRepository, storageProvider, allowedMimeTypes, maxFileSize, processingQueue, changeLogRepository);
         ownerId = new UserId("user-123");
         filename = "test.txt";
         mimeType = "text/plain";
@@ -88,11 +99,29 @@ class UploadFileUseCaseTest {
         verify(fileVersionRepository).save(any());
     }
 
+    @Test
+    void shouldKeepFileUploadingAndEnqueueProcessing() {
+        // Given
+        when(storageProvider.store(any(InputStream.class), any(String.class))).thenReturn("2026/03/01/uuid-test.txt");
+        when(fileRepository.save(any(StoredFile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        StoredFile result = useCase.execute(ownerId, filename, mimeType, size, null, data);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(FileStatus.UPLOADING);
+        ArgumentCaptor<ProcessingTask> task = ArgumentCaptor.forClass(ProcessingTask.class);
+        verify(processingQueue).enqueue(task.capture());
+        assertThat(task.getValue().fileId()).isEqualTo(result.getId());
+        assertThat(task.getValue().ownerId()).isEqualTo(ownerId);
+        assertThat(task.getValue().versionNumber()).isEqualTo(1);
+    }
+
     @Test
     void shouldUploadFileToFolderSuccessfully() {
         // Given
         FolderId folderId = new FolderId("folder-123");
-        Folder folder = Folder.from(folderId, ownerId, "Test Folder", null, "/folder-123", false, Instant.now(), Instant.now());
+        Folder folder = Folder.from(folderId, ownerId, "Test Folder", null, "/folder-123", "/test folder", false, Instant.now(), Instant.now());
         String storageKey = "2026/03/01/uuid-test.txt";
         StoredFile savedFile = StoredFile.createNew(ownerId, filename, mimeType, size, folderId).markActive();
         when(folderRepository.findByIdAndOwner(folderId, ownerId)).thenReturn(Optional.of(folder));
@@ -124,7 +153,7 @@ class UploadFileUseCaseTest {
     void shouldThrowExceptionWhenFolderIsDeleted() {
         // Given
         FolderId folderId = new FolderId("folder-123");
-        Folder deletedFolder = Folder.from(folderId, ownerId, "Test Folder", null, "/folder-123", true, Instant.now(), Instant.now());
+        Folder deletedFolder = Folder.from(folderId, ownerId, "Test Folder", null, "/folder-123", "/test folder", true, Instant.now(), Instant.now());
         when(folderRepository.findByIdAndOwner(folderId, ownerId)).thenReturn(Optional.of(deletedFolder));
 
         // When & Then
@@ -0,0 +1,78 @@
+package com.neurixa.core.usecase;
+
+import com.neurixa.core.domain.UserId;
+import com.neurixa.core.exception.ResourceNotFoundException;
+import com.neurixa.core.files.domain.StoredFile;
+import com.neurixa.core.files.exception.FileValidationException;
+import com.neurixa.core.files.port.FileRepository;
+import com.neurixa.core.files.usecase.VerifyFeaturedImageUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerifyFeaturedImageUseCaseTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    private VerifyFeaturedImageUseCase useCase;
+    private UserId ownerId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new VerifyFeaturedImageUseCase(fileRepository);
+        ownerId = new UserId("user-123");
+    }
+
+    @Test
+    void shouldAcceptOwnLiveImage() {
+        // Given
+        StoredFile image = StoredFile.createNew(ownerId, "cover.png", "image/png", 10, null).markActive();
+        when(fileRepository.findByIdAndOwner(image.getId(), ownerId)).thenReturn(Optional.of(image));
+
+        // When / Then
+        assertThatCode(() -> useCase.execute(ownerId, image.getId())).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldRejectFileOfAnotherOwner() {
+        // Given — the repository only finds files of the given owner
+        StoredFile foreign = StoredFile.createNew(new UserId("user-456"), "cover.png", "image/png", 10, null).markActive();
+        when(fileRepository.findByIdAndOwner(foreign.getId(), ownerId)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(ownerId, foreign.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void shouldRejectDeletedImage() {
+        // Given
+        StoredFile deleted = StoredFile.createNew(ownerId, "cover.png", "image/png", 10, null).markActive().markDeleted();
+        when(fileRepository.findByIdAndOwner(deleted.getId(), ownerId)).thenReturn(Optional.of(deleted));
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(ownerId, deleted.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void shouldRejectFileThatIsNotAnImage() {
+        // Given
+        StoredFile document = StoredFile.createNew(ownerId, "notes.pdf", "application/pdf", 10, null).markActive();
+        when(fileRepository.findByIdAndOwner(document.getId(), ownerId)).thenReturn(Optional.of(document));
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(ownerId, document.getId()))
+                .isInstanceOf(FileValidationException.class);
+    }
+}
@@ -1,6 +1,11 @@
 package com.neurixa.domain.blog;
 
+import com.neurixa.domain.blog.event.ArticleDeletedEvent;
+import com.neurixa.domain.blog.event.ArticleFeaturedImageChangedEvent;
 import com.neurixa.domain.blog.event.ArticlePublishedEvent;
+import com.neurixa.domain.blog.event.ArticleRestoredEvent;
+import com.neurixa.domain.blog.event.ArticleUnpublishedEvent;
+import com.neurixa.domain.blog.event.ArticleUpdatedEvent;
 import com.neurixa.domain.blog.shared.BaseAggregateRoot;
 import java.time.Instant;
 import java.util.Collections;
@@ -22,6 +27,7 @@ public class Article extends BaseAggregateRoot<ArticleId> {
     private Instant updatedAt;
     private Instant publishedAt;
     private int viewCount;
+    private int commentCount;
     private String metaTitle;
     private String metaDescription;
     private final Set<CategoryId> categories = new HashSet<>();
@@ -55,6 +61,7 @@ public class Article extends BaseAggregateRoot<ArticleId> {
                                     Instant updatedAt,
                                     Instant publishedAt,
                                     int viewCount,
+                                    int commentCount,
                                     String metaTitle,
                                     String metaDescription,
                                     Set<CategoryId> categories,
@@ -68,6 +75,7 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         article.updatedAt = updatedAt != null ? updatedAt : createdAt;
         article.publishedAt = publishedAt;
         article.viewCount = viewCount;
+        article.commentCount = commentCount;
         article.metaTitle = metaTitle;
         article.metaDescription = metaDescription;
         if (categories != null) {
@@ -85,10 +93,12 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         if (this.deleted || this.status == ArticleStatus.DELETED) {
             throw new IllegalStateException("Cannot update a deleted article.");
         }
+        Slug previousSlug = this.slug;
         this.setTitle(title);
         this.content = content;
         this.excerpt = excerpt;
         this.updatedAt = Instant.now();
+        registerEvent(new ArticleUpdatedEvent(this.id, previousSlug, this.slug, isPublished()));
     }
 
     public void updateContent(String content, String excerpt) {
@@ -101,6 +111,7 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         this.content = content;
         this.excerpt = excerpt;
         this.updatedAt = Instant.now();
+        registerEvent(new ArticleUpdatedEvent(this.id, this.slug, this.slug, isPublished()));
     }
 
     public void publish() {
@@ -113,7 +124,7 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         this.status = ArticleStatus.PUBLISHED;
         this.publishedAt = Instant.now();
         this.updatedAt = this.publishedAt;
-        registerEvent(new ArticlePublishedEvent(this.id));
+        registerEvent(new ArticlePublishedEvent(this.id, this.slug));
     }
 
     public void unpublish() {
@@ -123,6 +134,7 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         this.status = ArticleStatus.DRAFT;
         this.publishedAt = null;
         this.updatedAt = Instant.now();
+        registerEvent(new ArticleUnpublishedEvent(this.id, this.slug));
     }
 
     public void archive() {
@@ -131,6 +143,7 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         }
         this.status = ArticleStatus.ARCHIVED;
         this.updatedAt = Instant.now();
+        registerEvent(new ArticleUnpublishedEvent(this.id, this.slug));
     }
 
     public void softDelete() {
@@ -144,6 +157,7 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         this.deleted = true;
         this.deletedAt = Instant.now();
         this.updatedAt = this.deletedAt;
+        registerEvent(new ArticleDeletedEvent(this.id, this.slug));
     }
 
     public void restore() {
@@ -154,6 +168,7 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         this.deleted = false;
         this.deletedAt = null;
         this.updatedAt = Instant.now();
+        registerEvent(new ArticleRestoredEvent(this.id, this.slug));
     }
 
     public void incrementViewCount() {
@@ -164,11 +179,13 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         this.metaTitle = metaTitle;
         this.metaDescription = metaDescription;
         this.updatedAt = Instant.now();
+        registerEvent(new ArticleUpdatedEvent(this.id, this.slug, this.slug, isPublished()));
     }
 
     public void changeFeaturedImage(UUID featuredImageId) {
         this.featuredImageId = featuredImageId;
         this.updatedAt = Instant.now();
+        registerEvent(new ArticleFeaturedImageChangedEvent(this.id, this.slug, featuredImageId, isPublished()));
     }
 
     public void assignCategory(CategoryId categoryId) {
@@ -191,6 +208,10 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         this.updatedAt = Instant.now();
     }
 
+    private boolean isPublished() {
+        return this.status == ArticleStatus.PUBLISHED;
+    }
+
     private void setTitle(String title) {
         if (title == null || title.isBlank()) {
             throw new IllegalArgumentException("Title cannot be empty.");
@@ -248,6 +269,11 @@ public class Article extends BaseAggregateRoot<ArticleId> {
         return viewCount;
     }
 
+    /** Approved, non-deleted comments; kept up to date by comment moderation, never counted on read. */
+    public int getCommentCount() {
+        return commentCount;
+    }
+
     public String getMetaTitle() {
         return metaTitle;
     }
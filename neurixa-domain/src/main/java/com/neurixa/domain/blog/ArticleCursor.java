@@ -0,0 +1,43 @@
+package com.neurixa.domain.blog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Opaque position in the published listing: the last article a client has seen, by
+ * {@code (publishedAt, id)}, the listing's sort key. Stays valid when articles are published
+ * or withdrawn meanwhile, unlike a page number.
+ */
+public record ArticleCursor(Instant publishedAt, ArticleId articleId) {
+
+    public ArticleCursor {
+        Objects.requireNonNull(publishedAt);
+        Objects.requireNonNull(articleId);
+        // Mongo keeps milliseconds, and so does the encoded form.
+        publishedAt = publishedAt.truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    public static ArticleCursor after(ArticleSummary article) {
+        return new ArticleCursor(article.publishedAt(), article.articleId());
+    }
+
+    public String encode() {
+        String raw = publishedAt.toEpochMilli() + "." + articleId.value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static ArticleCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int dot = raw.indexOf('.');
+            Instant publishedAt = Instant.ofEpochMilli(Long.parseLong(raw.substring(0, dot)));
+            return new ArticleCursor(publishedAt, new ArticleId(UUID.fromString(raw.substring(dot + 1))));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -1,13 +1,50 @@
 package com.neurixa.domain.blog;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ArticleRepository {
     void save(Article article);
     Optional<Article> findById(ArticleId id);
     Optional<Article> findBySlug(Slug slug);
     void incrementViewCountAtomic(ArticleId id);
-    List<Article> findPublished(int page, int size);
+
+    /** Adds each delta to the article's view count, batched into as few writes as possible. */
+    void incrementViewCounts(Map<ArticleId, Long> deltas);
+
+    /** Adds {@code delta} to the article's approved-comment count in place, without loading it. */
+    void adjustCommentCount(ArticleId id, int delta);
+
+    /** {@link #adjustCommentCount} for many articles in one batched write. */
+    void adjustCommentCounts(Map<ArticleId, Integer> deltas);
+
+    /** Published articles newest first, as summaries: listings never load article bodies. */
+    List<ArticleSummary> findPublished(int page, int size);
+
+    /**
+     * Published articles newest first, starting right after {@code after}, or from the
+     * newest when it is null. Cost does not grow with how far the client has scrolled.
+     */
+    List<ArticleSummary> findPublishedAfter(ArticleCursor after, int limit);
+
+    /**
+     * Passes up to {@code limit} published articles to {@code action}, newest first, as they
+     * are read: memory use does not depend on how many there are.
+     */
+    void forEachPublished(int limit, Consumer<ArticleSummary> action);
+
+    /** Summaries of those of {@code ids} that are published, in no particular order. */
+    List<ArticleSummary> findPublishedByIds(Collection<ArticleId> ids);
+
+    /** Those of {@code ids} that are published, with their bodies, in no particular order. */
+    List<Article> findPublishedArticlesByIds(Collection<ArticleId> ids);
     long countPublished();
+
+    /** Featured image ids of all published, non-deleted articles. */
+    Set<UUID> findPublishedFeaturedImageIds();
 }
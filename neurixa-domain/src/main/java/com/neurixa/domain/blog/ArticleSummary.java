@@ -0,0 +1,38 @@
+package com.neurixa.domain.blog;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * What a listing or feed shows of a published article. Read without the body, which can be
+ * a hundred times larger than everything else here put together.
+ */
+public record ArticleSummary(
+        ArticleId articleId,
+        String title,
+        Slug slug,
+        String excerpt,
+        UUID featuredImageId,
+        Instant publishedAt,
+        Instant updatedAt,
+        int viewCount,
+        int commentCount,
+        Set<CategoryId> categories,
+        Set<TagId> tags
+) {
+
+    public ArticleSummary {
+        Objects.requireNonNull(articleId);
+        Objects.requireNonNull(slug);
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+        tags = tags == null ? Set.of() : Set.copyOf(tags);
+    }
+
+    public static ArticleSummary of(Article article) {
+        return new ArticleSummary(article.getArticleId(), article.getTitle(), article.getSlug(), article.getExcerpt(),
+                article.getFeaturedImageId(), article.getPublishedAt(), article.getUpdatedAt(), article.getViewCount(),
+                article.getCommentCount(), article.getCategories(), article.getTags());
+    }
+}
@@ -0,0 +1,46 @@
+package com.neurixa.domain.blog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Opaque position in a list of comments kept oldest first: the last comment a client has
+ * seen, by {@code (createdAt, id)}. Comments added or moderated meanwhile do not shift later
+ * pages, unlike a page number.
+ */
+public record CommentCursor(Instant createdAt, CommentId commentId) {
+
+    public CommentCursor {
+        Objects.requireNonNull(createdAt);
+        Objects.requireNonNull(commentId);
+    }
+
+    public static CommentCursor after(Comment comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getCommentId());
+    }
+
+    /** Whether {@code comment} comes after this position. */
+    public boolean precedes(Comment comment) {
+        int byTime = comment.getCreatedAt().compareTo(createdAt);
+        return byTime > 0 || byTime == 0 && comment.getCommentId().value().compareTo(commentId.value()) > 0;
+    }
+
+    public String encode() {
+        String raw = createdAt.toEpochMilli() + "." + commentId.value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int dot = raw.indexOf('.');
+            Instant createdAt = Instant.ofEpochMilli(Long.parseLong(raw.substring(0, dot)));
+            return new CommentCursor(createdAt, new CommentId(UUID.fromString(raw.substring(dot + 1))));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -1,11 +1,52 @@
 package com.neurixa.domain.blog;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CommentRepository {
     void save(Comment comment);
+
+    /**
+     * Writes the comment's new status only if it is still live and in {@code transition.from()},
+     * never re-creating a comment removed meanwhile. The events it raised are recorded only
+     * when the write matched.
+     *
+     * @return whether the write matched
+     */
+    boolean moderate(CommentTransition transition);
+
+    /**
+     * {@link #moderate} for every transition in one batched write.
+     *
+     * @return ids of the comments whose write matched
+     */
+    Set<CommentId> moderateAll(List<CommentTransition> transitions);
+
     Optional<Comment> findById(CommentId id);
+
+    /** Those of {@code ids} that exist, soft-deleted or not, in no particular order. */
+    List<Comment> findAllById(Collection<CommentId> ids);
+
+    /** Live comments of an article in one status, oldest first. */
     List<Comment> findByArticleIdAndStatus(UUID articleId, CommentStatus status);
+
+    /**
+     * Live top-level comments of an article in one status, oldest first, starting right after
+     * {@code after}, or from the oldest when it is null.
+     */
+    List<Comment> findTopLevelAfter(UUID articleId, CommentStatus status, CommentCursor after, int limit);
+
+    /** Live replies to any of {@code parentIds} in one status, oldest first. */
+    List<Comment> findReplies(Collection<CommentId> parentIds, CommentStatus status, int limit);
+
+    /**
+     * Live comments in one status across all articles, oldest first, starting right after
+     * {@code after}, or from the oldest when it is null.
+     */
+    List<Comment> findByStatusAfter(CommentStatus status, CommentCursor after, int limit);
+
+    long countByStatus(CommentStatus status);
 }
@@ -0,0 +1,16 @@
+package com.neurixa.domain.blog;
+
+import java.util.Objects;
+
+/**
+ * A moderated comment together with the status it was read in. The write only lands if the
+ * stored comment is still live and in {@code from}, so two moderators acting on the same
+ * comment cannot both succeed.
+ */
+public record CommentTransition(Comment comment, CommentStatus from) {
+
+    public CommentTransition {
+        Objects.requireNonNull(comment);
+        Objects.requireNonNull(from);
+    }
+}
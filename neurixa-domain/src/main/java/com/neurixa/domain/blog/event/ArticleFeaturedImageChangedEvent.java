@@ -0,0 +1,15 @@
+package com.neurixa.domain.blog.event;
+
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.Slug;
+import com.neurixa.domain.blog.shared.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ArticleFeaturedImageChangedEvent(ArticleId articleId, Slug slug, UUID featuredImageId, boolean published,
+                                               Instant occurredOn) implements DomainEvent {
+    public ArticleFeaturedImageChangedEvent(ArticleId articleId, Slug slug, UUID featuredImageId, boolean published) {
+        this(articleId, slug, featuredImageId, published, Instant.now());
+    }
+}
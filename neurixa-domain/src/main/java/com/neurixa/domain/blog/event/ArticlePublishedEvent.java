@@ -1,12 +1,13 @@
 package com.neurixa.domain.blog.event;
 
 import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.Slug;
 import com.neurixa.domain.blog.shared.DomainEvent;
 
 import java.time.Instant;
 
-public record ArticlePublishedEvent(ArticleId articleId, Instant occurredOn) implements DomainEvent {
-    public ArticlePublishedEvent(ArticleId articleId) {
-        this(articleId, Instant.now());
+public record ArticlePublishedEvent(ArticleId articleId, Slug slug, Instant occurredOn) implements DomainEvent {
+    public ArticlePublishedEvent(ArticleId articleId, Slug slug) {
+        this(articleId, slug, Instant.now());
     }
 }
@@ -0,0 +1,13 @@
+package com.neurixa.domain.blog.event;
+
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.Slug;
+import com.neurixa.domain.blog.shared.DomainEvent;
+
+import java.time.Instant;
+
+public record ArticleRestoredEvent(ArticleId articleId, Slug slug, Instant occurredOn) implements DomainEvent {
+    public ArticleRestoredEvent(ArticleId articleId, Slug slug) {
+        this(articleId, slug, Instant.now());
+    }
+}
@@ -0,0 +1,16 @@
+package com.neurixa.domain.blog.event;
+
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.Slug;
+import com.neurixa.domain.blog.shared.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * The article left the PUBLISHED state (unpublished or archived) and is no longer public.
+ */
+public record ArticleUnpublishedEvent(ArticleId articleId, Slug slug, Instant occurredOn) implements DomainEvent {
+    public ArticleUnpublishedEvent(ArticleId articleId, Slug slug) {
+        this(articleId, slug, Instant.now());
+    }
+}
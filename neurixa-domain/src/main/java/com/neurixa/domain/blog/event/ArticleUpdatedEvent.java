@@ -0,0 +1,18 @@
+package com.neurixa.domain.blog.event;
+
+import com.neurixa.domain.blog.ArticleId;
+import com.neurixa.domain.blog.Slug;
+import com.neurixa.domain.blog.shared.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * Title, content, excerpt or SEO fields changed. {@code previousSlug} differs from
+ * {@code slug} when a new title renamed the article.
+ */
+public record ArticleUpdatedEvent(ArticleId articleId, Slug previousSlug, Slug slug, boolean published,
+                                  Instant occurredOn) implements DomainEvent {
+    public ArticleUpdatedEvent(ArticleId articleId, Slug previousSlug, Slug slug, boolean published) {
+        this(articleId, previousSlug, slug, published, Instant.now());
+    }
+}
@@ -0,0 +1,24 @@
+package com.neurixa.domain.blog.shared;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Durable queue of domain events awaiting dispatch. Repositories append the events an
+ * aggregate pulled as part of saving it; a relay claims, dispatches and acknowledges them.
+ *
+ * Delivery is at least once: an entry claimed but not acknowledged before its lease ends
+ * is handed out again, up to a limit; past it the entry is parked for inspection.
+ */
+public interface DomainEventOutbox {
+
+    void append(List<DomainEvent> events);
+
+    /** Oldest pending entries not currently leased to another relay, leased for {@code lease}. */
+    List<OutboxEntry> claim(int limit, Duration lease);
+
+    void acknowledge(List<String> entryIds);
+
+    /** Records why dispatching an entry failed; it is handed out again once its lease ends. */
+    void fail(String entryId, String error);
+}
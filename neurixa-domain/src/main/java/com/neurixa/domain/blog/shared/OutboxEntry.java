@@ -0,0 +1,4 @@
+package com.neurixa.domain.blog.shared;
+
+public record OutboxEntry(String id, DomainEvent event) {
+}
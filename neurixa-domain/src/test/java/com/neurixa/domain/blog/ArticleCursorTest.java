@@ -0,0 +1,33 @@
+package com.neurixa.domain.blog;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleCursorTest {
+
+    @Test
+    void shouldRoundTripThroughEncodedForm() {
+        ArticleCursor cursor = new ArticleCursor(Instant.ofEpochMilli(1_700_000_000_123L), ArticleId.generate());
+
+        assertThat(ArticleCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRoundTripSubMillisecondTimestamps() {
+        ArticleCursor cursor = new ArticleCursor(Instant.ofEpochSecond(1_700_000_000L, 123_456_789), ArticleId.generate());
+
+        assertThat(cursor.publishedAt()).isEqualTo(Instant.ofEpochMilli(1_700_000_000_123L));
+        assertThat(ArticleCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> ArticleCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+}
@@ -1,6 +1,9 @@
 package com.neurixa.domain.blog;
 
+import com.neurixa.domain.blog.event.ArticleDeletedEvent;
 import com.neurixa.domain.blog.event.ArticlePublishedEvent;
+import com.neurixa.domain.blog.event.ArticleRestoredEvent;
+import com.neurixa.domain.blog.event.ArticleUpdatedEvent;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,4 +18,34 @@ class ArticleEventTest {
         assertThat(events).hasSize(1);
         assertThat(events.get(0)).isInstanceOf(ArticlePublishedEvent.class);
     }
+
+    @Test
+    void shouldEmitUpdatedEventWithPreviousSlugWhenTitleChanges() {
+        Article article = Article.createDraft("Old Title", "Content", "Excerpt");
+        article.publish();
+        article.pullDomainEvents();
+
+        article.update("New Title", "Content", "Excerpt");
+
+        var events = article.pullDomainEvents();
+        assertThat(events).hasSize(1);
+        ArticleUpdatedEvent event = (ArticleUpdatedEvent) events.get(0);
+        assertThat(event.previousSlug()).isEqualTo(new Slug("Old Title"));
+        assertThat(event.slug()).isEqualTo(new Slug("New Title"));
+        assertThat(event.published()).isTrue();
+    }
+
+    @Test
+    void shouldEmitDeletedAndRestoredEvents() {
+        Article article = Article.createDraft("Title", "Content", "Excerpt");
+
+        article.softDelete();
+        article.softDelete();
+        article.restore();
+
+        var events = article.pullDomainEvents();
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0)).isInstanceOf(ArticleDeletedEvent.class);
+        assertThat(events.get(1)).isInstanceOf(ArticleRestoredEvent.class);
+    }
 }